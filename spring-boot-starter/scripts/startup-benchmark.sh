@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# Startup benchmark for the JVM, fast-start (AOT + CDS) and native images.
+#
+# For each image, starts a container RUNS times and reports the time from `docker run`
+# to the first POST /api/v1/risk-decisions that returns 201, and the resident memory
+# of the server process right after it. Images that have not been built are skipped.
+#
+# usage: scripts/startup-benchmark.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+TIMEOUT_MS=60000
+IMAGES=(risk-decision-service risk-decision-service:fast-start risk-decision-service:native)
+BODY='{"client":{"customerId":"CUST-001","countryOfApplication":"GB"},
+"business":{"legalName":"Acme Ltd","countryOfIncorporation":"UK","dateOfIncorporation":"2010-01-15",
+"annualTurnover":{"amount":1000000.00,"currency":"GBP"}},
+"owners":[{"fullName":"Jane Smith","dateOfBirth":"1980-05-20"}],"loan":{"requestedAmount":50000.00}}'
+
+now_ms() {
+    python3 -c 'import time; print(int(time.time() * 1000))'
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+printf '%-36s %4s %14s %10s\n' image run first_201_ms rss_mib
+for image in "${IMAGES[@]}"; do
+    if ! docker image inspect "$image" > /dev/null 2>&1; then
+        echo "skipping $image: not built" >&2
+        continue
+    fi
+    times=()
+    rss=()
+    for run in $(seq 1 "$RUNS"); do
+        start=$(now_ms)
+        container=$(docker run -d --rm -p "$PORT:8080" "$image")
+        until [ "$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/api/v1/risk-decisions" \
+                -H 'Content-Type: application/json' -H "X-Correlation-ID: startup-$run" -d "$BODY")" = 201 ]; do
+            if [ $(( $(now_ms) - start )) -gt "$TIMEOUT_MS" ]; then
+                echo "$image did not answer within ${TIMEOUT_MS} ms" >&2
+                docker logs "$container" >&2
+                docker stop "$container" > /dev/null
+                exit 1
+            fi
+            sleep 0.01
+        done
+        elapsed=$(( $(now_ms) - start ))
+        rss_kib=$(docker exec "$container" sh -c 'grep VmRSS /proc/1/status' | awk '{ print $2 }')
+        docker stop "$container" > /dev/null
+        times+=("$elapsed")
+        rss+=("$(( rss_kib / 1024 ))")
+        printf '%-36s %4d %14d %10d\n' "$image" "$run" "$elapsed" "$(( rss_kib / 1024 ))"
+    done
+    printf '%-36s %4s %14d %10d\n' "$image" median \
+        "$(printf '%s\n' "${times[@]}" | median)" "$(printf '%s\n' "${rss[@]}" | median)"
+done
@@ -0,0 +1,101 @@
+package com.example.starter.config;
+
+import com.example.starter.BaseIntegrationTest;
+import com.example.starter.service.FxRates;
+import com.example.starter.service.FxRatesHolder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FxRatesIntegrationTest extends BaseIntegrationTest {
+
+    private static final String RATES_PATH = "/fx/latest?base=GBP";
+
+    private static final String REQUEST = """
+            {
+              "client": { "customerId": "CUST-001", "countryOfApplication": "DE" },
+              "business": {
+                "legalName": "Acme GmbH",
+                "countryOfIncorporation": "DE",
+                "dateOfIncorporation": "2010-01-15",
+                "annualTurnover": { "amount": 110000.00, "currency": "EUR" }
+              },
+              "owners": [{ "fullName": "Jane Smith", "dateOfBirth": "1980-05-20" }],
+              "loan": { "requestedAmount": 0 }
+            }
+            """;
+
+    @Autowired
+    private FxRatesRefresher refresher;
+
+    @Autowired
+    private FxRatesHolder fxRatesHolder;
+
+    @BeforeAll
+    static void stubRatesProvider() {
+        // Rates must be available when the context starts; runs after WireMock is started
+        stubRates("2025-06-15T16:00:00Z", "1.25");
+    }
+
+    @DynamicPropertySource
+    static void fxProperties(DynamicPropertyRegistry registry) {
+        registry.add("risk.fx.enabled", () -> "true");
+        registry.add("risk.fx.provider-url", () -> wireMockServer.baseUrl() + RATES_PATH);
+    }
+
+    @Test
+    @DisplayName("should band turnover converted with the provider's rates")
+    void shouldNormalizeTurnover() throws Exception {
+        // 110,000 EUR at 1.25 is 88,000 GBP, below the 100,000 GBP low-turnover threshold
+        mockMvc.perform(post("/api/v1/risk-decisions")
+                        .header("X-Correlation-ID", "fx-normalize")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.evaluatedFactors.turnoverPoints", is(30)));
+    }
+
+    @Test
+    @DisplayName("should keep scoring with the last good rates while the provider fails")
+    void shouldKeepLastGoodRatesWhenProviderFails() throws Exception {
+        FxRates startupRates = fxRatesHolder.current();
+        try {
+            stubRates("2099-01-01T00:00:00Z", "1.00");
+            assertThat(refresher.refresh()).isTrue();
+            wireMockServer.stubFor(get(urlEqualTo(RATES_PATH)).willReturn(aResponse().withStatus(503)));
+
+            assertThat(refresher.refresh()).isFalse();
+
+            assertThat(fxRatesHolder.current().toBase(100, "EUR")).isEqualTo(100);
+            assertThat(refresher.failed()).isPositive();
+            mockMvc.perform(post("/api/v1/risk-decisions")
+                            .header("X-Correlation-ID", "fx-last-good")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(REQUEST))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.evaluatedFactors.turnoverPoints", is(10)));
+        } finally {
+            fxRatesHolder.update(startupRates);
+        }
+    }
+
+    private static void stubRates(String asOf, String eur) {
+        wireMockServer.stubFor(get(urlEqualTo(RATES_PATH)).willReturn(okJson("""
+                {"base": "GBP", "asOf": "%s", "rates": {"EUR": %s, "USD": 1.27}}
+                """.formatted(asOf, eur))));
+    }
+}
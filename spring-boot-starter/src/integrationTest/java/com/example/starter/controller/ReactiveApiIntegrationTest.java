@@ -0,0 +1,101 @@
+package com.example.starter.controller;
+
+import com.example.starter.dto.BulkRiskDecisionResult;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The API on the WebFlux stack, with the {@code reactive} profile's real beans.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        // Its own log, as servlet contexts cached by other tests may still be writing theirs
+        properties = "risk.decision-store.directory=build/tmp/reactive-decisions")
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+class ReactiveApiIntegrationTest {
+
+    private static final String REQUEST = """
+            {"client": {"customerId": "CUST-001", "countryOfApplication": "GB"},
+             "business": {"legalName": "Acme Ltd", "countryOfIncorporation": "UK", "dateOfIncorporation": "2010-01-15",
+                          "annualTurnover": {"amount": 1000000.00, "currency": "GBP"}},
+             "owners": [{"fullName": "Jane Smith", "dateOfBirth": "1980-05-20"}],
+             "loan": {"requestedAmount": 50000.00}}
+            """;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("should create a decision and serve it back by ID")
+    void shouldCreateAndFindDecision() {
+        RiskDecisionResponse created = webTestClient.post().uri("/api/v1/risk-decisions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Correlation-ID", "reactive-create")
+                .bodyValue(REQUEST)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("X-Correlation-ID", "reactive-create")
+                .expectBody(RiskDecisionResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(created.getRiskDecision()).isEqualTo(RiskDecision.APPROVE);
+        webTestClient.get().uri("/api/v1/risk-decisions/{id}", created.getDecisionId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.correlationId").isEqualTo("reactive-create");
+    }
+
+    @Test
+    @DisplayName("should return the same validation problem as the servlet API")
+    void shouldRejectInvalidRequest() {
+        webTestClient.post().uri("/api/v1/risk-decisions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST.replace("\"GB\"", "\"gbr\""))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Validation Error")
+                .jsonPath("$.errors[0].field").isEqualTo("client.countryOfApplication");
+    }
+
+    @Test
+    @DisplayName("should stream one NDJSON result per bulk item")
+    void shouldStreamBulkResults() {
+        String item = REQUEST.replace("\n", "");
+        String body = item + "\n" + item.replace("\"2010-01-15\"", "\"not a date\"") + "\n" + item + "\n";
+
+        List<BulkRiskDecisionResult> results = webTestClient.post().uri("/api/v1/risk-decisions/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("X-Correlation-ID", "reactive-bulk")
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(BulkRiskDecisionResult.class)
+                .getResponseBody()
+                .collectSortedList(Comparator.comparingLong(BulkRiskDecisionResult::getIndex))
+                .block(Duration.ofSeconds(10));
+
+        assertThat(results).extracting(BulkRiskDecisionResult::getCorrelationId)
+                .containsExactly("reactive-bulk-0", "reactive-bulk-1", "reactive-bulk-2");
+        assertThat(results.get(0).getDecision()).isNotNull();
+        assertThat(results.get(1).getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getField()).isEqualTo("business.dateOfIncorporation"));
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.starter.service;
+
+import com.example.starter.BaseIntegrationTest;
+import com.example.starter.config.EnrichmentProperties;
+import com.example.starter.dto.CompanyRegistryRecord;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.notFound;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CompanyRegistryIntegrationTest extends BaseIntegrationTest {
+
+    private static final String COMPANIES = "/registry/companies";
+    private static final String UNAVAILABLE = "Company registry check unavailable";
+    private static final String ACTIVE = """
+            {"companyNumber": "01234567", "legalName": "%s", "status": "ACTIVE", "dateOfIncorporation": "2010-01-15"}
+            """;
+
+    @Autowired
+    private CompanyRegistryClient client;
+
+    @DynamicPropertySource
+    static void enrichmentProperties(DynamicPropertyRegistry registry) {
+        registry.add("risk.enrichment.enabled", () -> "true");
+        registry.add("risk.enrichment.url", () -> wireMockServer.baseUrl() + "/registry");
+        registry.add("risk.enrichment.latency-budget", () -> "1s");
+        registry.add("risk.enrichment.hedge-delay", () -> "200ms");
+        registry.add("risk.enrichment.request-timeout", () -> "5s");
+    }
+
+    @Test
+    @DisplayName("should approve a company the registry lists as active")
+    void shouldApproveActiveCompany() throws Exception {
+        stubCompany("Active Ltd", okJson(ACTIVE.formatted("ACTIVE LTD")));
+
+        evaluate("Active Ltd", "active")
+                .andExpect(jsonPath("$.riskDecision", is("APPROVE")))
+                .andExpect(jsonPath("$.reasons", not(hasItem(UNAVAILABLE))));
+
+        wireMockServer.verify(getRequestedFor(urlPathEqualTo(COMPANIES))
+                .withQueryParam("legalName", equalTo("active ltd"))
+                .withHeader("X-Correlation-ID", equalTo("registry-active")));
+    }
+
+    @Test
+    @DisplayName("should refer an unknown company and cache the miss")
+    void shouldCacheUnknownCompany() throws Exception {
+        stubCompany("Unknown Ltd", notFound());
+
+        evaluate("Unknown Ltd", "unknown-1")
+                .andExpect(jsonPath("$.riskDecision", is("REFER")))
+                .andExpect(jsonPath("$.reasons", hasItem("Company not found in the company registry")));
+        int requests = wireMockServer.findAll(getRequestedFor(urlPathEqualTo(COMPANIES))).size();
+        evaluate("Unknown Ltd", "unknown-2")
+                .andExpect(jsonPath("$.riskDecision", is("REFER")))
+                .andExpect(jsonPath("$.reasons", hasItem("Company not found in the company registry")));
+
+        assertThat(wireMockServer.findAll(getRequestedFor(urlPathEqualTo(COMPANIES)))).hasSize(requests);
+    }
+
+    @Test
+    @DisplayName("should refer within the latency budget when the registry is slow")
+    void shouldReferWhenRegistryIsSlow() throws Exception {
+        stubCompany("Slow Ltd", okJson(ACTIVE.formatted("SLOW LTD")).withFixedDelay(3_000));
+
+        long start = System.nanoTime();
+        evaluate("Slow Ltd", "slow")
+                .andExpect(jsonPath("$.riskDecision", is("REFER")))
+                .andExpect(jsonPath("$.reasons", hasItem(UNAVAILABLE)));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(2_000));
+    }
+
+    @Test
+    @DisplayName("should hedge a slow request and use the first answer")
+    void shouldHedgeSlowRequest() throws Exception {
+        long hedges = client.hedges();
+        wireMockServer.stubFor(get(urlPathEqualTo(COMPANIES))
+                .withQueryParam("legalName", equalTo("hedged ltd"))
+                .inScenario("hedge").whenScenarioStateIs(Scenario.STARTED).willSetStateTo("hedged")
+                .willReturn(okJson(ACTIVE.formatted("HEDGED LTD")).withFixedDelay(3_000)));
+        wireMockServer.stubFor(get(urlPathEqualTo(COMPANIES))
+                .withQueryParam("legalName", equalTo("hedged ltd"))
+                .inScenario("hedge").whenScenarioStateIs("hedged")
+                .willReturn(okJson(ACTIVE.formatted("HEDGED LTD"))));
+
+        evaluate("Hedged Ltd", "hedged")
+                .andExpect(jsonPath("$.riskDecision", is("APPROVE")));
+
+        assertThat(client.hedges()).isGreaterThan(hedges);
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(COMPANIES))
+                .withQueryParam("legalName", equalTo("hedged ltd")));
+    }
+
+    @Test
+    @DisplayName("should retry at once after a connection fault")
+    void shouldRetryAfterFault() throws Exception {
+        wireMockServer.stubFor(get(urlPathEqualTo(COMPANIES))
+                .withQueryParam("legalName", equalTo("flaky ltd"))
+                .inScenario("fault").whenScenarioStateIs(Scenario.STARTED).willSetStateTo("recovered")
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+        wireMockServer.stubFor(get(urlPathEqualTo(COMPANIES))
+                .withQueryParam("legalName", equalTo("flaky ltd"))
+                .inScenario("fault").whenScenarioStateIs("recovered")
+                .willReturn(okJson(ACTIVE.formatted("FLAKY LTD"))));
+
+        evaluate("Flaky Ltd", "flaky")
+                .andExpect(jsonPath("$.riskDecision", is("APPROVE")));
+    }
+
+    @Test
+    @DisplayName("should refer, and not cache the failure, when every attempt fails")
+    void shouldReferWhenRegistryFails() throws Exception {
+        stubCompany("Broken Ltd", aResponse().withFault(Fault.EMPTY_RESPONSE));
+
+        evaluate("Broken Ltd", "broken-1")
+                .andExpect(jsonPath("$.riskDecision", is("REFER")))
+                .andExpect(jsonPath("$.reasons", hasItem(UNAVAILABLE)));
+
+        stubCompany("Broken Ltd", aResponse().withStatus(503));
+        evaluate("Broken Ltd", "broken-2")
+                .andExpect(jsonPath("$.riskDecision", is("REFER")));
+
+        stubCompany("Broken Ltd", okJson(ACTIVE.formatted("BROKEN LTD")));
+        evaluate("Broken Ltd", "broken-3")
+                .andExpect(jsonPath("$.riskDecision", is("APPROVE")));
+    }
+
+    @Test
+    @DisplayName("should fail lookups at once when the bulkhead is full")
+    void shouldRejectWhenBulkheadIsFull() throws Exception {
+        stubCompany("Busy Ltd", okJson(ACTIVE.formatted("BUSY LTD")).withFixedDelay(1_000));
+        stubCompany("Waiting Ltd", okJson(ACTIVE.formatted("WAITING LTD")));
+        EnrichmentProperties properties = new EnrichmentProperties();
+        properties.setUrl(URI.create(wireMockServer.baseUrl() + "/registry"));
+        properties.setMaxConcurrentRequests(1);
+        properties.setMaxAttempts(1);
+        CompanyRegistryClient oneAtATime = new CompanyRegistryClient(
+                HttpClient.newHttpClient(), Jackson2ObjectMapperBuilder.json().build(), properties);
+
+        CompletableFuture<Optional<CompanyRegistryRecord>> busy = oneAtATime.lookup("Busy Ltd", "UK", "busy");
+        CompletableFuture<Optional<CompanyRegistryRecord>> waiting = oneAtATime.lookup("Waiting Ltd", "UK", "waiting");
+
+        assertThatThrownBy(() -> waiting.get(100, TimeUnit.MILLISECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(busy.get(5, TimeUnit.SECONDS)).hasValueSatisfying(company -> assertThat(company.isActive()).isTrue());
+        assertThat(oneAtATime.rejected()).isEqualTo(1);
+    }
+
+    private void stubCompany(String legalName, ResponseDefinitionBuilder response) {
+        wireMockServer.stubFor(get(urlPathEqualTo(COMPANIES))
+                .withQueryParam("legalName", equalTo(legalName.toLowerCase()))
+                .withQueryParam("country", equalTo("UK"))
+                .willReturn(response));
+    }
+
+    private ResultActions evaluate(String legalName, String correlationId) throws Exception {
+        return mockMvc.perform(post("/api/v1/risk-decisions")
+                        .header("X-Correlation-ID", "registry-" + correlationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "client": { "customerId": "CUST-001", "countryOfApplication": "GB" },
+                                  "business": {
+                                    "legalName": "%s",
+                                    "countryOfIncorporation": "UK",
+                                    "dateOfIncorporation": "2010-01-15",
+                                    "annualTurnover": { "amount": 1000000.00, "currency": "GBP" }
+                                  },
+                                  "owners": [{ "fullName": "Jane Smith", "dateOfBirth": "1980-05-20" }],
+                                  "loan": { "requestedAmount": 50000.00 }
+                                }
+                                """.formatted(legalName)))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.starter;
+
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Shared inputs for the request-pipeline benchmarks.
+ */
+public final class BenchmarkPayloads {
+
+    private BenchmarkPayloads() {
+    }
+
+    /** An ObjectMapper configured the way Spring Boot configures the application's one. */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * A {@code RiskDecisionRequest} JSON body with {@code ownerCount} owners. Invalid
+     * payloads still deserialize, but break the pattern, blank and null constraints
+     * on every level of the graph so validation has to report every owner.
+     */
+    public static byte[] requestJson(int ownerCount, boolean valid) {
+        StringBuilder json = new StringBuilder(256 + ownerCount * 64);
+        json.append("{\"client\":{\"customerId\":\"CUST-001\",\"countryOfApplication\":\"")
+                .append(valid ? "GB" : "gbr")
+                .append("\"},\"business\":{\"legalName\":\"Acme Ltd\",\"countryOfIncorporation\":\"UK\",")
+                .append("\"dateOfIncorporation\":\"2020-01-15\",\"annualTurnover\":{\"amount\":250000.00,")
+                .append("\"currency\":\"")
+                .append(valid ? "GBP" : "pounds")
+                .append("\"}},\"owners\":[");
+        LocalDate dateOfBirth = LocalDate.of(1970, 1, 1);
+        for (int i = 0; i < ownerCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"fullName\":\"")
+                    .append(valid ? "Owner " + i : "")
+                    .append("\",\"dateOfBirth\":\"")
+                    .append(dateOfBirth.plusDays(i * 97L))
+                    .append("\"}");
+        }
+        json.append(']');
+        if (valid) {
+            json.append(",\"loan\":{\"requestedAmount\":50000.00}");
+        }
+        json.append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static RiskDecisionResponse response() {
+        return RiskDecisionResponse.builder()
+                .decisionId("6f1c3a52-9d0e-4b7a-8c55-1f0b4a3e2d91")
+                .riskDecision(RiskDecision.REFER)
+                .riskScore(25)
+                .evaluatedFactors(RiskDecisionResponse.EvaluatedFactors.builder()
+                        .companyAgePoints(0)
+                        .turnoverPoints(10)
+                        .ownerAgePoints(5)
+                        .loanToTurnoverPoints(10)
+                        .velocityPoints(0)
+                        .build())
+                .reasons(List.of(
+                        "Annual turnover is between 100,000 and 5,000,000",
+                        "Youngest owner is 25 or older",
+                        "Loan-to-turnover ratio is above 15%"))
+                .ruleVersion("default")
+                .createdAt(Instant.parse("2025-06-15T12:00:00Z"))
+                .correlationId("bench-correlation-id")
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.starter.config;
+
+import com.example.starter.BenchmarkPayloads;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link RiskDecisionJsonCodec} against Jackson data binding. Run with
+ * the gc profiler (the default in build.gradle) to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    @Param({"jackson", "streaming"})
+    private String codec;
+
+    @Param({"1", "10", "100"})
+    private int ownerCount;
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private RiskDecisionJsonCodec streamingCodec;
+    private byte[] requestJson;
+    private RiskDecisionResponse response;
+    private FastByteArrayOutputStream output;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkPayloads.objectMapper();
+        reader = objectMapper.readerFor(RiskDecisionRequest.class);
+        writer = objectMapper.writerFor(RiskDecisionResponse.class);
+        streamingCodec = new RiskDecisionJsonCodec(objectMapper.getFactory());
+        requestJson = BenchmarkPayloads.requestJson(ownerCount, true);
+        response = BenchmarkPayloads.response();
+        output = new FastByteArrayOutputStream(512);
+    }
+
+    @Benchmark
+    public RiskDecisionRequest readRequest() throws IOException {
+        ByteArrayInputStream input = new ByteArrayInputStream(requestJson);
+        return "streaming".equals(codec) ? streamingCodec.readRequest(input) : reader.readValue(input);
+    }
+
+    @Benchmark
+    public int writeResponse() throws IOException {
+        output.reset();
+        if ("streaming".equals(codec)) {
+            streamingCodec.writeResponse(response, output);
+        } else {
+            writer.writeValue(output, response);
+        }
+        return output.size();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.starter.controller;
+
+import com.example.starter.Application;
+import com.example.starter.BenchmarkPayloads;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test of {@code POST /api/v1/risk-decisions} on the Spring MVC and WebFlux stacks
+ * at the same concurrency: a closed loop keeps exactly {@code concurrency} requests in
+ * flight, so the score is requests per second.
+ *
+ * <p>With {@code registryDelayMs} above zero, company registry enrichment is enabled
+ * against a local stub that answers after that delay, which is where the stacks differ:
+ * MVC holds a request thread for each pending lookup, WebFlux holds none. Every request
+ * has its own correlation ID and company name, so neither the idempotency cache nor the
+ * registry cache is hit. Run it on its own with {@code ./gradlew jmh -PjmhIncludes=ApiLoad}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ApiLoadBenchmark {
+
+    @Param({"servlet", "reactive"})
+    private String stack;
+
+    @Param({"16", "64", "256"})
+    private int concurrency;
+
+    @Param({"0", "20"})
+    private int registryDelayMs;
+
+    private HttpServer registry;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI uri;
+    private String body;
+    private Semaphore inFlight;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "logging.level.root=WARN",
+                "risk.decision-store.enabled=false",
+                "risk.admission.enabled=false",
+                "risk.enrichment.enabled=" + (registryDelayMs > 0)));
+        if (registryDelayMs > 0) {
+            registry = startRegistry(registryDelayMs);
+            properties.add("risk.enrichment.url=http://localhost:" + registry.getAddress().getPort());
+            properties.add("risk.enrichment.max-concurrent-requests=" + 4 * concurrency);
+            properties.add("risk.enrichment.hedge-delay=1s");
+        }
+        SpringApplicationBuilder application = new SpringApplicationBuilder(Application.class)
+                .properties(properties.toArray(String[]::new));
+        if (stack.equals("reactive")) {
+            application.profiles("reactive");
+        }
+        context = application.run();
+
+        String port = context.getEnvironment().getRequiredProperty("local.server.port");
+        uri = URI.create("http://localhost:" + port + "/api/v1/risk-decisions");
+        body = new String(BenchmarkPayloads.requestJson(1, true), StandardCharsets.UTF_8);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        inFlight = new Semaphore(concurrency);
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkFailures() {
+        long failed = failures.getAndSet(0);
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " requests did not return 201");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        // Let the last requests finish before the server goes away
+        inFlight.acquire(concurrency);
+        context.close();
+        if (registry != null) {
+            registry.stop(0);
+        }
+    }
+
+    /** Sends one request once fewer than {@code concurrency} are in flight. */
+    @Benchmark
+    public void createRiskDecision() throws InterruptedException {
+        inFlight.acquire();
+        long id = sequence.incrementAndGet();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .header("X-Correlation-ID", "load-" + id)
+                .POST(HttpRequest.BodyPublishers.ofString(body.replace("Acme Ltd", "Acme " + id + " Ltd")))
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (error != null || response.statusCode() != 201) {
+                        failures.incrementAndGet();
+                    }
+                    inFlight.release();
+                });
+    }
+
+    /** A company registry that finds every company, active, after {@code delayMs}. */
+    private static HttpServer startRegistry(int delayMs) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/companies", exchange -> {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] company = """
+                    {"companyNumber": "01234567", "legalName": "ACME LTD", "status": "ACTIVE"}
+                    """.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, company.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(company);
+            }
+        });
+        server.start();
+        return server;
+    }
+}
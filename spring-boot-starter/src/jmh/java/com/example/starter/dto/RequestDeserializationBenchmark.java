@@ -0,0 +1,51 @@
+package com.example.starter.dto;
+
+import com.example.starter.BenchmarkPayloads;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson deserialization of a {@link RiskDecisionRequest} body, including the nested
+ * client, business, owner and loan objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestDeserializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int ownerCount;
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        reader = BenchmarkPayloads.objectMapper().readerFor(RiskDecisionRequest.class);
+        json = BenchmarkPayloads.requestJson(ownerCount, valid);
+    }
+
+    @Benchmark
+    public RiskDecisionRequest deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Youngest-owner banding with {@link Period} arithmetic against the epoch-day
+ * cut-offs of {@link AgeCalculator}, for 1 to 1000 owners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AgeCalculatorBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int ownerCount;
+
+    private final Clock clock = Clock.systemDefaultZone();
+    private final RuleSet ruleSet = RuleSet.defaults();
+    private final AgeCalculator ageCalculator = new AgeCalculator(clock);
+    private List<RiskDecisionRequest.Owner> owners;
+
+    @Setup
+    public void setUp() {
+        owners = new ArrayList<>(ownerCount);
+        LocalDate dateOfBirth = LocalDate.of(1970, 1, 1);
+        for (int i = 0; i < ownerCount; i++) {
+            owners.add(new RiskDecisionRequest.Owner("Owner " + i, dateOfBirth.plusDays(i * 11L)));
+        }
+    }
+
+    /** What the rule methods did before: calendar arithmetic for each owner. */
+    @Benchmark
+    public int periodPerOwner() {
+        LocalDate today = LocalDate.now(clock);
+        int youngestAge = Integer.MAX_VALUE;
+        for (RiskDecisionRequest.Owner owner : owners) {
+            youngestAge = Math.min(youngestAge, Period.between(owner.getDateOfBirth(), today).getYears());
+        }
+        if (youngestAge < ruleSet.rules().getVeryYoungOwnerUnder()) {
+            return AgeCalculator.AgeCutoffs.VERY_YOUNG_OWNER;
+        }
+        return youngestAge < ruleSet.rules().getYoungOwnerUnder()
+                ? AgeCalculator.AgeCutoffs.YOUNG_OWNER
+                : AgeCalculator.AgeCutoffs.MATURE_OWNER;
+    }
+
+    @Benchmark
+    public int epochDayCutoffs() {
+        return ageCalculator.cutoffs(ruleSet).youngestOwnerBand(owners);
+    }
+}
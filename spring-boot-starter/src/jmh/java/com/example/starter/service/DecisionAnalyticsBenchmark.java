@@ -0,0 +1,51 @@
+package com.example.starter.service;
+
+import com.example.starter.BenchmarkPayloads;
+import com.example.starter.dto.RiskDecisionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What {@link DecisionAnalytics} adds to each decision, with every thread recording
+ * decisions for the same country at once, on as many threads as there are processors.
+ * Run it on its own with {@code ./gradlew jmh -PjmhIncludes=DecisionAnalytics}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class DecisionAnalyticsBenchmark {
+
+    @Param({"1", "4"})
+    private int stripes;
+
+    private DecisionAnalytics analytics;
+    private RiskDecisionResponse response;
+
+    @Setup
+    public void setUp() {
+        analytics = new DecisionAnalytics(Duration.ofSeconds(10), 32, stripes);
+        response = BenchmarkPayloads.response();
+    }
+
+    @Benchmark
+    public void record() {
+        analytics.record("GB", response);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RiskDecisionServiceImpl} with {@link CompiledRiskDecisionService}.
+ *
+ * <p>Sample-time mode reports the p99 per engine; run with the gc profiler
+ * (configured in build.gradle) for the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringEngineBenchmark {
+
+    @Param({"default", "compiled"})
+    private String engine;
+
+    @Param({"1", "10", "100", "1000"})
+    private int ownerCount;
+
+    private RiskDecisionService riskDecisionService;
+    private RiskDecisionRequest request;
+
+    @Setup
+    public void setUp() {
+        Clock clock = Clock.systemDefaultZone();
+        RuleSetHolder ruleSets = new RuleSetHolder(RuleSet.defaults());
+        FxRatesHolder fxRates = new FxRatesHolder(FxRates.NONE);
+        riskDecisionService = "compiled".equals(engine)
+                ? new CompiledRiskDecisionService(clock, ruleSets, fxRates, new TimeOrderedIdGenerator(),
+                        VelocityTracker.NONE)
+                : new RiskDecisionServiceImpl(clock, ScoringFactorTimers.NOOP, ruleSets, fxRates,
+                        new TimeOrderedIdGenerator(), VelocityTracker.NONE);
+        request = new RiskDecisionRequest(
+                new RiskDecisionRequest.Client("CUST-001", "GB"),
+                new RiskDecisionRequest.Business(
+                        "Acme Ltd",
+                        "UK",
+                        LocalDate.of(2020, 1, 15),
+                        new RiskDecisionRequest.AnnualTurnover(250_000.00, "GBP")),
+                owners(ownerCount),
+                new RiskDecisionRequest.Loan(50_000.00));
+    }
+
+    @Benchmark
+    public RiskDecisionResponse evaluate() {
+        return riskDecisionService.evaluate(request, "bench-correlation-id");
+    }
+
+    private static List<RiskDecisionRequest.Owner> owners(int count) {
+        List<RiskDecisionRequest.Owner> owners = new ArrayList<>(count);
+        LocalDate dateOfBirth = LocalDate.of(1970, 1, 1);
+        for (int i = 0; i < count; i++) {
+            owners.add(new RiskDecisionRequest.Owner("Owner " + i, dateOfBirth.plusDays(i * 97L)));
+        }
+        return owners;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screening latency of one request against a list of {@code entryCount} generated names,
+ * for {@code ownerCount} owners of whom half are listed with a letter changed.
+ *
+ * <p>Sample-time mode reports the p99; run it on its own with
+ * {@code ./gradlew jmh -PjmhIncludes=WatchlistScreening}. Generated names spread their
+ * trigrams more evenly than real lists, where common names such as Mohammed or Smith make
+ * some posting lists far longer, so try a real list file before relying on the numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-XX:MaxDirectMemorySize=2g")
+public class WatchlistScreeningBenchmark {
+
+    /** Letters weighted roughly by how often they appear in names. */
+    private static final String LETTERS =
+            "aaaaaaaabbcccddddeeeeeeeeeeffgghhhhiiiiiiijkllllmmmnnnnnnnoooooooopprrrrrrssssssttttttuuuvwyz";
+
+    @Param({"100000", "1000000"})
+    private int entryCount;
+
+    @Param({"1", "10", "100"})
+    private int ownerCount;
+
+    private WatchlistScreener screener;
+    private RiskDecisionRequest request;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(entryCount);
+        WatchlistIndex.Builder builder = new WatchlistIndex.Builder();
+        for (int i = 0; i < entryCount; i++) {
+            String name = name(random);
+            names.add(name);
+            builder.add(i % 10 == 0 ? WatchlistIndex.ListType.PEP : WatchlistIndex.ListType.SANCTIONS, name);
+        }
+        screener = new WatchlistScreener(new WatchlistHolder(builder.build()), 0.85);
+
+        List<RiskDecisionRequest.Owner> owners = new ArrayList<>(ownerCount);
+        for (int i = 0; i < ownerCount; i++) {
+            String name = i % 2 == 0 ? misspell(names.get(random.nextInt(entryCount)), random) : name(random);
+            owners.add(new RiskDecisionRequest.Owner(name, LocalDate.of(1980, 1, 1)));
+        }
+        request = new RiskDecisionRequest(
+                new RiskDecisionRequest.Client("CUST-001", "GB"),
+                new RiskDecisionRequest.Business(
+                        name(random) + " Ltd",
+                        "UK",
+                        LocalDate.of(2020, 1, 15),
+                        new RiskDecisionRequest.AnnualTurnover(250_000.00, "GBP")),
+                owners,
+                new RiskDecisionRequest.Loan(50_000.00));
+    }
+
+    @Benchmark
+    public WatchlistScreener.Screening screen() {
+        return screener.screen(request);
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder(24);
+        int words = 2 + random.nextInt(2);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                name.append(' ');
+            }
+            int letters = 3 + random.nextInt(7);
+            name.append(Character.toUpperCase(LETTERS.charAt(random.nextInt(LETTERS.length()))));
+            for (int i = 1; i < letters; i++) {
+                name.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+        }
+        return name.toString();
+    }
+
+    private static String misspell(String name, Random random) {
+        int at = 1 + random.nextInt(name.length() - 2);
+        return name.substring(0, at) + 'e' + name.substring(at + 1);
+    }
+}
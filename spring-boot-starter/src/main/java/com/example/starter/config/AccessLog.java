@@ -0,0 +1,160 @@
+package com.example.starter.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous access log: request threads publish into a bounded, lock-free ring of
+ * preallocated records and a single background thread drains them in batches.
+ *
+ * <p>The ring is a multi-producer, single-consumer variant of Vyukov's bounded queue.
+ * Each slot carries a sequence number that tells producers whether it is free and the
+ * consumer whether it has been published, so the only contended operation is one CAS on
+ * the claim counter. When the ring is full the new record is dropped and counted; a
+ * request never waits for the log.
+ */
+class AccessLog implements AutoCloseable {
+
+    /** Receives drained records on the writer thread. Fields must be copied, not retained. */
+    interface Sink {
+        void write(String method, String uri, int status, long durationNanos, String correlationId);
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Sink sink;
+    private final int batchSize;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // Only touched by the consumer
+    private long consumed;
+
+    AccessLog(int capacity, int batchSize, Sink sink) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.mask = size - 1;
+        this.batchSize = batchSize;
+        this.sink = sink;
+        this.writer = new Thread(this::drainLoop, "access-log-writer");
+        this.writer.setDaemon(true);
+    }
+
+    void start() {
+        writer.start();
+    }
+
+    /**
+     * Publishes a record, or drops it if the ring is full.
+     *
+     * @return {@code false} if the record was dropped
+     */
+    boolean offer(String method, String uri, int status, long durationNanos, String correlationId) {
+        long position = claimed.get();
+        while (true) {
+            Slot slot = slots[(int) (position & mask)];
+            long lag = slot.sequence - position;
+            if (lag == 0) {
+                if (claimed.compareAndSet(position, position + 1)) {
+                    slot.method = method;
+                    slot.uri = uri;
+                    slot.status = status;
+                    slot.durationNanos = durationNanos;
+                    slot.correlationId = correlationId;
+                    slot.sequence = position + 1;
+                    return true;
+                }
+                position = claimed.get();
+            } else if (lag < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                position = claimed.get();
+            }
+        }
+    }
+
+    /**
+     * Drains up to {@code max} published records into the sink. Single consumer only.
+     *
+     * @return the number of records drained
+     */
+    int drain(int max) {
+        int drained = 0;
+        while (drained < max) {
+            Slot slot = slots[(int) (consumed & mask)];
+            if (slot.sequence != consumed + 1) {
+                break;
+            }
+            try {
+                sink.write(slot.method, slot.uri, slot.status, slot.durationNanos, slot.correlationId);
+            } finally {
+                slot.method = null;
+                slot.uri = null;
+                slot.correlationId = null;
+                slot.sequence = consumed + slots.length;
+                consumed++;
+            }
+            drained++;
+        }
+        return drained;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (safeDrain() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        while (safeDrain() > 0) {
+            // Flush whatever was published before shutdown
+        }
+    }
+
+    private int safeDrain() {
+        try {
+            return drain(batchSize);
+        } catch (RuntimeException e) {
+            // A failing sink must not kill the writer; the record is lost like a dropped one
+            dropped.increment();
+            return 1;
+        }
+    }
+
+    private static final class Slot {
+        private volatile long sequence;
+        private String method;
+        private String uri;
+        private int status;
+        private long durationNanos;
+        private String correlationId;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
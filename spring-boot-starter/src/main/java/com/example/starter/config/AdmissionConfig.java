@@ -0,0 +1,56 @@
+package com.example.starter.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(name = "risk.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionLimiter admissionLimiter(AdmissionProperties properties) {
+        return new AdmissionLimiter(properties.getMaxInFlight(), properties.getMaxQueued());
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            AdmissionLimiter admissionLimiter, AdmissionProperties properties) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(admissionLimiter, properties));
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder admissionMetrics(AdmissionLimiter admissionLimiter) {
+        return registry -> {
+            Gauge.builder("risk.admission.in.flight", admissionLimiter, AdmissionLimiter::inFlight)
+                    .description("Risk-decision requests currently executing")
+                    .register(registry);
+            Gauge.builder("risk.admission.queued", admissionLimiter, AdmissionLimiter::queued)
+                    .description("Risk-decision requests waiting for an in-flight slot")
+                    .register(registry);
+            FunctionCounter.builder("risk.admission.shed", admissionLimiter, AdmissionLimiter::shedQueueFull)
+                    .description("Risk-decision requests rejected by admission control")
+                    .tag("reason", "queue_full")
+                    .register(registry);
+            FunctionCounter.builder("risk.admission.shed", admissionLimiter, AdmissionLimiter::shedTimedOut)
+                    .description("Risk-decision requests rejected by admission control")
+                    .tag("reason", "timed_out")
+                    .register(registry);
+            FunctionCounter.builder("risk.admission.deadline.exceeded", admissionLimiter,
+                            AdmissionLimiter::deadlineExceeded)
+                    .description("Admitted risk-decision requests that finished after their deadline")
+                    .register(registry);
+        };
+    }
+}
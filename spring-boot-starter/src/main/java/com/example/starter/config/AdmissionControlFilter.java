@@ -0,0 +1,147 @@
+package com.example.starter.config;
+
+import com.example.starter.service.RequestDeadline;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits risk-decision requests through an {@link AdmissionLimiter} before any body
+ * parsing happens. Requests that cannot get a slot within their queue budget are
+ * rejected straight away with a {@code Retry-After} header.
+ *
+ * <p>Each admitted request's {@link RequestDeadline} is bound to the request thread while
+ * it is handled and published as the {@value #DEADLINE_ATTR} request attribute, so work
+ * that waits can give up when the deadline passes instead of running to completion. Bulk
+ * requests, which stream for as long as their input lasts, get their own deadline.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String DEADLINE_ATTR = "admissionDeadline";
+
+    private static final String GUARDED_PATH = "/api/v1/risk-decisions";
+    private static final String BULK_PATH = GUARDED_PATH + "/bulk";
+
+    private final AdmissionLimiter limiter;
+    private final long maxQueueWaitNanos;
+    private final long requestDeadlineNanos;
+    private final long bulkRequestDeadlineNanos;
+    private final int rejectionStatus;
+    private final String retryAfterSeconds;
+    private final byte[] rejectionBody;
+
+    public AdmissionControlFilter(AdmissionLimiter limiter, AdmissionProperties properties) {
+        this.limiter = limiter;
+        this.requestDeadlineNanos = properties.getRequestDeadline().toNanos();
+        this.bulkRequestDeadlineNanos = properties.getBulkRequestDeadline().toNanos();
+        this.maxQueueWaitNanos = Math.min(properties.getMaxQueueWait().toNanos(), requestDeadlineNanos);
+        this.rejectionStatus = properties.getRejectionStatus();
+        this.retryAfterSeconds = Long.toString(Math.max(1, properties.getRetryAfter().toSeconds()));
+
+        HttpStatus status = HttpStatus.valueOf(rejectionStatus);
+        this.rejectionBody = ("{\"type\":\"about:blank\",\"title\":\"" + status.getReasonPhrase()
+                + "\",\"status\":" + rejectionStatus
+                + ",\"detail\":\"The service is at capacity, retry later\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(GUARDED_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline deadline = RequestDeadline.in(request.getRequestURI().startsWith(BULK_PATH)
+                ? bulkRequestDeadlineNanos
+                : requestDeadlineNanos);
+
+        AdmissionLimiter.Admission admission;
+        try {
+            admission = limiter.tryAcquire(maxQueueWaitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admission = AdmissionLimiter.Admission.TIMED_OUT;
+        }
+
+        if (admission != AdmissionLimiter.Admission.ADMITTED) {
+            log.debug("Request shed: reason={}, endpoint={}, inFlight={}, queued={}",
+                    admission, request.getRequestURI(), limiter.inFlight(), limiter.queued());
+            reject(response);
+            return;
+        }
+
+        request.setAttribute(DEADLINE_ATTR, deadline);
+        boolean async = false;
+        try (RequestDeadline.Scope ignored = deadline.bind()) {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streaming responses keep their slot until the stream completes
+                async = true;
+                request.getAsyncContext().addListener(new ReleaseOnComplete(deadline));
+            }
+        } finally {
+            if (!async) {
+                release(deadline);
+            }
+        }
+    }
+
+    private void release(RequestDeadline deadline) {
+        limiter.release();
+        if (deadline.expired()) {
+            limiter.recordDeadlineExceeded();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(rejectionStatus);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(rejectionBody.length);
+        response.getOutputStream().write(rejectionBody);
+    }
+
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        private final RequestDeadline deadline;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnComplete(RequestDeadline deadline) {
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                release(deadline);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
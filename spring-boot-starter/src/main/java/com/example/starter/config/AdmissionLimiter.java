@@ -0,0 +1,93 @@
+package com.example.starter.config;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds how many requests execute and how many wait, so that overload turns into
+ * fast rejections instead of an ever-growing queue.
+ */
+public class AdmissionLimiter {
+
+    public enum Admission {
+        ADMITTED,
+        QUEUE_FULL,
+        TIMED_OUT
+    }
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder shedQueueFull = new LongAdder();
+    private final LongAdder shedTimedOut = new LongAdder();
+    private final LongAdder deadlineExceeded = new LongAdder();
+
+    public AdmissionLimiter(int maxInFlight, int maxQueued) {
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Takes an in-flight slot, waiting at most {@code maxWaitNanos} for one. Callers that
+     * are admitted must call {@link #release()} when the request completes.
+     */
+    public Admission tryAcquire(long maxWaitNanos) throws InterruptedException {
+        if (permits.tryAcquire()) {
+            return Admission.ADMITTED;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            shedQueueFull.increment();
+            return Admission.QUEUE_FULL;
+        }
+        try {
+            if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return Admission.ADMITTED;
+            }
+            shedTimedOut.increment();
+            return Admission.TIMED_OUT;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public void recordDeadlineExceeded() {
+        deadlineExceeded.increment();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public int maxQueued() {
+        return maxQueued;
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    public long shedQueueFull() {
+        return shedQueueFull.sum();
+    }
+
+    public long shedTimedOut() {
+        return shedTimedOut.sum();
+    }
+
+    public long deadlineExceeded() {
+        return deadlineExceeded.sum();
+    }
+}
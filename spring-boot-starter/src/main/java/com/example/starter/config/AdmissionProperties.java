@@ -0,0 +1,37 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Admission control for the risk-decision endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    /** Requests allowed to execute concurrently. */
+    private int maxInFlight = 200;
+
+    /** Requests allowed to wait for an in-flight slot; any more are shed immediately. */
+    private int maxQueued = 100;
+
+    /** Longest a request may wait for a slot before it is shed. */
+    private Duration maxQueueWait = Duration.ofMillis(50);
+
+    /** End-to-end budget for a request; also caps the queue wait. */
+    private Duration requestDeadline = Duration.ofSeconds(2);
+
+    /** End-to-end budget for a bulk request, which streams results for as long as its input lasts. */
+    private Duration bulkRequestDeadline = Duration.ofMinutes(10);
+
+    /** Value of the Retry-After header on shed requests. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /** Status returned for shed requests: 503 or 429. */
+    private int rejectionStatus = 503;
+}
@@ -0,0 +1,38 @@
+package com.example.starter.config;
+
+import com.example.starter.service.DecisionAnalytics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Live decision analytics: every new decision is counted by {@link DecisionAnalytics}
+ * as a decision listener, and read back through {@link AnalyticsEndpoint}.
+ */
+@Configuration
+@EnableConfigurationProperties(AnalyticsProperties.class)
+@ConditionalOnProperty(name = "risk.analytics.enabled", havingValue = "true", matchIfMissing = true)
+public class AnalyticsConfig {
+
+    @Bean
+    public DecisionAnalytics decisionAnalytics(AnalyticsProperties properties) {
+        return new DecisionAnalytics(properties.getResolution(), properties.getMaxCountries(),
+                properties.getStripes());
+    }
+
+    @Bean
+    public AnalyticsEndpoint analyticsEndpoint(DecisionAnalytics decisionAnalytics) {
+        return new AnalyticsEndpoint(decisionAnalytics);
+    }
+
+    @Bean
+    public MeterBinder analyticsMetrics(DecisionAnalytics decisionAnalytics) {
+        return registry -> FunctionCounter.builder("risk.analytics.dropped", decisionAnalytics,
+                        DecisionAnalytics::dropped)
+                .description("Decisions not counted in the analytics because their time bucket was being reused")
+                .register(registry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.DecisionAnalyticsResponse;
+import com.example.starter.service.DecisionAnalytics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/analytics}: the decisions of the last minute, 15 minutes and hour,
+ * and {@code /actuator/analytics/{window}} for one of them ({@code 1m}, {@code 15m} or
+ * {@code 1h}).
+ */
+@Endpoint(id = "analytics")
+public class AnalyticsEndpoint {
+
+    private final DecisionAnalytics analytics;
+
+    public AnalyticsEndpoint(DecisionAnalytics analytics) {
+        this.analytics = analytics;
+    }
+
+    @ReadOperation
+    public Map<String, DecisionAnalyticsResponse> windows() {
+        Map<String, DecisionAnalyticsResponse> windows = new LinkedHashMap<>();
+        for (DecisionAnalytics.Window window : DecisionAnalytics.Window.values()) {
+            windows.put(window.label(), analytics.report(window));
+        }
+        return windows;
+    }
+
+    /** The window, or {@code null} for the actuator's 404 if there is no such window. */
+    @ReadOperation
+    public DecisionAnalyticsResponse window(@Selector String window) {
+        return DecisionAnalytics.Window.of(window).map(analytics::report).orElse(null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Live decision analytics, served by {@code /actuator/analytics}.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.analytics")
+public class AnalyticsProperties {
+
+    /** Count every new decision into the rolling windows. */
+    private boolean enabled = true;
+
+    /** Length of the time buckets the windows slide by; must divide one minute. */
+    private Duration resolution = Duration.ofSeconds(10);
+
+    /** Countries of application reported on their own; later ones are counted together as {@code other}. */
+    private int maxCountries = 32;
+
+    /**
+     * Copies of the counters, rounded up to a power of two, that request threads spread
+     * their updates over. Memory is fixed at about {@code 160 * (3600s / resolution + 1)
+     * * (max-countries + 1) * stripes} bytes, 7.6MB with the defaults.
+     */
+    private int stripes = 4;
+}
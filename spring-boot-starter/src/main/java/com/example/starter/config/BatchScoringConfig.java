@@ -0,0 +1,51 @@
+package com.example.starter.config;
+
+import com.example.starter.model.RiskDecision;
+import com.example.starter.service.BatchScorer;
+import com.example.starter.service.FxRatesHolder;
+import com.example.starter.service.RuleSetHolder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link BatchScorer} once at startup when {@code risk.batch.input} is set,
+ * normally with the {@code batch} profile so no web server is started.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(BatchScoringProperties.class)
+@ConditionalOnProperty(name = "risk.batch.input")
+public class BatchScoringConfig {
+
+    @Bean
+    public ApplicationRunner batchScoringRunner(BatchScoringProperties properties, RuleSetHolder ruleSetHolder,
+                                                FxRatesHolder fxRatesHolder) {
+        return args -> {
+            if (properties.getOutput() == null) {
+                throw new IllegalStateException("risk.batch.output is required with risk.batch.input");
+            }
+            BatchScorer.InputFormat inputFormat = properties.getInputFormat() != null
+                    ? properties.getInputFormat()
+                    : BatchScorer.InputFormat.of(properties.getInput());
+            BatchScorer scorer = new BatchScorer(ruleSetHolder, fxRatesHolder, properties.getParallelism(),
+                    Math.toIntExact(properties.getChunkSize().toBytes()), Clock.systemDefaultZone());
+
+            log.info("Scoring {} ({}) into {} ({})", properties.getInput(), inputFormat,
+                    properties.getOutput(), properties.getOutputFormat());
+            BatchScorer.Result result = scorer.score(
+                    properties.getInput(), inputFormat, properties.getOutput(), properties.getOutputFormat());
+            log.info("Scored {} rows with rules version {} in {} ms ({} rows/s): "
+                            + "approve={}, refer={}, decline={}, invalid={}",
+                    result.rows(), result.ruleVersion(), TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()),
+                    result.rowsPerSecond(), result.count(RiskDecision.APPROVE), result.count(RiskDecision.REFER),
+                    result.count(RiskDecision.DECLINE), result.invalid());
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.starter.config;
+
+import com.example.starter.service.BatchScorer;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Offline re-scoring of a loan book file, run instead of serving requests.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.batch")
+public class BatchScoringProperties {
+
+    /** CSV or NDJSON file of requests. Setting it runs the batch at startup. */
+    private Path input;
+
+    /** Format of {@link #input}; taken from its extension when unset. */
+    private BatchScorer.InputFormat inputFormat;
+
+    private Path output;
+
+    private BatchScorer.OutputFormat outputFormat = BatchScorer.OutputFormat.BINARY;
+
+    /** Threads decoding and scoring chunks. */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /** Bytes of input per chunk; each chunk is mapped, decoded and scored as one task. */
+    private DataSize chunkSize = DataSize.ofMegabytes(16);
+}
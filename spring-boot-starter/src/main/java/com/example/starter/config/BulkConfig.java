@@ -0,0 +1,38 @@
+package com.example.starter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(BulkProperties.class)
+public class BulkConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService bulkScoringExecutor(BulkProperties properties) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "bulk-scoring-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        // A full queue means every worker is busy; the submitting request thread then
+        // scores the item itself, which naturally slows down how fast it reads input.
+        return new ThreadPoolExecutor(
+                properties.getParallelism(),
+                properties.getParallelism(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
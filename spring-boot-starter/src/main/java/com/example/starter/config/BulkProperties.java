@@ -0,0 +1,21 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for the bulk risk-decision endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.bulk")
+public class BulkProperties {
+
+    /** Worker threads shared by all bulk requests. */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /** Items a single bulk request may have parsed but not yet written back. Bounds memory per request. */
+    private int maxInFlight = 256;
+
+    /** Tasks that may wait for a worker across all bulk requests before callers score items themselves. */
+    private int queueCapacity = 1024;
+}
@@ -0,0 +1,219 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Hand-written equivalent of the Bean Validation constraints on {@link RiskDecisionRequest}.
+ *
+ * <p>Rejects the same fields with the same messages as Hibernate Validator, but without
+ * reflective traversal of the object graph. Checks run cheapest first: missing objects,
+ * then blank strings and negative amounts, then the ISO code lookups. Country and
+ * currency codes are checked against bitsets built from the JDK's ISO 3166 and ISO 4217
+ * tables rather than the {@code [A-Z]} regexes, so a well-formed but unassigned code
+ * such as {@code ZZ} is also rejected. With {@code failFast} set, validation stops at
+ * the first error.
+ *
+ * <p>Any other type is passed to the delegate.
+ */
+public class CompiledRequestValidator implements SmartValidator {
+
+    private static final long[] COUNTRY_CODES = new long[(26 * 26 + 63) / 64];
+    private static final long[] CURRENCY_CODES = new long[(26 * 26 * 26 + 63) / 64];
+
+    static {
+        for (String country : Locale.getISOCountries()) {
+            set(COUNTRY_CODES, codeIndex(country, 2));
+        }
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            set(CURRENCY_CODES, codeIndex(currency.getCurrencyCode(), 3));
+        }
+    }
+
+    private final SmartValidator delegate;
+    private final boolean failFast;
+
+    public CompiledRequestValidator(SmartValidator delegate, boolean failFast) {
+        this.delegate = delegate;
+        this.failFast = failFast;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return RiskDecisionRequest.class == clazz || delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (target instanceof RiskDecisionRequest request) {
+            validateRequest(request, errors);
+        } else {
+            delegate.validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (target instanceof RiskDecisionRequest request) {
+            validateRequest(request, errors);
+        } else {
+            delegate.validate(target, errors, validationHints);
+        }
+    }
+
+    private void validateRequest(RiskDecisionRequest request, Errors errors) {
+        RiskDecisionRequest.Client client = request.getClient();
+        RiskDecisionRequest.Business business = request.getBusiness();
+        List<RiskDecisionRequest.Owner> owners = request.getOwners();
+        RiskDecisionRequest.Loan loan = request.getLoan();
+        RiskDecisionRequest.AnnualTurnover turnover = business != null ? business.getAnnualTurnover() : null;
+
+        // Missing objects
+        if (client == null && reject(errors, "client", "NotNull", "Client details are required")) {
+            return;
+        }
+        if (business == null && reject(errors, "business", "NotNull", "Business details are required")) {
+            return;
+        }
+        if ((owners == null || owners.isEmpty())
+                && reject(errors, "owners", "NotEmpty", "At least one owner is required")) {
+            return;
+        }
+        if (loan == null && reject(errors, "loan", "NotNull", "Loan details are required")) {
+            return;
+        }
+        if (business != null) {
+            if (business.getCountryOfIncorporation() == null && reject(errors,
+                    "business.countryOfIncorporation", "NotNull", "Country of incorporation is required")) {
+                return;
+            }
+            if (business.getDateOfIncorporation() == null && reject(errors,
+                    "business.dateOfIncorporation", "NotNull", "Date of incorporation is required")) {
+                return;
+            }
+            if (turnover == null && reject(errors,
+                    "business.annualTurnover", "NotNull", "Annual turnover is required")) {
+                return;
+            }
+        }
+
+        // Blank strings and negative amounts
+        if (client != null) {
+            if (isBlank(client.getCustomerId())
+                    && reject(errors, "client.customerId", "NotBlank", "Customer ID is required")) {
+                return;
+            }
+            if (isBlank(client.getCountryOfApplication()) && reject(errors,
+                    "client.countryOfApplication", "NotBlank", "Country of application is required")) {
+                return;
+            }
+        }
+        if (business != null && isBlank(business.getLegalName())
+                && reject(errors, "business.legalName", "NotBlank", "Legal name is required")) {
+            return;
+        }
+        if (turnover != null) {
+            if (isNegative(turnover.getAmount()) && reject(errors,
+                    "business.annualTurnover.amount", "Min", "Amount must be zero or positive")) {
+                return;
+            }
+            if (isBlank(turnover.getCurrency())
+                    && reject(errors, "business.annualTurnover.currency", "NotBlank", "Currency is required")) {
+                return;
+            }
+        }
+        if (owners != null) {
+            for (int i = 0; i < owners.size(); i++) {
+                RiskDecisionRequest.Owner owner = owners.get(i);
+                if (owner == null) {
+                    continue;
+                }
+                if (isBlank(owner.getFullName()) && reject(errors,
+                        "owners[" + i + "].fullName", "NotBlank", "Owner full name is required")) {
+                    return;
+                }
+                if (owner.getDateOfBirth() == null && reject(errors,
+                        "owners[" + i + "].dateOfBirth", "NotNull", "Owner date of birth is required")) {
+                    return;
+                }
+            }
+        }
+        if (loan != null && isNegative(loan.getRequestedAmount()) && reject(errors,
+                "loan.requestedAmount", "Min", "Requested amount must be zero or positive")) {
+            return;
+        }
+
+        // ISO code lookups; null is left to the NotBlank checks above, as @Pattern does
+        if (client != null && client.getCountryOfApplication() != null
+                && !isCode(COUNTRY_CODES, client.getCountryOfApplication(), 2)
+                && reject(errors, "client.countryOfApplication", "Pattern",
+                        "Country of application must be a 2-letter ISO code (e.g. GB)")) {
+            return;
+        }
+        if (turnover != null && turnover.getCurrency() != null
+                && !isCode(CURRENCY_CODES, turnover.getCurrency(), 3)) {
+            reject(errors, "business.annualTurnover.currency", "Pattern",
+                    "Currency must be a 3-letter ISO code (e.g. GBP)");
+        }
+    }
+
+    /**
+     * @return whether validation should stop here
+     */
+    private boolean reject(Errors errors, String field, String code, String message) {
+        errors.rejectValue(field, code, message);
+        return failFast;
+    }
+
+    /** Same rule as Hibernate Validator's {@code @NotBlank}: nothing left after {@code trim()}. */
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Same rule as {@code @Min(0)} on a double, which lets NaN through. */
+    private static boolean isNegative(double value) {
+        return Double.compare(value, 0d) < 0;
+    }
+
+    private static boolean isCode(long[] table, String value, int length) {
+        int index = codeIndex(value, length);
+        return index >= 0 && (table[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Base-26 index of an upper-case code of exactly {@code length} letters, or -1.
+     */
+    private static int codeIndex(String value, int length) {
+        if (value.length() != length) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = value.charAt(i) - 'A';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            index = index * 26 + letter;
+        }
+        return index;
+    }
+
+    private static void set(long[] table, int index) {
+        if (index >= 0) {
+            table[index >>> 6] |= 1L << index;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.starter.config;
+
+import com.example.starter.service.IdGenerator;
+import com.example.starter.service.TimeOrderedIdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * The {@link IdGenerator} selected by {@code risk.ids.generator}, and the filter that
+ * gives every API request its correlation ID on either web stack.
+ */
+@Configuration
+public class CorrelationIdConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.ids.generator", havingValue = "time-ordered", matchIfMissing = true)
+    public IdGenerator timeOrderedIdGenerator() {
+        return new TimeOrderedIdGenerator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.ids.generator", havingValue = "random")
+    public IdGenerator randomIdGenerator() {
+        return IdGenerator.randomUuid();
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter(IdGenerator idGenerator) {
+        FilterRegistrationBean<CorrelationIdFilter> registration =
+                new FilterRegistrationBean<>(new CorrelationIdFilter(idGenerator));
+        registration.addUrlPatterns("/api/v1/*");
+        // Before admission control, so shed requests are logged with their correlation ID too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public CorrelationIdWebFilter correlationIdWebFilter(IdGenerator idGenerator) {
+        return new CorrelationIdWebFilter(idGenerator);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.starter.config;
+
+import com.example.starter.service.IdGenerator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Resolves the correlation ID of a request once: the {@value #HEADER} header, or a new
+ * ID when it is missing or blank. The ID is published as the {@value #ATTRIBUTE} request
+ * attribute, which the controllers take it from, and as the {@value #MDC_KEY} MDC entry
+ * for everything logged on the request thread. Whether the client supplied it is
+ * published as the {@value #SUPPLIED_ATTRIBUTE} attribute: only then can a request with
+ * the same ID be a retry.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-ID";
+    public static final String ATTRIBUTE = "correlationId";
+    public static final String SUPPLIED_ATTRIBUTE = "correlationIdSupplied";
+    public static final String MDC_KEY = "correlationId";
+
+    private final IdGenerator idGenerator;
+
+    public CorrelationIdFilter(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    /** The {@value #HEADER} value, or a new ID when it is missing or blank. */
+    static String resolve(String header, IdGenerator idGenerator) {
+        return supplied(header) ? header : idGenerator.nextId();
+    }
+
+    static boolean supplied(String header) {
+        return header != null && !header.isBlank();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HEADER);
+        String correlationId = resolve(header, idGenerator);
+        request.setAttribute(ATTRIBUTE, correlationId);
+        request.setAttribute(SUPPLIED_ATTRIBUTE, supplied(header));
+        MDC.put(MDC_KEY, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.starter.config;
+
+import com.example.starter.service.IdGenerator;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * {@link CorrelationIdFilter} for WebFlux. The ID is published as the same exchange
+ * attributes, but not to the MDC: a request hops between event loop and worker threads,
+ * so code on the reactive stack logs the correlation ID explicitly.
+ */
+public class CorrelationIdWebFilter implements WebFilter, Ordered {
+
+    private static final String GUARDED_PATH = "/api/v1/";
+
+    private final IdGenerator idGenerator;
+
+    public CorrelationIdWebFilter(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (exchange.getRequest().getPath().value().startsWith(GUARDED_PATH)) {
+            String header = exchange.getRequest().getHeaders().getFirst(CorrelationIdFilter.HEADER);
+            Map<String, Object> attributes = exchange.getAttributes();
+            attributes.put(CorrelationIdFilter.ATTRIBUTE, CorrelationIdFilter.resolve(header, idGenerator));
+            attributes.put(CorrelationIdFilter.SUPPLIED_ATTRIBUTE, CorrelationIdFilter.supplied(header));
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.service.CachingRiskDecisionService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(DecisionCacheProperties.class)
+@ConditionalOnProperty(name = "risk.decision-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class DecisionCacheConfig {
+
+    @Bean
+    public AsyncCache<CachingRiskDecisionService.DecisionKey, RiskDecisionResponse> decisionCache(
+            DecisionCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Bean
+    public MeterBinder decisionCacheMetrics(
+            AsyncCache<CachingRiskDecisionService.DecisionKey, RiskDecisionResponse> decisionCache) {
+        // Publishes cache.gets{result=hit|miss}, cache.evictions and cache.size
+        return registry -> CaffeineCacheMetrics.monitor(registry, decisionCache, "riskDecisions", List.of());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Idempotency cache in front of risk-decision scoring.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.decision-cache")
+public class DecisionCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Decisions kept before the least valuable ones are evicted. */
+    private long maximumSize = 100_000;
+
+    /** How long a decision is replayed to retries after it was made. */
+    private Duration ttl = Duration.ofMinutes(10);
+}
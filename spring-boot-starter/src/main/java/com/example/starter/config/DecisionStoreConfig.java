@@ -0,0 +1,48 @@
+package com.example.starter.config;
+
+import com.example.starter.service.DecisionStore;
+import com.example.starter.service.MappedDecisionStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(DecisionStoreProperties.class)
+public class DecisionStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "risk.decision-store.enabled", havingValue = "true", matchIfMissing = true)
+    public MappedDecisionStore decisionStore(ObjectMapper objectMapper, DecisionStoreProperties properties)
+            throws IOException {
+        return new MappedDecisionStore(objectMapper, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.decision-store.enabled", havingValue = "false")
+    public DecisionStore disabledDecisionStore() {
+        return DecisionStore.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.decision-store.enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder decisionStoreMetrics(MappedDecisionStore decisionStore) {
+        return registry -> {
+            Gauge.builder("risk.decision.store.records", decisionStore, MappedDecisionStore::size)
+                    .description("Decisions in the local decision log")
+                    .register(registry);
+            Gauge.builder("risk.decision.store.queued", decisionStore, MappedDecisionStore::queued)
+                    .description("Decisions waiting to be written")
+                    .register(registry);
+            FunctionCounter.builder("risk.decision.store.dropped", decisionStore, MappedDecisionStore::dropped)
+                    .description("Decisions not persisted because the write queue was full or the write failed")
+                    .register(registry);
+        };
+    }
+}
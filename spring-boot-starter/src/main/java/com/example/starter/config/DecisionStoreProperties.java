@@ -0,0 +1,38 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Local, append-only log of every decision made.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.decision-store")
+public class DecisionStoreProperties {
+
+    private boolean enabled = true;
+
+    private Path directory = Path.of("data", "decisions");
+
+    /** Size of each memory-mapped log file, under 2GB. A decision takes roughly half a kilobyte. */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /** Decisions waiting to be written before new ones wait for room. */
+    private int queueCapacity = 65_536;
+
+    /**
+     * How long a request waits for room in a full queue before its decision is dropped
+     * from the log, logged at WARN and counted. Zero never waits.
+     */
+    private Duration enqueueTimeout = Duration.ofMillis(50);
+
+    /** Most decisions written per pass of the writer thread. */
+    private int batchSize = 512;
+
+    /** Flush each batch to the storage device, surviving power loss rather than only a crash. */
+    private boolean fsync = false;
+}
@@ -0,0 +1,71 @@
+package com.example.starter.config;
+
+import com.example.starter.service.CompanyRegistryClient;
+import com.example.starter.service.EnrichingRiskDecisionService;
+import com.example.starter.service.RiskDecisionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.util.List;
+
+/**
+ * Company registry enrichment of the scoring engine when {@code risk.enrichment.enabled}
+ * is set; {@link RiskDecisionServiceConfig} then builds on the enriching engine.
+ */
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.enrichment.enabled", havingValue = "true")
+    public CompanyRegistryClient companyRegistryClient(EnrichmentProperties properties, ObjectMapper objectMapper) {
+        // A client of its own, so this registry's connections are not shared with other dependencies
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        return new CompanyRegistryClient(httpClient, objectMapper, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.enrichment.enabled", havingValue = "true")
+    public EnrichingRiskDecisionService enrichingScoringEngine(
+            @Qualifier("listenedScoringEngine") RiskDecisionService scoringEngine, CompanyRegistryClient client,
+            EnrichmentProperties properties) {
+        return new EnrichingRiskDecisionService(scoringEngine, client, properties.getLatencyBudget());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.enrichment.enabled", havingValue = "true")
+    public MeterBinder enrichmentMetrics(CompanyRegistryClient client, EnrichingRiskDecisionService enriching) {
+        return registry -> {
+            for (EnrichingRiskDecisionService.Outcome outcome : EnrichingRiskDecisionService.Outcome.values()) {
+                FunctionCounter.builder("risk.enrichment.lookups", enriching, e -> e.count(outcome))
+                        .description("Company registry checks of decisions, by outcome")
+                        .tag("result", outcome.tag())
+                        .register(registry);
+            }
+            FunctionCounter.builder("risk.enrichment.requests", client, CompanyRegistryClient::requests)
+                    .description("Requests sent to the company registry, including hedges and retries")
+                    .register(registry);
+            FunctionCounter.builder("risk.enrichment.hedges", client, CompanyRegistryClient::hedges)
+                    .description("Requests sent because an earlier one was slow")
+                    .register(registry);
+            FunctionCounter.builder("risk.enrichment.failures", client, CompanyRegistryClient::failures)
+                    .description("Company registry requests that failed or timed out")
+                    .register(registry);
+            FunctionCounter.builder("risk.enrichment.rejected", client, CompanyRegistryClient::rejected)
+                    .description("Lookups failed at once because the bulkhead was full")
+                    .register(registry);
+            // Publishes cache.gets{result=hit|miss}, cache.evictions and cache.size
+            CaffeineCacheMetrics.monitor(registry, client.cache(), "companyRegistry", List.of());
+        };
+    }
+}
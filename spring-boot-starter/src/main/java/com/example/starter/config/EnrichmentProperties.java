@@ -0,0 +1,47 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Company registry enrichment of risk decisions.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.enrichment")
+public class EnrichmentProperties {
+
+    /** Check every business against the company registry. */
+    private boolean enabled = false;
+
+    /** Base URL of the company registry; lookups are {@code GET {url}/companies?legalName=&country=}. */
+    private URI url;
+
+    /** Longest a decision waits for the registry before it is referred instead. */
+    private Duration latencyBudget = Duration.ofMillis(200);
+
+    /** Timeout for establishing a connection to the registry. */
+    private Duration connectTimeout = Duration.ofMillis(500);
+
+    /** Timeout for one request; a late answer still fills the cache for the next decision. */
+    private Duration requestTimeout = Duration.ofSeconds(2);
+
+    /** Send a hedged request when the previous one has not answered after this long. */
+    private Duration hedgeDelay = Duration.ofMillis(50);
+
+    /** Requests per lookup, counting hedges and retries after a failure. */
+    private int maxAttempts = 2;
+
+    /** Bulkhead: registry requests in flight at once. Lookups beyond it fail at once. */
+    private int maxConcurrentRequests = 32;
+
+    /** How long a company found in the registry is cached. */
+    private Duration cacheTtl = Duration.ofHours(12);
+
+    /** How long a company the registry does not know is cached. */
+    private Duration negativeCacheTtl = Duration.ofMinutes(10);
+
+    private long cacheMaximumSize = 100_000;
+}
@@ -0,0 +1,79 @@
+package com.example.starter.config;
+
+import com.example.starter.service.FxRates;
+import com.example.starter.service.FxRatesHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FX rates for turnover normalization. With {@code risk.fx.enabled} the rates must load
+ * at startup and are then refreshed in the background; otherwise amounts are not converted.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(FxProperties.class)
+public class FxConfig {
+
+    @Bean
+    public FxRatesHolder fxRatesHolder(FxProperties properties, ObjectMapper objectMapper) {
+        if (!properties.isEnabled()) {
+            return new FxRatesHolder(FxRates.NONE);
+        }
+        FxRates rates = FxRatesRefresher.load(objectMapper, source(properties), properties.getBaseCurrency());
+        log.info("Loaded FX rates into {} as of {}", rates.baseCurrency(), rates.asOf());
+        return new FxRatesHolder(rates);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "risk.fx.enabled", havingValue = "true")
+    public FxRatesRefresher fxRatesRefresher(
+            FxProperties properties, ObjectMapper objectMapper, FxRatesHolder fxRatesHolder) {
+        FxRatesRefresher refresher = new FxRatesRefresher(objectMapper, source(properties),
+                properties.getBaseCurrency(), fxRatesHolder, Clock.systemUTC());
+        refresher.start(properties.getRefreshInterval());
+        return refresher;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.fx.enabled", havingValue = "true")
+    public MeterBinder fxRatesMetrics(FxRatesRefresher refresher) {
+        return registry -> {
+            TimeGauge.builder("risk.fx.rates.age", refresher, TimeUnit.MILLISECONDS, r -> r.age().toMillis())
+                    .description("Time since the FX rates in use were published")
+                    .register(registry);
+            FunctionCounter.builder("risk.fx.refreshes", refresher, FxRatesRefresher::succeeded)
+                    .description("FX rates refreshes, by outcome")
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder("risk.fx.refreshes", refresher, FxRatesRefresher::failed)
+                    .description("FX rates refreshes, by outcome")
+                    .tag("result", "failure")
+                    .register(registry);
+        };
+    }
+
+    private static FxRatesRefresher.Source source(FxProperties properties) {
+        if ((properties.getRatesFile() == null) == (properties.getProviderUrl() == null)) {
+            throw new IllegalStateException(
+                    "Exactly one of risk.fx.rates-file and risk.fx.provider-url is required when risk.fx is enabled");
+        }
+        if (properties.getRatesFile() != null) {
+            return FxRatesRefresher.file(properties.getRatesFile());
+        }
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getTimeout())
+                .build();
+        return FxRatesRefresher.http(httpClient, properties.getProviderUrl(), properties.getTimeout());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * FX rates used to convert annual turnover into the currency the turnover bands are in.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.fx")
+public class FxProperties {
+
+    /** Convert turnover into the base currency. When disabled, every amount is taken as-is. */
+    private boolean enabled = false;
+
+    /** Currency the turnover bands of the scoring rules are written in. */
+    private String baseCurrency = "GBP";
+
+    /** JSON file with the rates. Exactly one of this and {@link #providerUrl} is required when enabled. */
+    private Path ratesFile;
+
+    /** URL of an FX rates provider returning the same JSON document. */
+    private URI providerUrl;
+
+    /** Time between refreshes; the last good rates stay in use while a refresh fails. */
+    private Duration refreshInterval = Duration.ofHours(1);
+
+    /** Timeout for a request to the provider. */
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,185 @@
+package com.example.starter.config;
+
+import com.example.starter.service.FxRates;
+import com.example.starter.service.FxRatesHolder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reloads FX rates on a background thread and swaps each new snapshot into the
+ * {@link FxRatesHolder}; requests never wait for a fetch.
+ *
+ * <p>Rates come from a JSON document, read from a local file or fetched from a provider:
+ * <pre>
+ * {"base": "GBP", "asOf": "2025-06-15T16:00:00Z", "rates": {"EUR": 1.17, "USD": 1.27}}
+ * </pre>
+ * A refresh that fails, or returns rates for another base currency or older than the
+ * ones in use, is counted and logged, and the last good snapshot stays in force;
+ * {@link #age()} says how old it is.
+ */
+@Slf4j
+public class FxRatesRefresher implements Closeable {
+
+    /** Fetches the raw rates document. */
+    @FunctionalInterface
+    public interface Source {
+        byte[] fetch() throws IOException;
+    }
+
+    record RatesDocument(String base, Instant asOf, Map<String, Double> rates) {
+    }
+
+    private final ObjectReader reader;
+    private final Source source;
+    private final String baseCurrency;
+    private final FxRatesHolder holder;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public FxRatesRefresher(ObjectMapper objectMapper, Source source, String baseCurrency, FxRatesHolder holder,
+                            Clock clock) {
+        this.reader = reader(objectMapper);
+        this.source = source;
+        this.baseCurrency = baseCurrency;
+        this.holder = holder;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fx-rates-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Reads rates from a local file. */
+    public static Source file(Path file) {
+        return () -> Files.readAllBytes(file);
+    }
+
+    /** Fetches rates with a GET to {@code uri}; any status other than 200 fails the fetch. */
+    public static Source http(HttpClient httpClient, URI uri, Duration timeout) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return () -> {
+            HttpResponse<byte[]> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted fetching FX rates from " + uri, e);
+            }
+            if (response.statusCode() != 200) {
+                throw new IOException("FX rates provider " + uri + " returned " + response.statusCode());
+            }
+            return response.body();
+        };
+    }
+
+    /**
+     * Fetches and parses a snapshot.
+     *
+     * @throws IllegalArgumentException if the rates cannot be fetched or are invalid,
+     *                                  or are for a base currency other than {@code baseCurrency}
+     */
+    public static FxRates load(ObjectMapper objectMapper, Source source, String baseCurrency) {
+        return load(reader(objectMapper), source, baseCurrency);
+    }
+
+    /** Refreshes every {@code interval}, starting one interval from now. */
+    public void start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::refresh, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Loads the rates and, unless they are older than the current ones, makes them current.
+     *
+     * @return whether a new snapshot is in use
+     */
+    public boolean refresh() {
+        FxRates current = holder.current();
+        FxRates candidate;
+        try {
+            candidate = load(reader, source, baseCurrency);
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("FX rates refresh failed, keeping rates as of {} ({} old): {}",
+                    current.asOf(), age(), e.getMessage());
+            return false;
+        }
+        if (candidate.asOf().isBefore(current.asOf())) {
+            failed.increment();
+            log.warn("FX rates refresh returned rates as of {}, older than the {} in use",
+                    candidate.asOf(), current.asOf());
+            return false;
+        }
+        holder.update(candidate);
+        succeeded.increment();
+        log.debug("FX rates as of {} in use", candidate.asOf());
+        return true;
+    }
+
+    /** How long ago the rates in use were published. */
+    public Duration age() {
+        return Duration.between(holder.current().asOf(), clock.instant());
+    }
+
+    public long succeeded() {
+        return succeeded.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private static FxRates load(ObjectReader reader, Source source, String baseCurrency) {
+        RatesDocument document;
+        try {
+            document = reader.readValue(source.fetch());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot load FX rates: " + e.getMessage(), e);
+        }
+        if (document.rates() == null) {
+            throw new IllegalArgumentException("FX rates document has no rates");
+        }
+        if (!baseCurrency.equals(document.base())) {
+            throw new IllegalArgumentException(
+                    "FX rates are for base currency " + document.base() + ", expected " + baseCurrency);
+        }
+        return FxRates.of(document.base(), document.asOf(), document.rates());
+    }
+
+    private static ObjectReader reader(ObjectMapper objectMapper) {
+        // Providers tend to add fields of their own
+        return objectMapper.readerFor(RatesDocument.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
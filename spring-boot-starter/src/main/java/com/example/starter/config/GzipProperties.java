@@ -0,0 +1,20 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Inflation of {@code Content-Encoding: gzip} request bodies.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.gzip")
+public class GzipProperties {
+
+    /**
+     * Largest body a gzip request may inflate to. Compressed JSON is small, so without a
+     * cap a few kilobytes on the wire could expand to gigabytes; beyond it the request is
+     * answered with 413. Applies to bulk submissions too.
+     */
+    private DataSize maxInflatedSize = DataSize.ofMegabytes(64);
+}
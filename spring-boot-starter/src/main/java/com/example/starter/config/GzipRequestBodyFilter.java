@@ -0,0 +1,185 @@
+package com.example.starter.config;
+
+import com.example.starter.exception.PayloadTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Inflates {@code Content-Encoding: gzip} request bodies as they are read, so every
+ * consumer (message converters and the streaming bulk endpoint alike) sees plain JSON.
+ *
+ * <p>A body that inflates past {@code maxInflatedBytes} fails the read that crosses the
+ * limit with {@link PayloadTooLargeException}, so a small compressed body cannot expand
+ * without bound in memory.
+ *
+ * <p>Only blocking reads are supported. Inflating reads the gzip header up front and may
+ * need several reads of the compressed body for one inflated read, so the compressed
+ * body's readiness says nothing about whether an inflated read would block, and
+ * {@link ServletInputStream#setReadListener} is refused.
+ */
+public class GzipRequestBodyFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+    private static final int INFLATE_BUFFER_SIZE = 8192;
+
+    private final long maxInflatedBytes;
+
+    public GzipRequestBodyFilter(long maxInflatedBytes) {
+        this.maxInflatedBytes = maxInflatedBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !GZIP.equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(new GzipRequest(request, maxInflatedBytes), response);
+    }
+
+    private static final class GzipRequest extends HttpServletRequestWrapper {
+
+        private final long maxInflatedBytes;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        private GzipRequest(HttpServletRequest request, long maxInflatedBytes) {
+            super(request);
+            this.maxInflatedBytes = maxInflatedBytes;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (reader != null) {
+                throw new IllegalStateException("getReader() has already been called for this request");
+            }
+            return inflating();
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                if (inputStream != null) {
+                    throw new IllegalStateException("getInputStream() has already been called for this request");
+                }
+                String encoding = getCharacterEncoding();
+                // ISO-8859-1 is the servlet default when the request names no charset
+                reader = new BufferedReader(encoding != null
+                        ? new InputStreamReader(inflating(), encoding)
+                        : new InputStreamReader(inflating(), StandardCharsets.ISO_8859_1));
+            }
+            return reader;
+        }
+
+        private ServletInputStream inflating() throws IOException {
+            if (inputStream == null) {
+                ServletInputStream compressed = super.getInputStream();
+                inputStream = new InflatingInputStream(
+                        new GZIPInputStream(compressed, INFLATE_BUFFER_SIZE), maxInflatedBytes);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+                    ? Collections.emptyEnumeration()
+                    : super.getHeaders(name);
+        }
+    }
+
+    private static final class InflatingInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private final long maxInflatedBytes;
+        private long inflated;
+        private boolean finished;
+
+        private InflatingInputStream(InputStream delegate, long maxInflatedBytes) {
+            this.delegate = delegate;
+            this.maxInflatedBytes = maxInflatedBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            finished = value < 0;
+            if (!finished) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            finished = read < 0;
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int bytes) throws PayloadTooLargeException {
+            inflated += bytes;
+            if (inflated > maxInflatedBytes) {
+                throw new PayloadTooLargeException(
+                        "Request body inflates to more than " + maxInflatedBytes + " bytes");
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /** Reads block until data arrives, so one is always possible. */
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new IllegalStateException("Gzip request bodies can only be read blocking");
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
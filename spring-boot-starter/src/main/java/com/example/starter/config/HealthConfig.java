@@ -0,0 +1,60 @@
+package com.example.starter.config;
+
+import com.example.starter.service.CompanyRegistryClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.DoubleSupplier;
+
+import static com.example.starter.config.HealthMonitor.utilization;
+
+/**
+ * Health payloads for {@code /api/v1/health}, with readiness driven by the saturation
+ * signals of whichever of admission control and enrichment are enabled.
+ */
+@Configuration
+@EnableConfigurationProperties(HealthProperties.class)
+public class HealthConfig {
+
+    @Bean(destroyMethod = "close")
+    public HealthMonitor healthMonitor(
+            HealthProperties properties, ObjectMapper objectMapper, ApplicationEventPublisher publisher,
+            ObjectProvider<AdmissionLimiter> admissionLimiter,
+            @Qualifier("bulkScoringExecutor") ExecutorService bulkScoringExecutor, BulkProperties bulkProperties,
+            ObjectProvider<CompanyRegistryClient> companyRegistryClient, EnrichmentProperties enrichmentProperties) {
+        Map<String, DoubleSupplier> signals = new LinkedHashMap<>();
+        admissionLimiter.ifAvailable(limiter -> {
+            signals.put("admission.in-flight", utilization(limiter::inFlight, limiter.maxInFlight()));
+            signals.put("admission.queued", utilization(limiter::queued, limiter.maxQueued()));
+        });
+        if (bulkScoringExecutor instanceof ThreadPoolExecutor executor) {
+            signals.put("bulk.queued",
+                    utilization(() -> executor.getQueue().size(), bulkProperties.getQueueCapacity()));
+        }
+        companyRegistryClient.ifAvailable(client -> signals.put("registry.in-flight",
+                utilization(client::inFlight, enrichmentProperties.getMaxConcurrentRequests())));
+
+        HealthMonitor monitor = new HealthMonitor(objectMapper, signals, properties, publisher, Clock.systemUTC());
+        monitor.start(properties.getRefreshInterval());
+        return monitor;
+    }
+
+    @Bean
+    public MeterBinder healthMetrics(HealthMonitor healthMonitor) {
+        return registry -> Gauge.builder("risk.health.ready", healthMonitor, m -> m.current().ready() ? 1 : 0)
+                .description("Whether the service is ready for traffic (1) or saturated (0)")
+                .register(registry);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.HealthResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.Closeable;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * Samples saturation signals on a background thread and keeps the liveness and readiness
+ * payloads serialized, so a health check is a volatile read and a byte copy however often
+ * it is polled.
+ *
+ * <p>Each signal is how full something in front of scoring is, as a fraction of its
+ * capacity: admission slots and queue, the bulk executor queue, the company registry
+ * bulkhead. The service stops being ready when any signal reaches the saturation threshold,
+ * while latency is still fine, and is ready again once all are below the lower recovery
+ * threshold, so it does not flap in and out of rotation at the limit. Readiness changes
+ * are also published as {@link ReadinessState} events for the actuator probes.
+ */
+@Slf4j
+public class HealthMonitor implements Closeable {
+
+    public static final String UP = "UP";
+    public static final String OUT_OF_SERVICE = "OUT_OF_SERVICE";
+
+    /** The payloads served until the next refresh. */
+    public record Snapshot(boolean ready, byte[] liveness, byte[] readiness) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, DoubleSupplier> signals;
+    private final double saturationThreshold;
+    private final double recoveryThreshold;
+    private final ApplicationEventPublisher publisher;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private volatile Snapshot current;
+
+    public HealthMonitor(ObjectMapper objectMapper, Map<String, DoubleSupplier> signals, HealthProperties properties,
+                         ApplicationEventPublisher publisher, Clock clock) {
+        if (properties.getRecoveryThreshold() > properties.getSaturationThreshold()) {
+            throw new IllegalStateException(
+                    "risk.health.recovery-threshold must not be above risk.health.saturation-threshold");
+        }
+        this.objectMapper = objectMapper;
+        this.signals = new LinkedHashMap<>(signals);
+        this.saturationThreshold = properties.getSaturationThreshold();
+        this.recoveryThreshold = properties.getRecoveryThreshold();
+        this.publisher = publisher;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresh();
+    }
+
+    /** A signal of {@code used} out of {@code capacity}. */
+    public static DoubleSupplier utilization(IntSupplier used, int capacity) {
+        return () -> capacity > 0 ? (double) used.getAsInt() / capacity : 0;
+    }
+
+    /** Refreshes every {@code interval}, starting one interval from now. */
+    public void start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                // An exception would cancel the schedule and freeze the payloads
+                log.warn("Health refresh failed: {}", e.toString());
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Snapshot current() {
+        return current;
+    }
+
+    /** Samples the signals and rebuilds the payloads. */
+    public Snapshot refresh() {
+        Map<String, Double> saturation = new LinkedHashMap<>();
+        double highest = 0;
+        for (Map.Entry<String, DoubleSupplier> signal : signals.entrySet()) {
+            double value = signal.getValue().getAsDouble();
+            saturation.put(signal.getKey(), value);
+            highest = Math.max(highest, value);
+        }
+        boolean wasReady = current == null || current.ready();
+        boolean ready = highest < (wasReady ? saturationThreshold : recoveryThreshold);
+
+        Instant now = clock.instant();
+        current = new Snapshot(ready,
+                write(HealthResponse.builder().status(UP).timestamp(now).build()),
+                write(HealthResponse.builder().status(ready ? UP : OUT_OF_SERVICE).timestamp(now)
+                        .saturation(saturation).build()));
+
+        if (ready != wasReady) {
+            log.warn("Readiness changed to {}: saturation={}", ready ? UP : OUT_OF_SERVICE, saturation);
+            AvailabilityChangeEvent.publish(publisher, this,
+                    ready ? ReadinessState.ACCEPTING_TRAFFIC : ReadinessState.REFUSING_TRAFFIC);
+        }
+        return current;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private byte[] write(HealthResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
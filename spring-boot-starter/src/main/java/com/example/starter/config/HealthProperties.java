@@ -0,0 +1,23 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Liveness and readiness served by {@code /api/v1/health}.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.health")
+public class HealthProperties {
+
+    /** Time between samples of the saturation signals; the health payloads are rebuilt each time. */
+    private Duration refreshInterval = Duration.ofSeconds(1);
+
+    /** Stop being ready once any saturation signal reaches this fraction of its capacity. */
+    private double saturationThreshold = 0.9;
+
+    /** Be ready again once every saturation signal is back below this fraction of its capacity. */
+    private double recoveryThreshold = 0.7;
+}
@@ -0,0 +1,36 @@
+package com.example.starter.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(GzipProperties.class)
+public class JsonCodecConfig {
+
+    /**
+     * Picked up by Spring Boot's {@code HttpMessageConverters} and placed ahead of the
+     * Jackson converter, so it handles the risk-decision DTOs and nothing else.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "risk.json-codec.enabled", havingValue = "true", matchIfMissing = true)
+    public RiskDecisionHttpMessageConverter riskDecisionHttpMessageConverter(
+            ObjectMapper objectMapper, RequestStageTimers requestStageTimers) {
+        return new RiskDecisionHttpMessageConverter(
+                new RiskDecisionJsonCodec(objectMapper.getFactory()), requestStageTimers);
+    }
+
+    @Bean
+    public FilterRegistrationBean<GzipRequestBodyFilter> gzipRequestBodyFilter(GzipProperties properties) {
+        FilterRegistrationBean<GzipRequestBodyFilter> registration = new FilterRegistrationBean<>(
+                new GzipRequestBodyFilter(properties.getMaxInflatedSize().toBytes()));
+        registration.addUrlPatterns("/api/v1/*");
+        // After admission control, so shed requests are never inflated
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
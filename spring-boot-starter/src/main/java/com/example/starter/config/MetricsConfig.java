@@ -0,0 +1,28 @@
+package com.example.starter.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Stage timers for request handling. Percentiles for these and for the per-endpoint
+ * {@code http.server.requests} timer are configured under
+ * {@code management.metrics.distribution} in application.yml.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public RequestStageTimers requestStageTimers(MeterRegistry meterRegistry) {
+        return new RequestStageTimers(meterRegistry);
+    }
+
+    /** Replaces Spring Boot's Jackson converter with a timed one using the same ObjectMapper. */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper, RequestStageTimers requestStageTimers) {
+        return new TimedJackson2HttpMessageConverter(objectMapper, requestStageTimers);
+    }
+}
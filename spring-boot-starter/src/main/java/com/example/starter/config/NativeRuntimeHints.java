@@ -0,0 +1,37 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.BulkRiskDecisionResult;
+import com.example.starter.dto.CompanyRegistryRecord;
+import com.example.starter.dto.HealthResponse;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.ScoringRules;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection hints for AOT-processed and native builds.
+ *
+ * <p>Spring registers the bodies of controller methods itself. These are the types that
+ * are also read or written with the {@code ObjectMapper} directly (bulk items, the decision
+ * store, rules and FX files, registry answers), which it cannot see.
+ * Jackson binds the Lombok DTOs through their generated no-args constructors, getters and
+ * setters, so each type is registered with its properties, nested types included.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingHints.registerReflectionHints(hints.reflection(),
+                RiskDecisionRequest.class,
+                RiskDecisionResponse.class,
+                BulkRiskDecisionResult.class,
+                HealthResponse.class,
+                CompanyRegistryRecord.class,
+                ScoringRules.class,
+                FxRatesRefresher.RatesDocument.class);
+    }
+}
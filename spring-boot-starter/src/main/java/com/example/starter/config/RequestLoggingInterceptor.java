@@ -1,8 +1,13 @@
 package com.example.starter.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -11,33 +16,64 @@ import org.springframework.web.servlet.HandlerInterceptor;
  *
  * <p>Important: Never log PII (personal names, dates of birth, addresses).
  * Only log identifiers like customerId and correlationId.
+ *
+ * <p>The request thread only publishes a record to an {@link AccessLog} ring buffer;
+ * formatting and writing happen on a background thread. Records are dropped (and
+ * counted in {@code risk.access.log.dropped}) rather than delaying a request when the
+ * writer falls behind. Route this class's logger to a rolling file with
+ * {@code logging.file.name} if console output is too slow.
  */
 @Slf4j
 @Component
-public class RequestLoggingInterceptor implements HandlerInterceptor {
+public class RequestLoggingInterceptor implements HandlerInterceptor, MeterBinder, DisposableBean {
 
     private static final String START_TIME_ATTR = "requestStartTime";
-    private static final String CORRELATION_HEADER = "X-Correlation-ID";
 
-    @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        request.setAttribute(START_TIME_ATTR, System.currentTimeMillis());
+    private final AccessLog accessLog;
 
-        String correlationId = request.getHeader(CORRELATION_HEADER);
-        log.info("Request started: method={}, endpoint={}, correlationId={}",
-                request.getMethod(), request.getRequestURI(), correlationId);
+    public RequestLoggingInterceptor(
+            @Value("${risk.access-log.capacity:8192}") int capacity,
+            @Value("${risk.access-log.batch-size:256}") int batchSize) {
+        this.accessLog = new AccessLog(capacity, batchSize, RequestLoggingInterceptor::write);
+        this.accessLog.start();
+    }
 
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_TIME_ATTR, System.nanoTime());
         return true;
     }
 
     @Override
     public void afterCompletion(
             HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-        long startTime = (long) request.getAttribute(START_TIME_ATTR);
-        long duration = System.currentTimeMillis() - startTime;
+        Object startTime = request.getAttribute(START_TIME_ATTR);
+        long durationNanos = startTime == null ? -1 : System.nanoTime() - (long) startTime;
+
+        accessLog.offer(request.getMethod(), request.getRequestURI(), response.getStatus(), durationNanos,
+                (String) request.getAttribute(CorrelationIdFilter.ATTRIBUTE));
+    }
 
-        String correlationId = response.getHeader(CORRELATION_HEADER);
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("risk.access.log.dropped", accessLog, AccessLog::dropped)
+                .description("Access log records dropped because the writer fell behind")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        accessLog.close();
+    }
+
+    private static void write(String method, String uri, int status, long durationNanos, String correlationId) {
         log.info("Request completed: method={}, endpoint={}, status={}, durationMs={}, correlationId={}",
-                request.getMethod(), request.getRequestURI(), response.getStatus(), duration, correlationId);
+                method, uri, status, formatMillis(durationNanos), correlationId);
+    }
+
+    private static String formatMillis(long durationNanos) {
+        long micros = durationNanos / 1_000;
+        long fraction = micros % 1_000;
+        return (micros / 1_000) + (fraction < 10 ? ".00" : fraction < 100 ? ".0" : ".") + fraction;
     }
 }
@@ -0,0 +1,39 @@
+package com.example.starter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code risk.request.stage} timers, one per stage and payload type, cached so the
+ * hot path does a single map lookup instead of building meter IDs.
+ */
+public class RequestStageTimers {
+
+    public static final String DESERIALIZATION = "deserialization";
+    public static final String VALIDATION = "validation";
+    public static final String SERIALIZATION = "serialization";
+
+    private final MeterRegistry registry;
+    private final Map<String, Map<Class<?>, Timer>> timers = new ConcurrentHashMap<>();
+
+    public RequestStageTimers(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void record(String stage, Class<?> type, long startNanos) {
+        timer(stage, type).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String stage, Class<?> type) {
+        return timers.computeIfAbsent(stage, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(type, ignored -> Timer.builder("risk.request.stage")
+                        .description("Time spent in each stage of request handling")
+                        .tag("stage", stage)
+                        .tag("type", type.getSimpleName())
+                        .register(registry));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+
+/**
+ * Reads {@link RiskDecisionRequest} and writes {@link RiskDecisionResponse} with
+ * {@link RiskDecisionJsonCodec}. Every other type is left to the Jackson converter
+ * further down the converter list.
+ */
+public class RiskDecisionHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final RiskDecisionJsonCodec codec;
+    private final RequestStageTimers timers;
+
+    public RiskDecisionHttpMessageConverter(RiskDecisionJsonCodec codec, RequestStageTimers timers) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.codec = codec;
+        this.timers = timers;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == RiskDecisionRequest.class || clazz == RiskDecisionResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == RiskDecisionRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz == RiskDecisionResponse.class && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return codec.readRequest(inputMessage.getBody());
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        } catch (DateTimeException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: invalid date", e, inputMessage);
+        } finally {
+            timers.record(RequestStageTimers.DESERIALIZATION, clazz, start);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            codec.writeResponse((RiskDecisionResponse) object, outputMessage.getBody());
+        } finally {
+            timers.record(RequestStageTimers.SERIALIZATION, object.getClass(), start);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written, single-pass JSON codec for {@link RiskDecisionRequest} and
+ * {@link RiskDecisionResponse}.
+ *
+ * <p>Works directly on Jackson's streaming parser and generator, so there is no bean
+ * introspection or deserializer lookup per request. Buffers come from the
+ * {@link JsonFactory}'s recycler, field names are written from pre-encoded
+ * {@link SerializedString}s, and {@code yyyy-MM-dd} dates are parsed straight from the
+ * parser's character buffer. The output matches what Spring Boot's ObjectMapper
+ * produces for the same objects; unknown request fields are skipped as it would.
+ */
+public class RiskDecisionJsonCodec {
+
+    private static final SerializableString DECISION_ID = new SerializedString("decisionId");
+    private static final SerializableString RISK_DECISION = new SerializedString("riskDecision");
+    private static final SerializableString RISK_SCORE = new SerializedString("riskScore");
+    private static final SerializableString EVALUATED_FACTORS = new SerializedString("evaluatedFactors");
+    private static final SerializableString COMPANY_AGE_POINTS = new SerializedString("companyAgePoints");
+    private static final SerializableString TURNOVER_POINTS = new SerializedString("turnoverPoints");
+    private static final SerializableString OWNER_AGE_POINTS = new SerializedString("ownerAgePoints");
+    private static final SerializableString LOAN_TO_TURNOVER_POINTS = new SerializedString("loanToTurnoverPoints");
+    private static final SerializableString VELOCITY_POINTS = new SerializedString("velocityPoints");
+    private static final SerializableString REASONS = new SerializedString("reasons");
+    private static final SerializableString RULE_VERSION = new SerializedString("ruleVersion");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString CORRELATION_ID = new SerializedString("correlationId");
+
+    private final JsonFactory jsonFactory;
+
+    public RiskDecisionJsonCodec(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public RiskDecisionRequest readRequest(InputStream input) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            parser.nextToken();
+            RiskDecisionRequest request = readRequest(parser);
+            if (request == null) {
+                throw new InputCoercionException(parser, "Request body must be a JSON object", parser.currentToken(),
+                        RiskDecisionRequest.class);
+            }
+            return request;
+        }
+    }
+
+    public void writeResponse(RiskDecisionResponse response, OutputStream output) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+
+            generator.writeFieldName(DECISION_ID);
+            generator.writeString(response.getDecisionId());
+
+            generator.writeFieldName(RISK_DECISION);
+            generator.writeString(response.getRiskDecision() == null ? null : response.getRiskDecision().name());
+
+            generator.writeFieldName(RISK_SCORE);
+            generator.writeNumber(response.getRiskScore());
+
+            generator.writeFieldName(EVALUATED_FACTORS);
+            RiskDecisionResponse.EvaluatedFactors factors = response.getEvaluatedFactors();
+            if (factors == null) {
+                generator.writeNull();
+            } else {
+                generator.writeStartObject();
+                generator.writeFieldName(COMPANY_AGE_POINTS);
+                generator.writeNumber(factors.getCompanyAgePoints());
+                generator.writeFieldName(TURNOVER_POINTS);
+                generator.writeNumber(factors.getTurnoverPoints());
+                generator.writeFieldName(OWNER_AGE_POINTS);
+                generator.writeNumber(factors.getOwnerAgePoints());
+                generator.writeFieldName(LOAN_TO_TURNOVER_POINTS);
+                generator.writeNumber(factors.getLoanToTurnoverPoints());
+                generator.writeFieldName(VELOCITY_POINTS);
+                generator.writeNumber(factors.getVelocityPoints());
+                generator.writeEndObject();
+            }
+
+            generator.writeFieldName(REASONS);
+            List<String> reasons = response.getReasons();
+            if (reasons == null) {
+                generator.writeNull();
+            } else {
+                generator.writeStartArray();
+                for (int i = 0, size = reasons.size(); i < size; i++) {
+                    generator.writeString(reasons.get(i));
+                }
+                generator.writeEndArray();
+            }
+
+            generator.writeFieldName(RULE_VERSION);
+            generator.writeString(response.getRuleVersion());
+
+            generator.writeFieldName(CREATED_AT);
+            generator.writeString(response.getCreatedAt() == null ? null : response.getCreatedAt().toString());
+
+            generator.writeFieldName(CORRELATION_ID);
+            generator.writeString(response.getCorrelationId());
+
+            generator.writeEndObject();
+        }
+    }
+
+    private RiskDecisionRequest readRequest(JsonParser parser) throws IOException {
+        if (startObject(parser, RiskDecisionRequest.class)) {
+            return null;
+        }
+        RiskDecisionRequest request = new RiskDecisionRequest();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "client" -> request.setClient(readClient(parser));
+                case "business" -> request.setBusiness(readBusiness(parser));
+                case "owners" -> request.setOwners(readOwners(parser));
+                case "loan" -> request.setLoan(readLoan(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return request;
+    }
+
+    private RiskDecisionRequest.Client readClient(JsonParser parser) throws IOException {
+        if (startObject(parser, RiskDecisionRequest.Client.class)) {
+            return null;
+        }
+        RiskDecisionRequest.Client client = new RiskDecisionRequest.Client();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "customerId" -> client.setCustomerId(readString(parser));
+                case "countryOfApplication" -> client.setCountryOfApplication(readString(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return client;
+    }
+
+    private RiskDecisionRequest.Business readBusiness(JsonParser parser) throws IOException {
+        if (startObject(parser, RiskDecisionRequest.Business.class)) {
+            return null;
+        }
+        RiskDecisionRequest.Business business = new RiskDecisionRequest.Business();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "legalName" -> business.setLegalName(readString(parser));
+                case "countryOfIncorporation" -> business.setCountryOfIncorporation(readString(parser));
+                case "dateOfIncorporation" -> business.setDateOfIncorporation(readDate(parser));
+                case "annualTurnover" -> business.setAnnualTurnover(readAnnualTurnover(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return business;
+    }
+
+    private RiskDecisionRequest.AnnualTurnover readAnnualTurnover(JsonParser parser) throws IOException {
+        if (startObject(parser, RiskDecisionRequest.AnnualTurnover.class)) {
+            return null;
+        }
+        RiskDecisionRequest.AnnualTurnover turnover = new RiskDecisionRequest.AnnualTurnover();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "amount" -> turnover.setAmount(readDouble(parser));
+                case "currency" -> turnover.setCurrency(readString(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return turnover;
+    }
+
+    private List<RiskDecisionRequest.Owner> readOwners(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw mismatch(parser, List.class);
+        }
+        List<RiskDecisionRequest.Owner> owners = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            owners.add(readOwner(parser));
+        }
+        return owners;
+    }
+
+    private RiskDecisionRequest.Owner readOwner(JsonParser parser) throws IOException {
+        if (startObject(parser, RiskDecisionRequest.Owner.class)) {
+            return null;
+        }
+        RiskDecisionRequest.Owner owner = new RiskDecisionRequest.Owner();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "fullName" -> owner.setFullName(readString(parser));
+                case "dateOfBirth" -> owner.setDateOfBirth(readDate(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return owner;
+    }
+
+    private RiskDecisionRequest.Loan readLoan(JsonParser parser) throws IOException {
+        if (startObject(parser, RiskDecisionRequest.Loan.class)) {
+            return null;
+        }
+        RiskDecisionRequest.Loan loan = new RiskDecisionRequest.Loan();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("requestedAmount".equals(field)) {
+                loan.setRequestedAmount(readDouble(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return loan;
+    }
+
+    /**
+     * @return {@code true} if the value is JSON null, {@code false} if it opens an object
+     */
+    private static boolean startObject(JsonParser parser, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return true;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw mismatch(parser, type);
+        }
+        return false;
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw mismatch(parser, String.class);
+        }
+        return parser.getValueAsString();
+    }
+
+    private static double readDouble(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return 0;
+            }
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw mismatch(parser, double.class);
+            }
+        }
+        throw mismatch(parser, double.class);
+    }
+
+    private static LocalDate readDate(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw mismatch(parser, LocalDate.class);
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        if (length == 10 && chars[offset + 4] == '-' && chars[offset + 7] == '-') {
+            int year = digits(chars, offset, 4);
+            int month = digits(chars, offset + 5, 2);
+            int day = digits(chars, offset + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        String text = parser.getText().trim();
+        return text.isEmpty() ? null : LocalDate.parse(text);
+    }
+
+    /** Parses {@code count} ASCII digits, or returns -1 if any character is not a digit. */
+    private static int digits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static InputCoercionException mismatch(JsonParser parser, Class<?> type) {
+        return new InputCoercionException(parser,
+                "Unexpected " + parser.currentToken() + " for " + type.getSimpleName() + " field "
+                        + parser.getParsingContext().pathAsPointer(),
+                parser.currentToken(), type);
+    }
+}
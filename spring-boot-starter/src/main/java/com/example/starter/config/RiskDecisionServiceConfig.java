@@ -0,0 +1,66 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.service.CachingRiskDecisionService;
+import com.example.starter.service.EnrichingRiskDecisionService;
+import com.example.starter.service.NotifyingRiskDecisionService;
+import com.example.starter.service.RiskDecisionListener;
+import com.example.starter.service.RiskDecisionService;
+import com.example.starter.service.ScoringEngineListener;
+import com.example.starter.service.ScreeningRiskDecisionService;
+import com.example.starter.service.WatchlistScreener;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+
+/**
+ * Assembles the {@link RiskDecisionService} used by the controllers: the selected
+ * scoring engine and its {@link ScoringEngineListener}s, then company registry
+ * enrichment and sanctions screening (when enabled), then listener notification for
+ * each new decision, then the idempotency cache (when enabled) so replayed decisions
+ * are not reported twice.
+ */
+@Configuration
+public class RiskDecisionServiceConfig {
+
+    /** The selected scoring engine, reporting its own decisions before anything adjusts them. */
+    @Bean
+    @Qualifier("listenedScoringEngine")
+    public RiskDecisionService listenedScoringEngine(
+            @Qualifier("scoringEngine") RiskDecisionService scoringEngine,
+            ObjectProvider<ScoringEngineListener> engineListeners) {
+        List<RiskDecisionListener> listeners = engineListeners.orderedStream()
+                .<RiskDecisionListener>map(listener -> listener::onDecision)
+                .toList();
+        return listeners.isEmpty() ? scoringEngine : new NotifyingRiskDecisionService(scoringEngine, listeners);
+    }
+
+    @Bean
+    @Primary
+    public RiskDecisionService riskDecisionService(
+            @Qualifier("listenedScoringEngine") RiskDecisionService scoringEngine,
+            ObjectProvider<EnrichingRiskDecisionService> enrichingEngine,
+            ObjectProvider<WatchlistScreener> watchlistScreener,
+            ObjectProvider<RiskDecisionListener> listeners,
+            ObjectProvider<AsyncCache<CachingRiskDecisionService.DecisionKey, RiskDecisionResponse>> decisionCache) {
+        RiskDecisionService service = enrichingEngine.getIfAvailable(() -> scoringEngine);
+
+        WatchlistScreener screener = watchlistScreener.getIfAvailable();
+        if (screener != null) {
+            service = new ScreeningRiskDecisionService(service, screener);
+        }
+
+        List<RiskDecisionListener> orderedListeners = listeners.orderedStream().toList();
+        if (!orderedListeners.isEmpty()) {
+            service = new NotifyingRiskDecisionService(service, orderedListeners);
+        }
+
+        AsyncCache<CachingRiskDecisionService.DecisionKey, RiskDecisionResponse> cache = decisionCache.getIfAvailable();
+        return cache != null ? new CachingRiskDecisionService(service, cache) : service;
+    }
+}
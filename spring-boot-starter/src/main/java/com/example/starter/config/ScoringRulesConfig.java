@@ -0,0 +1,58 @@
+package com.example.starter.config;
+
+import com.example.starter.service.RuleSet;
+import com.example.starter.service.RuleSetHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Scoring rules: the built-in ones, or those in {@code risk.scoring.rules-file}, which
+ * must be valid at startup and are then reloaded whenever the file changes.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ScoringRulesProperties.class)
+public class ScoringRulesConfig {
+
+    @Bean
+    public RuleSetHolder ruleSetHolder(ScoringRulesProperties properties, ObjectMapper objectMapper) {
+        if (properties.getRulesFile() == null) {
+            return new RuleSetHolder(RuleSet.defaults());
+        }
+        RuleSet ruleSet = ScoringRulesWatcher.load(objectMapper, properties.getRulesFile());
+        log.info("Loaded scoring rules version {} from {}", ruleSet.version(), properties.getRulesFile());
+        return new RuleSetHolder(ruleSet);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "risk.scoring.rules-file")
+    public ScoringRulesWatcher scoringRulesWatcher(
+            ScoringRulesProperties properties, ObjectMapper objectMapper, RuleSetHolder ruleSetHolder)
+            throws IOException {
+        return new ScoringRulesWatcher(
+                objectMapper, properties.getRulesFile(), properties.getReloadDelay(), ruleSetHolder);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.scoring.rules-file")
+    public MeterBinder scoringRulesMetrics(ScoringRulesWatcher watcher) {
+        return registry -> {
+            FunctionCounter.builder("risk.rules.reloads", watcher, ScoringRulesWatcher::applied)
+                    .description("Reloads of the scoring rules file, by outcome")
+                    .tag("result", "applied")
+                    .register(registry);
+            FunctionCounter.builder("risk.rules.reloads", watcher, ScoringRulesWatcher::rejected)
+                    .description("Reloads of the scoring rules file, by outcome")
+                    .tag("result", "rejected")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Where the scoring rules come from.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.scoring")
+public class ScoringRulesProperties {
+
+    /** JSON file with the scoring rules, reloaded when it changes. Unset uses the built-in rules. */
+    private Path rulesFile;
+
+    /** Quiet period after the last change to the rules file before it is reloaded. */
+    private Duration reloadDelay = Duration.ofMillis(500);
+}
@@ -0,0 +1,171 @@
+package com.example.starter.config;
+
+import com.example.starter.model.ScoringRules;
+import com.example.starter.service.RuleSet;
+import com.example.starter.service.RuleSetHolder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reloads the scoring rules file whenever it changes and swaps the compiled
+ * {@link RuleSet} into the {@link RuleSetHolder}.
+ *
+ * <p>Changes are picked up by a background thread watching the file's directory, so
+ * editors that replace the file rather than write it in place are handled too. A reload
+ * waits until the file has been quiet for the reload delay. A file that cannot be read
+ * or compiled, or that changes the rules without changing their version, is rejected
+ * and the current rules stay in force.
+ */
+@Slf4j
+public class ScoringRulesWatcher implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final RuleSetHolder ruleSets;
+    private final long reloadDelayMillis;
+    private final WatchService watchService;
+    private final Thread thread;
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    /** Only touched by the watcher thread. */
+    private byte[] lastContent;
+
+    public ScoringRulesWatcher(ObjectMapper objectMapper, Path file, Duration reloadDelay, RuleSetHolder ruleSets)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        this.file = file.toAbsolutePath().normalize();
+        this.ruleSets = ruleSets;
+        this.reloadDelayMillis = reloadDelay.toMillis();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        this.thread = new Thread(this::run, "scoring-rules-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Reads and compiles a rules file.
+     *
+     * @throws IllegalArgumentException if the file cannot be read or the rules are invalid
+     */
+    public static RuleSet load(ObjectMapper objectMapper, Path file) {
+        try {
+            return compile(objectMapper, file, Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read scoring rules from " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads the file and, if it holds a new version of the rules, makes it current.
+     *
+     * @return whether the rules were replaced
+     */
+    public boolean reload() {
+        RuleSet current = ruleSets.current();
+        RuleSet candidate;
+        try {
+            byte[] content = Files.readAllBytes(file);
+            // One save can be reported as several changes; only look at each content once
+            if (Arrays.equals(content, lastContent)) {
+                return false;
+            }
+            lastContent = content;
+            candidate = compile(objectMapper, file, content);
+        } catch (IOException | IllegalArgumentException e) {
+            rejected.increment();
+            log.error("Rejected scoring rules, keeping version {}: {}", current.version(), e.getMessage());
+            return false;
+        }
+        if (candidate.version().equals(current.version())) {
+            if (!candidate.sameRules(current)) {
+                rejected.increment();
+                log.error("Rejected scoring rules from {}: rules changed but version {} did not",
+                        file, current.version());
+            }
+            return false;
+        }
+        ruleSets.update(candidate);
+        applied.increment();
+        log.info("Scoring rules version {} replaced version {}", candidate.version(), current.version());
+        return true;
+    }
+
+    private static RuleSet compile(ObjectMapper objectMapper, Path file, byte[] content) {
+        ScoringRules rules;
+        try {
+            rules = objectMapper.copy()
+                    .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(content, ScoringRules.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read scoring rules from " + file + ": " + e.getMessage(), e);
+        }
+        return RuleSet.compile(rules);
+    }
+
+    public long applied() {
+        return applied.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to close watch service for {}", file, e);
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+                // Keep collecting events until the file has been quiet for the reload delay
+                while ((key = watchService.poll(reloadDelayMillis, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(key);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            log.debug("Stopped watching {}", file);
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed && Files.exists(file);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.starter.config;
+
+import com.example.starter.service.WatchlistHolder;
+import com.example.starter.service.WatchlistIndex;
+import com.example.starter.service.WatchlistScreener;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sanctions and PEP screening when {@code risk.screening.enabled} is set: the list file
+ * must index at startup and is indexed again in the background when it changes;
+ * {@link RiskDecisionServiceConfig} then screens every decision.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ScreeningProperties.class)
+@ConditionalOnProperty(name = "risk.screening.enabled", havingValue = "true")
+public class ScreeningConfig {
+
+    @Bean
+    public WatchlistHolder watchlistHolder(ScreeningProperties properties) {
+        if (properties.getListFile() == null) {
+            throw new IllegalStateException("risk.screening.list-file is required when risk.screening is enabled");
+        }
+        long started = System.nanoTime();
+        WatchlistIndex index = WatchlistRefresher.load(properties.getListFile());
+        log.info("Indexed {} watchlist entries from {} in {} ms", index.size(), properties.getListFile(),
+                (System.nanoTime() - started) / 1_000_000);
+        return new WatchlistHolder(index);
+    }
+
+    @Bean
+    public WatchlistScreener watchlistScreener(WatchlistHolder watchlistHolder, ScreeningProperties properties) {
+        return new WatchlistScreener(watchlistHolder, properties.getMatchThreshold());
+    }
+
+    @Bean(destroyMethod = "close")
+    public WatchlistRefresher watchlistRefresher(ScreeningProperties properties, WatchlistHolder watchlistHolder) {
+        WatchlistRefresher refresher = new WatchlistRefresher(properties.getListFile(), watchlistHolder);
+        refresher.start(properties.getRefreshInterval());
+        return refresher;
+    }
+
+    @Bean
+    public MeterBinder screeningMetrics(WatchlistScreener screener, WatchlistRefresher refresher,
+                                        WatchlistHolder watchlistHolder) {
+        return registry -> {
+            for (WatchlistScreener.Outcome outcome : WatchlistScreener.Outcome.values()) {
+                FunctionCounter.builder("risk.screening.decisions", screener, s -> s.count(outcome))
+                        .description("Decisions screened against the watchlists, by most severe match")
+                        .tag("result", outcome.tag())
+                        .register(registry);
+            }
+            Gauge.builder("risk.screening.entries", watchlistHolder, h -> h.current().size())
+                    .description("Entries in the watchlist index in use")
+                    .register(registry);
+            Gauge.builder("risk.screening.index.size", watchlistHolder, h -> h.current().offHeapBytes())
+                    .description("Off-heap memory held by the watchlist index in use")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("risk.screening.reloads", refresher, WatchlistRefresher::applied)
+                    .description("Rebuilds of the watchlist index after the list file changed, by outcome")
+                    .tag("result", "applied")
+                    .register(registry);
+            FunctionCounter.builder("risk.screening.reloads", refresher, WatchlistRefresher::rejected)
+                    .description("Rebuilds of the watchlist index after the list file changed, by outcome")
+                    .tag("result", "rejected")
+                    .register(registry);
+        };
+    }
+}
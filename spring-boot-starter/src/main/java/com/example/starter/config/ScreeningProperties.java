@@ -0,0 +1,27 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Sanctions and politically exposed persons (PEP) screening of businesses and owners.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.screening")
+public class ScreeningProperties {
+
+    /** Screen every business and owner name against the lists in {@link #listFile}. */
+    private boolean enabled = false;
+
+    /** Tab-separated list file: {@code SANCTIONS} or {@code PEP}, a tab, then a name, per line. */
+    private Path listFile;
+
+    /** Trigram similarity, above 0 and at most 1, from which a name counts as a match. */
+    private double matchThreshold = 0.85;
+
+    /** How often the list file is checked for changes; a changed file is indexed again. */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,100 @@
+package com.example.starter.config;
+
+import com.example.starter.model.RiskDecision;
+import com.example.starter.service.CompiledRiskDecisionService;
+import com.example.starter.service.FxRatesHolder;
+import com.example.starter.service.IdGenerator;
+import com.example.starter.service.RuleSet;
+import com.example.starter.service.RuleSetHolder;
+import com.example.starter.service.ShadowScoringListener;
+import com.example.starter.service.VelocityTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ShadowScoringProperties.class)
+@ConditionalOnProperty(name = "risk.shadow.enabled", havingValue = "true")
+public class ShadowScoringConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShadowScoringListener shadowScoringListener(ShadowScoringProperties properties, ObjectMapper objectMapper,
+                                                       FxRatesHolder fxRatesHolder, IdGenerator idGenerator,
+                                                       VelocityTracker velocityTracker) {
+        if (properties.getRulesFile() == null) {
+            throw new IllegalStateException("risk.shadow.rules-file is required when shadow scoring is enabled");
+        }
+        RuleSet candidate = ScoringRulesWatcher.load(objectMapper, properties.getRulesFile());
+        log.info("Shadow scoring {} of decisions with rules version {}",
+                properties.getSampleRate(), candidate.version());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "shadow-scoring-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        };
+        // Abort rather than run on the caller: a full queue must never cost the request thread
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                properties.getThreads(),
+                properties.getThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // Candidate rules, but the same FX rates and velocity counts as the live engine; the live
+        // engine has recorded the application already, so the candidate only reads the counts
+        return new ShadowScoringListener(
+                new CompiledRiskDecisionService(new RuleSetHolder(candidate), fxRatesHolder, idGenerator,
+                        velocityTracker.readOnly()),
+                properties.getSampleRate(), executor);
+    }
+
+    @Bean
+    public MeterBinder shadowScoringMetrics(ShadowScoringListener shadow) {
+        return registry -> {
+            for (RiskDecision primary : RiskDecision.values()) {
+                for (RiskDecision candidate : RiskDecision.values()) {
+                    FunctionCounter.builder("risk.shadow.decisions", shadow, s -> s.transitions(primary, candidate))
+                            .description("Shadow-scored decisions by live and candidate outcome")
+                            .tag("primary", primary.name())
+                            .tag("candidate", candidate.name())
+                            .register(registry);
+                }
+            }
+            for (ShadowScoringListener.Factor factor : ShadowScoringListener.Factor.values()) {
+                FunctionCounter.builder("risk.shadow.points", shadow, s -> s.pointsRaised(factor))
+                        .description("Points by which the candidate scored higher or lower than the live rules")
+                        .tag("factor", factor.tag())
+                        .tag("direction", "raised")
+                        .register(registry);
+                FunctionCounter.builder("risk.shadow.points", shadow, s -> s.pointsLowered(factor))
+                        .description("Points by which the candidate scored higher or lower than the live rules")
+                        .tag("factor", factor.tag())
+                        .tag("direction", "lowered")
+                        .register(registry);
+            }
+            FunctionCounter.builder("risk.shadow.dropped", shadow, ShadowScoringListener::dropped)
+                    .description("Samples not shadow-scored because the queue was full")
+                    .register(registry);
+            FunctionCounter.builder("risk.shadow.failed", shadow, ShadowScoringListener::failed)
+                    .description("Samples the candidate failed to score")
+                    .register(registry);
+        };
+    }
+}
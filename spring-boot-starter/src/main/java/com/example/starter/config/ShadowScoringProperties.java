@@ -0,0 +1,28 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Shadow scoring: a candidate rule set scored next to the live one on sampled traffic.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.shadow")
+public class ShadowScoringProperties {
+
+    private boolean enabled = false;
+
+    /** Rules file of the candidate, in the same format as {@code risk.scoring.rules-file}. */
+    private Path rulesFile;
+
+    /** Fraction of new decisions scored again by the candidate, from 0 to 1. */
+    private double sampleRate = 0.1;
+
+    /** Threads scoring samples. Caps the CPU shadowing can take from live traffic. */
+    private int threads = 1;
+
+    /** Samples that may wait for a thread before new ones are dropped. */
+    private int queueCapacity = 1000;
+}
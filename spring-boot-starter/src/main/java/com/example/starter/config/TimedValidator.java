@@ -0,0 +1,43 @@
+package com.example.starter.config;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Times Bean Validation of {@code @Valid} request bodies.
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final RequestStageTimers timers;
+
+    public TimedValidator(SmartValidator delegate, RequestStageTimers timers) {
+        this.delegate = delegate;
+        this.timers = timers;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            timers.record(RequestStageTimers.VALIDATION, target.getClass(), start);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            timers.record(RequestStageTimers.VALIDATION, target.getClass(), start);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.starter.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(ValidationProperties.class)
+public class ValidationConfig {
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public WebMvcConfigurer requestValidationConfigurer(LocalValidatorFactoryBean defaultValidator,
+                                                        ValidationProperties properties,
+                                                        RequestStageTimers requestStageTimers) {
+        Validator validator = requestValidator(defaultValidator, properties, requestStageTimers);
+        return new WebMvcConfigurer() {
+            @Override
+            public Validator getValidator() {
+                return validator;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public WebFluxConfigurer reactiveRequestValidationConfigurer(LocalValidatorFactoryBean defaultValidator,
+                                                                 ValidationProperties properties,
+                                                                 RequestStageTimers requestStageTimers) {
+        Validator validator = requestValidator(defaultValidator, properties, requestStageTimers);
+        return new WebFluxConfigurer() {
+            @Override
+            public Validator getValidator() {
+                return validator;
+            }
+        };
+    }
+
+    private static Validator requestValidator(LocalValidatorFactoryBean defaultValidator,
+                                              ValidationProperties properties,
+                                              RequestStageTimers requestStageTimers) {
+        SmartValidator validator = properties.getMode() == ValidationProperties.Mode.COMPILED
+                ? new CompiledRequestValidator(defaultValidator, properties.isFailFast())
+                : defaultValidator;
+        return new TimedValidator(validator, requestStageTimers);
+    }
+}
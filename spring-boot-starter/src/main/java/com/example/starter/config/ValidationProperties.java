@@ -0,0 +1,24 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * How {@code @Valid} request bodies are validated.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.validation")
+public class ValidationProperties {
+
+    private Mode mode = Mode.BEAN;
+
+    /** Report only the first error instead of every failing field. Compiled mode only. */
+    private boolean failFast = false;
+
+    public enum Mode {
+        /** Hibernate Validator, driven by the constraint annotations on the DTOs. */
+        BEAN,
+        /** {@link CompiledRequestValidator} for risk-decision requests, Bean Validation for the rest. */
+        COMPILED
+    }
+}
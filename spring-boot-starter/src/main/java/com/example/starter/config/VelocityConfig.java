@@ -0,0 +1,49 @@
+package com.example.starter.config;
+
+import com.example.starter.service.SlidingWindowVelocityTracker;
+import com.example.starter.service.VelocityTracker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-customer application velocity for the scoring engines. With {@code risk.velocity.enabled}
+ * applications are counted in a fixed-size in-memory table; otherwise no customer ever has
+ * recent applications.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(VelocityProperties.class)
+public class VelocityConfig {
+
+    @Bean
+    public VelocityTracker velocityTracker(VelocityProperties properties) {
+        if (!properties.isEnabled()) {
+            return VelocityTracker.NONE;
+        }
+        SlidingWindowVelocityTracker tracker = new SlidingWindowVelocityTracker(
+                properties.getWindow(), properties.getBuckets(), properties.getMaxCustomers());
+        log.info("Tracking application velocity of up to {} customers over {}",
+                tracker.capacity(), properties.getWindow());
+        return tracker;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "risk.velocity.enabled", havingValue = "true")
+    public MeterBinder velocityMetrics(VelocityTracker velocityTracker) {
+        SlidingWindowVelocityTracker tracker = (SlidingWindowVelocityTracker) velocityTracker;
+        return registry -> {
+            FunctionCounter.builder("risk.velocity.evictions", tracker, SlidingWindowVelocityTracker::evictions)
+                    .description("Customers forgotten early because the velocity table was full")
+                    .register(registry);
+            Gauge.builder("risk.velocity.capacity", tracker, SlidingWindowVelocityTracker::capacity)
+                    .description("Customers the velocity table holds at most")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.starter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Per-customer application velocity, scored by the {@code highVelocity} scoring rules.
+ */
+@Data
+@ConfigurationProperties(prefix = "risk.velocity")
+public class VelocityProperties {
+
+    /** Count each customer's recent applications; when off, velocity never scores. */
+    private boolean enabled = false;
+
+    /** How far back applications are counted. */
+    private Duration window = Duration.ofHours(1);
+
+    /** Buckets the window slides by; more buckets make the window edge sharper but cost memory. */
+    private int buckets = 12;
+
+    /**
+     * Customers tracked at once, rounded up to a power of two. Memory is fixed at about
+     * {@code 16 + 2 * buckets} bytes per customer; when the table is full, the customers
+     * idle longest are forgotten first.
+     */
+    private int maxCustomers = 1 << 19;
+}
@@ -0,0 +1,152 @@
+package com.example.starter.config;
+
+import com.example.starter.service.WatchlistHolder;
+import com.example.starter.service.WatchlistIndex;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Indexes the sanctions and PEP list file again on a background thread whenever it
+ * changes, and swaps the new index into the {@link WatchlistHolder}; screening never waits
+ * for a rebuild.
+ *
+ * <p>The file has one entry per line: the list it is on, a tab, then the name:
+ * <pre>
+ * # comment
+ * SANCTIONS\tIvan Petrovich Sidorov
+ * PEP\tJane Example
+ * </pre>
+ * A list that fails to load is counted and logged, and the last good index stays in use.
+ */
+@Slf4j
+public class WatchlistRefresher implements Closeable {
+
+    private final Path file;
+    private final WatchlistHolder holder;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // Only touched by the refresher thread
+    private String lastVersion;
+
+    public WatchlistRefresher(Path file, WatchlistHolder holder) {
+        this.file = file;
+        this.holder = holder;
+        this.lastVersion = version(file);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "watchlist-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Reads and indexes a list file.
+     *
+     * @throws IllegalArgumentException if the file cannot be read or a line is malformed
+     */
+    public static WatchlistIndex load(Path file) {
+        WatchlistIndex.Builder builder = new WatchlistIndex.Builder();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                WatchlistIndex.ListType list = tab < 0 ? null : listType(line.substring(0, tab).strip());
+                if (list == null) {
+                    throw new IllegalArgumentException(
+                            file + " line " + lineNumber + ": expected SANCTIONS or PEP, a tab, then a name");
+                }
+                builder.add(list, line.substring(tab + 1));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read watchlist " + file + ": " + e.getMessage(), e);
+        }
+        return builder.build();
+    }
+
+    /** Checks the file every {@code interval}, starting one interval from now. */
+    public void start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::refresh, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Indexes the file again if its size or modification time changed since it was last
+     * loaded, and makes the new index current.
+     *
+     * @return whether a new index is in use
+     */
+    public boolean refresh() {
+        String version = version(file);
+        if (version == null || version.equals(lastVersion)) {
+            return false;
+        }
+        long started = System.nanoTime();
+        WatchlistIndex index;
+        try {
+            index = load(file);
+        } catch (RuntimeException e) {
+            rejected.increment();
+            log.warn("Watchlist {} rejected, keeping the {} entries in use: {}",
+                    file, holder.current().size(), e.getMessage());
+            return false;
+        } finally {
+            // A rejected version is not retried until the file changes again
+            lastVersion = version;
+        }
+        holder.update(index);
+        applied.increment();
+        log.info("Indexed {} watchlist entries from {} in {} ms ({} MB off-heap)", index.size(), file,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), index.offHeapBytes() >> 20);
+        return true;
+    }
+
+    public long applied() {
+        return applied.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private static WatchlistIndex.ListType listType(String name) {
+        for (WatchlistIndex.ListType type : WatchlistIndex.ListType.values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static String version(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.lastModifiedTime() + "/" + attributes.size();
+        } catch (IOException e) {
+            log.debug("Cannot read the attributes of {}: {}", file, e.toString());
+            return null;
+        }
+    }
+}
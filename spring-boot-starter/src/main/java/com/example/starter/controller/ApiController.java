@@ -1,47 +1,146 @@
 package com.example.starter.controller;
 
-import com.example.starter.dto.HealthResponse;
+import com.example.starter.config.AdmissionControlFilter;
+import com.example.starter.config.CorrelationIdFilter;
+import com.example.starter.config.HealthMonitor;
+import com.example.starter.dto.LoanAmountBandsResponse;
 import com.example.starter.dto.RiskDecisionRequest;
 import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.dto.WhatIfRequest;
+import com.example.starter.dto.WhatIfResponse;
+import com.example.starter.exception.RequestValidationException;
+import com.example.starter.service.BulkRiskDecisionService;
+import com.example.starter.service.DecisionBandCalculator;
+import com.example.starter.service.DecisionStore;
+import com.example.starter.service.RequestDeadline;
 import com.example.starter.service.RiskDecisionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.UUID;
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ApiController {
 
     private final RiskDecisionService riskDecisionService;
+    private final BulkRiskDecisionService bulkRiskDecisionService;
+    private final DecisionStore decisionStore;
+    private final DecisionBandCalculator decisionBandCalculator;
+    private final HealthMonitor healthMonitor;
 
-    @GetMapping("/health")
-    public ResponseEntity<HealthResponse> health() {
-        return ResponseEntity.ok(HealthResponse.healthy());
+    @GetMapping({"/health", "/health/live"})
+    public ResponseEntity<byte[]> health() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(healthMonitor.current().liveness());
     }
 
+    /** 503 while saturated, so that load balancers send new requests to other instances. */
+    @GetMapping("/health/ready")
+    public ResponseEntity<byte[]> readiness() {
+        HealthMonitor.Snapshot health = healthMonitor.current();
+        return ResponseEntity.status(health.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(health.readiness());
+    }
+
+    /**
+     * Validation errors are collected into {@code errors} rather than thrown by Spring MVC,
+     * so that they can be rethrown without the cost of a stack trace. A request whose
+     * correlation ID came from the client may be a retry, and gets the original decision.
+     */
     @PostMapping("/risk-decisions")
     public ResponseEntity<RiskDecisionResponse> createRiskDecision(
             @Valid @RequestBody RiskDecisionRequest request,
-            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId) {
-
-        if (correlationId == null || correlationId.isBlank()) {
-            correlationId = UUID.randomUUID().toString();
+            BindingResult errors,
+            @RequestAttribute(CorrelationIdFilter.ATTRIBUTE) String correlationId,
+            @RequestAttribute(CorrelationIdFilter.SUPPLIED_ATTRIBUTE) boolean correlationIdSupplied) {
+        if (errors.hasErrors()) {
+            throw new RequestValidationException(errors);
         }
 
-        RiskDecisionResponse response = riskDecisionService.evaluate(request, correlationId);
+        RiskDecisionResponse response = correlationIdSupplied
+                ? riskDecisionService.evaluateRetryable(request, correlationId)
+                : riskDecisionService.evaluate(request, correlationId);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .header("X-Correlation-ID", response.getCorrelationId())
                 .body(response);
     }
+
+    /**
+     * The decision the request would get at every loan amount, with the largest amounts
+     * that are approved and not declined. Nothing is recorded or stored.
+     */
+    @PostMapping("/risk-decisions/loan-bands")
+    public ResponseEntity<LoanAmountBandsResponse> getLoanAmountBands(
+            @Valid @RequestBody RiskDecisionRequest request,
+            BindingResult errors) {
+        if (errors.hasErrors()) {
+            throw new RequestValidationException(errors);
+        }
+        return ResponseEntity.ok(decisionBandCalculator.loanAmountBands(request));
+    }
+
+    /** Decisions for a grid of turnover and loan amounts. Nothing is recorded or stored. */
+    @PostMapping("/risk-decisions/what-if")
+    public ResponseEntity<WhatIfResponse> whatIf(@Valid @RequestBody WhatIfRequest whatIf, BindingResult errors) {
+        if (errors.hasErrors()) {
+            throw new RequestValidationException(errors);
+        }
+        return ResponseEntity.ok(decisionBandCalculator.whatIf(whatIf));
+    }
+
+    @GetMapping("/risk-decisions/{decisionId}")
+    public ResponseEntity<RiskDecisionResponse> getRiskDecision(@PathVariable String decisionId) {
+        return decisionStore.find(decisionId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.of(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.NOT_FOUND, "No decision with ID " + decisionId)).build());
+    }
+
+    /**
+     * Scores a JSON array or NDJSON stream of requests. Each result is streamed back as
+     * an NDJSON line as soon as it is ready, in completion order rather than input order.
+     * Per-item correlation IDs are the batch correlation ID suffixed with the item index.
+     * The stream runs on another thread, so the admission deadline is handed over explicitly.
+     */
+    @PostMapping(
+            value = "/risk-decisions/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createRiskDecisions(
+            HttpServletRequest request,
+            @RequestAttribute(CorrelationIdFilter.ATTRIBUTE) String correlationId,
+            @RequestAttribute(name = AdmissionControlFilter.DEADLINE_ATTR, required = false) RequestDeadline deadline)
+            throws IOException {
+        InputStream body = request.getInputStream();
+        RequestDeadline streamDeadline = deadline != null ? deadline : RequestDeadline.NONE;
+        StreamingResponseBody results = output ->
+                bulkRiskDecisionService.evaluateAll(body, output, correlationId, streamDeadline);
+
+        return ResponseEntity.ok()
+                .header("X-Correlation-ID", correlationId)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results);
+    }
 }
@@ -0,0 +1,109 @@
+package com.example.starter.controller;
+
+import com.example.starter.config.CorrelationIdFilter;
+import com.example.starter.config.HealthMonitor;
+import com.example.starter.dto.BulkRiskDecisionResult;
+import com.example.starter.dto.LoanAmountBandsResponse;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.dto.WhatIfRequest;
+import com.example.starter.dto.WhatIfResponse;
+import com.example.starter.service.DecisionBandCalculator;
+import com.example.starter.service.DecisionStore;
+import com.example.starter.service.ReactiveRiskDecisionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * The {@link ApiController} contract on WebFlux, active with the {@code reactive} profile.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveApiController {
+
+    private final ReactiveRiskDecisionService riskDecisionService;
+    private final DecisionStore decisionStore;
+    private final DecisionBandCalculator decisionBandCalculator;
+    private final HealthMonitor healthMonitor;
+
+    @GetMapping({"/health", "/health/live"})
+    public ResponseEntity<byte[]> health() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(healthMonitor.current().liveness());
+    }
+
+    /** 503 while saturated, so that load balancers send new requests to other instances. */
+    @GetMapping("/health/ready")
+    public ResponseEntity<byte[]> readiness() {
+        HealthMonitor.Snapshot health = healthMonitor.current();
+        return ResponseEntity.status(health.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(health.readiness());
+    }
+
+    @PostMapping("/risk-decisions")
+    public Mono<ResponseEntity<RiskDecisionResponse>> createRiskDecision(
+            @Valid @RequestBody RiskDecisionRequest request,
+            @RequestAttribute(CorrelationIdFilter.ATTRIBUTE) String correlationId,
+            @RequestAttribute(CorrelationIdFilter.SUPPLIED_ATTRIBUTE) boolean correlationIdSupplied) {
+        return riskDecisionService.evaluate(request, correlationId, correlationIdSupplied)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED)
+                        .header("X-Correlation-ID", response.getCorrelationId())
+                        .body(response));
+    }
+
+    /** Computed in microseconds, so on the event loop. */
+    @PostMapping("/risk-decisions/loan-bands")
+    public ResponseEntity<LoanAmountBandsResponse> getLoanAmountBands(@Valid @RequestBody RiskDecisionRequest request) {
+        return ResponseEntity.ok(decisionBandCalculator.loanAmountBands(request));
+    }
+
+    @PostMapping("/risk-decisions/what-if")
+    public ResponseEntity<WhatIfResponse> whatIf(@Valid @RequestBody WhatIfRequest whatIf) {
+        return ResponseEntity.ok(decisionBandCalculator.whatIf(whatIf));
+    }
+
+    @GetMapping("/risk-decisions/{decisionId}")
+    public ResponseEntity<RiskDecisionResponse> getRiskDecision(@PathVariable String decisionId) {
+        return decisionStore.find(decisionId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.of(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.NOT_FOUND, "No decision with ID " + decisionId)).build());
+    }
+
+    /**
+     * Scores a JSON array or NDJSON stream of requests, streaming each result back as an
+     * NDJSON line as soon as it is ready. Input is read only as fast as results are written.
+     */
+    @PostMapping(
+            value = "/risk-decisions/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<BulkRiskDecisionResult>> createRiskDecisions(
+            @RequestBody Flux<JsonNode> items,
+            @RequestAttribute(CorrelationIdFilter.ATTRIBUTE) String correlationId) {
+        return ResponseEntity.ok()
+                .header("X-Correlation-ID", correlationId)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(riskDecisionService.evaluateAll(items, correlationId));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.starter.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One line of a bulk risk-decision response stream.
+ *
+ * <p>Exactly one of {@code decision} or {@code errors} is populated. Results are
+ * written as soon as they are ready, so {@code index} (the zero-based position of
+ * the item in the submitted batch) is the only way to match them back to the input.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkRiskDecisionResult {
+
+    private long index;
+    private String correlationId;
+    private RiskDecisionResponse decision;
+    private List<FieldError> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class FieldError {
+        private String field;
+        private String message;
+    }
+}
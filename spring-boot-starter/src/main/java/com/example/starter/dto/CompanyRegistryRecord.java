@@ -0,0 +1,27 @@
+package com.example.starter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A company as the company registry reports it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyRegistryRecord {
+
+    public static final String ACTIVE = "ACTIVE";
+
+    private String companyNumber;
+    private String legalName;
+    private String status;
+    private LocalDate dateOfIncorporation;
+
+    public boolean isActive() {
+        return ACTIVE.equalsIgnoreCase(status);
+    }
+}
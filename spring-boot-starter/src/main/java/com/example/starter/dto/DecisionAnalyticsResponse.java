@@ -0,0 +1,46 @@
+package com.example.starter.dto;
+
+import com.example.starter.model.RiskDecision;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Decisions made over a rolling window, in total and by country of application. The
+ * window starts at {@code from}, the start of its oldest time bucket, and ends now.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DecisionAnalyticsResponse {
+
+    private String window;
+    private Instant from;
+    private Instant to;
+    private Summary total;
+
+    /** By country code, in alphabetical order; countries beyond the first tracked are under {@code other}. */
+    private Map<String, Summary> countries;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+        private long decisions;
+        private Map<RiskDecision, Long> riskDecisions;
+        private double meanRiskScore;
+        /** Decisions per score range of ten points, {@code 0-9} to {@code 90-99}, then 100. */
+        private long[] riskScoreHistogram;
+        private double meanCompanyAgePoints;
+        private double meanTurnoverPoints;
+        private double meanOwnerAgePoints;
+        private double meanLoanToTurnoverPoints;
+        private double meanVelocityPoints;
+    }
+}
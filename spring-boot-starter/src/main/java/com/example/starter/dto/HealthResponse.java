@@ -1,25 +1,27 @@
 package com.example.starter.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.Map;
 
+/**
+ * Liveness or readiness of the service. {@code timestamp} is when the status was last
+ * sampled, and {@code saturation} (readiness only) is how full each signal was then,
+ * as a fraction of its capacity.
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class HealthResponse {
 
     private String status;
     private Instant timestamp;
-
-    public static HealthResponse healthy() {
-        return HealthResponse.builder()
-                .status("UP")
-                .timestamp(Instant.now())
-                .build();
-    }
+    private Map<String, Double> saturation;
 }
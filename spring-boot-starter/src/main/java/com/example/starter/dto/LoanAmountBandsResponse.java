@@ -0,0 +1,44 @@
+package com.example.starter.dto;
+
+import com.example.starter.model.RiskDecision;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The decision a risk-decision request would get at every loan amount, everything else
+ * unchanged, as consecutive ranges of amounts.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanAmountBandsResponse {
+
+    private String ruleVersion;
+
+    /** Largest whole-cent amount that is approved outright, or {@code null} if none is. */
+    private Double maxApprovableAmount;
+
+    /** Largest whole-cent amount that is approved or referred rather than declined, or {@code null}. */
+    private Double maxReferableAmount;
+
+    /** Ranges in ascending order, each starting where the one before ends. */
+    private List<Band> bands;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Band {
+        /** Smallest amount in the range. */
+        private double fromAmount;
+        /** Smallest amount above the range, or {@code null} if it has no upper limit. */
+        private Double toAmount;
+        private RiskDecision riskDecision;
+        private int riskScore;
+    }
+}
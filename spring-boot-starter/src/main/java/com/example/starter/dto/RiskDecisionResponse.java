@@ -20,6 +20,7 @@ public class RiskDecisionResponse {
     private int riskScore;
     private EvaluatedFactors evaluatedFactors;
     private List<String> reasons;
+    private String ruleVersion;
     private Instant createdAt;
     private String correlationId;
 
@@ -32,5 +33,6 @@ public class RiskDecisionResponse {
         private int turnoverPoints;
         private int ownerAgePoints;
         private int loanToTurnoverPoints;
+        private int velocityPoints;
     }
 }
@@ -0,0 +1,32 @@
+package com.example.starter.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A risk-decision request to score again for every combination of the given annual
+ * turnover and loan amounts. Amounts are in the request's currencies.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatIfRequest {
+
+    public static final int MAX_AMOUNTS = 1000;
+
+    @NotNull(message = "Request is required")
+    @Valid
+    private RiskDecisionRequest request;
+
+    /** Turnover amounts to try; the request's own turnover if left out. */
+    @Size(min = 1, max = MAX_AMOUNTS, message = "Between 1 and 1000 turnover amounts are allowed")
+    private double[] turnoverAmounts;
+
+    @NotNull(message = "Loan amounts are required")
+    @Size(min = 1, max = MAX_AMOUNTS, message = "Between 1 and 1000 loan amounts are allowed")
+    private double[] loanAmounts;
+}
@@ -0,0 +1,24 @@
+package com.example.starter.dto;
+
+import com.example.starter.model.RiskDecision;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Decisions and scores for a {@link WhatIfRequest}, one row per turnover amount and one
+ * column per loan amount, in the order requested.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatIfResponse {
+
+    private String ruleVersion;
+    private double[] turnoverAmounts;
+    private double[] loanAmounts;
+    private RiskDecision[][] riskDecisions;
+    private int[][] riskScores;
+}
@@ -0,0 +1,14 @@
+package com.example.starter.exception;
+
+/**
+ * The request ran out of its admission deadline while waiting on other work. Answered
+ * with 503 and a {@code Retry-After} header, like a request shed before it started.
+ *
+ * <p>Thrown when the service is already slow, so it carries no stack trace.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException() {
+        super("The request deadline was exceeded", null, false, false);
+    }
+}
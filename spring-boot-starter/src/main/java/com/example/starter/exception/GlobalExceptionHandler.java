@@ -1,21 +1,122 @@
 package com.example.starter.exception;
 
+import com.example.starter.config.AdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+/**
+ * RFC 7807 problem responses for the API.
+ *
+ * <p>Invalid requests are expected, and some partners send a lot of them, so their 400s
+ * are written from cached fragments by {@link ProblemResponses} and the exceptions behind
+ * them carry no stack trace. Spring MVC's own exceptions keep the problem responses of
+ * {@link ResponseEntityExceptionHandler}; anything else is logged and answered with 500.
+ * Requests that run out of their admission deadline are answered with 503 and the same
+ * {@code Retry-After} as requests shed by admission control.
+ */
 @Slf4j
 @RestControllerAdvice
-public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
-
-    // TODO: Implement centralized error handling for the API.
-    //
-    // This class extends ResponseEntityExceptionHandler, which gives you a base
-    // for handling Spring MVC exceptions. You need to add handlers for:
-    //
-    //   1. Validation errors (MethodArgumentNotValidException) - return 400 with field-level error details
-    //   2. IllegalArgumentException - return 400 with the exception message
-    //   3. A catch-all for unexpected exceptions - return 500
-    //
-    // Spring's ProblemDetail (RFC 7807) is a good response format to use here.
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler implements MeterBinder {
+
+    private final ProblemResponses problems = new ProblemResponses();
+    private final ObjectProvider<AdmissionProperties> admissionProperties;
+
+    public GlobalExceptionHandler(ObjectProvider<AdmissionProperties> admissionProperties) {
+        this.admissionProperties = admissionProperties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        problems.bindTo(registry);
+    }
+
+    /**
+     * Returns 400 with one {@code {field, message}} entry per rejected field, in the
+     * order the validator reported them.
+     */
+    @ExceptionHandler(RequestValidationException.class)
+    public ResponseEntity<Object> handleRequestValidation(RequestValidationException ex,
+                                                          HttpServletRequest request) {
+        log.debug("Request validation failed with {} errors", ex.getErrors().getErrorCount());
+        return problems.validationFailed(ex.getErrors().getFieldErrors(), request.getRequestURI());
+    }
+
+    /** As {@link #handleRequestValidation}, for bodies validated without a {@code BindingResult}. */
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
+                                                                  HttpHeaders headers,
+                                                                  HttpStatusCode status,
+                                                                  WebRequest request) {
+        log.debug("Request validation failed with {} errors", ex.getErrorCount());
+        return problems.validationFailed(ex.getBindingResult().getFieldErrors(), requestUri(request));
+    }
+
+    /** Returns 413 for a body that grew too large while being read, otherwise as Spring MVC does. */
+    @Override
+    protected ResponseEntity<Object> handleHttpMessageNotReadable(HttpMessageNotReadableException ex,
+                                                                  HttpHeaders headers,
+                                                                  HttpStatusCode status,
+                                                                  WebRequest request) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof PayloadTooLargeException tooLarge) {
+                log.debug("Request body too large: {}", tooLarge.getMessage());
+                return problems.problem(HttpStatus.PAYLOAD_TOO_LARGE, "Payload Too Large", tooLarge.getMessage(),
+                        requestUri(request));
+            }
+        }
+        return super.handleHttpMessageNotReadable(ex, headers, status, request);
+    }
+
+    /** Returns 400 with the exception message, such as a turnover currency without an FX rate. */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
+        log.debug("Invalid request: {}", ex.getMessage());
+        return problems.problem(HttpStatus.BAD_REQUEST, "Invalid Request", ex.getMessage(), request.getRequestURI());
+    }
+
+    /** Returns 503, telling the client when to retry if admission control is enabled. */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Object> handleDeadlineExceeded(DeadlineExceededException ex, HttpServletRequest request) {
+        log.debug("Request deadline exceeded: {}", request.getRequestURI());
+        ResponseEntity<Object> problem = problems.problem(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                "The request could not be answered in time, retry later", request.getRequestURI());
+        AdmissionProperties admission = admissionProperties.getIfAvailable();
+        if (admission == null) {
+            return problem;
+        }
+        return ResponseEntity.status(problem.getStatusCode())
+                .headers(problem.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, admission.getRetryAfter().toSeconds())))
+                .body(problem.getBody());
+    }
+
+    /** Returns 500 without any detail of the failure, which is logged instead. */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Object> handleUnexpected(Exception ex, HttpServletRequest request) {
+        log.error("Unexpected error handling {} {}", request.getMethod(), request.getRequestURI(), ex);
+        return problems.problem(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred", request.getRequestURI());
+    }
+
+    private static String requestUri(WebRequest request) {
+        return request instanceof ServletWebRequest servletRequest
+                ? servletRequest.getRequest().getRequestURI()
+                : null;
+    }
 }
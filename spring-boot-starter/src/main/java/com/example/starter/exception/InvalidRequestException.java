@@ -0,0 +1,20 @@
+package com.example.starter.exception;
+
+/**
+ * A request that is well-formed but cannot be scored, such as turnover in a currency
+ * without an FX rate. Answered with 400 like any other {@link IllegalArgumentException}.
+ *
+ * <p>Thrown for every such request, so it carries no stack trace: the message says all
+ * there is to know, and filling in the trace would cost more than scoring.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.starter.exception;
+
+import java.io.IOException;
+
+/**
+ * A request body grew past its limit while being read, such as a gzip body that inflates
+ * to more than {@code risk.gzip.max-inflated-size}. Answered with 413.
+ *
+ * <p>Thrown from inside a read, so it is an {@link IOException} and reaches the handler
+ * wrapped in whatever the reader makes of I/O failures.
+ */
+public class PayloadTooLargeException extends IOException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
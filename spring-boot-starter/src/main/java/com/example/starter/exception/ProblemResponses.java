@@ -0,0 +1,202 @@
+package com.example.starter.exception;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Writes RFC 7807 {@code application/problem+json} bodies with the same fields as Spring's
+ * {@link ProblemDetail}, but straight from Jackson's generator instead of the ObjectMapper.
+ *
+ * <p>Validation failures are the hot case: some partners send a lot of invalid requests.
+ * Each distinct rejected field and constraint is serialized once into a cached
+ * {@code {field, message}} fragment that later responses copy as it is, so a 400 costs a
+ * few map lookups and one small buffer. Rejections are counted in
+ * {@code risk.validation.errors}, tagged with the field, list indices dropped, and the
+ * constraint code.
+ */
+class ProblemResponses implements MeterBinder {
+
+    /** Fragments cached at most, so that requests with many list items cannot grow the cache without bound. */
+    static final int MAX_FRAGMENTS = 4096;
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final Pattern LIST_INDEX = Pattern.compile("\\[\\d+]");
+
+    private static final SerializableString TYPE = new SerializedString("type");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString DETAIL = new SerializedString("detail");
+    private static final SerializableString INSTANCE = new SerializedString("instance");
+    private static final SerializableString ERRORS = new SerializedString("errors");
+    private static final SerializableString FIELD = new SerializedString("field");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString ABOUT_BLANK = new SerializedString("about:blank");
+    private static final SerializableString VALIDATION_TITLE = new SerializedString("Validation Error");
+    private static final SerializableString VALIDATION_DETAIL = new SerializedString("Request validation failed");
+
+    private record Fragment(String message, SerializableString json, LongAdder count) {
+    }
+
+    // Rejected field, then constraint code
+    private final Map<String, Map<String, Fragment>> fragments = new ConcurrentHashMap<>();
+    private final AtomicInteger fragmentCount = new AtomicInteger();
+    // Field with list indices dropped, then constraint code
+    private final Map<String, Map<String, LongAdder>> counts = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        counts.forEach((field, byCode) -> byCode.forEach((code, count) -> register(registry, field, code, count)));
+    }
+
+    /** 400 listing one {@code {field, message}} entry per rejected field, in the order given. */
+    ResponseEntity<Object> validationFailed(List<FieldError> errors, String instance) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128 + 96 * errors.size());
+        try (JsonGenerator generator = JSON.createGenerator(body)) {
+            writeHeader(generator, HttpStatus.BAD_REQUEST, VALIDATION_TITLE, VALIDATION_DETAIL, instance);
+            generator.writeFieldName(ERRORS);
+            generator.writeStartArray();
+            for (FieldError error : errors) {
+                String message = error.getDefaultMessage() != null ? error.getDefaultMessage() : "Invalid value";
+                Fragment fragment = fragment(error.getField(), error.getCode(), message);
+                if (fragment != null) {
+                    fragment.count().increment();
+                    generator.writeRawValue(fragment.json());
+                } else {
+                    count(error.getField(), error.getCode()).increment();
+                    writeFieldError(generator, error.getField(), message);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return response(HttpStatus.BAD_REQUEST, body.toByteArray());
+    }
+
+    ResponseEntity<Object> problem(HttpStatus status, String title, String detail, String instance) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        try (JsonGenerator generator = JSON.createGenerator(body)) {
+            writeHeader(generator, status, new SerializedString(title),
+                    detail != null ? new SerializedString(detail) : null, instance);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return response(status, body.toByteArray());
+    }
+
+    /** Times each field has been rejected for {@code code}, list indices ignored. */
+    long rejected(String field, String code) {
+        Map<String, LongAdder> byCode = counts.get(field);
+        LongAdder count = byCode != null ? byCode.get(code) : null;
+        return count != null ? count.sum() : 0;
+    }
+
+    private Fragment fragment(String field, String code, String message) throws IOException {
+        Map<String, Fragment> byCode = fragments.get(field);
+        Fragment fragment = byCode != null ? byCode.get(String.valueOf(code)) : null;
+        if (fragment == null) {
+            if (fragmentCount.get() >= MAX_FRAGMENTS) {
+                return null;
+            }
+            fragment = fragments.computeIfAbsent(field, ignored -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(String.valueOf(code), ignored -> {
+                        fragmentCount.incrementAndGet();
+                        return new Fragment(message, serialize(field, message), count(field, code));
+                    });
+        }
+        // The message of a constraint is fixed, so this only fails if a validator varies it
+        return fragment.message().equals(message) ? fragment : null;
+    }
+
+    private LongAdder count(String field, String code) {
+        String tag = LIST_INDEX.matcher(field).replaceAll("[]");
+        String codeTag = String.valueOf(code);
+        return counts.computeIfAbsent(tag, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(codeTag, ignored -> {
+                    LongAdder count = new LongAdder();
+                    MeterRegistry current = registry;
+                    if (current != null) {
+                        register(current, tag, codeTag, count);
+                    }
+                    return count;
+                });
+    }
+
+    private static void register(MeterRegistry registry, String field, String code, LongAdder count) {
+        FunctionCounter.builder("risk.validation.errors", count, LongAdder::sum)
+                .description("Request fields rejected by validation, by field and constraint")
+                .tag("field", field)
+                .tag("code", code)
+                .register(registry);
+    }
+
+    private static SerializableString serialize(String field, String message) {
+        StringWriter json = new StringWriter(64);
+        try (JsonGenerator generator = JSON.createGenerator(json)) {
+            writeFieldError(generator, field, message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SerializedString(json.toString());
+    }
+
+    private static void writeFieldError(JsonGenerator generator, String field, String message) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(FIELD);
+        generator.writeString(field);
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(message);
+        generator.writeEndObject();
+    }
+
+    /** Opens the problem object and writes its standard members, as {@link ProblemDetail} orders them. */
+    private static void writeHeader(JsonGenerator generator, HttpStatus status, SerializableString title,
+                                    SerializableString detail, String instance) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(TYPE);
+        generator.writeString(ABOUT_BLANK);
+        generator.writeFieldName(TITLE);
+        generator.writeString(title);
+        generator.writeFieldName(STATUS);
+        generator.writeNumber(status.value());
+        if (detail != null) {
+            generator.writeFieldName(DETAIL);
+            generator.writeString(detail);
+        }
+        if (instance != null) {
+            generator.writeFieldName(INSTANCE);
+            generator.writeString(instance);
+        }
+    }
+
+    private static ResponseEntity<Object> response(HttpStatus status, byte[] body) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.starter.exception;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link GlobalExceptionHandler} for the WebFlux API, so both stacks return the same
+ * problem responses.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler extends ResponseEntityExceptionHandler implements MeterBinder {
+
+    private final ProblemResponses problems = new ProblemResponses();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        problems.bindTo(registry);
+    }
+
+    @Override
+    protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(WebExchangeBindException ex,
+                                                                         HttpHeaders headers,
+                                                                         HttpStatusCode status,
+                                                                         ServerWebExchange exchange) {
+        log.debug("Request validation failed with {} errors", ex.getErrorCount());
+        return Mono.just(problems.validationFailed(ex.getBindingResult().getFieldErrors(), path(exchange)));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleIllegalArgument(IllegalArgumentException ex, ServerWebExchange exchange) {
+        log.debug("Invalid request: {}", ex.getMessage());
+        return problems.problem(HttpStatus.BAD_REQUEST, "Invalid Request", ex.getMessage(), path(exchange));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Object> handleUnexpected(Exception ex, ServerWebExchange exchange) {
+        log.error("Unexpected error handling {} {}", exchange.getRequest().getMethod(), path(exchange), ex);
+        return problems.problem(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred", path(exchange));
+    }
+
+    private static String path(ServerWebExchange exchange) {
+        return exchange.getRequest().getPath().value();
+    }
+}
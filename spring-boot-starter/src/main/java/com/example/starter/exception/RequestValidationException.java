@@ -0,0 +1,22 @@
+package com.example.starter.exception;
+
+import org.springframework.validation.Errors;
+
+/**
+ * A request body that failed validation, with the rejected fields. Like
+ * {@link InvalidRequestException} it carries no stack trace, unlike the
+ * {@code MethodArgumentNotValidException} Spring MVC would throw in its place.
+ */
+public class RequestValidationException extends RuntimeException {
+
+    private final transient Errors errors;
+
+    public RequestValidationException(Errors errors) {
+        super("Request validation failed", null, false, false);
+        this.errors = errors;
+    }
+
+    public Errors getErrors() {
+        return errors;
+    }
+}
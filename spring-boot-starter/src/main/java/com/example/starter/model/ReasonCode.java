@@ -0,0 +1,39 @@
+package com.example.starter.model;
+
+import java.util.Locale;
+
+/**
+ * Reasons attached to a risk decision, one per scoring band that contributed points.
+ *
+ * <p>The declaration order is the order reasons appear in a response. Descriptions
+ * quote the thresholds of the rule set in use, so each code holds a format template
+ * filled in by {@link #describe}.
+ */
+public enum ReasonCode {
+    YOUNG_COMPANY("Company is less than %s years old"),
+    LOW_TURNOVER("Annual turnover is below %s"),
+    MID_TURNOVER("Annual turnover is between %s and %s"),
+    HIGH_TURNOVER("Annual turnover is above %s"),
+    VERY_YOUNG_OWNER("Youngest owner is under %s"),
+    YOUNG_OWNER("Youngest owner is between %s and %s"),
+    MATURE_OWNER("Youngest owner is %s or older"),
+    HIGH_LOAN_TO_TURNOVER("Loan-to-turnover ratio is above %s%%"),
+    ELEVATED_LOAN_TO_TURNOVER("Loan-to-turnover ratio is above %s%%"),
+    HIGH_VELOCITY("Customer has submitted more than %s applications recently");
+
+    private final String template;
+
+    ReasonCode(String template) {
+        this.template = template;
+    }
+
+    /** Description with the given, already formatted, thresholds filled in. */
+    public String describe(String... thresholds) {
+        return String.format(Locale.ROOT, template, (Object[]) thresholds);
+    }
+
+    /** Bit for this reason in a reason bitmask. */
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
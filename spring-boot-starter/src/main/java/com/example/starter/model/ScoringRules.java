@@ -0,0 +1,55 @@
+package com.example.starter.model;
+
+import lombok.Data;
+
+/**
+ * Thresholds and points used to score a risk decision, as read from the rules file.
+ *
+ * <p>Field defaults are the built-in rules. Every rule set carries a {@code version},
+ * which is recorded on each decision scored with it.
+ */
+@Data
+public class ScoringRules {
+
+    private String version = "default";
+
+    /** Companies younger than this many years get {@link #youngCompanyPoints}. */
+    private int youngCompanyYears = 3;
+    private int youngCompanyPoints = 40;
+
+    /** Turnover below this is low. */
+    private double lowTurnoverBelow = 100_000;
+    private int lowTurnoverPoints = 30;
+    /** Turnover from the low bound up to and including this is mid; above it is high. */
+    private double midTurnoverUpTo = 5_000_000;
+    private int midTurnoverPoints = 10;
+    private int highTurnoverPoints = 25;
+
+    /** A youngest owner under this age is very young. */
+    private int veryYoungOwnerUnder = 21;
+    private int veryYoungOwnerPoints = 30;
+    /** A youngest owner under this age (and not very young) is young; otherwise mature. */
+    private int youngOwnerUnder = 25;
+    private int youngOwnerPoints = 15;
+    private int matureOwnerPoints = 5;
+
+    /** A low score only approves when the loan-to-turnover ratio is below this. */
+    private double approvableRatioBelow = 0.10;
+    private double elevatedRatioAbove = 0.15;
+    private int elevatedRatioPoints = 10;
+    /** Ratios above this score {@link #highRatioPoints} and always decline. */
+    private double highRatioAbove = 0.20;
+    private int highRatioPoints = 30;
+
+    /**
+     * More applications than this from one customer within the velocity window, the
+     * current one included, score {@link #highVelocityPoints}.
+     */
+    private int highVelocityAbove = 3;
+    private int highVelocityPoints = 20;
+
+    /** Scores above this refer. */
+    private int referAbove = 33;
+    /** Scores above this decline. */
+    private int declineAbove = 66;
+}
@@ -0,0 +1,92 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Company and owner ages for the age rules, without calendar arithmetic per request.
+ *
+ * <p>Each age threshold of a {@link RuleSet} becomes an epoch-day cut-off for today:
+ * a date after the cut-off is younger than the threshold. The cut-offs are cached
+ * until midnight in the clock's zone, or until the rule set changes, so checking an
+ * owner is a single comparison.
+ */
+public class AgeCalculator {
+
+    private final Clock clock;
+    private volatile AgeCutoffs cutoffs;
+
+    public AgeCalculator(Clock clock) {
+        this.clock = clock;
+    }
+
+    /** Cut-offs of {@code ruleSet} for today. */
+    public AgeCutoffs cutoffs(RuleSet ruleSet) {
+        AgeCutoffs current = cutoffs;
+        if (current == null || current.ruleSet() != ruleSet || clock.millis() >= current.validUntilMillis()) {
+            // Racing threads may both recompute; they produce the same value.
+            LocalDate today = LocalDate.now(clock);
+            current = AgeCutoffs.forDay(ruleSet, today,
+                    today.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli());
+            cutoffs = current;
+        }
+        return current;
+    }
+
+    /**
+     * Epoch-day cut-offs for the age rules of a rule set on a given day.
+     * {@link LocalDate#minusYears} clamps 29 February the same way
+     * {@link java.time.Period#between} does, so the comparisons match calendar
+     * arithmetic on leap days.
+     */
+    public record AgeCutoffs(RuleSet ruleSet, long validUntilMillis, long today,
+                             long youngCompany, long veryYoungOwner, long youngOwner) {
+
+        public static final int VERY_YOUNG_OWNER = 0;
+        public static final int YOUNG_OWNER = 1;
+        public static final int MATURE_OWNER = 2;
+
+        static AgeCutoffs forDay(RuleSet ruleSet, LocalDate today, long validUntilMillis) {
+            return new AgeCutoffs(
+                    ruleSet,
+                    validUntilMillis,
+                    today.toEpochDay(),
+                    today.minusYears(ruleSet.rules().getYoungCompanyYears()).toEpochDay(),
+                    today.minusYears(ruleSet.rules().getVeryYoungOwnerUnder()).toEpochDay(),
+                    today.minusYears(ruleSet.rules().getYoungOwnerUnder()).toEpochDay());
+        }
+
+        /** Whether a company incorporated on this day is younger than the young-company threshold. */
+        public boolean isYoungCompany(long dateOfIncorporation) {
+            return dateOfIncorporation > youngCompany;
+        }
+
+        /**
+         * Band of the youngest owner: {@link #VERY_YOUNG_OWNER}, {@link #YOUNG_OWNER} or
+         * {@link #MATURE_OWNER}.
+         *
+         * @throws IllegalArgumentException if there are no owners
+         */
+        public int youngestOwnerBand(List<RiskDecisionRequest.Owner> owners) {
+            if (owners.isEmpty()) {
+                throw new IllegalArgumentException("At least one owner is required");
+            }
+            long youngest = Long.MIN_VALUE;
+            for (int i = 0, size = owners.size(); i < size; i++) {
+                youngest = Math.max(youngest, owners.get(i).getDateOfBirth().toEpochDay());
+            }
+            return ownerBand(youngest);
+        }
+
+        /** Band of an owner born on the given epoch day. */
+        public int ownerBand(long dateOfBirth) {
+            if (dateOfBirth > veryYoungOwner) {
+                return VERY_YOUNG_OWNER;
+            }
+            return dateOfBirth > youngOwner ? YOUNG_OWNER : MATURE_OWNER;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.starter.service;
+
+import com.example.starter.model.ReasonCode;
+import com.example.starter.model.RiskDecision;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Re-scores a whole loan book file offline with the current {@link RuleSet} and
+ * {@link FxRates}.
+ *
+ * <p>The input is split into chunks at line boundaries. Each chunk is memory-mapped,
+ * decoded into {@link LoanBookColumns}, scored and encoded on a fork-join pool; the
+ * encoded chunks are then written in input order, one output record per non-blank
+ * input row. Rows missing a field scoring needs are written as invalid rather than
+ * failing the batch.
+ *
+ * <p>The binary output is a header followed by one 4-byte record per row, all
+ * big-endian:
+ * <pre>
+ * header:  "RDEC" | int format version (1) | long rows | short n | n bytes ruleVersion (UTF-8)
+ * record:  byte decision (RiskDecision ordinal, -1 if invalid) | byte score | short reason bitmask
+ * </pre>
+ * Bit {@code i} of the reason bitmask is {@link ReasonCode} ordinal {@code i}.
+ */
+public class BatchScorer {
+
+    public enum InputFormat {
+        CSV, NDJSON;
+
+        /** From the file extension: {@code .csv} or {@code .ndjson}/{@code .jsonl}. */
+        public static InputFormat of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Cannot tell the format of " + file + " from its extension");
+        }
+    }
+
+    public enum OutputFormat {
+        BINARY, CSV
+    }
+
+    /** Outcome of a batch; {@code decisions} is indexed by {@link RiskDecision} ordinal. */
+    public record Result(String ruleVersion, long rows, long invalid, long[] decisions, long elapsedNanos) {
+
+        public long count(RiskDecision decision) {
+            return decisions[decision.ordinal()];
+        }
+
+        public long rowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+    }
+
+    static final byte[] MAGIC = {'R', 'D', 'E', 'C'};
+    static final int FORMAT_VERSION = 1;
+    static final int RECORD_BYTES = 4;
+
+    private static final int ROW_COUNT_OFFSET = 8;
+    private static final int SCAN_BYTES = 8192;
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final byte[] CSV_HEADER = ascii("riskDecision,riskScore,reasons\n");
+    private static final byte[] CSV_INVALID = ascii("INVALID,,\n");
+    private static final byte[][] CSV_DECISIONS = csvDecisions();
+    private static final byte[][] CSV_SCORES = csvScores();
+    private static final byte[][] CSV_REASONS = csvReasons();
+
+    private final RuleSetHolder ruleSets;
+    private final FxRatesHolder fxRates;
+    private final int parallelism;
+    private final int chunkBytes;
+    private final Clock clock;
+
+    public BatchScorer(RuleSetHolder ruleSets, int parallelism, int chunkBytes, Clock clock) {
+        this(ruleSets, new FxRatesHolder(FxRates.NONE), parallelism, chunkBytes, clock);
+    }
+
+    public BatchScorer(RuleSetHolder ruleSets, FxRatesHolder fxRates, int parallelism, int chunkBytes, Clock clock) {
+        this.ruleSets = ruleSets;
+        this.fxRates = fxRates;
+        this.parallelism = parallelism;
+        this.chunkBytes = chunkBytes;
+        this.clock = clock;
+    }
+
+    public Result score(Path input, InputFormat inputFormat, Path output, OutputFormat outputFormat)
+            throws IOException {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now(clock);
+        ColumnarRiskScorer scorer = new ColumnarRiskScorer(ruleSets.current(), fxRates.current(), today);
+        String ruleVersion = scorer.ruleSet().version();
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING);
+             ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            long size = in.size();
+            long dataStart = 0;
+            Supplier<LoanBookDecoder> decoders;
+            if (inputFormat == InputFormat.CSV) {
+                dataStart = nextLine(in, 0);
+                String header = readHeader(in, dataStart);
+                // Fails on a header without the columns scoring needs before any chunk is submitted
+                new LoanBookDecoder.Csv(today, header);
+                decoders = () -> new LoanBookDecoder.Csv(today, header);
+            } else {
+                decoders = () -> new LoanBookDecoder.Ndjson(today);
+            }
+
+            List<ForkJoinTask<ScoredChunk>> chunks = new ArrayList<>();
+            for (long from = dataStart; from < size; ) {
+                long to = from + chunkBytes >= size ? size : nextLine(in, from + chunkBytes);
+                long chunkStart = from;
+                chunks.add(pool.submit(() -> scoreChunk(in, chunkStart, to, decoders.get(), scorer, outputFormat)));
+                from = to;
+            }
+
+            writeHeader(out, outputFormat, ruleVersion);
+            long rows = 0;
+            long invalid = 0;
+            long[] decisions = new long[RiskDecision.values().length];
+            for (ForkJoinTask<ScoredChunk> task : chunks) {
+                ScoredChunk chunk = task.join();
+                writeFully(out, ByteBuffer.wrap(chunk.output()));
+                rows += chunk.rows();
+                invalid += chunk.invalid();
+                for (int i = 0; i < decisions.length; i++) {
+                    decisions[i] += chunk.decisions()[i];
+                }
+            }
+            if (outputFormat == OutputFormat.BINARY) {
+                writeFully(out, ByteBuffer.allocate(Long.BYTES).putLong(0, rows), ROW_COUNT_OFFSET);
+            }
+            return new Result(ruleVersion, rows, invalid, decisions, System.nanoTime() - start);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static ScoredChunk scoreChunk(FileChannel in, long from, long to, LoanBookDecoder decoder,
+                                          ColumnarRiskScorer scorer, OutputFormat outputFormat) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = in.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LoanBookColumns columns = decoder.decode(buffer);
+        scorer.score(columns);
+
+        int invalid = 0;
+        long[] decisions = new long[RiskDecision.values().length];
+        for (int row = 0; row < columns.rows; row++) {
+            byte decision = columns.decision[row];
+            if (decision == ColumnarRiskScorer.INVALID) {
+                invalid++;
+            } else {
+                decisions[decision]++;
+            }
+        }
+        byte[] output = outputFormat == OutputFormat.BINARY ? encodeBinary(columns) : encodeCsv(columns);
+        return new ScoredChunk(output, columns.rows, invalid, decisions);
+    }
+
+    private static byte[] encodeBinary(LoanBookColumns columns) {
+        ByteBuffer buffer = ByteBuffer.allocate(columns.rows * RECORD_BYTES);
+        for (int row = 0; row < columns.rows; row++) {
+            buffer.put(columns.decision[row]).put(columns.score[row]).putShort(columns.reasons[row]);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] encodeCsv(LoanBookColumns columns) {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream(columns.rows * 48);
+        for (int row = 0; row < columns.rows; row++) {
+            byte decision = columns.decision[row];
+            if (decision == ColumnarRiskScorer.INVALID) {
+                csv.writeBytes(CSV_INVALID);
+                continue;
+            }
+            csv.writeBytes(CSV_DECISIONS[decision]);
+            csv.writeBytes(CSV_SCORES[columns.score[row]]);
+            csv.writeBytes(CSV_REASONS[columns.reasons[row]]);
+        }
+        return csv.toByteArray();
+    }
+
+    private static void writeHeader(FileChannel out, OutputFormat outputFormat, String ruleVersion)
+            throws IOException {
+        if (outputFormat == OutputFormat.CSV) {
+            writeFully(out, ByteBuffer.wrap(CSV_HEADER));
+            return;
+        }
+        byte[] version = ruleVersion.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer
+                .allocate(MAGIC.length + Integer.BYTES + Long.BYTES + Short.BYTES + version.length)
+                .put(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(0)
+                .putShort((short) version.length)
+                .put(version);
+        writeFully(out, header.flip());
+    }
+
+    /** Position just after the first line break at or after {@code position}, or the end of the file. */
+    private static long nextLine(FileChannel in, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BYTES);
+        while (true) {
+            buffer.clear();
+            int read = in.read(buffer, position);
+            if (read <= 0) {
+                return in.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static String readHeader(FileChannel in, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) end);
+        int read;
+        do {
+            read = in.read(buffer, buffer.position());
+        } while (read > 0 && buffer.hasRemaining());
+        String header = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        return header.startsWith(BYTE_ORDER_MARK) ? header.substring(BYTE_ORDER_MARK.length()) : header;
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += out.write(buffer, position);
+        }
+    }
+
+    private static byte[][] csvDecisions() {
+        RiskDecision[] values = RiskDecision.values();
+        byte[][] names = new byte[values.length][];
+        for (RiskDecision decision : values) {
+            names[decision.ordinal()] = ascii(decision.name() + ",");
+        }
+        return names;
+    }
+
+    private static byte[][] csvScores() {
+        byte[][] scores = new byte[RuleSet.MAX_SCORE + 1][];
+        for (int score = 0; score < scores.length; score++) {
+            scores[score] = ascii(score + ",");
+        }
+        return scores;
+    }
+
+    private static byte[][] csvReasons() {
+        ReasonCode[] codes = ReasonCode.values();
+        byte[][] reasons = new byte[1 << codes.length][];
+        for (int mask = 0; mask < reasons.length; mask++) {
+            StringJoiner joined = new StringJoiner("|", "", "\n");
+            for (ReasonCode code : codes) {
+                if ((mask & code.mask()) != 0) {
+                    joined.add(code.name());
+                }
+            }
+            reasons[mask] = ascii(joined.toString());
+        }
+        return reasons;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record ScoredChunk(byte[] output, int rows, int invalid, long[] decisions) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.starter.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface BulkRiskDecisionService {
+
+    /**
+     * Reads {@code RiskDecisionRequest}s from {@code input} (a JSON array or NDJSON),
+     * scores them in parallel and writes one NDJSON {@code BulkRiskDecisionResult}
+     * line per item to {@code output} as each one completes.
+     *
+     * @return the number of items processed
+     */
+    default long evaluateAll(InputStream input, OutputStream output, String correlationId) throws IOException {
+        return evaluateAll(input, output, correlationId, RequestDeadline.NONE);
+    }
+
+    /**
+     * As {@link #evaluateAll(InputStream, OutputStream, String)}, but stops reading input
+     * once {@code deadline} has passed and ends the stream with a line saying so.
+     */
+    long evaluateAll(InputStream input, OutputStream output, String correlationId, RequestDeadline deadline)
+            throws IOException;
+}
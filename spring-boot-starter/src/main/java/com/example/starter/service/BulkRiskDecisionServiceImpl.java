@@ -0,0 +1,268 @@
+package com.example.starter.service;
+
+import com.example.starter.config.BulkProperties;
+import com.example.starter.dto.BulkRiskDecisionResult;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.exception.DeadlineExceededException;
+import com.example.starter.exception.PayloadTooLargeException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a batch of risk-decision requests through {@link RiskDecisionService}.
+ *
+ * <p>The request thread only tokenizes the input: each item is copied into a
+ * {@link TokenBuffer} and handed to the bulk executor, which deserializes, validates,
+ * scores and serializes it. At most {@code risk.bulk.max-in-flight} items are
+ * outstanding per request; once that window is full the request thread blocks on the
+ * next completed result, writes it, and only then reads more input. Memory use is
+ * therefore bounded by the window, not by the size of the batch.
+ *
+ * <p>Both the wait for a window slot and each item's scoring are capped by the request
+ * deadline. Once it passes, no more input is read; the items already in flight are
+ * written, followed by a line rejecting the rest of the batch.
+ */
+@Slf4j
+@Service
+public class BulkRiskDecisionServiceImpl implements BulkRiskDecisionService {
+
+    private static final int NEWLINE = '\n';
+
+    private final RiskDecisionService riskDecisionService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final int maxInFlight;
+
+    public BulkRiskDecisionServiceImpl(
+            RiskDecisionService riskDecisionService,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Qualifier("bulkScoringExecutor") ExecutorService executor,
+            BulkProperties properties) {
+        this.riskDecisionService = riskDecisionService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.maxInFlight = Math.max(1, properties.getMaxInFlight());
+    }
+
+    @Override
+    public long evaluateAll(InputStream input, OutputStream output, String correlationId, RequestDeadline deadline)
+            throws IOException {
+        CompletionService<byte[]> completions = new ExecutorCompletionService<>(executor);
+        long submitted = 0;
+        int inFlight = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                deadline.check();
+                TokenBuffer item = new TokenBuffer(parser);
+                item.copyCurrentStructure(parser);
+
+                long index = submitted++;
+                completions.submit(() -> evaluateItem(index, item, correlationId + "-" + index, deadline));
+                inFlight++;
+                inFlight -= writeCompleted(completions, output, inFlight >= maxInFlight, deadline);
+
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            // The stream itself is unreadable, so nothing after this point can be recovered.
+            log.warn("Bulk request aborted on malformed JSON: items={}, correlationId={}", submitted, correlationId);
+            String message = e.getLocation() == null
+                    ? "Malformed JSON"
+                    : "Malformed JSON at line " + e.getLocation().getLineNr()
+                            + ", column " + e.getLocation().getColumnNr();
+            return abort(completions, output, inFlight, submitted, message);
+        } catch (PayloadTooLargeException e) {
+            log.warn("Bulk request aborted: {}, items={}, correlationId={}", e.getMessage(), submitted, correlationId);
+            return abort(completions, output, inFlight, submitted, e.getMessage());
+        } catch (DeadlineExceededException e) {
+            log.warn("Bulk request aborted at its deadline: items={}, correlationId={}", submitted, correlationId);
+            return abort(completions, output, inFlight, submitted, "Request deadline exceeded");
+        }
+
+        while (inFlight > 0) {
+            inFlight -= writeCompleted(completions, output, true, RequestDeadline.NONE);
+        }
+        output.flush();
+
+        log.info("Bulk request completed: items={}, correlationId={}", submitted, correlationId);
+        return submitted;
+    }
+
+    /** Writes the items still in flight, then one line rejecting everything from {@code submitted} on. */
+    private long abort(CompletionService<byte[]> completions, OutputStream output, int inFlight, long submitted,
+                       String message) throws IOException {
+        while (inFlight > 0) {
+            // In-flight items are bounded by the deadline themselves, so this does not wait long
+            inFlight -= writeCompleted(completions, output, true, RequestDeadline.NONE);
+        }
+        writeLine(output, rejected(submitted, null, null, message));
+        output.flush();
+        return submitted;
+    }
+
+    private byte[] evaluateItem(long index, TokenBuffer item, String correlationId, RequestDeadline deadline) {
+        BulkRiskDecisionResult result;
+        try (RequestDeadline.Scope bound = deadline.bind();
+             VelocityRecording.Scope unrecorded = VelocityRecording.suspend()) {
+            deadline.check();
+            RiskDecisionRequest request = objectMapper.readValue(item.asParser(), RiskDecisionRequest.class);
+            List<BulkRiskDecisionResult.FieldError> errors = validate(validator, request);
+            if (errors.isEmpty()) {
+                RiskDecisionResponse decision = riskDecisionService.evaluate(request, correlationId);
+                result = BulkRiskDecisionResult.builder()
+                        .index(index)
+                        .correlationId(correlationId)
+                        .decision(decision)
+                        .build();
+            } else {
+                result = BulkRiskDecisionResult.builder()
+                        .index(index)
+                        .correlationId(correlationId)
+                        .errors(errors)
+                        .build();
+            }
+        } catch (JsonMappingException e) {
+            // Never echo the rejected value back: it may be a date of birth or a name.
+            result = rejected(index, correlationId, fieldPath(e), "Invalid value");
+        } catch (DeadlineExceededException e) {
+            result = rejected(index, correlationId, null, "Request deadline exceeded");
+        } catch (IOException | RuntimeException e) {
+            log.warn("Bulk item failed: index={}, correlationId={}", index, correlationId, e);
+            result = rejected(index, correlationId, null, "Evaluation failed");
+        }
+
+        try {
+            return objectMapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<BulkRiskDecisionResult.FieldError> validate(Validator validator, RiskDecisionRequest request) {
+        return validator.validate(request).stream()
+                .map(BulkRiskDecisionServiceImpl::toFieldError)
+                .sorted(Comparator.comparing(BulkRiskDecisionResult.FieldError::getField))
+                .toList();
+    }
+
+    private static BulkRiskDecisionResult.FieldError toFieldError(ConstraintViolation<RiskDecisionRequest> violation) {
+        return BulkRiskDecisionResult.FieldError.builder()
+                .field(violation.getPropertyPath().toString())
+                .message(violation.getMessage())
+                .build();
+    }
+
+    /**
+     * Writes whatever results are already complete. When {@code waitForOne} is set,
+     * blocks until at least one is available so the caller can free a window slot, but
+     * no later than {@code deadline}.
+     *
+     * @return the number of results written
+     * @throws DeadlineExceededException if the deadline passes while waiting
+     */
+    private int writeCompleted(CompletionService<byte[]> completions, OutputStream output, boolean waitForOne,
+                               RequestDeadline deadline) throws IOException {
+        int written = 0;
+        Future<byte[]> done = waitForOne ? take(completions, deadline) : completions.poll();
+        while (done != null) {
+            writeLine(output, done);
+            written++;
+            done = completions.poll();
+        }
+        if (written > 0) {
+            output.flush();
+        }
+        return written;
+    }
+
+    private void writeLine(OutputStream output, Future<byte[]> done) throws IOException {
+        try {
+            output.write(done.get());
+            output.write(NEWLINE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing bulk results");
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to serialize bulk result", e.getCause());
+        }
+    }
+
+    private void writeLine(OutputStream output, BulkRiskDecisionResult result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write(NEWLINE);
+    }
+
+    private static Future<byte[]> take(CompletionService<byte[]> completions, RequestDeadline deadline)
+            throws InterruptedIOException {
+        try {
+            Future<byte[]> done = completions.poll(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                throw new DeadlineExceededException();
+            }
+            return done;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for bulk results");
+        }
+    }
+
+    static BulkRiskDecisionResult rejected(long index, String correlationId, String field, String message) {
+        return BulkRiskDecisionResult.builder()
+                .index(index)
+                .correlationId(correlationId)
+                .errors(List.of(BulkRiskDecisionResult.FieldError.builder()
+                        .field(field)
+                        .message(message)
+                        .build()))
+                .build();
+    }
+
+    static String fieldPath(JsonMappingException e) {
+        StringBuilder path = new StringBuilder();
+        for (JsonMappingException.Reference reference : e.getPath()) {
+            if (reference.getFieldName() != null) {
+                if (!path.isEmpty()) {
+                    path.append('.');
+                }
+                path.append(reference.getFieldName());
+            } else if (reference.getIndex() >= 0) {
+                path.append('[').append(reference.getIndex()).append(']');
+            }
+        }
+        return path.isEmpty() ? null : path.toString();
+    }
+}
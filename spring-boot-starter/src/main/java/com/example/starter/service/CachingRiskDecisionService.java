@@ -0,0 +1,91 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Makes {@link RiskDecisionService#evaluateRetryable} idempotent for client retries.
+ *
+ * <p>Decisions are cached by correlation ID plus {@link RequestFingerprint}, so a retry
+ * carrying the same {@code X-Correlation-ID} and body gets back the original response,
+ * including its {@code decisionId}. Concurrent identical requests wait on a single
+ * evaluation instead of each scoring the request, whether they came in through
+ * {@link #evaluateRetryable} or {@link #evaluateRetryableAsync}. Failed evaluations are
+ * not cached.
+ *
+ * <p>A blocking evaluation can wait on the company registry, so it never runs inside a
+ * cache operation, where it would hold the map's lock for that key's bin: a pending future
+ * is published first, then the decision is scored on the calling thread and completes it.
+ *
+ * <p>Correlation IDs generated for requests without one are never repeated, so
+ * {@link #evaluate} and {@link #evaluateAsync} go straight to the delegate rather than
+ * filling the cache with entries no retry will ever hit.
+ */
+@Slf4j
+public class CachingRiskDecisionService implements RiskDecisionService {
+
+    private final RiskDecisionService delegate;
+    private final AsyncCache<DecisionKey, RiskDecisionResponse> cache;
+
+    public CachingRiskDecisionService(RiskDecisionService delegate,
+                                      AsyncCache<DecisionKey, RiskDecisionResponse> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
+        return delegate.evaluate(request, correlationId);
+    }
+
+    @Override
+    public CompletableFuture<RiskDecisionResponse> evaluateAsync(RiskDecisionRequest request, String correlationId) {
+        return delegate.evaluateAsync(request, correlationId);
+    }
+
+    @Override
+    public RiskDecisionResponse evaluateRetryable(RiskDecisionRequest request, String correlationId) {
+        DecisionKey key = new DecisionKey(correlationId, RequestFingerprint.of(request));
+        CompletableFuture<RiskDecisionResponse> promise = new CompletableFuture<>();
+        CompletableFuture<RiskDecisionResponse> existing = cache.asMap().putIfAbsent(key, promise);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            RiskDecisionResponse response = delegate.evaluate(request, correlationId);
+            promise.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, promise);
+            promise.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<RiskDecisionResponse> evaluateRetryableAsync(RiskDecisionRequest request,
+                                                                         String correlationId) {
+        DecisionKey key = new DecisionKey(correlationId, RequestFingerprint.of(request));
+        return cache.get(key, (ignored, executor) -> delegate.evaluateAsync(request, correlationId));
+    }
+
+    private static RiskDecisionResponse join(CompletableFuture<RiskDecisionResponse> decision) {
+        try {
+            return decision.join();
+        } catch (CompletionException e) {
+            // An identical evaluation was in flight and failed
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public record DecisionKey(String correlationId, long fingerprint) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.starter.service;
+
+import com.example.starter.model.ReasonCode;
+
+import java.time.LocalDate;
+
+/**
+ * Scores {@link LoanBookColumns} with the same rules and tables as
+ * {@link CompiledRiskDecisionService}, one column pass per chunk.
+ *
+ * <p>The {@link AgeCalculator} cut-offs become maximum ages in days for the day the
+ * batch runs, so each row only compares and looks up primitives. Turnover is banded in
+ * the base currency of the {@link FxRates} snapshot taken when the batch starts; a row
+ * in a currency without a rate is invalid.
+ */
+final class ColumnarRiskScorer {
+
+    /** Decision written for rows that could not be decoded. */
+    static final byte INVALID = -1;
+
+    private final RuleSet ruleSet;
+    private final FxRates fxRates;
+    private final int youngCompanyDays;
+    private final int veryYoungOwnerDays;
+    private final int youngOwnerDays;
+    private final int youngCompanyPoints;
+
+    ColumnarRiskScorer(RuleSet ruleSet, FxRates fxRates, LocalDate today) {
+        AgeCalculator.AgeCutoffs cutoffs = AgeCalculator.AgeCutoffs.forDay(ruleSet, today, Long.MAX_VALUE);
+        this.ruleSet = ruleSet;
+        this.fxRates = fxRates;
+        this.youngCompanyDays = (int) (cutoffs.today() - cutoffs.youngCompany());
+        this.veryYoungOwnerDays = (int) (cutoffs.today() - cutoffs.veryYoungOwner());
+        this.youngOwnerDays = (int) (cutoffs.today() - cutoffs.youngOwner());
+        this.youngCompanyPoints = ruleSet.rules().getYoungCompanyPoints();
+    }
+
+    RuleSet ruleSet() {
+        return ruleSet;
+    }
+
+    void score(LoanBookColumns columns) {
+        columns.allocateResults();
+        int[] companyAgeDays = columns.companyAgeDays;
+        double[] turnover = columns.turnover;
+        int[] currency = columns.currency;
+        int[] youngestOwnerAgeDays = columns.youngestOwnerAgeDays;
+        double[] requestedAmount = columns.requestedAmount;
+        boolean[] valid = columns.valid;
+
+        for (int row = 0; row < columns.rows; row++) {
+            double turnoverInBase = fxRates.toBase(turnover[row], currency[row]);
+            if (!valid[row] || Double.isNaN(turnoverInBase)) {
+                columns.decision[row] = INVALID;
+                continue;
+            }
+            int reasons = 0;
+
+            int companyAgePoints = 0;
+            if (companyAgeDays[row] < youngCompanyDays) {
+                companyAgePoints = youngCompanyPoints;
+                reasons |= ReasonCode.YOUNG_COMPANY.mask();
+            }
+
+            int turnoverBand = CompiledRiskDecisionService.band(turnoverInBase, ruleSet.turnoverBounds);
+            int turnoverPoints = ruleSet.turnoverPoints[turnoverBand];
+            reasons |= ruleSet.turnoverReasons[turnoverBand];
+
+            int ownerAge = youngestOwnerAgeDays[row];
+            int ownerBand = ownerAge < veryYoungOwnerDays ? 0 : ownerAge < youngOwnerDays ? 1 : 2;
+            int ownerAgePoints = ruleSet.ownerPoints[ownerBand];
+            reasons |= ruleSet.ownerReasons[ownerBand];
+
+            int ratioBand = CompiledRiskDecisionService.band(
+                    CompiledRiskDecisionService.loanToTurnoverRatio(requestedAmount[row], turnover[row]),
+                    ruleSet.ratioBounds);
+            int loanToTurnoverPoints = ruleSet.ratioPoints[ratioBand];
+            reasons |= ruleSet.ratioReasons[ratioBand];
+
+            int totalScore = Math.min(RuleSet.MAX_SCORE,
+                    companyAgePoints + turnoverPoints + ownerAgePoints + loanToTurnoverPoints);
+            columns.decision[row] = (byte) ruleSet.decisions[ratioBand][totalScore].ordinal();
+            columns.score[row] = (byte) totalScore;
+            columns.reasons[row] = (short) reasons;
+        }
+        columns.releaseInputs();
+    }
+}
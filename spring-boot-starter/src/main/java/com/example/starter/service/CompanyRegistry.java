@@ -0,0 +1,21 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.CompanyRegistryRecord;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Looks companies up in an external company registry.
+ */
+public interface CompanyRegistry {
+
+    /**
+     * Starts a lookup without blocking the caller. The future holds an empty optional
+     * when the registry has no such company, and fails when the registry could not be
+     * asked or did not answer. {@code correlationId} is passed on to the registry so its
+     * logs can be matched to the decision that asked.
+     */
+    CompletableFuture<Optional<CompanyRegistryRecord>> lookup(String legalName, String countryOfIncorporation,
+                                                              String correlationId);
+}
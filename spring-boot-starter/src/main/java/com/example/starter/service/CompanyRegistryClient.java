@@ -0,0 +1,240 @@
+package com.example.starter.service;
+
+import com.example.starter.config.EnrichmentProperties;
+import com.example.starter.dto.CompanyRegistryRecord;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CompanyRegistry} over HTTP, built to never hold up scoring for long.
+ *
+ * <ul>
+ *   <li>Requests are sent with the asynchronous {@link HttpClient}, so no thread waits on the registry.</li>
+ *   <li>A bulkhead caps the requests in flight to this registry; a lookup that cannot get
+ *       a permit fails at once instead of queueing behind a slow registry.</li>
+ *   <li>When a request has not answered after the hedge delay, or fails, another is sent,
+ *       up to the maximum attempts. The first answer wins and the others are cancelled.</li>
+ *   <li>Answers are cached: companies found for the cache TTL, companies the registry does
+ *       not know for the shorter negative TTL. Concurrent lookups of the same company share
+ *       one exchange, and failures are not cached.</li>
+ *   <li>Requests carry the {@code X-Correlation-ID} of the decision that started the lookup.</li>
+ * </ul>
+ */
+@Slf4j
+public class CompanyRegistryClient implements CompanyRegistry {
+
+    private static final String CORRELATION_HEADER = "X-Correlation-ID";
+
+    record Key(String legalName, String country) {
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectReader reader;
+    private final URI companiesUrl;
+    private final EnrichmentProperties properties;
+    private final Semaphore bulkhead;
+    private final Executor hedgeTimer;
+    private final AsyncCache<Key, Optional<CompanyRegistryRecord>> cache;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public CompanyRegistryClient(HttpClient httpClient, ObjectMapper objectMapper, EnrichmentProperties properties) {
+        if (properties.getUrl() == null) {
+            throw new IllegalStateException("risk.enrichment.url is required when enrichment is enabled");
+        }
+        this.httpClient = httpClient;
+        this.reader = objectMapper.readerFor(CompanyRegistryRecord.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.companiesUrl = URI.create(properties.getUrl().toString().replaceAll("/+$", "") + "/companies");
+        this.properties = properties;
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentRequests());
+        this.hedgeTimer = CompletableFuture.delayedExecutor(
+                properties.getHedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfter(new CacheExpiry(properties.getCacheTtl().toNanos(),
+                        properties.getNegativeCacheTtl().toNanos()))
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public CompletableFuture<Optional<CompanyRegistryRecord>> lookup(String legalName, String countryOfIncorporation,
+                                                                     String correlationId) {
+        Key key = new Key(legalName.strip().toLowerCase(Locale.ROOT), countryOfIncorporation);
+        return cache.get(key, (k, executor) -> new Exchange(k, correlationId).start());
+    }
+
+    public AsyncCache<?, ?> cache() {
+        return cache;
+    }
+
+    /** Registry requests holding a bulkhead permit. */
+    public int inFlight() {
+        return properties.getMaxConcurrentRequests() - bulkhead.availablePermits();
+    }
+
+    /** Requests sent to the registry, including hedges and retries. */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /** Requests sent because an earlier one was slow. */
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    /** Requests that failed, timed out or got an unexpected status. */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /** Lookups failed at once because the bulkhead was full. */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /** The requests of one lookup: the first, then hedges and retries until one answers. */
+    private final class Exchange {
+
+        private final HttpRequest request;
+        private final CompletableFuture<Optional<CompanyRegistryRecord>> result = new CompletableFuture<>();
+        private final List<CompletableFuture<HttpResponse<byte[]>>> attempts = new ArrayList<>();
+        private int failed;
+        private Throwable lastFailure;
+
+        Exchange(Key key, String correlationId) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(companiesUrl
+                            + "?legalName=" + URLEncoder.encode(key.legalName(), StandardCharsets.UTF_8)
+                            + "&country=" + URLEncoder.encode(key.country(), StandardCharsets.UTF_8)))
+                    .timeout(properties.getRequestTimeout())
+                    .header("Accept", "application/json");
+            if (correlationId != null) {
+                builder.header(CORRELATION_HEADER, correlationId);
+            }
+            this.request = builder.GET().build();
+        }
+
+        CompletableFuture<Optional<CompanyRegistryRecord>> start() {
+            if (!send()) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(
+                        new RejectedExecutionException("Company registry bulkhead is full"));
+            }
+            scheduleHedge();
+            return result;
+        }
+
+        /** Sends one more request if the lookup is still open, attempts remain and the bulkhead allows. */
+        private synchronized boolean send() {
+            if (result.isDone() || attempts.size() >= properties.getMaxAttempts() || !bulkhead.tryAcquire()) {
+                return false;
+            }
+            requests.increment();
+            CompletableFuture<HttpResponse<byte[]>> attempt =
+                    httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+            attempts.add(attempt);
+            attempt.whenComplete((response, error) -> {
+                bulkhead.release();
+                complete(response, error);
+            });
+            return true;
+        }
+
+        private void scheduleHedge() {
+            hedgeTimer.execute(() -> {
+                if (!result.isDone() && send()) {
+                    hedges.increment();
+                    scheduleHedge();
+                }
+            });
+        }
+
+        private void complete(HttpResponse<byte[]> response, Throwable error) {
+            if (result.isDone()) {
+                return;
+            }
+            if (error == null) {
+                try {
+                    Optional<CompanyRegistryRecord> company = parse(response);
+                    if (result.complete(company)) {
+                        cancelOthers();
+                    }
+                    return;
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+            failures.increment();
+            log.debug("Company registry request failed: {}", error.toString());
+            synchronized (this) {
+                failed++;
+                lastFailure = error;
+                // Retry a failure at once rather than waiting for the hedge delay
+                if (!send() && failed == attempts.size()) {
+                    result.completeExceptionally(lastFailure);
+                }
+            }
+        }
+
+        private synchronized void cancelOthers() {
+            for (CompletableFuture<HttpResponse<byte[]>> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+
+        private Optional<CompanyRegistryRecord> parse(HttpResponse<byte[]> response) throws IOException {
+            return switch (response.statusCode()) {
+                case 200 -> Optional.of(reader.readValue(response.body()));
+                case 404 -> Optional.empty();
+                default -> throw new IOException("Company registry returned " + response.statusCode());
+            };
+        }
+    }
+
+    private record CacheExpiry(long ttlNanos, long negativeTtlNanos)
+            implements Expiry<Key, Optional<CompanyRegistryRecord>> {
+
+        @Override
+        public long expireAfterCreate(Key key, Optional<CompanyRegistryRecord> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Optional<CompanyRegistryRecord> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Optional<CompanyRegistryRecord> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.ReasonCode;
+import com.example.starter.model.RiskDecision;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Table-driven implementation of the same rules as {@link RiskDecisionServiceImpl}.
+ *
+ * <p>Everything that does not depend on the request is worked out up front, when a
+ * {@link RuleSet} is compiled: turnover and loan-to-turnover bands are threshold arrays,
+ * the decision for every (ratio band, score) pair is a lookup table, and every possible
+ * combination of reasons is a shared immutable list indexed by a reason bitmask. The age
+ * thresholds are epoch-day cut-offs from {@link AgeCalculator}, and turnover is banded in
+ * the base currency of the current {@link FxRates}. Velocity is the one factor with state
+ * of its own, kept by the {@link VelocityTracker}.
+ * Scoring itself only reads primitives; the only allocations per call are the response
+ * objects themselves.
+ */
+@Slf4j
+@Service
+@Qualifier("scoringEngine")
+@ConditionalOnProperty(name = "risk.scoring.engine", havingValue = "compiled")
+public class CompiledRiskDecisionService implements RiskDecisionService {
+
+    private final Clock clock;
+    private final RuleSetHolder ruleSets;
+    private final FxRatesHolder fxRates;
+    private final AgeCalculator ageCalculator;
+    private final IdGenerator idGenerator;
+    private final VelocityTracker velocityTracker;
+
+    @Autowired
+    public CompiledRiskDecisionService(RuleSetHolder ruleSets, FxRatesHolder fxRates, IdGenerator idGenerator,
+                                       VelocityTracker velocityTracker) {
+        this(Clock.systemDefaultZone(), ruleSets, fxRates, idGenerator, velocityTracker);
+    }
+
+    CompiledRiskDecisionService(Clock clock, RuleSetHolder ruleSets, FxRatesHolder fxRates, IdGenerator idGenerator,
+                                VelocityTracker velocityTracker) {
+        this.clock = clock;
+        this.ruleSets = ruleSets;
+        this.fxRates = fxRates;
+        this.ageCalculator = new AgeCalculator(clock);
+        this.idGenerator = idGenerator;
+        this.velocityTracker = velocityTracker;
+    }
+
+    @Override
+    public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
+        RiskDecisionRequest.Business business = request.getBusiness();
+        RuleSet ruleSet = ruleSets.current();
+        AgeCalculator.AgeCutoffs cutoffs = ageCalculator.cutoffs(ruleSet);
+
+        int reasons = 0;
+
+        int companyAgePoints = 0;
+        if (cutoffs.isYoungCompany(business.getDateOfIncorporation().toEpochDay())) {
+            companyAgePoints = ruleSet.rules().getYoungCompanyPoints();
+            reasons |= ReasonCode.YOUNG_COMPANY.mask();
+        }
+
+        RiskDecisionRequest.AnnualTurnover annualTurnover = business.getAnnualTurnover();
+        double turnover = annualTurnover.getAmount();
+        int turnoverBand = band(fxRates.current().toBase(turnover, annualTurnover.getCurrency()),
+                ruleSet.turnoverBounds);
+        int turnoverPoints = ruleSet.turnoverPoints[turnoverBand];
+        reasons |= ruleSet.turnoverReasons[turnoverBand];
+
+        int ownerBand = cutoffs.youngestOwnerBand(request.getOwners());
+        int ownerAgePoints = ruleSet.ownerPoints[ownerBand];
+        reasons |= ruleSet.ownerReasons[ownerBand];
+
+        int ratioBand = band(loanToTurnoverRatio(request.getLoan().getRequestedAmount(), turnover),
+                ruleSet.ratioBounds);
+        int loanToTurnoverPoints = ruleSet.ratioPoints[ratioBand];
+        reasons |= ruleSet.ratioReasons[ratioBand];
+
+        int velocityPoints = 0;
+        int applications = VelocityRecording.record(velocityTracker, request.getClient().getCustomerId());
+        if (applications > ruleSet.rules().getHighVelocityAbove()) {
+            velocityPoints = ruleSet.rules().getHighVelocityPoints();
+            reasons |= ReasonCode.HIGH_VELOCITY.mask();
+        }
+
+        int totalScore = Math.min(RuleSet.MAX_SCORE,
+                companyAgePoints + turnoverPoints + ownerAgePoints + loanToTurnoverPoints + velocityPoints);
+        RiskDecision decision = ruleSet.decisions[ratioBand][totalScore];
+
+        log.debug("Risk decision evaluated: decision={}, score={}, ruleVersion={}, correlationId={}",
+                decision, totalScore, ruleSet.version(), correlationId);
+
+        return RiskDecisionResponse.builder()
+                .decisionId(idGenerator.nextId())
+                .riskDecision(decision)
+                .riskScore(totalScore)
+                .evaluatedFactors(RiskDecisionResponse.EvaluatedFactors.builder()
+                        .companyAgePoints(companyAgePoints)
+                        .turnoverPoints(turnoverPoints)
+                        .ownerAgePoints(ownerAgePoints)
+                        .loanToTurnoverPoints(loanToTurnoverPoints)
+                        .velocityPoints(velocityPoints)
+                        .build())
+                .reasons(ruleSet.reasonLists[reasons])
+                .ruleVersion(ruleSet.version())
+                .createdAt(Instant.now(clock))
+                .correlationId(correlationId)
+                .build();
+    }
+
+    static int band(double value, double[] bounds) {
+        int band = 0;
+        while (band < bounds.length && value >= bounds[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    static double loanToTurnoverRatio(double requestedAmount, double turnover) {
+        if (turnover <= 0) {
+            return requestedAmount > 0 ? Double.POSITIVE_INFINITY : 0;
+        }
+        return requestedAmount / turnover;
+    }
+}
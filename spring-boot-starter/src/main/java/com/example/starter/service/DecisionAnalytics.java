@@ -0,0 +1,310 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.DecisionAnalyticsResponse;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts every new decision into time buckets, so the decision mix, score distribution
+ * and factor points of the last minute, quarter of an hour and hour can be read at any
+ * time, by country of application.
+ *
+ * <p>The counters of all buckets are allocated up front as primitive arrays: per bucket
+ * and country, a count per decision, sums of the score and of each factor's points, and
+ * a score histogram. Recording a decision is a handful of atomic adds and allocates
+ * nothing. Like a {@link LongAdder}, the counters are kept in several stripes that each
+ * thread picks from by its ID, so threads scoring the same country rarely add to the same
+ * cache line; reads sum the stripes.
+ *
+ * <p>The buckets form a ring as long as the longest window. The first decision of a new
+ * bucket clears the slot it reuses; decisions made by other threads during that clear,
+ * or arriving for a bucket already gone, are dropped and counted rather than waited for.
+ * A window covers the current bucket and the ones before it, so it is between one
+ * bucket shorter than its length and its length.
+ */
+public class DecisionAnalytics implements RiskDecisionListener {
+
+    /** Windows served, each a whole number of buckets. */
+    public enum Window {
+        ONE_MINUTE("1m", Duration.ofMinutes(1)),
+        FIFTEEN_MINUTES("15m", Duration.ofMinutes(15)),
+        ONE_HOUR("1h", Duration.ofHours(1));
+
+        private final String label;
+        private final Duration length;
+
+        Window(String label, Duration length) {
+            this.label = label;
+            this.length = length;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public static Optional<Window> of(String label) {
+            for (Window window : values()) {
+                if (window.label.equals(label)) {
+                    return Optional.of(window);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    static final String OTHER_COUNTRY = "other";
+    static final int HISTOGRAM_BINS = RuleSet.MAX_SCORE / 10 + 1;
+
+    // Counter layout of one country in one bucket
+    private static final RiskDecision[] DECISIONS = RiskDecision.values();
+    private static final int SCORE_SUM = DECISIONS.length;
+    private static final int COMPANY_AGE_SUM = SCORE_SUM + 1;
+    private static final int TURNOVER_SUM = SCORE_SUM + 2;
+    private static final int OWNER_AGE_SUM = SCORE_SUM + 3;
+    private static final int LOAN_TO_TURNOVER_SUM = SCORE_SUM + 4;
+    private static final int VELOCITY_SUM = SCORE_SUM + 5;
+    private static final int HISTOGRAM = SCORE_SUM + 6;
+    private static final int FIELDS = HISTOGRAM + HISTOGRAM_BINS;
+
+    // Two capital letters, the only country codes validation lets through
+    private static final int COUNTRY_CODES = 26 * 26;
+
+    // Bucket of a slot while its counters are being cleared; slots never used are at -1
+    private static final long CLEARING = Long.MIN_VALUE;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final LongSupplier currentMillis;
+    private final long bucketMillis;
+    private final int slots;
+    private final int countries;
+    private final int stripeMask;
+    private final long[] slotBuckets;
+    private final long[][] stripes;
+    // Index + 1 of each country code's counters, 0 while it has none
+    private final AtomicIntegerArray countryIndexes = new AtomicIntegerArray(COUNTRY_CODES);
+    private final AtomicInteger countriesAssigned = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param resolution   length of the buckets the windows slide by; must divide one minute
+     * @param maxCountries countries counted on their own, the rest together
+     * @param stripes      copies of the counters, rounded up to a power of two
+     */
+    public DecisionAnalytics(Duration resolution, int maxCountries, int stripes) {
+        this(resolution, maxCountries, stripes, System::currentTimeMillis);
+    }
+
+    DecisionAnalytics(Duration resolution, int maxCountries, int stripes, LongSupplier currentMillis) {
+        long resolutionMillis = resolution.toMillis();
+        if (resolutionMillis < 1 || Duration.ofMinutes(1).toMillis() % resolutionMillis != 0) {
+            throw new IllegalArgumentException("Analytics resolution " + resolution + " does not divide one minute");
+        }
+        if (maxCountries < 0 || maxCountries > COUNTRY_CODES) {
+            throw new IllegalArgumentException("Analytics max countries must be 0 to " + COUNTRY_CODES + ": "
+                    + maxCountries);
+        }
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Analytics stripes must be positive: " + stripes);
+        }
+        this.currentMillis = currentMillis;
+        this.bucketMillis = resolutionMillis;
+        this.slots = (int) (Window.ONE_HOUR.length.toMillis() / resolutionMillis) + 1;
+        this.countries = maxCountries + 1;
+
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripeMask = stripeCount - 1;
+        this.slotBuckets = new long[slots];
+        Arrays.fill(slotBuckets, -1);
+        this.stripes = new long[stripeCount][slots * countries * FIELDS];
+    }
+
+    @Override
+    public void onDecision(RiskDecisionRequest request, RiskDecisionResponse response) {
+        record(request.getClient().getCountryOfApplication(), response);
+    }
+
+    void record(String countryOfApplication, RiskDecisionResponse response) {
+        long bucket = currentMillis.getAsLong() / bucketMillis;
+        int slot = (int) (bucket % slots);
+        long slotBucket = (long) LONGS.getAcquire(slotBuckets, slot);
+        if (slotBucket != bucket && !claim(slot, slotBucket, bucket)) {
+            dropped.increment();
+            return;
+        }
+
+        long[] counters = stripes[(int) Thread.currentThread().threadId() & stripeMask];
+        int base = (slot * countries + countryIndex(countryOfApplication)) * FIELDS;
+        int score = response.getRiskScore();
+        RiskDecisionResponse.EvaluatedFactors factors = response.getEvaluatedFactors();
+        LONGS.getAndAdd(counters, base + response.getRiskDecision().ordinal(), 1L);
+        LONGS.getAndAdd(counters, base + SCORE_SUM, (long) score);
+        LONGS.getAndAdd(counters, base + COMPANY_AGE_SUM, (long) factors.getCompanyAgePoints());
+        LONGS.getAndAdd(counters, base + TURNOVER_SUM, (long) factors.getTurnoverPoints());
+        LONGS.getAndAdd(counters, base + OWNER_AGE_SUM, (long) factors.getOwnerAgePoints());
+        LONGS.getAndAdd(counters, base + LOAN_TO_TURNOVER_SUM, (long) factors.getLoanToTurnoverPoints());
+        LONGS.getAndAdd(counters, base + VELOCITY_SUM, (long) factors.getVelocityPoints());
+        LONGS.getAndAdd(counters, base + HISTOGRAM + histogramBin(score), 1L);
+    }
+
+    /** Decisions made in the window ending now. */
+    public DecisionAnalyticsResponse report(Window window) {
+        long now = currentMillis.getAsLong();
+        long newest = now / bucketMillis;
+        long oldest = newest - window.length.toMillis() / bucketMillis + 1;
+
+        long[] totals = new long[countries * FIELDS];
+        long[] bucketTotals = new long[countries * FIELDS];
+        for (long bucket = Math.max(0, oldest); bucket <= newest; bucket++) {
+            int slot = (int) (bucket % slots);
+            if ((long) LONGS.getAcquire(slotBuckets, slot) != bucket) {
+                continue;
+            }
+            Arrays.fill(bucketTotals, 0);
+            int from = slot * countries * FIELDS;
+            for (long[] counters : stripes) {
+                for (int i = 0; i < bucketTotals.length; i++) {
+                    bucketTotals[i] += (long) LONGS.getOpaque(counters, from + i);
+                }
+            }
+            // Skip the bucket if its slot was reused while it was being read
+            if ((long) LONGS.getAcquire(slotBuckets, slot) == bucket) {
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += bucketTotals[i];
+                }
+            }
+        }
+
+        long[] all = new long[FIELDS];
+        Map<String, DecisionAnalyticsResponse.Summary> byCountry = new TreeMap<>();
+        for (int code = 0; code < COUNTRY_CODES; code++) {
+            int index = countryIndexes.get(code) - 1;
+            if (index >= 0 && index < countries - 1) {
+                addCountry(byCountry, countryCode(code), totals, index, all);
+            }
+        }
+        addCountry(byCountry, OTHER_COUNTRY, totals, countries - 1, all);
+
+        return DecisionAnalyticsResponse.builder()
+                .window(window.label)
+                .from(Instant.ofEpochMilli(oldest * bucketMillis))
+                .to(Instant.ofEpochMilli(now))
+                .total(summary(all, 0))
+                .countries(byCountry)
+                .build();
+    }
+
+    /** Decisions not counted because their bucket was being cleared or had already been reused. */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Makes the slot hold {@code bucket}, clearing it first. Returns false if the slot has
+     * moved past the bucket or another thread is still clearing it.
+     */
+    private boolean claim(int slot, long previous, long bucket) {
+        if (previous == CLEARING || previous > bucket) {
+            return false;
+        }
+        if (!LONGS.compareAndSet(slotBuckets, slot, previous, CLEARING)) {
+            return (long) LONGS.getAcquire(slotBuckets, slot) == bucket;
+        }
+        int from = slot * countries * FIELDS;
+        for (long[] counters : stripes) {
+            Arrays.fill(counters, from, from + countries * FIELDS, 0L);
+        }
+        LONGS.setRelease(slotBuckets, slot, bucket);
+        return true;
+    }
+
+    /** Index of the country's counters, assigned on first sight while there are any left. */
+    private int countryIndex(String countryOfApplication) {
+        int other = countries - 1;
+        if (countryOfApplication == null || countryOfApplication.length() != 2) {
+            return other;
+        }
+        int first = countryOfApplication.charAt(0) - 'A';
+        int second = countryOfApplication.charAt(1) - 'A';
+        if (first < 0 || first >= 26 || second < 0 || second >= 26) {
+            return other;
+        }
+        int code = first * 26 + second;
+        int index = countryIndexes.get(code);
+        if (index != 0) {
+            return index - 1;
+        }
+        int next;
+        do {
+            next = countriesAssigned.get();
+            if (next >= other) {
+                return other;
+            }
+        } while (!countriesAssigned.compareAndSet(next, next + 1));
+        // A thread that loses the race for the same country leaves its index unused
+        return countryIndexes.compareAndSet(code, 0, next + 1) ? next : countryIndexes.get(code) - 1;
+    }
+
+    private void addCountry(Map<String, DecisionAnalyticsResponse.Summary> byCountry, String country,
+                            long[] totals, int index, long[] all) {
+        int base = index * FIELDS;
+        long decisions = 0;
+        for (RiskDecision decision : DECISIONS) {
+            decisions += totals[base + decision.ordinal()];
+        }
+        if (decisions == 0) {
+            return;
+        }
+        for (int i = 0; i < FIELDS; i++) {
+            all[i] += totals[base + i];
+        }
+        byCountry.put(country, summary(totals, base));
+    }
+
+    private static DecisionAnalyticsResponse.Summary summary(long[] totals, int base) {
+        Map<RiskDecision, Long> riskDecisions = new EnumMap<>(RiskDecision.class);
+        long decisions = 0;
+        for (RiskDecision decision : DECISIONS) {
+            riskDecisions.put(decision, totals[base + decision.ordinal()]);
+            decisions += totals[base + decision.ordinal()];
+        }
+        return DecisionAnalyticsResponse.Summary.builder()
+                .decisions(decisions)
+                .riskDecisions(riskDecisions)
+                .meanRiskScore(mean(totals[base + SCORE_SUM], decisions))
+                .riskScoreHistogram(Arrays.copyOfRange(totals, base + HISTOGRAM, base + HISTOGRAM + HISTOGRAM_BINS))
+                .meanCompanyAgePoints(mean(totals[base + COMPANY_AGE_SUM], decisions))
+                .meanTurnoverPoints(mean(totals[base + TURNOVER_SUM], decisions))
+                .meanOwnerAgePoints(mean(totals[base + OWNER_AGE_SUM], decisions))
+                .meanLoanToTurnoverPoints(mean(totals[base + LOAN_TO_TURNOVER_SUM], decisions))
+                .meanVelocityPoints(mean(totals[base + VELOCITY_SUM], decisions))
+                .build();
+    }
+
+    private static double mean(long sum, long count) {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    static int histogramBin(int score) {
+        return Math.min(Math.max(score, 0), RuleSet.MAX_SCORE) / 10;
+    }
+
+    private static String countryCode(int code) {
+        return new String(new char[]{(char) ('A' + code / 26), (char) ('A' + code % 26)});
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.LoanAmountBandsResponse;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.WhatIfRequest;
+import com.example.starter.dto.WhatIfResponse;
+import com.example.starter.exception.InvalidRequestException;
+import com.example.starter.model.RiskDecision;
+import com.example.starter.model.ScoringRules;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Works out the decisions a request would get at other loan and turnover amounts,
+ * without scoring it once per amount.
+ *
+ * <p>The loan amount only enters the rules through the loan-to-turnover ratio, so every
+ * other factor is scored once. The ratio thresholds of the {@link RuleSet} then split
+ * the loan amounts into at most four ranges, each with a single score, and the decision
+ * of each range is a lookup in the rule set's decision table. Range boundaries are the
+ * thresholds times the turnover, nudged to the exact double where the division the
+ * engines do first crosses the threshold. A what-if grid scores the turnover factor
+ * once per row and bands each loan amount with three comparisons.
+ *
+ * <p>The results are those of the scoring rules, velocity included as if this request
+ * were the customer's next application. Registry enrichment and sanctions screening can
+ * still refer or decline the actual request.
+ */
+@Service
+public class DecisionBandCalculator {
+
+    private final RuleSetHolder ruleSets;
+    private final FxRatesHolder fxRates;
+    private final AgeCalculator ageCalculator;
+    private final VelocityTracker velocityTracker;
+
+    @Autowired
+    public DecisionBandCalculator(RuleSetHolder ruleSets, FxRatesHolder fxRates, VelocityTracker velocityTracker) {
+        this(Clock.systemDefaultZone(), ruleSets, fxRates, velocityTracker);
+    }
+
+    DecisionBandCalculator(Clock clock, RuleSetHolder ruleSets, FxRatesHolder fxRates,
+                           VelocityTracker velocityTracker) {
+        this.ruleSets = ruleSets;
+        this.fxRates = fxRates;
+        this.ageCalculator = new AgeCalculator(clock);
+        this.velocityTracker = velocityTracker;
+    }
+
+    /** Decision bands over all loan amounts; the request's own loan amount is ignored. */
+    public LoanAmountBandsResponse loanAmountBands(RiskDecisionRequest request) {
+        RuleSet ruleSet = ruleSets.current();
+        RiskDecisionRequest.AnnualTurnover annualTurnover = request.getBusiness().getAnnualTurnover();
+        double turnover = annualTurnover.getAmount();
+        int score = scoreWithoutLoan(request, ruleSet)
+                + turnoverPoints(ruleSet, fxRates.current(), turnover, annualTurnover.getCurrency());
+
+        List<LoanAmountBandsResponse.Band> bands = new ArrayList<>(RuleSet.DECLINE_RATIO_BAND + 1);
+        Double maxApprovable = null;
+        Double maxReferable = null;
+        double from = 0;
+        for (int ratioBand = band(0, ruleSet.ratioBounds); ratioBand <= RuleSet.DECLINE_RATIO_BAND; ratioBand++) {
+            double to = ratioBand < RuleSet.DECLINE_RATIO_BAND
+                    ? firstAmount(ruleSet.ratioBounds[ratioBand], turnover)
+                    : Double.POSITIVE_INFINITY;
+            if (to <= from) {
+                continue;
+            }
+            int bandScore = Math.min(RuleSet.MAX_SCORE, score + ruleSet.ratioPoints[ratioBand]);
+            RiskDecision decision = ruleSet.decisions[ratioBand][bandScore];
+            bands.add(LoanAmountBandsResponse.Band.builder()
+                    .fromAmount(from)
+                    .toAmount(Double.isInfinite(to) ? null : to)
+                    .riskDecision(decision)
+                    .riskScore(bandScore)
+                    .build());
+
+            double largest = largestWholeCents(from, to);
+            if (!Double.isNaN(largest)) {
+                if (decision == RiskDecision.APPROVE) {
+                    maxApprovable = maxApprovable == null ? largest : Math.max(maxApprovable, largest);
+                }
+                if (decision != RiskDecision.DECLINE) {
+                    maxReferable = maxReferable == null ? largest : Math.max(maxReferable, largest);
+                }
+            }
+            from = to;
+        }
+
+        return LoanAmountBandsResponse.builder()
+                .ruleVersion(ruleSet.version())
+                .maxApprovableAmount(maxApprovable)
+                .maxReferableAmount(maxReferable)
+                .bands(bands)
+                .build();
+    }
+
+    /** {@link #whatIf(RiskDecisionRequest, double[], double[])} for a what-if request. */
+    public WhatIfResponse whatIf(WhatIfRequest whatIf) {
+        RiskDecisionRequest request = whatIf.getRequest();
+        double[] turnoverAmounts = whatIf.getTurnoverAmounts() != null
+                ? whatIf.getTurnoverAmounts()
+                : new double[]{request.getBusiness().getAnnualTurnover().getAmount()};
+        return whatIf(request, turnoverAmounts, whatIf.getLoanAmounts());
+    }
+
+    /**
+     * Decisions for every combination of the turnover and loan amounts, with everything
+     * else taken from the request.
+     *
+     * @throws InvalidRequestException if an amount is negative or not finite
+     */
+    public WhatIfResponse whatIf(RiskDecisionRequest request, double[] turnoverAmounts, double[] loanAmounts) {
+        requireAmounts(turnoverAmounts, "Turnover");
+        requireAmounts(loanAmounts, "Loan");
+        RuleSet ruleSet = ruleSets.current();
+        FxRates rates = fxRates.current();
+        String currency = request.getBusiness().getAnnualTurnover().getCurrency();
+        int scoreWithoutTurnover = scoreWithoutLoan(request, ruleSet);
+        double[] ratioBounds = ruleSet.ratioBounds;
+        int[] ratioPoints = ruleSet.ratioPoints;
+        RiskDecision[][] decisionTable = ruleSet.decisions;
+
+        RiskDecision[][] decisions = new RiskDecision[turnoverAmounts.length][];
+        int[][] scores = new int[turnoverAmounts.length][];
+        for (int row = 0; row < turnoverAmounts.length; row++) {
+            double turnover = turnoverAmounts[row];
+            int score = scoreWithoutTurnover + turnoverPoints(ruleSet, rates, turnover, currency);
+            RiskDecision[] rowDecisions = new RiskDecision[loanAmounts.length];
+            int[] rowScores = new int[loanAmounts.length];
+            for (int column = 0; column < loanAmounts.length; column++) {
+                double ratio = CompiledRiskDecisionService.loanToTurnoverRatio(loanAmounts[column], turnover);
+                // The bounds are in ascending order, so counting those reached is the band
+                int ratioBand = (ratio >= ratioBounds[0] ? 1 : 0) + (ratio >= ratioBounds[1] ? 1 : 0)
+                        + (ratio >= ratioBounds[2] ? 1 : 0);
+                int bandScore = Math.min(RuleSet.MAX_SCORE, score + ratioPoints[ratioBand]);
+                rowScores[column] = bandScore;
+                rowDecisions[column] = decisionTable[ratioBand][bandScore];
+            }
+            decisions[row] = rowDecisions;
+            scores[row] = rowScores;
+        }
+
+        return WhatIfResponse.builder()
+                .ruleVersion(ruleSet.version())
+                .turnoverAmounts(turnoverAmounts)
+                .loanAmounts(loanAmounts)
+                .riskDecisions(decisions)
+                .riskScores(scores)
+                .build();
+    }
+
+    /** Company age, owner age and velocity points, the factors that depend on neither amount. */
+    private int scoreWithoutLoan(RiskDecisionRequest request, RuleSet ruleSet) {
+        ScoringRules rules = ruleSet.rules();
+        AgeCalculator.AgeCutoffs cutoffs = ageCalculator.cutoffs(ruleSet);
+        int score = ruleSet.ownerPoints[cutoffs.youngestOwnerBand(request.getOwners())];
+        if (cutoffs.isYoungCompany(request.getBusiness().getDateOfIncorporation().toEpochDay())) {
+            score += rules.getYoungCompanyPoints();
+        }
+        // Counted as the customer's next application, without recording it
+        if (velocityTracker.count(request.getClient().getCustomerId()) + 1 > rules.getHighVelocityAbove()) {
+            score += rules.getHighVelocityPoints();
+        }
+        return score;
+    }
+
+    private static int turnoverPoints(RuleSet ruleSet, FxRates rates, double turnover, String currency) {
+        return ruleSet.turnoverPoints[band(rates.toBase(turnover, currency), ruleSet.turnoverBounds)];
+    }
+
+    private static int band(double value, double[] bounds) {
+        return CompiledRiskDecisionService.band(value, bounds);
+    }
+
+    /** The smallest loan amount whose ratio to {@code turnover} is at least {@code bound}. */
+    static double firstAmount(double bound, double turnover) {
+        if (turnover <= 0) {
+            // Any positive loan has an infinite ratio, and no loan a zero one
+            return bound <= 0 ? 0 : Double.MIN_VALUE;
+        }
+        double amount = Math.max(0, bound * turnover);
+        if (Double.isInfinite(amount)) {
+            return amount;
+        }
+        // The product may be off by a unit in the last place either way
+        while (amount > 0 && ratio(Math.nextDown(amount), turnover) >= bound) {
+            amount = Math.nextDown(amount);
+        }
+        while (ratio(amount, turnover) < bound) {
+            amount = Math.nextUp(amount);
+        }
+        return amount;
+    }
+
+    /** The largest whole-cent amount from {@code from} up to but excluding {@code to}, or NaN if there is none. */
+    static double largestWholeCents(double from, double to) {
+        if (Double.isInfinite(to)) {
+            return Double.NaN;
+        }
+        long cents = (long) Math.ceil(to * 100) - 1;
+        while (cents / 100.0 >= to) {
+            cents--;
+        }
+        while ((cents + 1) / 100.0 < to) {
+            cents++;
+        }
+        double amount = cents / 100.0;
+        return amount >= from ? amount : Double.NaN;
+    }
+
+    private static double ratio(double amount, double turnover) {
+        return CompiledRiskDecisionService.loanToTurnoverRatio(amount, turnover);
+    }
+
+    private static void requireAmounts(double[] amounts, String name) {
+        for (double amount : amounts) {
+            if (!(amount >= 0) || Double.isInfinite(amount)) {
+                throw new InvalidRequestException(name + " amounts must be zero or more: " + amount);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.starter.service;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Open-addressing multimap from a 64-bit key hash to {@link DecisionLog} positions.
+ *
+ * <p>Two parallel {@code long} arrays instead of a {@code Map<String, Long>} keep the
+ * index at 16 bytes per slot with no per-entry objects, which matters once the log holds
+ * millions of decisions. Hashes may collide, so callers check the record they load.
+ * Not thread-safe.
+ */
+final class DecisionIndex {
+
+    private static final long EMPTY = -1L;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long[] hashes;
+    private long[] positions;
+    private int size;
+
+    DecisionIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        hashes = new long[capacity];
+        positions = new long[capacity];
+        Arrays.fill(positions, EMPTY);
+    }
+
+    /** 64-bit FNV-1a over the ID's characters with a MurmurHash3 fmix64 finish. */
+    static long hash(String decisionId) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < decisionId.length(); i++) {
+            hash = (hash ^ decisionId.charAt(i)) * FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    void put(long hash, long position) {
+        if (size * 4 >= hashes.length * 3) {
+            resize();
+        }
+        insert(hashes, positions, hash, position);
+        size++;
+    }
+
+    /**
+     * Offers each position stored under {@code hash} to {@code visitor}, in no
+     * particular order, until it returns true.
+     *
+     * @return whether the visitor accepted a position
+     */
+    boolean find(long hash, LongPredicate visitor) {
+        int mask = hashes.length - 1;
+        for (int slot = (int) hash & mask; positions[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && visitor.test(positions[slot])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] newHashes = new long[hashes.length * 2];
+        long[] newPositions = new long[positions.length * 2];
+        Arrays.fill(newPositions, EMPTY);
+        for (int slot = 0; slot < hashes.length; slot++) {
+            if (positions[slot] != EMPTY) {
+                insert(newHashes, newPositions, hashes[slot], positions[slot]);
+            }
+        }
+        hashes = newHashes;
+        positions = newPositions;
+    }
+
+    private static void insert(long[] hashes, long[] positions, long hash, long position) {
+        int mask = hashes.length - 1;
+        int slot = (int) hash & mask;
+        while (positions[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        positions[slot] = position;
+    }
+}
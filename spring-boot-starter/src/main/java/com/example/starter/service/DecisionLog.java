@@ -0,0 +1,234 @@
+package com.example.starter.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of opaque records in fixed-size, memory-mapped segment files.
+ *
+ * <p>Each record is a 16-byte header (payload length, CRC32C of the payload, caller
+ * supplied key hash) followed by the payload. Segments are pre-sized when created, so
+ * a zero length marks the end of the written data. A record is addressed by its
+ * position: segment number in the high 32 bits, offset within the segment in the low.
+ *
+ * <p>Only one thread may append. Any number of threads may {@link #read} a position
+ * once it has been safely published to them by the appender. Only one log may be open
+ * on a directory at a time, in this process or any other: two appenders would overwrite
+ * each other's records. An exclusive lock on {@value #LOCK_FILE} enforces this until
+ * the log is closed.
+ */
+final class DecisionLog implements Closeable {
+
+    static final int HEADER_BYTES = 16;
+
+    private static final String SEGMENT_PREFIX = "decisions-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String LOCK_FILE = "decisions.lock";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final FileChannel lockChannel;
+    private final List<MappedByteBuffer> segments = new CopyOnWriteArrayList<>();
+    private final CRC32C crc = new CRC32C();
+    private MappedByteBuffer active;
+    private int writeOffset;
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(long keyHash, long position);
+    }
+
+    private DecisionLog(Path directory, int segmentBytes, FileChannel lockChannel) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.lockChannel = lockChannel;
+    }
+
+    /**
+     * Opens the log in {@code directory}, creating it if needed, and reports every record
+     * found to {@code visitor} in append order.
+     *
+     * <p>Recovery reads record headers only and jumps from one to the next, so it does
+     * not touch payloads. Sealed segments were complete when the log rolled past them;
+     * only the last segment has its checksums verified. A torn record at its tail is
+     * cut off and overwritten by the next append.
+     *
+     * @throws IOException if another log is open on {@code directory}
+     */
+    static DecisionLog open(Path directory, int segmentBytes, RecordVisitor visitor) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel lockChannel = lock(directory);
+        try {
+            return new DecisionLog(directory, segmentBytes, lockChannel).load(visitor);
+        } catch (IOException | RuntimeException e) {
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+    private DecisionLog load(RecordVisitor visitor) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            if (!files.get(i).equals(segmentPath(i))) {
+                throw new IOException("Missing decision log segment " + segmentPath(i));
+            }
+            boolean last = i == files.size() - 1;
+            int size = (int) Files.size(files.get(i));
+            MappedByteBuffer segment = map(files.get(i), last ? Math.max(segmentBytes, size) : size);
+            segments.add(segment);
+            writeOffset = recover(i, segment, last, visitor);
+        }
+        if (segments.isEmpty()) {
+            roll();
+        }
+        active = segments.get(segments.size() - 1);
+        return this;
+    }
+
+    /**
+     * @return the position of the new record
+     * @throws IllegalArgumentException if the record cannot fit in a segment
+     */
+    long append(long keyHash, byte[] payload) throws IOException {
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentBytes) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds segment size");
+        }
+        if (writeOffset + recordBytes > active.capacity()) {
+            roll();
+        }
+        crc.reset();
+        crc.update(payload);
+
+        int offset = writeOffset;
+        active.put(offset + HEADER_BYTES, payload);
+        active.putInt(offset + 4, (int) crc.getValue());
+        active.putLong(offset + 8, keyHash);
+        // Length last, so a record is never visible to recovery before its payload
+        active.putInt(offset, payload.length);
+        writeOffset = offset + recordBytes;
+        return position(segments.size() - 1, offset);
+    }
+
+    byte[] read(long position) {
+        MappedByteBuffer segment = segments.get((int) (position >>> 32));
+        int offset = (int) position;
+        byte[] payload = new byte[segment.getInt(offset)];
+        segment.get(offset + HEADER_BYTES, payload);
+        return payload;
+    }
+
+    /** Flushes written records to the storage device. */
+    void force() {
+        active.force();
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    /** Flushes written records and releases the directory for another log. */
+    @Override
+    public void close() {
+        force();
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Locks {@code directory} for this process, and for this log within it: file locks
+     * are held per process, so the JVM reports a second lock of its own as overlapping.
+     */
+    private static FileChannel lock(Path directory) throws IOException {
+        Path lockFile = directory.resolve(LOCK_FILE);
+        FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (channel.tryLock() != null) {
+                return channel;
+            }
+        } catch (OverlappingFileLockException e) {
+            // Already locked by another log in this process
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        channel.close();
+        throw new IOException("Decision log in " + directory + " is already open; "
+                + lockFile + " is locked by another process or store");
+    }
+
+    private int recover(int segmentNumber, MappedByteBuffer segment, boolean verify, RecordVisitor visitor) {
+        int offset = 0;
+        while (offset + HEADER_BYTES <= segment.capacity()) {
+            int length = segment.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > segment.capacity()
+                    || (verify && !checksumMatches(segment, offset, length))) {
+                break;
+            }
+            visitor.visit(segment.getLong(offset + 8), position(segmentNumber, offset));
+            offset += HEADER_BYTES + length;
+        }
+        terminate(segment, offset);
+        return offset;
+    }
+
+    private boolean checksumMatches(MappedByteBuffer segment, int offset, int length) {
+        crc.reset();
+        crc.update(segment.slice(offset + HEADER_BYTES, length));
+        return (int) crc.getValue() == segment.getInt(offset + 4);
+    }
+
+    private void roll() throws IOException {
+        if (active != null) {
+            // Whatever follows the last record may be left over from a torn write
+            terminate(active, writeOffset);
+            active.force();
+        }
+        active = map(segmentPath(segments.size()), segmentBytes);
+        segments.add(active);
+        writeOffset = 0;
+    }
+
+    private Path segmentPath(int segmentNumber) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%08d", segmentNumber) + SEGMENT_SUFFIX);
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /** Marks the end of the data at {@code offset}, as recovery stops at a zero length. */
+    private static void terminate(MappedByteBuffer segment, int offset) {
+        if (offset + 4 <= segment.capacity()) {
+            segment.putInt(offset, 0);
+        }
+    }
+
+    private static long position(int segmentNumber, int offset) {
+        return ((long) segmentNumber << 32) | offset;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionResponse;
+
+import java.util.Optional;
+
+/**
+ * Lookup of previously made decisions by {@code decisionId}.
+ */
+@FunctionalInterface
+public interface DecisionStore {
+
+    /** Used when {@code risk.decision-store.enabled} is false. */
+    DecisionStore NONE = decisionId -> Optional.empty();
+
+    Optional<RiskDecisionResponse> find(String decisionId);
+}
@@ -0,0 +1,172 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.CompanyRegistryRecord;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.exception.DeadlineExceededException;
+import com.example.starter.model.RiskDecision;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks each business against the {@link CompanyRegistry} while the delegate scores it.
+ *
+ * <p>The lookup starts before scoring, and the decision then waits for it up to the
+ * latency budget, measured from the start of the evaluation. A company the registry does
+ * not know or lists as not active, or a registry that does not answer within the budget,
+ * never gets an outright approval: the decision is referred, with the reason added. The
+ * score is left as the rules computed it.
+ *
+ * <p>The wait is also capped by the {@link RequestDeadline} bound to the calling thread.
+ * When that runs out first, the evaluation fails with {@link DeadlineExceededException}
+ * rather than answering after the caller has been given up on.
+ */
+@Slf4j
+public class EnrichingRiskDecisionService implements RiskDecisionService {
+
+    public enum Outcome {
+        VERIFIED(null),
+        NOT_FOUND("Company not found in the company registry"),
+        INACTIVE("Company is not active in the company registry"),
+        UNAVAILABLE("Company registry check unavailable");
+
+        private final String reason;
+
+        Outcome(String reason) {
+            this.reason = reason;
+        }
+
+        /** Reason added to the decision, or {@code null} if the company was verified. */
+        public String reason() {
+            return reason;
+        }
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final RiskDecisionService delegate;
+    private final CompanyRegistry registry;
+    private final long latencyBudgetNanos;
+    private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+
+    public EnrichingRiskDecisionService(RiskDecisionService delegate, CompanyRegistry registry,
+                                        Duration latencyBudget) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.latencyBudgetNanos = latencyBudget.toNanos();
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
+        long deadline = System.nanoTime() + latencyBudgetNanos;
+        RequestDeadline requestDeadline = RequestDeadline.current();
+        CompletableFuture<Optional<CompanyRegistryRecord>> lookup = lookup(request, correlationId);
+
+        RiskDecisionResponse response = delegate.evaluate(request, correlationId);
+
+        return apply(response, await(lookup, deadline, requestDeadline, correlationId));
+    }
+
+    /**
+     * Like {@link #evaluate}, but completes when the lookup answers or the latency budget
+     * runs out instead of blocking the calling thread until then.
+     */
+    @Override
+    public CompletableFuture<RiskDecisionResponse> evaluateAsync(RiskDecisionRequest request, String correlationId) {
+        long deadline = System.nanoTime() + latencyBudgetNanos;
+        RequestDeadline requestDeadline = RequestDeadline.current();
+        CompletableFuture<Optional<CompanyRegistryRecord>> lookup = lookup(request, correlationId);
+
+        return delegate.evaluateAsync(request, correlationId).thenCompose(response -> lookup
+                .handle((company, error) -> error == null
+                        ? outcome(company)
+                        : unavailable(error, correlationId))
+                // handle() returns a new future, so the timeout never completes the shared cached lookup
+                .completeOnTimeout(null, waitNanos(deadline, requestDeadline), TimeUnit.NANOSECONDS)
+                .thenApply(outcome -> apply(response, outcome != null
+                        ? outcome
+                        : timedOut(requestDeadline, correlationId))));
+    }
+
+    public long count(Outcome outcome) {
+        return outcomes[outcome.ordinal()].sum();
+    }
+
+    private CompletableFuture<Optional<CompanyRegistryRecord>> lookup(RiskDecisionRequest request,
+                                                                      String correlationId) {
+        RiskDecisionRequest.Business business = request.getBusiness();
+        return registry.lookup(business.getLegalName(), business.getCountryOfIncorporation(), correlationId);
+    }
+
+    private RiskDecisionResponse apply(RiskDecisionResponse response, Outcome outcome) {
+        outcomes[outcome.ordinal()].increment();
+        if (outcome == Outcome.VERIFIED) {
+            return response;
+        }
+        List<String> reasons = new ArrayList<>(response.getReasons().size() + 1);
+        reasons.addAll(response.getReasons());
+        reasons.add(outcome.reason());
+        response.setReasons(reasons);
+        if (response.getRiskDecision() == RiskDecision.APPROVE) {
+            response.setRiskDecision(RiskDecision.REFER);
+        }
+        return response;
+    }
+
+    private static Outcome await(CompletableFuture<Optional<CompanyRegistryRecord>> lookup, long deadline,
+                                 RequestDeadline requestDeadline, String correlationId) {
+        try {
+            return outcome(lookup.get(waitNanos(deadline, requestDeadline), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            return timedOut(requestDeadline, correlationId);
+        } catch (ExecutionException e) {
+            return unavailable(e.getCause(), correlationId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Outcome.UNAVAILABLE;
+    }
+
+    /** Time left until the latency budget or the request deadline runs out, whichever is first. */
+    private static long waitNanos(long deadline, RequestDeadline requestDeadline) {
+        return Math.min(Math.max(0, deadline - System.nanoTime()), requestDeadline.remainingNanos());
+    }
+
+    private static Outcome timedOut(RequestDeadline requestDeadline, String correlationId) {
+        if (requestDeadline.expired()) {
+            log.debug("Request deadline ran out waiting for the company registry, correlationId={}", correlationId);
+            throw new DeadlineExceededException();
+        }
+        log.debug("Company registry missed the latency budget, correlationId={}", correlationId);
+        return Outcome.UNAVAILABLE;
+    }
+
+    private static Outcome outcome(Optional<CompanyRegistryRecord> company) {
+        if (company.isEmpty()) {
+            return Outcome.NOT_FOUND;
+        }
+        return company.get().isActive() ? Outcome.VERIFIED : Outcome.INACTIVE;
+    }
+
+    private static Outcome unavailable(Throwable error, String correlationId) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        log.debug("Company registry lookup failed, correlationId={}: {}", correlationId, cause.toString());
+        return Outcome.UNAVAILABLE;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.starter.service;
+
+import com.example.starter.exception.InvalidRequestException;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of FX rates into one base currency, used to put annual
+ * turnover into the currency the turnover bands are written in.
+ *
+ * <p>Rates are held in a primitive array indexed by {@link #index(String) currency
+ * index}, the three letters of the ISO 4217 code read as a base-26 number, so
+ * converting an amount is a few character reads and a division. A rate is the number
+ * of units of a currency per unit of the base currency; currencies without a rate are
+ * {@code NaN}.
+ */
+public final class FxRates {
+
+    /** No conversion: every amount is taken to be in the base currency already. */
+    public static final FxRates NONE = new FxRates(null, Instant.EPOCH, null);
+
+    private static final int CURRENCIES = 26 * 26 * 26;
+
+    private final String baseCurrency;
+    private final Instant asOf;
+    private final double[] perBase;
+
+    private FxRates(String baseCurrency, Instant asOf, double[] perBase) {
+        this.baseCurrency = baseCurrency;
+        this.asOf = asOf;
+        this.perBase = perBase;
+    }
+
+    /**
+     * @param rates units of each currency per unit of {@code baseCurrency}
+     * @throws IllegalArgumentException if a currency code is not three upper-case letters,
+     *                                  a rate is not a positive number, or the base currency
+     *                                  has a rate other than 1
+     */
+    public static FxRates of(String baseCurrency, Instant asOf, Map<String, Double> rates) {
+        int baseIndex = index(baseCurrency);
+        if (baseIndex < 0) {
+            throw new IllegalArgumentException("Invalid base currency: " + baseCurrency);
+        }
+        if (asOf == null) {
+            throw new IllegalArgumentException("FX rates need an asOf time");
+        }
+        double[] perBase = new double[CURRENCIES];
+        Arrays.fill(perBase, Double.NaN);
+        perBase[baseIndex] = 1;
+        rates.forEach((currency, rate) -> {
+            int index = index(currency);
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid currency: " + currency);
+            }
+            if (rate == null || !(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Invalid FX rate for " + currency + ": " + rate);
+            }
+            if (index == baseIndex && rate != 1) {
+                throw new IllegalArgumentException("Base currency " + baseCurrency + " must have rate 1");
+            }
+            perBase[index] = rate;
+        });
+        return new FxRates(baseCurrency, asOf, perBase);
+    }
+
+    /** Index of a three-letter upper-case currency code, or -1 for anything else. */
+    public static int index(String currency) {
+        if (currency == null || currency.length() != 3) {
+            return -1;
+        }
+        return index(currency.charAt(0), currency.charAt(1), currency.charAt(2));
+    }
+
+    static int index(int first, int second, int third) {
+        if (!isLetter(first) || !isLetter(second) || !isLetter(third)) {
+            return -1;
+        }
+        return ((first - 'A') * 26 + (second - 'A')) * 26 + (third - 'A');
+    }
+
+    /** The base currency, or {@code null} for {@link #NONE}. */
+    public String baseCurrency() {
+        return baseCurrency;
+    }
+
+    /** When the rates were published. */
+    public Instant asOf() {
+        return asOf;
+    }
+
+    /**
+     * {@code amount} of {@code currency} in the base currency.
+     *
+     * @throws IllegalArgumentException if there is no rate for {@code currency}
+     */
+    public double toBase(double amount, String currency) {
+        if (perBase == null) {
+            return amount;
+        }
+        int index = index(currency);
+        double rate = index < 0 ? Double.NaN : perBase[index];
+        if (Double.isNaN(rate)) {
+            throw new InvalidRequestException("No FX rate from " + currency + " to " + baseCurrency);
+        }
+        return amount / rate;
+    }
+
+    /**
+     * {@code amount} of the currency with the given index in the base currency, or
+     * {@code NaN} if there is no rate for it. A negative index means the base currency.
+     */
+    double toBase(double amount, int currencyIndex) {
+        if (perBase == null || currencyIndex < 0) {
+            return amount;
+        }
+        return amount / perBase[currencyIndex];
+    }
+
+    private static boolean isLetter(int c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.starter.service;
+
+/**
+ * The FX rates snapshot new evaluations convert turnover with.
+ *
+ * <p>Engines read {@link #current()} once per evaluation. Refreshes swap in a whole new
+ * {@link FxRates}, so an evaluation never sees rates from two snapshots.
+ */
+public class FxRatesHolder {
+
+    private volatile FxRates current;
+
+    public FxRatesHolder(FxRates initial) {
+        this.current = initial;
+    }
+
+    public FxRates current() {
+        return current;
+    }
+
+    public void update(FxRates rates) {
+        this.current = rates;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.starter.service;
+
+import java.util.UUID;
+
+/**
+ * Generates correlation IDs for requests that arrive without one, and decision IDs.
+ * Selected with {@code risk.ids.generator}.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    String nextId();
+
+    /** Version 4 UUIDs from {@link UUID#randomUUID()}, which draws on a shared {@code SecureRandom}. */
+    static IdGenerator randomUuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.starter.service;
+
+import java.util.Arrays;
+
+/**
+ * One chunk of a loan book decoded into primitive columns, plus the scoring result
+ * for each row.
+ *
+ * <p>Ages are in days as of the day the batch runs. A row that is missing a field
+ * scoring needs, or has one that cannot be parsed, is kept (so output rows line up
+ * with input rows) but marked invalid.
+ */
+final class LoanBookColumns {
+
+    int rows;
+
+    int[] companyAgeDays;
+    double[] turnover;
+    int[] currency;
+    int[] youngestOwnerAgeDays;
+    double[] requestedAmount;
+    boolean[] valid;
+
+    byte[] decision;
+    byte[] score;
+    short[] reasons;
+
+    LoanBookColumns(int capacity) {
+        capacity = Math.max(capacity, 16);
+        companyAgeDays = new int[capacity];
+        turnover = new double[capacity];
+        currency = new int[capacity];
+        youngestOwnerAgeDays = new int[capacity];
+        requestedAmount = new double[capacity];
+        valid = new boolean[capacity];
+    }
+
+    /**
+     * Appends a row and returns its index. {@code currency} is an {@link FxRates#index(String)
+     * FX rates index}, or negative for the base currency.
+     */
+    int add(int companyAgeDays, double turnover, int currency, int youngestOwnerAgeDays, double requestedAmount,
+            boolean valid) {
+        if (rows == this.valid.length) {
+            grow();
+        }
+        int row = rows++;
+        this.companyAgeDays[row] = companyAgeDays;
+        this.turnover[row] = turnover;
+        this.currency[row] = currency;
+        this.youngestOwnerAgeDays[row] = youngestOwnerAgeDays;
+        this.requestedAmount[row] = requestedAmount;
+        this.valid[row] = valid;
+        return row;
+    }
+
+    void allocateResults() {
+        decision = new byte[rows];
+        score = new byte[rows];
+        reasons = new short[rows];
+    }
+
+    /** Drops the input columns once the chunk has been scored. */
+    void releaseInputs() {
+        companyAgeDays = null;
+        turnover = null;
+        currency = null;
+        youngestOwnerAgeDays = null;
+        requestedAmount = null;
+    }
+
+    private void grow() {
+        int capacity = valid.length * 2;
+        companyAgeDays = Arrays.copyOf(companyAgeDays, capacity);
+        turnover = Arrays.copyOf(turnover, capacity);
+        currency = Arrays.copyOf(currency, capacity);
+        youngestOwnerAgeDays = Arrays.copyOf(youngestOwnerAgeDays, capacity);
+        requestedAmount = Arrays.copyOf(requestedAmount, capacity);
+        valid = Arrays.copyOf(valid, capacity);
+    }
+}
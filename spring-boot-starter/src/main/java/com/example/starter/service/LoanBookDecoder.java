@@ -0,0 +1,428 @@
+package com.example.starter.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Decodes the lines of a loan book chunk straight from its bytes into
+ * {@link LoanBookColumns}, reading only the fields scoring needs.
+ *
+ * <p>Dates must be ISO {@code yyyy-MM-dd}. Plain decimals of up to 15 significant
+ * digits are parsed without creating strings; anything else falls back to
+ * {@link Double#parseDouble}, so every number parses to the same value Jackson
+ * would give.
+ */
+abstract class LoanBookDecoder {
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+    /** Currency of a row without one: the base currency. */
+    static final int NO_CURRENCY = -1;
+    static final int INVALID_CURRENCY = -2;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final int MAX_FAST_DIGITS = 15;
+
+    private final long today;
+
+    protected ByteBuffer buffer;
+
+    // Fields of the line being decoded
+    protected int dateOfIncorporation;
+    protected double turnover;
+    protected int currency;
+    protected int youngestOwnerBorn;
+    protected double requestedAmount;
+
+    LoanBookDecoder(LocalDate today) {
+        this.today = today.toEpochDay();
+    }
+
+    /** Decodes every non-blank line of {@code buffer}, which must end at a line boundary or end of file. */
+    LoanBookColumns decode(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int limit = buffer.limit();
+        LoanBookColumns columns = new LoanBookColumns(limit / 128);
+        int position = 0;
+        while (position < limit) {
+            int end = position;
+            while (end < limit && buffer.get(end) != '\n') {
+                end++;
+            }
+            int lineEnd = end > position && buffer.get(end - 1) == '\r' ? end - 1 : end;
+            if (!isBlank(position, lineEnd)) {
+                dateOfIncorporation = NO_DATE;
+                turnover = Double.NaN;
+                currency = NO_CURRENCY;
+                youngestOwnerBorn = NO_DATE;
+                requestedAmount = Double.NaN;
+                decodeLine(position, lineEnd);
+                add(columns);
+            }
+            position = end + 1;
+        }
+        this.buffer = null;
+        return columns;
+    }
+
+    /** Sets the fields of the line in {@code [from, to)}, leaving missing or unparseable ones unset. */
+    protected abstract void decodeLine(int from, int to);
+
+    protected void ownerBorn(int epochDay) {
+        if (epochDay == NO_DATE) {
+            // One unreadable owner makes the youngest owner unknown
+            youngestOwnerBorn = Integer.MAX_VALUE;
+        } else if (youngestOwnerBorn != Integer.MAX_VALUE) {
+            youngestOwnerBorn = Math.max(youngestOwnerBorn, epochDay);
+        }
+    }
+
+    private void add(LoanBookColumns columns) {
+        boolean valid = dateOfIncorporation != NO_DATE
+                && youngestOwnerBorn != NO_DATE && youngestOwnerBorn != Integer.MAX_VALUE
+                && turnover >= 0 && requestedAmount >= 0 && currency != INVALID_CURRENCY;
+        columns.add(
+                valid ? (int) (today - dateOfIncorporation) : 0,
+                turnover,
+                currency,
+                valid ? (int) (today - youngestOwnerBorn) : 0,
+                requestedAmount,
+                valid);
+    }
+
+    /** Parses {@code yyyy-MM-dd}, surrounded by optional whitespace, to an epoch day or {@link #NO_DATE}. */
+    protected int parseDate(int from, int to) {
+        from = skipWhitespace(from, to);
+        to = trimWhitespace(from, to);
+        if (to - from != 10 || buffer.get(from + 4) != '-' || buffer.get(from + 7) != '-') {
+            return NO_DATE;
+        }
+        int year = digits(from, from + 4);
+        int month = digits(from + 5, from + 7);
+        int day = digits(from + 8, from + 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return NO_DATE;
+        }
+        try {
+            return (int) LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            return NO_DATE;
+        }
+    }
+
+    /**
+     * Parses a currency code, surrounded by optional whitespace, to its FX rates index,
+     * {@link #NO_CURRENCY} if blank or {@link #INVALID_CURRENCY}.
+     */
+    protected int parseCurrency(int from, int to) {
+        from = skipWhitespace(from, to);
+        to = trimWhitespace(from, to);
+        if (from == to) {
+            return NO_CURRENCY;
+        }
+        if (to - from != 3) {
+            return INVALID_CURRENCY;
+        }
+        int index = FxRates.index(buffer.get(from), buffer.get(from + 1), buffer.get(from + 2));
+        return index < 0 ? INVALID_CURRENCY : index;
+    }
+
+    /** Parses a JSON number, surrounded by optional whitespace, or returns NaN. */
+    protected double parseNumber(int from, int to) {
+        from = skipWhitespace(from, to);
+        to = trimWhitespace(from, to);
+        int i = from;
+        boolean negative = i < to && buffer.get(i) == '-';
+        if (negative) {
+            i++;
+        }
+        long mantissa = 0;
+        boolean anyDigits = false;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                anyDigits = true;
+                if (mantissa != 0) {
+                    digits++;
+                }
+                if (fraction) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i == to && anyDigits && digits <= MAX_FAST_DIGITS && fractionDigits < POWERS_OF_TEN.length) {
+            // Both operands are exact doubles, so the one rounding step gives the correctly rounded value
+            double value = mantissa / POWERS_OF_TEN[fractionDigits];
+            return negative ? -value : value;
+        }
+        try {
+            return Double.parseDouble(ascii(from, to));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    protected int skipWhitespace(int from, int to) {
+        while (from < to && isWhitespace(buffer.get(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    protected boolean matches(int from, int to, byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(from + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int trimWhitespace(int from, int to) {
+        while (to > from && isWhitespace(buffer.get(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+
+    private boolean isBlank(int from, int to) {
+        return skipWhitespace(from, to) == to;
+    }
+
+    private int digits(int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private String ascii(int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    /**
+     * A header line naming the columns, then one row per line. Columns
+     * {@code dateOfIncorporation}, {@code annualTurnover}, {@code ownerDatesOfBirth}
+     * (separated by {@code ;}) and {@code requestedAmount} are read, as is the turnover
+     * {@code currency} if there is such a column; any others are skipped. Fields may be
+     * quoted.
+     */
+    static final class Csv extends LoanBookDecoder {
+
+        static final String DATE_OF_INCORPORATION = "dateOfIncorporation";
+        static final String ANNUAL_TURNOVER = "annualTurnover";
+        static final String CURRENCY = "currency";
+        static final String OWNER_DATES_OF_BIRTH = "ownerDatesOfBirth";
+        static final String REQUESTED_AMOUNT = "requestedAmount";
+
+        private final int dateOfIncorporationColumn;
+        private final int turnoverColumn;
+        private final int currencyColumn;
+        private final int ownersColumn;
+        private final int requestedAmountColumn;
+
+        /**
+         * @throws IllegalArgumentException if the header lacks a column scoring needs
+         */
+        Csv(LocalDate today, String header) {
+            super(today);
+            String[] names = header.strip().split(",");
+            for (int i = 0; i < names.length; i++) {
+                names[i] = names[i].strip().replace("\"", "");
+            }
+            this.dateOfIncorporationColumn = column(names, DATE_OF_INCORPORATION);
+            this.turnoverColumn = column(names, ANNUAL_TURNOVER);
+            this.currencyColumn = optionalColumn(names, CURRENCY);
+            this.ownersColumn = column(names, OWNER_DATES_OF_BIRTH);
+            this.requestedAmountColumn = column(names, REQUESTED_AMOUNT);
+        }
+
+        @Override
+        protected void decodeLine(int from, int to) {
+            int column = 0;
+            int i = from;
+            while (true) {
+                int start = i;
+                int end;
+                if (i < to && buffer.get(i) == '"') {
+                    start = ++i;
+                    while (i < to) {
+                        if (buffer.get(i) == '"') {
+                            if (i + 1 < to && buffer.get(i + 1) == '"') {
+                                i += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        i++;
+                    }
+                    end = i;
+                    while (i < to && buffer.get(i) != ',') {
+                        i++;
+                    }
+                } else {
+                    while (i < to && buffer.get(i) != ',') {
+                        i++;
+                    }
+                    end = i;
+                }
+                field(column++, start, end);
+                if (i >= to) {
+                    return;
+                }
+                i++;
+            }
+        }
+
+        private void field(int column, int from, int to) {
+            if (column == dateOfIncorporationColumn) {
+                dateOfIncorporation = parseDate(from, to);
+            } else if (column == turnoverColumn) {
+                turnover = parseNumber(from, to);
+            } else if (column == currencyColumn) {
+                currency = parseCurrency(from, to);
+            } else if (column == ownersColumn) {
+                int start = from;
+                for (int i = from; i <= to; i++) {
+                    if (i == to || buffer.get(i) == ';') {
+                        if (skipWhitespace(start, i) < i) {
+                            ownerBorn(parseDate(start, i));
+                        }
+                        start = i + 1;
+                    }
+                }
+            } else if (column == requestedAmountColumn) {
+                requestedAmount = parseNumber(from, to);
+            }
+        }
+
+        private static int column(String[] names, String name) {
+            int column = optionalColumn(names, name);
+            if (column < 0) {
+                throw new IllegalArgumentException("CSV header has no " + name + " column");
+            }
+            return column;
+        }
+
+        private static int optionalColumn(String[] names, String name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * One {@code RiskDecisionRequest} JSON object per line. Keys are matched wherever
+     * they appear, which is unambiguous for the request schema: {@code amount} and
+     * {@code currency} only occur in {@code annualTurnover} and {@code dateOfBirth} only
+     * in {@code owners}.
+     */
+    static final class Ndjson extends LoanBookDecoder {
+
+        private static final byte[] DATE_OF_INCORPORATION = ascii("dateOfIncorporation");
+        private static final byte[] AMOUNT = ascii("amount");
+        private static final byte[] CURRENCY = ascii("currency");
+        private static final byte[] DATE_OF_BIRTH = ascii("dateOfBirth");
+        private static final byte[] REQUESTED_AMOUNT = ascii("requestedAmount");
+
+        Ndjson(LocalDate today) {
+            super(today);
+        }
+
+        @Override
+        protected void decodeLine(int from, int to) {
+            int i = from;
+            while (i < to) {
+                if (buffer.get(i) != '"') {
+                    i++;
+                    continue;
+                }
+                int keyStart = i + 1;
+                int keyEnd = endOfString(keyStart, to);
+                int colon = skipWhitespace(keyEnd + 1, to);
+                if (colon >= to || buffer.get(colon) != ':') {
+                    // A string value rather than a key
+                    i = keyEnd + 1;
+                    continue;
+                }
+                int value = skipWhitespace(colon + 1, to);
+                if (matches(keyStart, keyEnd, DATE_OF_INCORPORATION)) {
+                    i = stringValue(value, to);
+                    dateOfIncorporation = i > value ? parseDate(value + 1, i - 1) : NO_DATE;
+                } else if (matches(keyStart, keyEnd, DATE_OF_BIRTH)) {
+                    i = stringValue(value, to);
+                    ownerBorn(i > value ? parseDate(value + 1, i - 1) : NO_DATE);
+                } else if (matches(keyStart, keyEnd, CURRENCY)) {
+                    i = stringValue(value, to);
+                    currency = i > value ? parseCurrency(value + 1, i - 1) : INVALID_CURRENCY;
+                } else if (matches(keyStart, keyEnd, AMOUNT)) {
+                    i = numberValue(value, to);
+                    turnover = parseNumber(value, i);
+                } else if (matches(keyStart, keyEnd, REQUESTED_AMOUNT)) {
+                    i = numberValue(value, to);
+                    requestedAmount = parseNumber(value, i);
+                } else {
+                    // Scan into the value, which may hold nested keys
+                    i = value;
+                }
+            }
+        }
+
+        /** Index of the closing quote of a string whose content starts at {@code from}. */
+        private int endOfString(int from, int to) {
+            int i = from;
+            while (i < to && buffer.get(i) != '"') {
+                i += buffer.get(i) == '\\' ? 2 : 1;
+            }
+            return Math.min(i, to);
+        }
+
+        /** Index just after a quoted value at {@code from}, or {@code from} if there is none. */
+        private int stringValue(int from, int to) {
+            if (from >= to || buffer.get(from) != '"') {
+                return from;
+            }
+            return Math.min(endOfString(from + 1, to) + 1, to);
+        }
+
+        private int numberValue(int from, int to) {
+            int i = from;
+            while (i < to && buffer.get(i) != ',' && buffer.get(i) != '}' && buffer.get(i) != ']') {
+                i++;
+            }
+            return i;
+        }
+
+        private static byte[] ascii(String value) {
+            return value.getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.starter.service;
+
+import com.example.starter.config.DecisionStoreProperties;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps every decision in a {@link DecisionLog} on local disk and looks them up by
+ * {@code decisionId}.
+ *
+ * <p>The request thread only enqueues the response. A single writer thread drains the
+ * queue in batches, appends each decision as JSON and records its position in a
+ * {@link DecisionIndex}. Until then the decision is served from a pending map, so it
+ * can be looked up as soon as it has been returned to the client.
+ *
+ * <p>If the queue is full, the request waits up to the enqueue timeout for room. This is a
+ * deliberate trade-off: an audit log that keeps up with every decision would make requests
+ * wait on disk, so past the timeout the decision is not persisted. Its {@code decisionId}
+ * and correlation ID are logged at WARN, so the gap can be reconciled, and
+ * {@link #dropped()} is incremented.
+ *
+ * <p>On startup the index is rebuilt from the record headers in the log.
+ */
+@Slf4j
+public class MappedDecisionStore implements DecisionStore, RiskDecisionListener, Closeable {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final DecisionLog decisionLog;
+    private final DecisionIndex index;
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private final BlockingQueue<RiskDecisionResponse> queue;
+    private final ConcurrentHashMap<String, RiskDecisionResponse> pending = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final long enqueueTimeoutNanos;
+    private final int batchSize;
+    private final boolean fsync;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public MappedDecisionStore(ObjectMapper objectMapper, DecisionStoreProperties properties) throws IOException {
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.enqueueTimeoutNanos = properties.getEnqueueTimeout().toNanos();
+        this.batchSize = properties.getBatchSize();
+        this.fsync = properties.isFsync();
+
+        long start = System.nanoTime();
+        DecisionIndex recovered = new DecisionIndex(1024);
+        this.decisionLog = DecisionLog.open(properties.getDirectory(),
+                Math.toIntExact(properties.getSegmentSize().toBytes()), recovered::put);
+        this.index = recovered;
+        log.info("Recovered {} decisions from {} segments of {} in {} ms", recovered.size(),
+                decisionLog.segmentCount(), properties.getDirectory(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        this.writer = new Thread(this::runWriter, "decision-store-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void onDecision(RiskDecisionRequest request, RiskDecisionResponse response) {
+        String decisionId = response.getDecisionId();
+        if (decisionId == null) {
+            return;
+        }
+        pending.put(decisionId, response);
+        if (!enqueue(response)) {
+            pending.remove(decisionId, response);
+            dropped.increment();
+            log.warn("Decision store queue full, decision not persisted: decisionId={}, correlationId={}",
+                    decisionId, response.getCorrelationId());
+        }
+    }
+
+    private boolean enqueue(RiskDecisionResponse response) {
+        if (queue.offer(response)) {
+            return true;
+        }
+        try {
+            return queue.offer(response, enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<RiskDecisionResponse> find(String decisionId) {
+        RiskDecisionResponse unwritten = pending.get(decisionId);
+        if (unwritten != null) {
+            return Optional.of(unwritten);
+        }
+
+        long hash = DecisionIndex.hash(decisionId);
+        List<Long> candidates = new ArrayList<>(1);
+        indexLock.readLock().lock();
+        try {
+            index.find(hash, position -> {
+                candidates.add(position);
+                return false;
+            });
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        for (long position : candidates) {
+            RiskDecisionResponse stored = read(position);
+            if (stored != null && decisionId.equals(stored.getDecisionId())) {
+                return Optional.of(stored);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        indexLock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /** Stops the writer once everything queued so far has been written. */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        decisionLog.close();
+    }
+
+    private void runWriter() {
+        List<RiskDecisionResponse> batch = new ArrayList<>(batchSize);
+        long[] hashes = new long[batchSize];
+        long[] positions = new long[batchSize];
+        while (running || !queue.isEmpty()) {
+            try {
+                RiskDecisionResponse first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                int written = append(batch, hashes, positions);
+                if (fsync) {
+                    decisionLog.force();
+                }
+                indexLock.writeLock().lock();
+                try {
+                    for (int i = 0; i < written; i++) {
+                        index.put(hashes[i], positions[i]);
+                    }
+                } finally {
+                    indexLock.writeLock().unlock();
+                }
+                for (RiskDecisionResponse response : batch) {
+                    pending.remove(response.getDecisionId(), response);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * @return how many leading entries of {@code hashes}/{@code positions} were filled
+     */
+    private int append(List<RiskDecisionResponse> batch, long[] hashes, long[] positions) {
+        int written = 0;
+        for (RiskDecisionResponse response : batch) {
+            try {
+                byte[] payload = objectMapper.writeValueAsBytes(response);
+                hashes[written] = DecisionIndex.hash(response.getDecisionId());
+                positions[written] = decisionLog.append(hashes[written], payload);
+                written++;
+            } catch (IOException | RuntimeException e) {
+                dropped.increment();
+                log.error("Failed to persist decisionId={}", response.getDecisionId(), e);
+            }
+        }
+        return written;
+    }
+
+    private RiskDecisionResponse read(long position) {
+        try {
+            return objectMapper.readValue(decisionLog.read(position), RiskDecisionResponse.class);
+        } catch (IOException e) {
+            log.warn("Unreadable decision record at segment {} offset {}", position >>> 32, (int) position, e);
+            return null;
+        }
+    }
+}
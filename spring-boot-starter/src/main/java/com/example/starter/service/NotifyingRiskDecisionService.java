@@ -0,0 +1,45 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Passes each decision made by the delegate to the registered {@link RiskDecisionListener}s.
+ */
+@Slf4j
+public class NotifyingRiskDecisionService implements RiskDecisionService {
+
+    private final RiskDecisionService delegate;
+    private final RiskDecisionListener[] listeners;
+
+    public NotifyingRiskDecisionService(RiskDecisionService delegate, List<RiskDecisionListener> listeners) {
+        this.delegate = delegate;
+        this.listeners = listeners.toArray(RiskDecisionListener[]::new);
+    }
+
+    @Override
+    public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
+        return notifyListeners(request, delegate.evaluate(request, correlationId));
+    }
+
+    @Override
+    public CompletableFuture<RiskDecisionResponse> evaluateAsync(RiskDecisionRequest request, String correlationId) {
+        return delegate.evaluateAsync(request, correlationId).thenApply(response -> notifyListeners(request, response));
+    }
+
+    private RiskDecisionResponse notifyListeners(RiskDecisionRequest request, RiskDecisionResponse response) {
+        for (RiskDecisionListener listener : listeners) {
+            try {
+                listener.onDecision(request, response);
+            } catch (RuntimeException e) {
+                log.warn("Decision listener {} failed for decisionId={}",
+                        listener.getClass().getSimpleName(), response.getDecisionId(), e);
+            }
+        }
+        return response;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.starter.service;
+
+import com.example.starter.config.BulkProperties;
+import com.example.starter.dto.BulkRiskDecisionResult;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Non-blocking front to {@link RiskDecisionService} for the WebFlux API.
+ *
+ * <p>Decisions go through {@link RiskDecisionService#evaluateAsync}, so waiting on the
+ * company registry never holds an event-loop thread. Bulk items are pulled from the
+ * request body on demand: at most {@code risk.bulk.max-in-flight} are requested ahead of
+ * the results written back, so a slow client or registry slows down reading rather than
+ * filling memory. Items are scored on the bulk executor, and each result is emitted as
+ * soon as it is ready, in completion order, exactly as {@link BulkRiskDecisionServiceImpl}
+ * does for the servlet API.
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRiskDecisionService {
+
+    private final RiskDecisionService riskDecisionService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Scheduler scheduler;
+    private final int maxInFlight;
+
+    public ReactiveRiskDecisionService(
+            RiskDecisionService riskDecisionService,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Qualifier("bulkScoringExecutor") ExecutorService executor,
+            BulkProperties properties) {
+        this.riskDecisionService = riskDecisionService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.scheduler = Schedulers.fromExecutorService(executor, "bulk-scoring");
+        this.maxInFlight = Math.max(1, properties.getMaxInFlight());
+    }
+
+    /** A {@code retryable} request's correlation ID came from the client, see {@link RiskDecisionService}. */
+    public Mono<RiskDecisionResponse> evaluate(RiskDecisionRequest request, String correlationId, boolean retryable) {
+        return Mono.fromFuture(() -> retryable
+                ? riskDecisionService.evaluateRetryableAsync(request, correlationId)
+                : riskDecisionService.evaluateAsync(request, correlationId));
+    }
+
+    /**
+     * Scores a stream of JSON items, one result per item. Per-item correlation IDs are
+     * {@code correlationId} suffixed with the item index. If the stream turns out to be
+     * malformed, the items before it are still scored and a final result reports where.
+     */
+    public Flux<BulkRiskDecisionResult> evaluateAll(Flux<JsonNode> items, String correlationId) {
+        AtomicLong received = new AtomicLong();
+        AtomicReference<BulkRiskDecisionResult> malformed = new AtomicReference<>();
+
+        return items
+                .doOnNext(item -> received.incrementAndGet())
+                .index()
+                .onErrorResume(DecodingException.class, e -> {
+                    // The stream itself is unreadable, so nothing after this point can be recovered.
+                    log.warn("Bulk request aborted on malformed JSON: items={}, correlationId={}",
+                            received.get(), correlationId);
+                    malformed.set(BulkRiskDecisionServiceImpl.rejected(
+                            received.get(), null, null, malformedMessage(e)));
+                    return Flux.empty();
+                })
+                .flatMap(item -> Mono.defer(() -> evaluateItem(
+                                        item.getT1(), item.getT2(), correlationId + "-" + item.getT1()))
+                                .subscribeOn(scheduler),
+                        maxInFlight)
+                .concatWith(Mono.fromSupplier(malformed::get))
+                .doOnComplete(() -> {
+                    if (malformed.get() == null) {
+                        log.info("Bulk request completed: items={}, correlationId={}", received.get(), correlationId);
+                    }
+                });
+    }
+
+    private Mono<BulkRiskDecisionResult> evaluateItem(long index, JsonNode item, String correlationId) {
+        RiskDecisionRequest request;
+        try {
+            request = objectMapper.readValue(objectMapper.treeAsTokens(item), RiskDecisionRequest.class);
+        } catch (JsonMappingException e) {
+            // Never echo the rejected value back: it may be a date of birth or a name.
+            return Mono.just(BulkRiskDecisionServiceImpl.rejected(
+                    index, correlationId, BulkRiskDecisionServiceImpl.fieldPath(e), "Invalid value"));
+        } catch (IOException e) {
+            return Mono.just(failed(index, correlationId, e));
+        }
+
+        List<BulkRiskDecisionResult.FieldError> errors = BulkRiskDecisionServiceImpl.validate(validator, request);
+        if (!errors.isEmpty()) {
+            return Mono.just(BulkRiskDecisionResult.builder()
+                    .index(index)
+                    .correlationId(correlationId)
+                    .errors(errors)
+                    .build());
+        }
+        // Bulk items are not recorded for velocity; the engine runs on the subscribing thread
+        return Mono.fromFuture(() -> {
+                    try (VelocityRecording.Scope unrecorded = VelocityRecording.suspend()) {
+                        return riskDecisionService.evaluateAsync(request, correlationId);
+                    }
+                })
+                .map(decision -> BulkRiskDecisionResult.builder()
+                        .index(index)
+                        .correlationId(correlationId)
+                        .decision(decision)
+                        .build())
+                .onErrorResume(e -> Mono.just(failed(index, correlationId, e)));
+    }
+
+    private static BulkRiskDecisionResult failed(long index, String correlationId, Throwable e) {
+        log.warn("Bulk item failed: index={}, correlationId={}", index, correlationId, e);
+        return BulkRiskDecisionServiceImpl.rejected(index, correlationId, null, "Evaluation failed");
+    }
+
+    private static String malformedMessage(DecodingException e) {
+        JsonLocation location = e.getCause() instanceof JsonProcessingException cause ? cause.getLocation() : null;
+        return location == null
+                ? "Malformed JSON"
+                : "Malformed JSON at line " + location.getLineNr() + ", column " + location.getColumnNr();
+    }
+}
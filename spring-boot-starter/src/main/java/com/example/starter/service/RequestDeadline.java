@@ -0,0 +1,73 @@
+package com.example.starter.service;
+
+import com.example.starter.exception.DeadlineExceededException;
+
+/**
+ * The point in {@link System#nanoTime()} time by which a request must be answered.
+ *
+ * <p>Admission control binds each admitted request's deadline to the thread handling it,
+ * so that work that waits, such as the company registry lookup, can wait no longer than
+ * the request has left. Threads without a bound deadline see {@link #NONE}.
+ */
+public final class RequestDeadline {
+
+    public static final RequestDeadline NONE = new RequestDeadline(0, false);
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final boolean bounded;
+
+    private RequestDeadline(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+
+    /** A deadline {@code budgetNanos} from now. */
+    public static RequestDeadline in(long budgetNanos) {
+        return new RequestDeadline(System.nanoTime() + budgetNanos, true);
+    }
+
+    /** The deadline bound to this thread, or {@link #NONE}. */
+    public static RequestDeadline current() {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline != null ? deadline : NONE;
+    }
+
+    /** Binds this deadline to the calling thread until the returned scope is closed. */
+    public Scope bind() {
+        RequestDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /** Nanoseconds left, never negative, or {@link Long#MAX_VALUE} for {@link #NONE}. */
+    public long remainingNanos() {
+        return bounded ? Math.max(0, deadlineNanos - System.nanoTime()) : Long.MAX_VALUE;
+    }
+
+    public boolean expired() {
+        return bounded && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    /** @throws DeadlineExceededException if the deadline has passed */
+    public void check() {
+        if (expired()) {
+            throw new DeadlineExceededException();
+        }
+    }
+
+    /** A bound deadline, restored to the one before it on close. */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 64-bit hash of the canonical content of a {@link RiskDecisionRequest}.
+ *
+ * <p>Fields are hashed in a fixed order independent of JSON layout, {@code -0.0} is
+ * treated as {@code 0.0}, and owners are combined order-independently, so two requests
+ * that must receive the same decision hash the same.
+ */
+public final class RequestFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private RequestFingerprint() {
+    }
+
+    public static long of(RiskDecisionRequest request) {
+        long hash = FNV_OFFSET_BASIS;
+
+        RiskDecisionRequest.Client client = request.getClient();
+        if (client != null) {
+            hash = mix(hash, client.getCustomerId());
+            hash = mix(hash, client.getCountryOfApplication());
+        }
+
+        RiskDecisionRequest.Business business = request.getBusiness();
+        if (business != null) {
+            hash = mix(hash, business.getLegalName());
+            hash = mix(hash, business.getCountryOfIncorporation());
+            hash = mix(hash, business.getDateOfIncorporation());
+            RiskDecisionRequest.AnnualTurnover turnover = business.getAnnualTurnover();
+            if (turnover != null) {
+                hash = mix(hash, turnover.getAmount());
+                hash = mix(hash, turnover.getCurrency());
+            }
+        }
+
+        List<RiskDecisionRequest.Owner> owners = request.getOwners();
+        if (owners != null) {
+            long ownersHash = 0;
+            for (int i = 0, size = owners.size(); i < size; i++) {
+                RiskDecisionRequest.Owner owner = owners.get(i);
+                long ownerHash = mix(mix(FNV_OFFSET_BASIS, owner.getFullName()), owner.getDateOfBirth());
+                ownersHash += finish(ownerHash);
+            }
+            hash = mix(hash, ownersHash);
+            hash = mix(hash, owners.size());
+        }
+
+        RiskDecisionRequest.Loan loan = request.getLoan();
+        if (loan != null) {
+            hash = mix(hash, loan.getRequestedAmount());
+        }
+
+        return finish(hash);
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, -1L);
+        }
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // Length terminator keeps ("ab", "c") and ("a", "bc") apart
+        return mix(hash, value.length());
+    }
+
+    private static long mix(long hash, LocalDate value) {
+        return mix(hash, value == null ? Long.MIN_VALUE : value.toEpochDay());
+    }
+
+    private static long mix(long hash, double value) {
+        return mix(hash, Double.doubleToLongBits(value == 0.0 ? 0.0 : value));
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /** MurmurHash3 fmix64 finalizer, spreads FNV's weak high bits. */
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
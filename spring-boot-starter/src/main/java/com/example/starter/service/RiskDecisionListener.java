@@ -0,0 +1,19 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+
+/**
+ * Told about every new decision as it is returned, after enrichment and screening. Replays
+ * of cached decisions are not reported again. A {@link ScoringEngineListener} sees the
+ * scoring engine's own decisions instead.
+ *
+ * <p>Called on the request thread after the decision has been made, so implementations
+ * must hand off anything slow rather than doing it inline. Exceptions are logged and
+ * never reach the caller.
+ */
+@FunctionalInterface
+public interface RiskDecisionListener {
+
+    void onDecision(RiskDecisionRequest request, RiskDecisionResponse response);
+}
@@ -3,7 +3,37 @@ package com.example.starter.service;
 import com.example.starter.dto.RiskDecisionRequest;
 import com.example.starter.dto.RiskDecisionResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface RiskDecisionService {
 
     RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId);
+
+    /**
+     * Evaluates without waiting on remote calls, for callers that must not block. Layers
+     * that call out, such as registry enrichment, override this; scoring itself is
+     * CPU-bound, so by default it runs on the calling thread.
+     */
+    default CompletableFuture<RiskDecisionResponse> evaluateAsync(RiskDecisionRequest request, String correlationId) {
+        try {
+            return CompletableFuture.completedFuture(evaluate(request, correlationId));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * As {@link #evaluate}, for a correlation ID the client supplied. Only such an ID can
+     * mark a request as a retry of an earlier one, so layers that replay earlier decisions
+     * override this; by default it is a plain evaluation.
+     */
+    default RiskDecisionResponse evaluateRetryable(RiskDecisionRequest request, String correlationId) {
+        return evaluate(request, correlationId);
+    }
+
+    /** As {@link #evaluateAsync}, for a correlation ID the client supplied. */
+    default CompletableFuture<RiskDecisionResponse> evaluateRetryableAsync(RiskDecisionRequest request,
+                                                                          String correlationId) {
+        return evaluateAsync(request, correlationId);
+    }
 }
@@ -2,88 +2,186 @@ package com.example.starter.service;
 
 import com.example.starter.dto.RiskDecisionRequest;
 import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.ReasonCode;
 import com.example.starter.model.RiskDecision;
+import com.example.starter.model.ScoringRules;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Service
+@Qualifier("scoringEngine")
+@ConditionalOnProperty(name = "risk.scoring.engine", havingValue = "default", matchIfMissing = true)
 public class RiskDecisionServiceImpl implements RiskDecisionService {
 
+    private final Clock clock;
+    private final ScoringFactorTimers factorTimers;
+    private final RuleSetHolder ruleSets;
+    private final FxRatesHolder fxRates;
+    private final AgeCalculator ageCalculator;
+    private final IdGenerator idGenerator;
+    private final VelocityTracker velocityTracker;
+
+    @Autowired
+    public RiskDecisionServiceImpl(MeterRegistry meterRegistry, RuleSetHolder ruleSets, FxRatesHolder fxRates,
+                                   IdGenerator idGenerator, VelocityTracker velocityTracker) {
+        this(Clock.systemDefaultZone(), new ScoringFactorTimers(meterRegistry), ruleSets, fxRates, idGenerator,
+                velocityTracker);
+    }
+
+    RiskDecisionServiceImpl(Clock clock, ScoringFactorTimers factorTimers, RuleSetHolder ruleSets,
+                            FxRatesHolder fxRates, IdGenerator idGenerator, VelocityTracker velocityTracker) {
+        this.clock = clock;
+        this.factorTimers = factorTimers;
+        this.ruleSets = ruleSets;
+        this.fxRates = fxRates;
+        this.ageCalculator = new AgeCalculator(clock);
+        this.idGenerator = idGenerator;
+        this.velocityTracker = velocityTracker;
+    }
+
     @Override
     public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
-        // TODO: Implement this method.
-        //
-        // This is the main orchestration method. It should:
-        //   1. Call each scoring method to get points for each factor
-        //   2. Calculate a total score (capped at 100)
-        //   3. Determine the risk decision based on the score
-        //   4. Collect the reasons for the decision
-        //   5. Build and return a RiskDecisionResponse using the builder pattern
-        //
-        // The response must include: decisionId (UUID), riskDecision, riskScore,
-        // evaluatedFactors, reasons, createdAt, and correlationId.
-        throw new UnsupportedOperationException("Not yet implemented");
+        RiskDecisionRequest.Business business = request.getBusiness();
+        RiskDecisionRequest.Loan loan = request.getLoan();
+        RuleSet ruleSet = ruleSets.current();
+        ScoringRules rules = ruleSet.rules();
+        AgeCalculator.AgeCutoffs ageCutoffs = ageCalculator.cutoffs(ruleSet);
+        List<String> reasons = new ArrayList<>(4);
+
+        long start = System.nanoTime();
+        int companyAgePoints = calculateCompanyAgePoints(business, ruleSet, ageCutoffs, reasons);
+        long afterCompanyAge = System.nanoTime();
+        int turnoverPoints = calculateTurnoverPoints(business, ruleSet, fxRates.current(), reasons);
+        long afterTurnover = System.nanoTime();
+        int ownerAgePoints = calculateOwnerAgePoints(request.getOwners(), ruleSet, ageCutoffs, reasons);
+        long afterOwnerAge = System.nanoTime();
+        int loanToTurnoverPoints = calculateLoanToTurnoverPoints(loan, business, ruleSet, reasons);
+        long afterLoanToTurnover = System.nanoTime();
+        int velocityPoints = calculateVelocityPoints(request.getClient(), ruleSet, reasons);
+        long afterVelocity = System.nanoTime();
+
+        int totalScore = Math.min(RuleSet.MAX_SCORE,
+                companyAgePoints + turnoverPoints + ownerAgePoints + loanToTurnoverPoints + velocityPoints);
+        RiskDecision decision = determineDecision(totalScore, loan, business, rules);
+        factorTimers.record(start, afterCompanyAge, afterTurnover, afterOwnerAge, afterLoanToTurnover,
+                afterVelocity, System.nanoTime());
+
+        log.debug("Risk decision evaluated: decision={}, score={}, ruleVersion={}, correlationId={}",
+                decision, totalScore, ruleSet.version(), correlationId);
+
+        return RiskDecisionResponse.builder()
+                .decisionId(idGenerator.nextId())
+                .riskDecision(decision)
+                .riskScore(totalScore)
+                .evaluatedFactors(RiskDecisionResponse.EvaluatedFactors.builder()
+                        .companyAgePoints(companyAgePoints)
+                        .turnoverPoints(turnoverPoints)
+                        .ownerAgePoints(ownerAgePoints)
+                        .loanToTurnoverPoints(loanToTurnoverPoints)
+                        .velocityPoints(velocityPoints)
+                        .build())
+                .reasons(reasons)
+                .ruleVersion(ruleSet.version())
+                .createdAt(Instant.now(clock))
+                .correlationId(correlationId)
+                .build();
     }
 
-    private int calculateCompanyAgePoints(RiskDecisionRequest.Business business) {
-        // TODO: Implement company age scoring.
-        //
-        // Scoring rules:
-        //   - Less than 3 years old:  return 40
-        //   - 3 years or older:       return 0
+    private int calculateCompanyAgePoints(RiskDecisionRequest.Business business, RuleSet ruleSet,
+                                          AgeCalculator.AgeCutoffs ageCutoffs, List<String> reasons) {
+        ScoringRules rules = ruleSet.rules();
+        if (ageCutoffs.isYoungCompany(business.getDateOfIncorporation().toEpochDay())) {
+            reasons.add(ruleSet.reason(ReasonCode.YOUNG_COMPANY));
+            return rules.getYoungCompanyPoints();
+        }
         return 0;
     }
 
-    private int calculateTurnoverPoints(RiskDecisionRequest.Business business) {
-        // TODO: Implement annual turnover scoring.
-        //
-        // Scoring rules:
-        //   - Less than 100,000:             return 30
-        //   - Between 100,000 and 5,000,000: return 10
-        //   - Greater than 5,000,000:        return 25
-        return 0;
+    private int calculateTurnoverPoints(RiskDecisionRequest.Business business, RuleSet ruleSet, FxRates rates,
+                                        List<String> reasons) {
+        ScoringRules rules = ruleSet.rules();
+        RiskDecisionRequest.AnnualTurnover annualTurnover = business.getAnnualTurnover();
+        double turnover = rates.toBase(annualTurnover.getAmount(), annualTurnover.getCurrency());
+        if (turnover < rules.getLowTurnoverBelow()) {
+            reasons.add(ruleSet.reason(ReasonCode.LOW_TURNOVER));
+            return rules.getLowTurnoverPoints();
+        }
+        if (turnover <= rules.getMidTurnoverUpTo()) {
+            reasons.add(ruleSet.reason(ReasonCode.MID_TURNOVER));
+            return rules.getMidTurnoverPoints();
+        }
+        reasons.add(ruleSet.reason(ReasonCode.HIGH_TURNOVER));
+        return rules.getHighTurnoverPoints();
+    }
+
+    private int calculateOwnerAgePoints(List<RiskDecisionRequest.Owner> owners, RuleSet ruleSet,
+                                        AgeCalculator.AgeCutoffs ageCutoffs, List<String> reasons) {
+        ScoringRules rules = ruleSet.rules();
+        int band = ageCutoffs.youngestOwnerBand(owners);
+        if (band == AgeCalculator.AgeCutoffs.VERY_YOUNG_OWNER) {
+            reasons.add(ruleSet.reason(ReasonCode.VERY_YOUNG_OWNER));
+            return rules.getVeryYoungOwnerPoints();
+        }
+        if (band == AgeCalculator.AgeCutoffs.YOUNG_OWNER) {
+            reasons.add(ruleSet.reason(ReasonCode.YOUNG_OWNER));
+            return rules.getYoungOwnerPoints();
+        }
+        reasons.add(ruleSet.reason(ReasonCode.MATURE_OWNER));
+        return rules.getMatureOwnerPoints();
     }
 
-    private int calculateOwnerAgePoints(List<RiskDecisionRequest.Owner> owners) {
-        // TODO: Implement owner age scoring based on the YOUNGEST owner.
-        //
-        // Scoring rules:
-        //   - Age 18 to 21:  return 30
-        //   - Age 21 to 25:  return 15
-        //   - Age 25+:       return 5
+    private int calculateLoanToTurnoverPoints(RiskDecisionRequest.Loan loan, RiskDecisionRequest.Business business,
+                                              RuleSet ruleSet, List<String> reasons) {
+        ScoringRules rules = ruleSet.rules();
+        double ratio = loanToTurnoverRatio(loan, business);
+        if (ratio > rules.getHighRatioAbove()) {
+            reasons.add(ruleSet.reason(ReasonCode.HIGH_LOAN_TO_TURNOVER));
+            return rules.getHighRatioPoints();
+        }
+        if (ratio > rules.getElevatedRatioAbove()) {
+            reasons.add(ruleSet.reason(ReasonCode.ELEVATED_LOAN_TO_TURNOVER));
+            return rules.getElevatedRatioPoints();
+        }
         return 0;
     }
 
-    private int calculateLoanToTurnoverPoints(
-            RiskDecisionRequest.Loan loan, RiskDecisionRequest.Business business) {
-        // TODO: Implement loan-to-turnover ratio scoring.
-        //
-        // Scoring rules (apply the HIGHEST matching threshold only):
-        //   - Ratio > 20%:  return 30
-        //   - Ratio > 15%:  return 10
-        //   - Ratio < 10%:  return 0
+    private int calculateVelocityPoints(RiskDecisionRequest.Client client, RuleSet ruleSet, List<String> reasons) {
+        ScoringRules rules = ruleSet.rules();
+        if (VelocityRecording.record(velocityTracker, client.getCustomerId()) > rules.getHighVelocityAbove()) {
+            reasons.add(ruleSet.reason(ReasonCode.HIGH_VELOCITY));
+            return rules.getHighVelocityPoints();
+        }
         return 0;
     }
 
-    private RiskDecision determineDecision(
-            int totalScore, RiskDecisionRequest.Loan loan, RiskDecisionRequest.Business business) {
-        // TODO: Implement decision mapping.
-        //
-        // Decision rules:
-        //   - If loan-to-turnover ratio > 20%: return DECLINE (regardless of score)
-        //   - Score 0 to 33 AND ratio < 10%:   return APPROVE
-        //   - Score 34 to 66:                   return REFER
-        //   - Score 67 to 100:                  return DECLINE
-        return RiskDecision.APPROVE;
+    private RiskDecision determineDecision(int totalScore, RiskDecisionRequest.Loan loan,
+                                           RiskDecisionRequest.Business business, ScoringRules rules) {
+        double ratio = loanToTurnoverRatio(loan, business);
+        if (ratio > rules.getHighRatioAbove() || totalScore > rules.getDeclineAbove()) {
+            return RiskDecision.DECLINE;
+        }
+        if (totalScore > rules.getReferAbove()) {
+            return RiskDecision.REFER;
+        }
+        // A low score only approves outright when the loan is small relative to turnover
+        return ratio < rules.getApprovableRatioBelow() ? RiskDecision.APPROVE : RiskDecision.REFER;
     }
 
-    private List<String> buildReasons(
-            int companyAgePoints, int turnoverPoints, int ownerAgePoints, int loanToTurnoverPoints) {
-        // TODO: Return a list of human-readable reason strings for any factor that scored points.
-        return new ArrayList<>();
+    private static double loanToTurnoverRatio(RiskDecisionRequest.Loan loan, RiskDecisionRequest.Business business) {
+        double turnover = business.getAnnualTurnover().getAmount();
+        if (turnover <= 0) {
+            return loan.getRequestedAmount() > 0 ? Double.POSITIVE_INFINITY : 0;
+        }
+        return loan.getRequestedAmount() / turnover;
     }
 }
@@ -0,0 +1,208 @@
+package com.example.starter.service;
+
+import com.example.starter.model.ReasonCode;
+import com.example.starter.model.RiskDecision;
+import com.example.starter.model.ScoringRules;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A validated {@link ScoringRules} plus everything the scoring engines derive from it.
+ *
+ * <p>Compiling does all the work that does not depend on a request: reason texts with
+ * the thresholds filled in, band bounds and points as arrays, the decision for every
+ * (ratio band, score) pair and the reason list for every reason bitmask. A rule set is
+ * immutable once compiled, so an evaluation that started on one keeps a consistent view
+ * even if a newer one is swapped in meanwhile.
+ */
+public final class RuleSet {
+
+    static final int MAX_SCORE = 100;
+
+    static final int APPROVABLE_RATIO_BAND = 0;
+    static final int DECLINE_RATIO_BAND = 3;
+
+    private static final RuleSet DEFAULTS = compile(new ScoringRules());
+
+    private final ScoringRules rules;
+    private final String[] reasonTexts;
+
+    // A value falls into band i when it is below bound i; the last band has no bound.
+    // Math.nextUp turns the inclusive upper limits of the rules into exclusive bounds.
+    final double[] turnoverBounds;
+    final int[] turnoverPoints;
+    final int[] turnoverReasons;
+    final double[] ratioBounds;
+    final int[] ratioPoints;
+    final int[] ratioReasons;
+    final int[] ownerPoints;
+    final int[] ownerReasons;
+    final RiskDecision[][] decisions;
+    final List<String>[] reasonLists;
+
+    private RuleSet(ScoringRules rules) {
+        this.rules = rules;
+        this.reasonTexts = describeReasons(rules);
+
+        this.turnoverBounds = new double[]{rules.getLowTurnoverBelow(), Math.nextUp(rules.getMidTurnoverUpTo())};
+        this.turnoverPoints = new int[]{
+                rules.getLowTurnoverPoints(), rules.getMidTurnoverPoints(), rules.getHighTurnoverPoints()};
+        this.turnoverReasons = new int[]{
+                ReasonCode.LOW_TURNOVER.mask(), ReasonCode.MID_TURNOVER.mask(), ReasonCode.HIGH_TURNOVER.mask()};
+
+        this.ratioBounds = new double[]{rules.getApprovableRatioBelow(),
+                Math.nextUp(rules.getElevatedRatioAbove()), Math.nextUp(rules.getHighRatioAbove())};
+        this.ratioPoints = new int[]{0, 0, rules.getElevatedRatioPoints(), rules.getHighRatioPoints()};
+        this.ratioReasons = new int[]{
+                0, 0, ReasonCode.ELEVATED_LOAN_TO_TURNOVER.mask(), ReasonCode.HIGH_LOAN_TO_TURNOVER.mask()};
+
+        this.ownerPoints = new int[]{
+                rules.getVeryYoungOwnerPoints(), rules.getYoungOwnerPoints(), rules.getMatureOwnerPoints()};
+        this.ownerReasons = new int[]{
+                ReasonCode.VERY_YOUNG_OWNER.mask(), ReasonCode.YOUNG_OWNER.mask(), ReasonCode.MATURE_OWNER.mask()};
+
+        this.decisions = compileDecisions(rules);
+        this.reasonLists = compileReasonLists(reasonTexts);
+    }
+
+    /** The built-in rules. */
+    public static RuleSet defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the rules are incomplete or inconsistent
+     */
+    public static RuleSet compile(ScoringRules rules) {
+        List<String> problems = new ArrayList<>();
+        if (rules.getVersion() == null || rules.getVersion().isBlank()) {
+            problems.add("version is required");
+        }
+        if (rules.getYoungCompanyYears() < 0) {
+            problems.add("youngCompanyYears must not be negative");
+        }
+        if (!(rules.getLowTurnoverBelow() <= rules.getMidTurnoverUpTo())) {
+            problems.add("lowTurnoverBelow must not be above midTurnoverUpTo");
+        }
+        if (rules.getVeryYoungOwnerUnder() < 0 || rules.getVeryYoungOwnerUnder() > rules.getYoungOwnerUnder()) {
+            problems.add("veryYoungOwnerUnder must be between 0 and youngOwnerUnder");
+        }
+        if (!(0 <= rules.getApprovableRatioBelow()
+                && rules.getApprovableRatioBelow() <= rules.getElevatedRatioAbove()
+                && rules.getElevatedRatioAbove() <= rules.getHighRatioAbove())) {
+            problems.add("ratio thresholds must satisfy 0 <= approvableRatioBelow <= elevatedRatioAbove <= highRatioAbove");
+        }
+        if (rules.getHighVelocityAbove() < 1) {
+            problems.add("highVelocityAbove must be at least 1");
+        }
+        if (!(0 <= rules.getReferAbove() && rules.getReferAbove() <= rules.getDeclineAbove()
+                && rules.getDeclineAbove() <= MAX_SCORE)) {
+            problems.add("decision boundaries must satisfy 0 <= referAbove <= declineAbove <= " + MAX_SCORE);
+        }
+        int[] points = {rules.getYoungCompanyPoints(), rules.getLowTurnoverPoints(), rules.getMidTurnoverPoints(),
+                rules.getHighTurnoverPoints(), rules.getVeryYoungOwnerPoints(), rules.getYoungOwnerPoints(),
+                rules.getMatureOwnerPoints(), rules.getElevatedRatioPoints(), rules.getHighRatioPoints(),
+                rules.getHighVelocityPoints()};
+        for (int value : points) {
+            if (value < 0 || value > MAX_SCORE) {
+                problems.add("points must be between 0 and " + MAX_SCORE);
+                break;
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("Invalid scoring rules " + rules.getVersion() + ": "
+                    + String.join("; ", problems));
+        }
+        return new RuleSet(rules);
+    }
+
+    public String version() {
+        return rules.getVersion();
+    }
+
+    public String reason(ReasonCode code) {
+        return reasonTexts[code.ordinal()];
+    }
+
+    /** Whether both sets were compiled from equal rules, version included. */
+    public boolean sameRules(RuleSet other) {
+        return rules.equals(other.rules);
+    }
+
+    /** The rules this set was compiled from; callers must not modify them. */
+    ScoringRules rules() {
+        return rules;
+    }
+
+    private static String[] describeReasons(ScoringRules rules) {
+        String[] texts = new String[ReasonCode.values().length];
+        String lowTurnover = amount(rules.getLowTurnoverBelow());
+        String midTurnover = amount(rules.getMidTurnoverUpTo());
+        String veryYoungOwner = String.valueOf(rules.getVeryYoungOwnerUnder());
+        String youngOwner = String.valueOf(rules.getYoungOwnerUnder());
+        texts[ReasonCode.YOUNG_COMPANY.ordinal()] =
+                ReasonCode.YOUNG_COMPANY.describe(String.valueOf(rules.getYoungCompanyYears()));
+        texts[ReasonCode.LOW_TURNOVER.ordinal()] = ReasonCode.LOW_TURNOVER.describe(lowTurnover);
+        texts[ReasonCode.MID_TURNOVER.ordinal()] = ReasonCode.MID_TURNOVER.describe(lowTurnover, midTurnover);
+        texts[ReasonCode.HIGH_TURNOVER.ordinal()] = ReasonCode.HIGH_TURNOVER.describe(midTurnover);
+        texts[ReasonCode.VERY_YOUNG_OWNER.ordinal()] = ReasonCode.VERY_YOUNG_OWNER.describe(veryYoungOwner);
+        texts[ReasonCode.YOUNG_OWNER.ordinal()] = ReasonCode.YOUNG_OWNER.describe(veryYoungOwner, youngOwner);
+        texts[ReasonCode.MATURE_OWNER.ordinal()] = ReasonCode.MATURE_OWNER.describe(youngOwner);
+        texts[ReasonCode.HIGH_LOAN_TO_TURNOVER.ordinal()] =
+                ReasonCode.HIGH_LOAN_TO_TURNOVER.describe(percent(rules.getHighRatioAbove()));
+        texts[ReasonCode.ELEVATED_LOAN_TO_TURNOVER.ordinal()] =
+                ReasonCode.ELEVATED_LOAN_TO_TURNOVER.describe(percent(rules.getElevatedRatioAbove()));
+        texts[ReasonCode.HIGH_VELOCITY.ordinal()] =
+                ReasonCode.HIGH_VELOCITY.describe(String.valueOf(rules.getHighVelocityAbove()));
+        return texts;
+    }
+
+    private static RiskDecision[][] compileDecisions(ScoringRules rules) {
+        RiskDecision[][] decisions = new RiskDecision[DECLINE_RATIO_BAND + 1][MAX_SCORE + 1];
+        for (int ratioBand = 0; ratioBand < decisions.length; ratioBand++) {
+            for (int score = 0; score <= MAX_SCORE; score++) {
+                RiskDecision decision;
+                if (ratioBand == DECLINE_RATIO_BAND || score > rules.getDeclineAbove()) {
+                    decision = RiskDecision.DECLINE;
+                } else if (score > rules.getReferAbove()) {
+                    decision = RiskDecision.REFER;
+                } else {
+                    decision = ratioBand == APPROVABLE_RATIO_BAND ? RiskDecision.APPROVE : RiskDecision.REFER;
+                }
+                decisions[ratioBand][score] = decision;
+            }
+        }
+        return decisions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] compileReasonLists(String[] reasonTexts) {
+        ReasonCode[] codes = ReasonCode.values();
+        List<String>[] lists = new List[1 << codes.length];
+        for (int mask = 0; mask < lists.length; mask++) {
+            List<String> reasons = new ArrayList<>();
+            for (ReasonCode code : codes) {
+                if ((mask & code.mask()) != 0) {
+                    reasons.add(reasonTexts[code.ordinal()]);
+                }
+            }
+            lists[mask] = List.copyOf(reasons);
+        }
+        return lists;
+    }
+
+    /** Whole amounts with thousands separators, e.g. 100,000. */
+    private static String amount(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+                ? String.format(Locale.ROOT, "%,d", (long) value)
+                : String.format(Locale.ROOT, "%,.2f", value);
+    }
+
+    /** A ratio as a percentage without trailing zeros, e.g. 0.125 as 12.5. */
+    private static String percent(double ratio) {
+        return BigDecimal.valueOf(ratio).movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+}
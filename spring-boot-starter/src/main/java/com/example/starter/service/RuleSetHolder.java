@@ -0,0 +1,24 @@
+package com.example.starter.service;
+
+/**
+ * The rule set new evaluations are scored with.
+ *
+ * <p>Engines read {@link #current()} once per evaluation and use that instance
+ * throughout, so replacing it never affects an evaluation already in progress.
+ */
+public class RuleSetHolder {
+
+    private volatile RuleSet current;
+
+    public RuleSetHolder(RuleSet initial) {
+        this.current = initial;
+    }
+
+    public RuleSet current() {
+        return current;
+    }
+
+    public void update(RuleSet ruleSet) {
+        this.current = ruleSet;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+
+/**
+ * Told about every decision the scoring engine itself makes, before company registry
+ * enrichment or sanctions screening adjust it. Use a {@link RiskDecisionListener} to see
+ * the decisions actually returned.
+ *
+ * <p>Called on the scoring thread as soon as the engine returns. Enrichment and screening
+ * then update the same response in place, so implementations must read what they need
+ * before returning rather than keep the response for later. Exceptions are logged and
+ * never reach the caller.
+ */
+@FunctionalInterface
+public interface ScoringEngineListener {
+
+    void onDecision(RiskDecisionRequest request, RiskDecisionResponse response);
+}
@@ -0,0 +1,64 @@
+package com.example.starter.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code risk.scoring.factor} timers for the individual scoring steps of
+ * {@link RiskDecisionServiceImpl}.
+ */
+public class ScoringFactorTimers {
+
+    public static final ScoringFactorTimers NOOP = new ScoringFactorTimers();
+
+    private final Timer companyAge;
+    private final Timer turnover;
+    private final Timer ownerAge;
+    private final Timer loanToTurnover;
+    private final Timer velocity;
+    private final Timer decision;
+
+    public ScoringFactorTimers(MeterRegistry registry) {
+        this.companyAge = timer(registry, "companyAge");
+        this.turnover = timer(registry, "turnover");
+        this.ownerAge = timer(registry, "ownerAge");
+        this.loanToTurnover = timer(registry, "loanToTurnover");
+        this.velocity = timer(registry, "velocity");
+        this.decision = timer(registry, "decision");
+    }
+
+    private ScoringFactorTimers() {
+        this.companyAge = null;
+        this.turnover = null;
+        this.ownerAge = null;
+        this.loanToTurnover = null;
+        this.velocity = null;
+        this.decision = null;
+    }
+
+    /**
+     * Records each step from consecutive {@link System#nanoTime()} readings taken
+     * between the steps.
+     */
+    void record(long start, long afterCompanyAge, long afterTurnover, long afterOwnerAge,
+                long afterLoanToTurnover, long afterVelocity, long afterDecision) {
+        if (this == NOOP) {
+            return;
+        }
+        companyAge.record(afterCompanyAge - start, TimeUnit.NANOSECONDS);
+        turnover.record(afterTurnover - afterCompanyAge, TimeUnit.NANOSECONDS);
+        ownerAge.record(afterOwnerAge - afterTurnover, TimeUnit.NANOSECONDS);
+        loanToTurnover.record(afterLoanToTurnover - afterOwnerAge, TimeUnit.NANOSECONDS);
+        velocity.record(afterVelocity - afterLoanToTurnover, TimeUnit.NANOSECONDS);
+        decision.record(afterDecision - afterVelocity, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry registry, String factor) {
+        return Timer.builder("risk.scoring.factor")
+                .description("Time spent computing each scoring factor")
+                .tag("factor", factor)
+                .register(registry);
+    }
+}
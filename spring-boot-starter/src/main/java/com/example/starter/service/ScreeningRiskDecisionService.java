@@ -0,0 +1,55 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Screens each request's names with the {@link WatchlistScreener} and applies any match to
+ * the delegate's decision: a sanctions match declines it, a close sanctions match or a PEP
+ * match stops an outright approval by referring it, and each adds its reason. The score
+ * is left as the rules computed it.
+ */
+public class ScreeningRiskDecisionService implements RiskDecisionService {
+
+    private final RiskDecisionService delegate;
+    private final WatchlistScreener screener;
+
+    public ScreeningRiskDecisionService(RiskDecisionService delegate, WatchlistScreener screener) {
+        this.delegate = delegate;
+        this.screener = screener;
+    }
+
+    @Override
+    public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
+        WatchlistScreener.Screening screening = screener.screen(request);
+        return apply(delegate.evaluate(request, correlationId), screening);
+    }
+
+    @Override
+    public CompletableFuture<RiskDecisionResponse> evaluateAsync(RiskDecisionRequest request, String correlationId) {
+        // Screening takes microseconds, so it runs on the calling thread
+        WatchlistScreener.Screening screening = screener.screen(request);
+        return delegate.evaluateAsync(request, correlationId).thenApply(response -> apply(response, screening));
+    }
+
+    private static RiskDecisionResponse apply(RiskDecisionResponse response, WatchlistScreener.Screening screening) {
+        if (screening.outcome() == WatchlistScreener.Outcome.CLEAR) {
+            return response;
+        }
+        List<String> reasons = new ArrayList<>(response.getReasons().size() + screening.reasons().size());
+        reasons.addAll(response.getReasons());
+        reasons.addAll(screening.reasons());
+        response.setReasons(reasons);
+        if (screening.outcome().decision() == RiskDecision.DECLINE) {
+            response.setRiskDecision(RiskDecision.DECLINE);
+        } else if (response.getRiskDecision() == RiskDecision.APPROVE) {
+            response.setRiskDecision(RiskDecision.REFER);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * Scores a sample of the scoring engine's decisions again with a candidate
+ * {@link RiskDecisionService} and counts how the candidate's decisions differ. Both are
+ * compared as the engines made them, before enrichment or screening adjust the one
+ * returned.
+ *
+ * <p>The request thread only rolls the sampling dice and offers a task to the
+ * executor. The executor's threads and queue are the whole budget: when the queue is
+ * full the sample is dropped and counted, never run inline. The candidate's responses
+ * are only compared, never returned, stored or reported to other listeners.
+ */
+@Slf4j
+public class ShadowScoringListener implements ScoringEngineListener, Closeable {
+
+    /** Points compared between primary and candidate, named like the {@code risk.scoring.factor} timers. */
+    public enum Factor {
+        COMPANY_AGE("companyAge", response -> response.getEvaluatedFactors().getCompanyAgePoints()),
+        TURNOVER("turnover", response -> response.getEvaluatedFactors().getTurnoverPoints()),
+        OWNER_AGE("ownerAge", response -> response.getEvaluatedFactors().getOwnerAgePoints()),
+        LOAN_TO_TURNOVER("loanToTurnover", response -> response.getEvaluatedFactors().getLoanToTurnoverPoints()),
+        VELOCITY("velocity", response -> response.getEvaluatedFactors().getVelocityPoints()),
+        TOTAL("total", RiskDecisionResponse::getRiskScore);
+
+        private final String tag;
+        private final ToIntFunction<RiskDecisionResponse> points;
+
+        Factor(String tag, ToIntFunction<RiskDecisionResponse> points) {
+            this.tag = tag;
+            this.points = points;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private static final RiskDecision[] DECISIONS = RiskDecision.values();
+    private static final Factor[] FACTORS = Factor.values();
+
+    private final RiskDecisionService candidate;
+    private final double sampleRate;
+    private final ExecutorService executor;
+
+    private final LongAdder[][] transitions = new LongAdder[DECISIONS.length][DECISIONS.length];
+    private final LongAdder[] pointsRaised = new LongAdder[FACTORS.length];
+    private final LongAdder[] pointsLowered = new LongAdder[FACTORS.length];
+    private final LongAdder compared = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public ShadowScoringListener(RiskDecisionService candidate, double sampleRate, ExecutorService executor) {
+        this.candidate = candidate;
+        this.sampleRate = sampleRate;
+        this.executor = executor;
+        for (LongAdder[] row : transitions) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new LongAdder();
+            }
+        }
+        for (int i = 0; i < FACTORS.length; i++) {
+            pointsRaised[i] = new LongAdder();
+            pointsLowered[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void onDecision(RiskDecisionRequest request, RiskDecisionResponse response) {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        // Enrichment and screening change the decision in place once this returns, but never the points
+        RiskDecision decision = response.getRiskDecision();
+        boolean unrecorded = VelocityRecording.suspended();
+        try {
+            executor.execute(() -> compare(request, response, decision, unrecorded));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    /** Decisions the primary made as {@code primary} and the candidate as {@code shadow}. */
+    public long transitions(RiskDecision primary, RiskDecision shadow) {
+        return transitions[primary.ordinal()][shadow.ordinal()].sum();
+    }
+
+    /** Total points by which the candidate scored a factor higher than the primary. */
+    public long pointsRaised(Factor factor) {
+        return pointsRaised[factor.ordinal()].sum();
+    }
+
+    /** Total points by which the candidate scored a factor lower than the primary. */
+    public long pointsLowered(Factor factor) {
+        return pointsLowered[factor.ordinal()].sum();
+    }
+
+    public long compared() {
+        return compared.sum();
+    }
+
+    /** Samples not scored because the queue was full. */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /** Samples the candidate failed to score. */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /** Discards queued samples and stops the executor. */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void compare(RiskDecisionRequest request, RiskDecisionResponse primary, RiskDecision primaryDecision,
+                         boolean unrecorded) {
+        RiskDecisionResponse shadow;
+        // Count velocity as the primary did: a bulk item was not recorded before the candidate reads the count
+        try (VelocityRecording.Scope scope = unrecorded ? VelocityRecording.suspend() : () -> { }) {
+            shadow = candidate.evaluate(request, primary.getCorrelationId());
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.debug("Shadow scoring failed for decisionId={}", primary.getDecisionId(), e);
+            return;
+        }
+        transitions[primaryDecision.ordinal()][shadow.getRiskDecision().ordinal()].increment();
+        for (Factor factor : FACTORS) {
+            int delta = factor.points.applyAsInt(shadow) - factor.points.applyAsInt(primary);
+            if (delta > 0) {
+                pointsRaised[factor.ordinal()].add(delta);
+            } else if (delta < 0) {
+                pointsLowered[factor.ordinal()].add(-delta);
+            }
+        }
+        compared.increment();
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.starter.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link VelocityTracker} over a window split into time buckets, in memory fixed up front.
+ *
+ * <p>Customers are keyed by a 64-bit hash of their ID and spread over lock stripes. Each
+ * stripe is an open-addressing table of primitive arrays holding, per customer, the
+ * hash, the newest bucket they applied in and a count per bucket. An update locks only its
+ * stripe, and nothing is allocated per customer or per request, so the garbage collector
+ * never sees the table however many customers pass through. The window slides one bucket
+ * at a time: a count covers the current bucket and the ones before it, so between
+ * {@code buckets - 1} and {@code buckets} bucket lengths of history.
+ *
+ * <p>A customer is looked for within {@link #MAX_PROBES} slots of its hash. A new customer
+ * takes the first free slot there, or the slot of a customer idle for the whole window.
+ * When there is neither, it evicts the customer idle longest, so a full table forgets its
+ * least recent customers first. Two IDs with the same hash share a count.
+ */
+public class SlidingWindowVelocityTracker implements VelocityTracker {
+
+    static final int MAX_PROBES = 16;
+
+    private final LongSupplier currentMillis;
+    private final long bucketMillis;
+    private final int buckets;
+    private final int stripeMask;
+    private final int slotMask;
+    private final int probes;
+    private final Stripe[] stripes;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param window       history counted, split into {@code buckets} buckets
+     * @param maxCustomers customers tracked at once, rounded up to a power of two
+     */
+    public SlidingWindowVelocityTracker(Duration window, int buckets, int maxCustomers) {
+        this(window, buckets, maxCustomers, Runtime.getRuntime().availableProcessors(), System::currentTimeMillis);
+    }
+
+    SlidingWindowVelocityTracker(Duration window, int buckets, int maxCustomers, int concurrency,
+                                 LongSupplier currentMillis) {
+        if (buckets < 1 || window.toMillis() < buckets) {
+            throw new IllegalArgumentException("Velocity window " + window + " cannot be split into " + buckets
+                    + " buckets");
+        }
+        if (maxCustomers < 1) {
+            throw new IllegalArgumentException("Velocity max customers must be positive: " + maxCustomers);
+        }
+        this.currentMillis = currentMillis;
+        this.bucketMillis = window.toMillis() / buckets;
+        this.buckets = buckets;
+
+        int slots = powerOfTwoAtLeast(maxCustomers);
+        // Several stripes per thread keep two threads from often wanting the same one
+        int stripeCount = Math.min(powerOfTwoAtLeast(4 * concurrency), slots);
+        int slotsPerStripe = slots / stripeCount;
+        this.stripeMask = stripeCount - 1;
+        this.slotMask = slotsPerStripe - 1;
+        this.probes = Math.min(MAX_PROBES, slotsPerStripe);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(slotsPerStripe, buckets);
+        }
+    }
+
+    @Override
+    public int record(String customerId) {
+        long hash = hash(customerId);
+        long bucket = currentMillis.getAsLong() / bucketMillis;
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        stripe.lock.lock();
+        try {
+            int slot = stripe.findOrInsert(hash, bucket);
+            // Another thread may have recorded a later bucket since this one read the clock
+            bucket = Math.max(bucket, stripe.newest[slot]);
+            stripe.advance(slot, bucket);
+            int index = slot * buckets + (int) (bucket % buckets);
+            if (stripe.counts[index] < Character.MAX_VALUE) {
+                stripe.counts[index]++;
+            }
+            return stripe.sum(slot, bucket);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public int count(String customerId) {
+        long hash = hash(customerId);
+        long bucket = currentMillis.getAsLong() / bucketMillis;
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        stripe.lock.lock();
+        try {
+            int slot = stripe.find(hash);
+            return slot < 0 ? 0 : stripe.sum(slot, bucket);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** Customers forgotten before they had been idle for a whole window, because the table was full. */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /** Customers the table holds at most. */
+    public int capacity() {
+        return stripes.length * (slotMask + 1);
+    }
+
+    private final class Stripe {
+
+        final ReentrantLock lock = new ReentrantLock();
+        // A zero key is a slot never used; hash() never returns zero
+        final long[] keys;
+        final long[] newest;
+        final char[] counts;
+
+        Stripe(int slots, int buckets) {
+            this.keys = new long[slots];
+            this.newest = new long[slots];
+            this.counts = new char[slots * buckets];
+        }
+
+        int find(long hash) {
+            int home = (int) hash & slotMask;
+            for (int probe = 0; probe < probes; probe++) {
+                int slot = (home + probe) & slotMask;
+                if (keys[slot] == hash) {
+                    return slot;
+                }
+                if (keys[slot] == 0) {
+                    // Slots are reused but never emptied, so no key lies beyond an empty one
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        int findOrInsert(long hash, long bucket) {
+            int home = (int) hash & slotMask;
+            int free = -1;
+            int idlest = home;
+            for (int probe = 0; probe < probes; probe++) {
+                int slot = (home + probe) & slotMask;
+                long key = keys[slot];
+                if (key == hash) {
+                    return slot;
+                }
+                if (key == 0) {
+                    free = free < 0 ? slot : free;
+                    break;
+                }
+                if (free < 0 && newest[slot] <= bucket - buckets) {
+                    free = slot;
+                }
+                if (newest[slot] < newest[idlest]) {
+                    idlest = slot;
+                }
+            }
+            int slot = free;
+            if (slot < 0) {
+                slot = idlest;
+                evictions.increment();
+            }
+            keys[slot] = hash;
+            newest[slot] = bucket;
+            Arrays.fill(counts, slot * buckets, (slot + 1) * buckets, (char) 0);
+            return slot;
+        }
+
+        /** Makes {@code bucket} the newest of the slot, clearing the buckets it skipped over. */
+        void advance(int slot, long bucket) {
+            long from = newest[slot];
+            if (bucket == from) {
+                return;
+            }
+            for (long cleared = Math.max(from + 1, bucket - buckets + 1); cleared <= bucket; cleared++) {
+                counts[slot * buckets + (int) (cleared % buckets)] = 0;
+            }
+            newest[slot] = bucket;
+        }
+
+        /** Applications in the window ending with {@code bucket}. */
+        int sum(int slot, long bucket) {
+            long last = newest[slot];
+            int sum = 0;
+            for (long counted = Math.max(last, bucket) - buckets + 1; counted <= last; counted++) {
+                if (counted >= 0) {
+                    sum += counts[slot * buckets + (int) (counted % buckets)];
+                }
+            }
+            return sum;
+        }
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /** 64-bit hash of a customer ID, never zero. */
+    static long hash(String customerId) {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < customerId.length(); i++) {
+            hash = (hash ^ customerId.charAt(i)) * 0x100000001B3L;
+        }
+        // Finalizer of MurmurHash3, so every character affects every bit
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93F8AE1E4D3L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+}
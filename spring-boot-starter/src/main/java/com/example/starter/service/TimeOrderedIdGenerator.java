@@ -0,0 +1,69 @@
+package com.example.starter.service;
+
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Version 7 UUIDs (RFC 9562): 48 bits of Unix milliseconds, 12 bits of sub-millisecond
+ * time, then 62 random bits.
+ *
+ * <p>IDs from every thread sort by creation time to within a fraction of a millisecond,
+ * which keeps index and log inserts close together. Decision IDs are the only key for
+ * looking a decision up, so the random bits come from a {@link SecureRandom}: one DRBG
+ * per thread, drawn in blocks of {@value #BLOCK_IDS} IDs' worth, so generating an ID
+ * takes no shared lock and seldom calls the generator at all.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final int BLOCK_IDS = 64;
+
+    private static final ThreadLocal<RandomBlock> RANDOM = ThreadLocal.withInitial(RandomBlock::new);
+
+    private final Clock clock;
+
+    public TimeOrderedIdGenerator() {
+        this(Clock.systemUTC());
+    }
+
+    TimeOrderedIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        Instant now = clock.instant();
+        long subMillis = (now.getNano() % NANOS_PER_MILLI) * 4096 / NANOS_PER_MILLI;
+        long mostSigBits = (now.toEpochMilli() << 16) | 0x7000L | subMillis;
+        long leastSigBits = (RANDOM.get().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    /** A thread's own generator and the random bits it has drawn but not yet used. */
+    private static final class RandomBlock {
+
+        private final SecureRandom random;
+        private final byte[] bytes = new byte[BLOCK_IDS * Long.BYTES];
+        private final ByteBuffer block = ByteBuffer.wrap(bytes).position(bytes.length);
+
+        private RandomBlock() {
+            try {
+                random = SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("DRBG SecureRandom is not available", e);
+            }
+        }
+
+        private long nextLong() {
+            if (!block.hasRemaining()) {
+                random.nextBytes(bytes);
+                block.clear();
+            }
+            return block.getLong();
+        }
+    }
+}
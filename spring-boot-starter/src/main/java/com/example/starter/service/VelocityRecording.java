@@ -0,0 +1,52 @@
+package com.example.starter.service;
+
+/**
+ * Whether the scoring engines record applications with the {@link VelocityTracker}.
+ *
+ * <p>Only live single submissions are recorded. Bulk scoring suspends recording on the
+ * thread scoring each item, so that re-scoring a book of applications neither inflates
+ * the customers' counts for their next live application nor scores later items in the
+ * book as repeats of earlier ones. Each unrecorded application is counted as the
+ * customer's next one, as {@link DecisionBandCalculator} does.
+ */
+public final class VelocityRecording {
+
+    private static final ThreadLocal<Boolean> SUSPENDED = new ThreadLocal<>();
+
+    private VelocityRecording() {
+    }
+
+    /** Suspends recording on the calling thread until the returned scope is closed. */
+    public static Scope suspend() {
+        Boolean previous = SUSPENDED.get();
+        SUSPENDED.set(Boolean.TRUE);
+        return () -> {
+            if (previous != null) {
+                SUSPENDED.set(previous);
+            } else {
+                SUSPENDED.remove();
+            }
+        };
+    }
+
+    public static boolean suspended() {
+        return SUSPENDED.get() != null;
+    }
+
+    /**
+     * Records an application by the customer, unless recording is suspended on the calling thread.
+     *
+     * @return the customer's applications in the window, this one included
+     */
+    static int record(VelocityTracker tracker, String customerId) {
+        return suspended() ? tracker.count(customerId) + 1 : tracker.record(customerId);
+    }
+
+    /** Suspended recording, resumed on close. */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.starter.service;
+
+/**
+ * Counts each customer's applications over a recent window, for the velocity factor.
+ */
+public interface VelocityTracker {
+
+    /** Tracks nothing: every customer has no recent applications. */
+    VelocityTracker NONE = new VelocityTracker() {
+        @Override
+        public int record(String customerId) {
+            return 0;
+        }
+
+        @Override
+        public int count(String customerId) {
+            return 0;
+        }
+    };
+
+    /**
+     * Records an application by the customer now.
+     *
+     * @return the customer's applications in the window, this one included
+     */
+    int record(String customerId);
+
+    /** The customer's applications in the window, without recording one. */
+    int count(String customerId);
+
+    /**
+     * A view that counts without recording, for scoring an application that has been
+     * recorded already, such as a shadow scoring sample.
+     */
+    default VelocityTracker readOnly() {
+        VelocityTracker tracker = this;
+        return new VelocityTracker() {
+            @Override
+            public int record(String customerId) {
+                return tracker.count(customerId);
+            }
+
+            @Override
+            public int count(String customerId) {
+                return tracker.count(customerId);
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.starter.service;
+
+/**
+ * The sanctions and PEP list index new evaluations are screened against.
+ *
+ * <p>Screening reads {@link #current()} once per evaluation. A rebuilt list is swapped in
+ * as a whole new {@link WatchlistIndex}, so an evaluation never sees half of a list.
+ */
+public class WatchlistHolder {
+
+    private volatile WatchlistIndex current;
+
+    public WatchlistHolder(WatchlistIndex initial) {
+        this.current = initial;
+    }
+
+    public WatchlistIndex current() {
+        return current;
+    }
+
+    public void update(WatchlistIndex index) {
+        this.current = index;
+    }
+}
@@ -0,0 +1,448 @@
+package com.example.starter.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Names on sanctions and politically exposed persons (PEP) lists, indexed for fuzzy matching.
+ *
+ * <p>Names are normalized by {@link #normalize}, then compared by the Dice coefficient of
+ * their sets of character trigrams: {@code 2 * shared / (trigrams in one + trigrams in other)}.
+ * For every trigram the index keeps a posting list of the entries containing it. A lookup
+ * reads the posting lists of the query's rarest trigrams only: a name similar enough to the
+ * query must share at least one of them, and must appear in more of them the more lists are
+ * read, so cheap extra lists are read to rule candidates out before they are compared.
+ *
+ * <p>Everything that grows with the list lives off-heap in direct buffers: the normalized
+ * names, each entry's sorted trigram set, a 12-byte record per entry, and the posting lists,
+ * stored as varint-encoded gaps between entry numbers. Only two tables with one slot per
+ * possible trigram are on the heap. An index is immutable and safe to share between
+ * threads; a new list is built into a new index and swapped in whole.
+ */
+public final class WatchlistIndex {
+
+    public enum ListType {
+        SANCTIONS,
+        PEP
+    }
+
+    /**
+     * The most severe entry a name matches: sanctions before PEP, an identical normalized
+     * name before a similar one, then the most similar.
+     */
+    public record Match(ListType list, double similarity, boolean exact) {
+    }
+
+    /** Longest normalized name indexed or looked up; longer names are cut. */
+    static final int MAX_NAME_LENGTH = 128;
+
+    /** Space, a to z and 0 to 9: the characters of a normalized name. */
+    private static final int ALPHABET = 37;
+    private static final int TRIGRAMS = ALPHABET * ALPHABET * ALPHABET;
+    private static final ListType[] LIST_TYPES = ListType.values();
+
+    /**
+     * Per entry: name offset and trigram set offset (ints), then name length, trigram count
+     * and list type (a byte each).
+     */
+    private static final int ENTRY_BYTES = 12;
+
+    /** Words that only give a company's legal form, which names on the lists often omit. */
+    private static final Set<String> LEGAL_FORMS = Set.of(
+            "ltd", "limited", "plc", "llp", "llc", "inc", "incorporated", "corp", "corporation", "gmbh");
+
+    public static final WatchlistIndex EMPTY = new Builder().build();
+
+    private final int size;
+    private final ByteBuffer names;
+    private final ByteBuffer trigramSets;
+    private final ByteBuffer entries;
+    private final ByteBuffer postings;
+    private final int[] postingOffsets;
+    private final int[] entriesPerTrigram;
+
+    private WatchlistIndex(Builder builder) {
+        this.size = builder.size;
+        this.names = ByteBuffer.allocateDirect(builder.namesLength).put(builder.names, 0, builder.namesLength);
+        this.entries = ByteBuffer.allocateDirect(size * ENTRY_BYTES);
+        this.entriesPerTrigram = new int[TRIGRAMS];
+
+        // First pass: entry records, and the encoded size of each posting list
+        int[] trigrams = new int[MAX_NAME_LENGTH];
+        int[] lastEntry = new int[TRIGRAMS];
+        Arrays.fill(lastEntry, -1);
+        long[] postingBytes = new long[TRIGRAMS];
+        int trigramSetsLength = 0;
+        for (int entry = 0; entry < size; entry++) {
+            int offset = builder.offsets[entry];
+            int length = builder.offsets[entry + 1] - offset;
+            int count = trigrams(names, offset, length, trigrams);
+            int record = entry * ENTRY_BYTES;
+            entries.putInt(record, offset)
+                    .putInt(record + 4, trigramSetsLength)
+                    .put(record + 8, (byte) length)
+                    .put(record + 9, (byte) count)
+                    .put(record + 10, builder.lists[entry]);
+            trigramSetsLength += count;
+            for (int i = 0; i < count; i++) {
+                int trigram = trigrams[i];
+                postingBytes[trigram] += varintLength(entry - lastEntry[trigram] - 1);
+                lastEntry[trigram] = entry;
+                entriesPerTrigram[trigram]++;
+            }
+        }
+
+        this.postingOffsets = new int[TRIGRAMS + 1];
+        long total = 0;
+        for (int trigram = 0; trigram < TRIGRAMS; trigram++) {
+            postingOffsets[trigram] = (int) total;
+            total += postingBytes[trigram];
+            if (total > Integer.MAX_VALUE || trigramSetsLength > Integer.MAX_VALUE / 2) {
+                throw new IllegalArgumentException("Watchlist of " + size + " entries is too large to index");
+            }
+        }
+        postingOffsets[TRIGRAMS] = (int) total;
+
+        // Second pass: trigram sets and posting lists
+        this.trigramSets = ByteBuffer.allocateDirect(trigramSetsLength * Character.BYTES);
+        this.postings = ByteBuffer.allocateDirect((int) total);
+        int[] position = Arrays.copyOf(postingOffsets, TRIGRAMS);
+        Arrays.fill(lastEntry, -1);
+        for (int entry = 0; entry < size; entry++) {
+            int offset = builder.offsets[entry];
+            int count = trigrams(names, offset, builder.offsets[entry + 1] - offset, trigrams);
+            int set = entries.getInt(entry * ENTRY_BYTES + 4);
+            for (int i = 0; i < count; i++) {
+                int trigram = trigrams[i];
+                // Trigram numbers are below 37^3, so they fit in a char
+                trigramSets.putChar((set + i) * Character.BYTES, (char) trigram);
+                position[trigram] = writeVarint(postings, position[trigram], entry - lastEntry[trigram] - 1);
+                lastEntry[trigram] = entry;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Off-heap bytes held by this index. */
+    public long offHeapBytes() {
+        return (long) names.capacity() + trigramSets.capacity() + entries.capacity() + postings.capacity();
+    }
+
+    /**
+     * Finds the most severe entry {@code name} matches with a trigram similarity of at
+     * least {@code threshold}, from above 0 to 1.
+     *
+     * @return the match, or {@code null} if there is none
+     */
+    public Match match(String name, double threshold) {
+        String normalized = normalize(name);
+        if (normalized.isEmpty() || size == 0) {
+            return null;
+        }
+        byte[] queryName = normalized.getBytes(StandardCharsets.US_ASCII);
+        int[] query = new int[MAX_NAME_LENGTH];
+        int queryCount = trigrams(ByteBuffer.wrap(queryName), 0, queryName.length, query);
+
+        // Dice >= threshold needs at least minShared common trigrams, and bounds the candidate's count
+        int minShared = Math.max(1, (int) Math.ceil(threshold * queryCount / (2 - threshold) - 1e-9));
+        int maxCount = (int) Math.floor(queryCount * (2 - threshold) / threshold + 1e-9);
+        int[] probes = probes(query, queryCount, queryCount - minShared + 1);
+        // Each list not read can account for at most one shared trigram
+        int minHits = minShared - (queryCount - probes.length);
+
+        int[] position = new int[probes.length];
+        int[] end = new int[probes.length];
+        int[] current = new int[probes.length];
+        for (int i = 0; i < probes.length; i++) {
+            position[i] = postingOffsets[probes[i]];
+            end[i] = postingOffsets[probes[i] + 1];
+            current[i] = -1;
+            advance(position, end, current, i);
+        }
+
+        int next = Integer.MAX_VALUE;
+        for (int id : current) {
+            next = Math.min(next, id);
+        }
+        Match best = null;
+        // Posting lists are in entry order, so merging them visits each candidate once
+        while (next != Integer.MAX_VALUE) {
+            int entry = next;
+            int hits = 0;
+            next = Integer.MAX_VALUE;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == entry) {
+                    hits++;
+                    advance(position, end, current, i);
+                }
+                next = Math.min(next, current[i]);
+            }
+
+            if (hits < minHits) {
+                continue;
+            }
+            int record = entry * ENTRY_BYTES;
+            int count = entries.get(record + 9) & 0xFF;
+            if (count < minShared || count > maxCount) {
+                continue;
+            }
+            int shared = intersection(query, queryCount, entries.getInt(record + 4), count);
+            double similarity = 2.0 * shared / (queryCount + count);
+            if (similarity < threshold) {
+                continue;
+            }
+            Match match = new Match(LIST_TYPES[entries.get(record + 10)], similarity,
+                    shared == queryCount && count == queryCount
+                            && sameName(entries.getInt(record), entries.get(record + 8) & 0xFF, queryName));
+            if (best == null || moreSevere(match, best)) {
+                best = match;
+                if (match.list() == ListType.SANCTIONS && match.exact()) {
+                    return best;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Normalizes a person or company name for matching: accents and punctuation are
+     * removed, letters are lower-cased, legal-form words such as "Ltd" are dropped, and the
+     * remaining words are sorted so that word order does not matter. Letters outside the
+     * Latin alphabet are dropped too, so names must be listed in their Latin transliteration.
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String text = Normalizer.isNormalized(name, Normalizer.Form.NFKD)
+                ? name
+                : Normalizer.normalize(name, Normalizer.Form.NFKD);
+        List<String> words = new ArrayList<>(4);
+        StringBuilder word = new StringBuilder(16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9') {
+                word.append(c);
+            } else if (c >= 'A' && c <= 'Z') {
+                word.append((char) (c + ('a' - 'A')));
+            } else if (c == '\'' || c == '’' || Character.getType(c) == Character.NON_SPACING_MARK) {
+                // O'Brien is OBrien, and accents decomposed by NFKD are dropped
+                continue;
+            } else {
+                String folded = fold(Character.toLowerCase(c));
+                if (folded != null) {
+                    word.append(folded);
+                } else {
+                    endWord(word, words);
+                }
+            }
+        }
+        endWord(word, words);
+        words.sort(null);
+
+        String normalized = String.join(" ", words);
+        return normalized.length() <= MAX_NAME_LENGTH ? normalized : normalized.substring(0, MAX_NAME_LENGTH).strip();
+    }
+
+    /** Latin letters NFKD does not decompose. */
+    private static String fold(char c) {
+        return switch (c) {
+            case 'ß' -> "ss";
+            case 'æ' -> "ae";
+            case 'œ' -> "oe";
+            case 'ø' -> "o";
+            case 'đ', 'ð' -> "d";
+            case 'ł' -> "l";
+            case 'ı' -> "i";
+            case 'þ' -> "th";
+            default -> null;
+        };
+    }
+
+    private static void endWord(StringBuilder word, List<String> words) {
+        if (!word.isEmpty()) {
+            String completed = word.toString();
+            if (!LEGAL_FORMS.contains(completed)) {
+                words.add(completed);
+            }
+            word.setLength(0);
+        }
+    }
+
+    /**
+     * Writes the distinct trigrams of a normalized name, padded with a space at both ends,
+     * to {@code out} in ascending order.
+     *
+     * @return how many were written
+     */
+    private static int trigrams(ByteBuffer name, int offset, int length, int[] out) {
+        int count = 0;
+        int first = 0;
+        int second = code(name.get(offset));
+        for (int i = 1; i <= length; i++) {
+            int third = i < length ? code(name.get(offset + i)) : 0;
+            out[count++] = (first * ALPHABET + second) * ALPHABET + third;
+            first = second;
+            second = third;
+        }
+        Arrays.sort(out, 0, count);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (out[i] != out[distinct - 1]) {
+                out[distinct++] = out[i];
+            }
+        }
+        return distinct;
+    }
+
+    private static int code(byte c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 1;
+        }
+        return c >= '0' && c <= '9' ? c - '0' + 27 : 0;
+    }
+
+    /**
+     * The posting lists to read: the {@code required} rarest trigrams of the query, then the
+     * next rarest for as long as they add no more entries to read than the required ones.
+     */
+    private int[] probes(int[] trigrams, int length, int required) {
+        long[] byFrequency = new long[length];
+        for (int i = 0; i < length; i++) {
+            byFrequency[i] = (long) entriesPerTrigram[trigrams[i]] << 32 | trigrams[i];
+        }
+        Arrays.sort(byFrequency);
+        long requiredEntries = 0;
+        for (int i = 0; i < required; i++) {
+            requiredEntries += byFrequency[i] >>> 32;
+        }
+        int count = required;
+        long extraEntries = 0;
+        while (count < length && extraEntries + (byFrequency[count] >>> 32) <= requiredEntries) {
+            extraEntries += byFrequency[count++] >>> 32;
+        }
+        int[] probes = new int[count];
+        for (int i = 0; i < count; i++) {
+            probes[i] = (int) byFrequency[i];
+        }
+        return probes;
+    }
+
+    /** Moves posting list {@code i} to its next entry, or to {@link Integer#MAX_VALUE} at its end. */
+    private void advance(int[] position, int[] end, int[] current, int i) {
+        int pos = position[i];
+        if (pos >= end[i]) {
+            current[i] = Integer.MAX_VALUE;
+            return;
+        }
+        int gap = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = postings.get(pos++);
+            gap |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        position[i] = pos;
+        current[i] += gap + 1;
+    }
+
+    /** Trigrams the query shares with the trigram set at {@code set}. */
+    private int intersection(int[] query, int queryCount, int set, int count) {
+        int shared = 0;
+        for (int i = 0, j = 0; i < queryCount && j < count; ) {
+            int trigram = trigramSets.getChar((set + j) * Character.BYTES);
+            if (query[i] == trigram) {
+                shared++;
+                i++;
+                j++;
+            } else if (query[i] < trigram) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private boolean sameName(int offset, int length, byte[] name) {
+        if (length != name.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (names.get(offset + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean moreSevere(Match match, Match than) {
+        if (match.list() != than.list()) {
+            return match.list() == ListType.SANCTIONS;
+        }
+        if (match.exact() != than.exact()) {
+            return match.exact();
+        }
+        return match.similarity() > than.similarity();
+    }
+
+    private static int varintLength(int value) {
+        return value < 1 << 7 ? 1 : value < 1 << 14 ? 2 : value < 1 << 21 ? 3 : value < 1 << 28 ? 4 : 5;
+    }
+
+    private static int writeVarint(ByteBuffer buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put(position++, (byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put(position++, (byte) value);
+        return position;
+    }
+
+    /** Collects list entries; names are normalized as they are added. */
+    public static final class Builder {
+
+        private byte[] names = new byte[1 << 12];
+        private int namesLength;
+        private byte[] lists = new byte[256];
+        private int[] offsets = new int[257];
+        private int size;
+
+        /**
+         * Adds a name to the index under construction.
+         *
+         * @return whether it was added; names with nothing left after normalization are not
+         */
+        public boolean add(ListType list, String name) {
+            byte[] normalized = normalize(name).getBytes(StandardCharsets.US_ASCII);
+            if (normalized.length == 0) {
+                return false;
+            }
+            if (namesLength + normalized.length > names.length) {
+                names = Arrays.copyOf(names, Math.max(names.length * 2, namesLength + normalized.length));
+            }
+            if (size == lists.length) {
+                lists = Arrays.copyOf(lists, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2 + 1);
+            }
+            System.arraycopy(normalized, 0, names, namesLength, normalized.length);
+            namesLength += normalized.length;
+            lists[size] = (byte) list.ordinal();
+            offsets[++size] = namesLength;
+            return true;
+        }
+
+        public WatchlistIndex build() {
+            return new WatchlistIndex(this);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.model.RiskDecision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Screens the business and every owner of a request against the sanctions and PEP lists
+ * in the {@link WatchlistHolder}.
+ *
+ * <p>A name identical to a sanctions list entry, once normalized, declines the decision.
+ * A name merely similar to one, or matching a PEP list entry, refers it for a person to
+ * check.
+ */
+public class WatchlistScreener {
+
+    public enum Outcome {
+        CLEAR(null, null),
+        PEP_MATCH(RiskDecision.REFER, "%s matches a politically exposed persons list entry"),
+        POSSIBLE_SANCTIONS_MATCH(RiskDecision.REFER, "%s closely matches a sanctions list entry"),
+        SANCTIONS_MATCH(RiskDecision.DECLINE, "%s matches a sanctions list entry");
+
+        private final RiskDecision decision;
+        private final String reason;
+
+        Outcome(RiskDecision decision, String reason) {
+            this.decision = decision;
+            this.reason = reason;
+        }
+
+        /** Decision this outcome calls for at least, or {@code null} if the names are clear. */
+        public RiskDecision decision() {
+            return decision;
+        }
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** The most severe outcome over all names screened, and a reason per distinct match. */
+    public record Screening(Outcome outcome, List<String> reasons) {
+
+        static final Screening CLEAR = new Screening(Outcome.CLEAR, List.of());
+    }
+
+    private final WatchlistHolder holder;
+    private final double matchThreshold;
+    private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+
+    /**
+     * @param matchThreshold trigram similarity from which a name counts as a match,
+     *                       above 0 and at most 1
+     */
+    public WatchlistScreener(WatchlistHolder holder, double matchThreshold) {
+        if (!(matchThreshold > 0 && matchThreshold <= 1)) {
+            throw new IllegalArgumentException("Match threshold must be above 0 and at most 1: " + matchThreshold);
+        }
+        this.holder = holder;
+        this.matchThreshold = matchThreshold;
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+    }
+
+    public Screening screen(RiskDecisionRequest request) {
+        WatchlistIndex index = holder.current();
+        Outcome worst = Outcome.CLEAR;
+        List<String> reasons = null;
+
+        RiskDecisionRequest.Business business = request.getBusiness();
+        if (business != null) {
+            Outcome outcome = outcome(index.match(business.getLegalName(), matchThreshold));
+            if (outcome != Outcome.CLEAR) {
+                worst = outcome;
+                reasons = new ArrayList<>(2);
+                reasons.add(outcome.reason.formatted("Business"));
+            }
+        }
+        if (request.getOwners() != null) {
+            for (RiskDecisionRequest.Owner owner : request.getOwners()) {
+                Outcome outcome = outcome(index.match(owner.getFullName(), matchThreshold));
+                if (outcome == Outcome.CLEAR) {
+                    continue;
+                }
+                worst = outcome.compareTo(worst) > 0 ? outcome : worst;
+                String reason = outcome.reason.formatted("Owner");
+                if (reasons == null) {
+                    reasons = new ArrayList<>(2);
+                }
+                if (!reasons.contains(reason)) {
+                    reasons.add(reason);
+                }
+            }
+        }
+
+        outcomes[worst.ordinal()].increment();
+        return reasons == null ? Screening.CLEAR : new Screening(worst, List.copyOf(reasons));
+    }
+
+    public long count(Outcome outcome) {
+        return outcomes[outcome.ordinal()].sum();
+    }
+
+    private static Outcome outcome(WatchlistIndex.Match match) {
+        if (match == null) {
+            return Outcome.CLEAR;
+        }
+        if (match.list() == WatchlistIndex.ListType.PEP) {
+            return Outcome.PEP_MATCH;
+        }
+        return match.exact() ? Outcome.SANCTIONS_MATCH : Outcome.POSSIBLE_SANCTIONS_MATCH;
+    }
+}
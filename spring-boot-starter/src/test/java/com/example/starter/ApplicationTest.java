@@ -3,7 +3,8 @@ package com.example.starter;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// Its own decision log, as the default directory may be locked by a running instance
+@SpringBootTest(properties = "risk.decision-store.directory=build/tmp/decisions-${random.uuid}")
 class ApplicationTest {
 
     @Test
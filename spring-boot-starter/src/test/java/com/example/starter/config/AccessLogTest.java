@@ -0,0 +1,75 @@
+package com.example.starter.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogTest {
+
+    @Test
+    @DisplayName("should drain records in publication order")
+    void shouldDrainInOrder() {
+        List<String> written = new ArrayList<>();
+        AccessLog accessLog = new AccessLog(8, 8, (method, uri, status, durationNanos, correlationId) ->
+                written.add(method + " " + uri + " " + status + " " + durationNanos + " " + correlationId));
+
+        accessLog.offer("GET", "/api/v1/health", 200, 1_000, null);
+        accessLog.offer("POST", "/api/v1/risk-decisions", 201, 2_000, "abc");
+
+        assertThat(accessLog.drain(10)).isEqualTo(2);
+        assertThat(written).containsExactly(
+                "GET /api/v1/health 200 1000 null",
+                "POST /api/v1/risk-decisions 201 2000 abc");
+    }
+
+    @Test
+    @DisplayName("should drop and count records when the ring is full")
+    void shouldDropWhenFull() {
+        AccessLog accessLog = new AccessLog(4, 4, (method, uri, status, durationNanos, correlationId) -> { });
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(accessLog.offer("GET", "/", 200, i, null)).isTrue();
+        }
+
+        assertThat(accessLog.offer("GET", "/", 200, 4, null)).isFalse();
+        assertThat(accessLog.dropped()).isEqualTo(1);
+
+        accessLog.drain(1);
+        assertThat(accessLog.offer("GET", "/", 200, 5, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should deliver every record published concurrently when the writer keeps up")
+    void shouldDeliverConcurrentRecords() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        AccessLog accessLog = new AccessLog(1 << 16, 256, (method, uri, status, durationNanos, correlationId) ->
+                written.add(correlationId));
+        accessLog.start();
+
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            String prefix = "p" + p + "-";
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    accessLog.offer("GET", "/", 200, i, prefix + i);
+                }
+                done.countDown();
+            }).start();
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        accessLog.close();
+
+        assertThat(accessLog.dropped()).isZero();
+        assertThat(written).hasSize(producers * perProducer);
+    }
+}
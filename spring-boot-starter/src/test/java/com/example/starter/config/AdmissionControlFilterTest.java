@@ -0,0 +1,135 @@
+package com.example.starter.config;
+
+import com.example.starter.service.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final AdmissionProperties properties = new AdmissionProperties();
+    private final AdmissionLimiter limiter = new AdmissionLimiter(1, 0);
+
+    @Test
+    @DisplayName("should bind the request deadline while the request is handled and release its slot")
+    void shouldBindDeadlineAndRelease() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/risk-decisions");
+        AtomicReference<RequestDeadline> bound = new AtomicReference<>();
+        FilterChain chain = (req, res) -> {
+            bound.set(RequestDeadline.current());
+            assertThat(limiter.inFlight()).isEqualTo(1);
+        };
+
+        new AdmissionControlFilter(limiter, properties).doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(bound.get()).isNotSameAs(RequestDeadline.NONE)
+                .isSameAs(request.getAttribute(AdmissionControlFilter.DEADLINE_ATTR));
+        assertThat(bound.get().remainingNanos()).isPositive();
+        assertThat(RequestDeadline.current()).isSameAs(RequestDeadline.NONE);
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.deadlineExceeded()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject with 503 and Retry-After when no slot is free")
+    void shouldRejectWhenSaturated() throws Exception {
+        limiter.tryAcquire(0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/risk-decisions");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean handled = new AtomicBoolean();
+
+        new AdmissionControlFilter(limiter, properties).doFilter(request, response, (req, res) -> handled.set(true));
+
+        assertThat(handled).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentType()).isEqualTo("application/problem+json");
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject with the configured status and retry interval")
+    void shouldRejectWithConfiguredStatus() throws Exception {
+        properties.setRejectionStatus(429);
+        properties.setRetryAfter(Duration.ofSeconds(5));
+        limiter.tryAcquire(0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new AdmissionControlFilter(limiter, properties).doFilter(
+                new MockHttpServletRequest("POST", "/api/v1/risk-decisions"), response, (req, res) -> { });
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("5");
+        assertThat(response.getContentAsString()).contains("\"title\":\"Too Many Requests\"");
+    }
+
+    @Test
+    @DisplayName("should hold the slot of a streaming response until it completes")
+    void shouldReleaseOnAsyncCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/risk-decisions/bulk");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new AdmissionControlFilter(limiter, properties).doFilter(request, response, (req, res) -> req.startAsync());
+
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should give bulk requests their own deadline")
+    void shouldUseBulkDeadline() throws Exception {
+        properties.setRequestDeadline(Duration.ofMillis(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/risk-decisions/bulk");
+
+        new AdmissionControlFilter(limiter, properties).doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        RequestDeadline deadline = (RequestDeadline) request.getAttribute(AdmissionControlFilter.DEADLINE_ATTR);
+        assertThat(Duration.ofNanos(deadline.remainingNanos())).isGreaterThan(Duration.ofMinutes(9));
+    }
+
+    @Test
+    @DisplayName("should count requests that finish after their deadline")
+    void shouldRecordDeadlineExceeded() throws Exception {
+        properties.setRequestDeadline(Duration.ofMillis(1));
+
+        new AdmissionControlFilter(limiter, properties).doFilter(
+                new MockHttpServletRequest("POST", "/api/v1/risk-decisions"), new MockHttpServletResponse(),
+                (req, res) -> {
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        assertThat(limiter.deadlineExceeded()).isEqualTo(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should leave other endpoints alone")
+    void shouldNotGuardOtherEndpoints() throws Exception {
+        limiter.tryAcquire(0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean handled = new AtomicBoolean();
+
+        new AdmissionControlFilter(limiter, properties).doFilter(
+                new MockHttpServletRequest("GET", "/api/v1/health"), response, (req, res) -> handled.set(true));
+
+        assertThat(handled).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
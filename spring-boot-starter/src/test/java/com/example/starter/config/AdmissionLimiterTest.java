@@ -0,0 +1,72 @@
+package com.example.starter.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionLimiterTest {
+
+    @Test
+    @DisplayName("should admit requests up to the in-flight limit")
+    void shouldAdmitUpToLimit() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(2, 0);
+
+        assertThat(limiter.tryAcquire(0)).isEqualTo(AdmissionLimiter.Admission.ADMITTED);
+        assertThat(limiter.tryAcquire(0)).isEqualTo(AdmissionLimiter.Admission.ADMITTED);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should shed immediately when the queue is full")
+    void shouldShedWhenQueueFull() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 0);
+        limiter.tryAcquire(0);
+
+        assertThat(limiter.tryAcquire(TimeUnit.SECONDS.toNanos(10))).isEqualTo(AdmissionLimiter.Admission.QUEUE_FULL);
+        assertThat(limiter.shedQueueFull()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should shed a queued request once its wait budget is spent")
+    void shouldShedAfterWaitBudget() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 1);
+        limiter.tryAcquire(0);
+
+        assertThat(limiter.tryAcquire(TimeUnit.MILLISECONDS.toNanos(10)))
+                .isEqualTo(AdmissionLimiter.Admission.TIMED_OUT);
+        assertThat(limiter.shedTimedOut()).isEqualTo(1);
+        assertThat(limiter.queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("should admit a queued request when a slot is released")
+    void shouldAdmitQueuedRequestOnRelease() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 1);
+        limiter.tryAcquire(0);
+        AtomicReference<AdmissionLimiter.Admission> result = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread waiter = new Thread(() -> {
+            try {
+                result.set(limiter.tryAcquire(TimeUnit.SECONDS.toNanos(10)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        waiter.start();
+        while (limiter.queued() == 0) {
+            Thread.onSpinWait();
+        }
+        limiter.release();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.get()).isEqualTo(AdmissionLimiter.Admission.ADMITTED);
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.HealthResponse;
+import com.example.starter.dto.RiskDecisionRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledRequestValidatorTest {
+
+    private static LocalValidatorFactoryBean beanValidator;
+
+    @BeforeAll
+    static void createBeanValidator() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void closeBeanValidator() {
+        beanValidator.close();
+    }
+
+    static Stream<Arguments> requests() {
+        return Stream.of(
+                Arguments.of("valid", edit(request -> { })),
+                Arguments.of("empty", edit(request -> {
+                    request.setClient(null);
+                    request.setBusiness(null);
+                    request.setOwners(null);
+                    request.setLoan(null);
+                })),
+                Arguments.of("empty owners", edit(request -> request.setOwners(List.of()))),
+                Arguments.of("blank strings", edit(request -> {
+                    request.getClient().setCustomerId(" ");
+                    request.getClient().setCountryOfApplication("");
+                    request.getBusiness().setLegalName("\t");
+                    request.getBusiness().getAnnualTurnover().setCurrency(" ");
+                })),
+                Arguments.of("null strings", edit(request -> {
+                    request.getClient().setCustomerId(null);
+                    request.getClient().setCountryOfApplication(null);
+                    request.getBusiness().setCountryOfIncorporation(null);
+                    request.getBusiness().getAnnualTurnover().setCurrency(null);
+                })),
+                Arguments.of("bad code shapes", edit(request -> {
+                    request.getClient().setCountryOfApplication("gb");
+                    request.getBusiness().getAnnualTurnover().setCurrency("GBPX");
+                })),
+                Arguments.of("negative amounts", edit(request -> {
+                    request.getBusiness().getAnnualTurnover().setAmount(-250);
+                    request.getLoan().setRequestedAmount(-1);
+                })),
+                Arguments.of("missing nested objects", edit(request -> {
+                    request.getBusiness().setDateOfIncorporation(null);
+                    request.getBusiness().setAnnualTurnover(null);
+                })),
+                Arguments.of("invalid owners", edit(request -> request.setOwners(Arrays.asList(
+                        new RiskDecisionRequest.Owner("Jane Smith", LocalDate.of(1990, 5, 20)),
+                        null,
+                        new RiskDecisionRequest.Owner(" ", null),
+                        new RiskDecisionRequest.Owner(null, LocalDate.of(1985, 1, 1)))))));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("requests")
+    @DisplayName("should reject the same fields with the same messages as Bean Validation")
+    void shouldMatchBeanValidation(String name, Consumer<RiskDecisionRequest> edit) {
+        RiskDecisionRequest request = validRequest();
+        edit.accept(request);
+
+        List<String> expected = errors(beanValidator, request);
+        List<String> actual = errors(new CompiledRequestValidator(beanValidator, false), request);
+
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("should reject well-formed codes that are not assigned ISO codes")
+    void shouldRejectUnassignedCodes() {
+        RiskDecisionRequest request = validRequest();
+        request.getClient().setCountryOfApplication("ZZ");
+        request.getBusiness().getAnnualTurnover().setCurrency("QQQ");
+
+        assertThat(errors(new CompiledRequestValidator(beanValidator, false), request)).containsExactly(
+                "client.countryOfApplication: Country of application must be a 2-letter ISO code (e.g. GB)",
+                "business.annualTurnover.currency: Currency must be a 3-letter ISO code (e.g. GBP)");
+    }
+
+    @Test
+    @DisplayName("should stop at the cheapest failing check in fail-fast mode")
+    void shouldStopAtFirstErrorWhenFailFast() {
+        RiskDecisionRequest request = validRequest();
+        request.getClient().setCountryOfApplication("ZZ");
+        request.getBusiness().setLegalName("");
+        request.setLoan(null);
+
+        assertThat(errors(new CompiledRequestValidator(beanValidator, true), request))
+                .containsExactly("loan: Loan details are required");
+    }
+
+    @Test
+    @DisplayName("should hand other types to the delegate")
+    void shouldDelegateOtherTypes() {
+        SmartValidator validator = new CompiledRequestValidator(beanValidator, false);
+
+        assertThat(validator.supports(RiskDecisionRequest.class)).isTrue();
+        assertThat(validator.supports(HealthResponse.class)).isEqualTo(beanValidator.supports(HealthResponse.class));
+    }
+
+    private static Consumer<RiskDecisionRequest> edit(Consumer<RiskDecisionRequest> edit) {
+        return edit;
+    }
+
+    private static List<String> errors(SmartValidator validator, RiskDecisionRequest request) {
+        Errors errors = new BeanPropertyBindingResult(request, "riskDecisionRequest");
+        validator.validate(request, errors);
+        List<String> result = new ArrayList<>();
+        errors.getFieldErrors().forEach(error -> result.add(error.getField() + ": " + error.getDefaultMessage()));
+        return result;
+    }
+
+    private static RiskDecisionRequest validRequest() {
+        return new RiskDecisionRequest(
+                new RiskDecisionRequest.Client("CUST-001", "GB"),
+                new RiskDecisionRequest.Business("Acme Ltd", "UK", LocalDate.of(2020, 1, 15),
+                        new RiskDecisionRequest.AnnualTurnover(250_000, "GBP")),
+                new ArrayList<>(List.of(new RiskDecisionRequest.Owner("Jane Smith", LocalDate.of(1990, 5, 20)))),
+                new RiskDecisionRequest.Loan(50_000));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.starter.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter(() -> "generated");
+
+    @Test
+    @DisplayName("should publish the X-Correlation-ID header as request attribute and MDC entry")
+    void shouldPublishCorrelationId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/risk-decisions");
+        request.addHeader(CorrelationIdFilter.HEADER, "from-client");
+        AtomicReference<String> logged = new AtomicReference<>();
+        FilterChain chain = (req, res) -> logged.set(MDC.get(CorrelationIdFilter.MDC_KEY));
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(request.getAttribute(CorrelationIdFilter.ATTRIBUTE)).isEqualTo("from-client");
+        assertThat(request.getAttribute(CorrelationIdFilter.SUPPLIED_ATTRIBUTE)).isEqualTo(true);
+        assertThat(logged.get()).isEqualTo("from-client");
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("should generate a correlation ID when the header is missing or blank")
+    void shouldGenerateMissingCorrelationId() throws Exception {
+        MockHttpServletRequest missing = new MockHttpServletRequest("POST", "/api/v1/risk-decisions");
+        MockHttpServletRequest blank = new MockHttpServletRequest("POST", "/api/v1/risk-decisions");
+        blank.addHeader(CorrelationIdFilter.HEADER, " ");
+
+        filter.doFilter(missing, new MockHttpServletResponse(), (req, res) -> { });
+        filter.doFilter(blank, new MockHttpServletResponse(), (req, res) -> { });
+
+        assertThat(missing.getAttribute(CorrelationIdFilter.ATTRIBUTE)).isEqualTo("generated");
+        assertThat(blank.getAttribute(CorrelationIdFilter.ATTRIBUTE)).isEqualTo("generated");
+        assertThat(missing.getAttribute(CorrelationIdFilter.SUPPLIED_ATTRIBUTE)).isEqualTo(false);
+        assertThat(blank.getAttribute(CorrelationIdFilter.SUPPLIED_ATTRIBUTE)).isEqualTo(false);
+    }
+}
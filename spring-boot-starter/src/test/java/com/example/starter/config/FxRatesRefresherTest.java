@@ -0,0 +1,105 @@
+package com.example.starter.config;
+
+import com.example.starter.service.FxRates;
+import com.example.starter.service.FxRatesHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class FxRatesRefresherTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-16T10:00:00Z"), ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path directory;
+
+    private Path ratesFile;
+    private FxRatesHolder holder;
+    private FxRatesRefresher refresher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ratesFile = directory.resolve("fx-rates.json");
+        writeRates("2025-06-15T16:00:00Z", 1.25);
+        holder = new FxRatesHolder(
+                FxRatesRefresher.load(objectMapper, FxRatesRefresher.file(ratesFile), "GBP"));
+        refresher = new FxRatesRefresher(objectMapper, FxRatesRefresher.file(ratesFile), "GBP", holder, CLOCK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.close();
+    }
+
+    @Test
+    @DisplayName("should swap in newer rates")
+    void shouldRefreshRates() throws IOException {
+        FxRates before = holder.current();
+        writeRates("2025-06-16T09:00:00Z", 1.10);
+
+        assertThat(refresher.refresh()).isTrue();
+
+        assertThat(before.toBase(110, "EUR")).isEqualTo(88);
+        assertThat(holder.current().toBase(110, "EUR")).isEqualTo(100);
+        assertThat(refresher.age()).isEqualTo(Duration.ofHours(1));
+        assertThat(refresher.succeeded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep the last good rates and report their age when a refresh fails")
+    void shouldKeepLastGoodRates() throws IOException {
+        FxRates lastGood = holder.current();
+
+        Files.writeString(ratesFile, "{\"base\": \"GBP\", \"rates\": ");
+        assertThat(refresher.refresh()).isFalse();
+        Files.delete(ratesFile);
+        assertThat(refresher.refresh()).isFalse();
+
+        assertThat(holder.current()).isSameAs(lastGood);
+        assertThat(refresher.age()).isEqualTo(Duration.ofHours(18));
+        assertThat(refresher.failed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should reject rates older than the ones in use")
+    void shouldRejectOlderRates() throws IOException {
+        FxRates current = holder.current();
+        writeRates("2025-06-14T16:00:00Z", 1.10);
+
+        assertThat(refresher.refresh()).isFalse();
+
+        assertThat(holder.current()).isSameAs(current);
+        assertThat(refresher.failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject rates for another base currency")
+    void shouldRejectOtherBaseCurrency() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> FxRatesRefresher.load(objectMapper, FxRatesRefresher.file(ratesFile), "EUR"))
+                .withMessageContaining("GBP");
+    }
+
+    private void writeRates(String asOf, double eur) throws IOException {
+        Files.writeString(ratesFile, """
+                {"base": "GBP", "asOf": "%s", "provider": "test", "rates": {"EUR": %s, "USD": 1.27}}
+                """.formatted(asOf, eur));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.starter.config;
+
+import com.example.starter.exception.PayloadTooLargeException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GzipRequestBodyFilterTest {
+
+    private static final String BODY = "{\"loan\":{\"requestedAmount\":50000.00}}";
+
+    private final GzipRequestBodyFilter filter = new GzipRequestBodyFilter(1024);
+
+    @Test
+    @DisplayName("should inflate a gzip body and hide its encoding")
+    void shouldInflateGzipBody() throws Exception {
+        MockHttpServletRequest request = gzipRequest(gzip(BODY.getBytes(StandardCharsets.UTF_8)));
+        AtomicReference<String> read = new AtomicReference<>();
+        AtomicReference<String> encoding = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            read.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            encoding.set(((HttpServletRequest) req).getHeader("Content-Encoding"));
+            assertThat(req.getContentLengthLong()).isEqualTo(-1);
+            assertThat(req.getInputStream().isFinished()).isTrue();
+        });
+
+        assertThat(read.get()).isEqualTo(BODY);
+        assertThat(encoding.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("should inflate a gzip body read as characters in the request's charset")
+    void shouldInflateGzipBodyForReader() throws Exception {
+        String body = "{\"business\":{\"legalName\":\"Café Zürich AG\"}}";
+        MockHttpServletRequest request = gzipRequest(gzip(body.getBytes(StandardCharsets.UTF_8)));
+        request.setCharacterEncoding("UTF-8");
+        AtomicReference<String> read = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            read.set(req.getReader().lines().collect(Collectors.joining("\n")));
+            assertThatIllegalStateException().isThrownBy(req::getInputStream);
+        });
+
+        assertThat(read.get()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("should refuse non-blocking reads")
+    void shouldRefuseReadListener() throws Exception {
+        MockHttpServletRequest request = gzipRequest(gzip(BODY.getBytes(StandardCharsets.UTF_8)));
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                assertThatIllegalStateException().isThrownBy(() -> req.getInputStream().setReadListener(null)));
+    }
+
+    @Test
+    @DisplayName("should fail the read that inflates past the limit")
+    void shouldRejectBodyInflatingPastLimit() throws Exception {
+        // 1MB of zeros compresses to about a kilobyte
+        byte[] bomb = gzip(new byte[1024 * 1024]);
+        assertThat(bomb.length).isLessThan(2048);
+        MockHttpServletRequest request = gzipRequest(bomb);
+        AtomicReference<Integer> readBeforeFailure = new AtomicReference<>(0);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            byte[] buffer = new byte[256];
+            assertThatThrownBy(() -> {
+                int read;
+                while ((read = req.getInputStream().read(buffer)) >= 0) {
+                    readBeforeFailure.set(readBeforeFailure.get() + read);
+                }
+            }).isInstanceOf(PayloadTooLargeException.class)
+                    .hasMessageContaining("1024 bytes");
+        });
+
+        assertThat(readBeforeFailure.get()).isLessThanOrEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("should pass bodies without Content-Encoding through unchanged")
+    void shouldPassPlainBodyThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/risk-decisions");
+        byte[] plain = new byte[4096];
+        request.setContent(plain);
+        AtomicReference<Object> seen = new AtomicReference<>();
+        AtomicReference<Integer> length = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            seen.set(req);
+            length.set(req.getInputStream().readAllBytes().length);
+        });
+
+        assertThat(seen.get()).isSameAs(request);
+        assertThat(length.get()).isEqualTo(plain.length);
+    }
+
+    private static MockHttpServletRequest gzipRequest(byte[] content) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/risk-decisions");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(content);
+        return request;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content);
+        }
+        return compressed.toByteArray();
+    }
+}
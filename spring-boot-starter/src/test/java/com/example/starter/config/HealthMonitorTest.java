@@ -0,0 +1,90 @@
+package com.example.starter.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HealthMonitorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-16T10:00:00Z"), ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<ReadinessState> published = new ArrayList<>();
+    private HealthMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        HealthProperties properties = new HealthProperties();
+        properties.setSaturationThreshold(0.9);
+        properties.setRecoveryThreshold(0.7);
+        monitor = new HealthMonitor(objectMapper,
+                Map.of("admission.in-flight", HealthMonitor.utilization(inFlight::get, 10)), properties,
+                event -> published.add((ReadinessState) ((AvailabilityChangeEvent<?>) event).getState()),
+                CLOCK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.close();
+    }
+
+    @Test
+    @DisplayName("should serve pre-serialized liveness and readiness payloads")
+    void shouldServeSerializedPayloads() throws IOException {
+        inFlight.set(5);
+        monitor.refresh();
+
+        JsonNode liveness = objectMapper.readTree(monitor.current().liveness());
+        JsonNode readiness = objectMapper.readTree(monitor.current().readiness());
+        assertThat(liveness.path("status").asText()).isEqualTo("UP");
+        assertThat(liveness.path("timestamp").asText()).isEqualTo("2025-06-16T10:00:00Z");
+        assertThat(liveness.has("saturation")).isFalse();
+        assertThat(readiness.path("status").asText()).isEqualTo("UP");
+        assertThat(readiness.path("saturation").path("admission.in-flight").asDouble()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("should not change the payloads between refreshes")
+    void shouldCachePayloadsBetweenRefreshes() {
+        HealthMonitor.Snapshot before = monitor.current();
+        inFlight.set(10);
+
+        assertThat(monitor.current()).isSameAs(before);
+        assertThat(monitor.current().ready()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should stop being ready at the saturation threshold and recover below the recovery threshold")
+    void shouldLeaveAndRejoinRotationWithHysteresis() throws IOException {
+        inFlight.set(9);
+        assertThat(monitor.refresh().ready()).isFalse();
+        assertThat(objectMapper.readTree(monitor.current().readiness()).path("status").asText())
+                .isEqualTo("OUT_OF_SERVICE");
+        assertThat(objectMapper.readTree(monitor.current().liveness()).path("status").asText()).isEqualTo("UP");
+
+        inFlight.set(8);
+        assertThat(monitor.refresh().ready()).isFalse();
+
+        inFlight.set(6);
+        assertThat(monitor.refresh().ready()).isTrue();
+        assertThat(published).containsExactly(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+}
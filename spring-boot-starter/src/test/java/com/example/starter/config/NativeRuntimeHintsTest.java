@@ -0,0 +1,44 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.BulkRiskDecisionResult;
+import com.example.starter.dto.CompanyRegistryRecord;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.ScoringRules;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("should register the types bound with the ObjectMapper outside controllers")
+    void shouldRegisterBoundTypes() {
+        for (Class<?> type : new Class<?>[] {
+                RiskDecisionRequest.class, RiskDecisionResponse.class, BulkRiskDecisionResult.class,
+                CompanyRegistryRecord.class, ScoringRules.class, FxRatesRefresher.RatesDocument.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)).as(type.getName()).accepts(hints);
+        }
+    }
+
+    @Test
+    @DisplayName("should register nested DTO types reached through properties")
+    void shouldRegisterNestedTypes() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(RiskDecisionRequest.Business.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(RiskDecisionResponse.EvaluatedFactors.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BulkRiskDecisionResult.FieldError.class))
+                .accepts(hints);
+    }
+}
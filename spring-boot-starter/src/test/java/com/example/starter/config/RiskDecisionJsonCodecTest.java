@@ -0,0 +1,125 @@
+package com.example.starter.config;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RiskDecisionJsonCodecTest {
+
+    private static final String VALID_REQUEST = """
+            {
+              "client": { "customerId": "CUST-001", "countryOfApplication": "GB" },
+              "business": {
+                "legalName": "Acme Ltd",
+                "countryOfIncorporation": "UK",
+                "dateOfIncorporation": "2020-01-15",
+                "annualTurnover": { "amount": 250000.00, "currency": "GBP" }
+              },
+              "owners": [
+                { "fullName": "Jane Smith", "dateOfBirth": "1990-05-20" },
+                { "fullName": "John Smith", "dateOfBirth": "2000-02-29", "nickname": "JS" }
+              ],
+              "loan": { "requestedAmount": 50000 },
+              "unknownField": { "nested": [1, 2, 3] }
+            }
+            """;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final RiskDecisionJsonCodec codec = new RiskDecisionJsonCodec(objectMapper.getFactory());
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            VALID_REQUEST,
+            "{}",
+            "{\"client\": null, \"owners\": [], \"loan\": {}}",
+            "{\"business\": {\"annualTurnover\": {\"amount\": \"1200.50\"}, \"dateOfIncorporation\": null}}",
+            "{\"client\": {\"customerId\": 42}, \"owners\": [null, {\"dateOfBirth\": \"\"}]}"
+    })
+    @DisplayName("should read requests exactly as Jackson does")
+    void shouldReadLikeJackson(String json) throws Exception {
+        RiskDecisionRequest expected = objectMapper.readValue(json, RiskDecisionRequest.class);
+
+        RiskDecisionRequest actual = codec.readRequest(input(json));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("should write responses exactly as Jackson does")
+    void shouldWriteLikeJackson() throws Exception {
+        RiskDecisionResponse response = RiskDecisionResponse.builder()
+                .decisionId("dec-123")
+                .riskDecision(RiskDecision.REFER)
+                .riskScore(45)
+                .evaluatedFactors(RiskDecisionResponse.EvaluatedFactors.builder()
+                        .companyAgePoints(0)
+                        .turnoverPoints(10)
+                        .ownerAgePoints(5)
+                        .loanToTurnoverPoints(10)
+                        .velocityPoints(20)
+                        .build())
+                .reasons(List.of("Loan-to-turnover ratio is above 15%", "Quote \" and unicode é"))
+                .ruleVersion("2025-06-01")
+                .createdAt(Instant.parse("2025-06-15T12:00:00.123456Z"))
+                .correlationId("corr-1")
+                .build();
+
+        assertThat(objectMapper.readTree(write(response))).isEqualTo(objectMapper.readTree(
+                objectMapper.writeValueAsString(response)));
+    }
+
+    @Test
+    @DisplayName("should write null fields exactly as Jackson does")
+    void shouldWriteNullsLikeJackson() throws Exception {
+        RiskDecisionResponse response = new RiskDecisionResponse();
+
+        assertThat(objectMapper.readTree(write(response))).isEqualTo(objectMapper.readTree(
+                objectMapper.writeValueAsString(response)));
+    }
+
+    @Test
+    @DisplayName("should reject a value of the wrong shape")
+    void shouldRejectWrongShape() {
+        assertThatThrownBy(() -> codec.readRequest(input("{\"owners\": {\"fullName\": \"Jane\"}}")))
+                .isInstanceOf(JsonProcessingException.class)
+                .hasMessageContaining("/owners");
+    }
+
+    @Test
+    @DisplayName("should reject impossible dates")
+    void shouldRejectImpossibleDates() {
+        assertThatThrownBy(() -> codec.readRequest(input(
+                "{\"owners\": [{\"dateOfBirth\": \"2001-02-29\"}]}")))
+                .isInstanceOf(DateTimeException.class);
+    }
+
+    private static ByteArrayInputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String write(RiskDecisionResponse response) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        codec.writeResponse(response, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.starter.config;
+
+import com.example.starter.model.ReasonCode;
+import com.example.starter.service.RuleSet;
+import com.example.starter.service.RuleSetHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ScoringRulesWatcherTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path directory;
+
+    private Path rulesFile;
+    private RuleSetHolder ruleSets;
+    private ScoringRulesWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        rulesFile = directory.resolve("scoring-rules.json");
+        Files.writeString(rulesFile, """
+                {"version": "v1", "referAbove": 30}
+                """);
+        ruleSets = new RuleSetHolder(ScoringRulesWatcher.load(objectMapper, rulesFile));
+        watcher = new ScoringRulesWatcher(objectMapper, rulesFile, Duration.ofMillis(50), ruleSets);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.close();
+    }
+
+    @Test
+    @DisplayName("should fill in unspecified rules with the built-in ones")
+    void shouldDefaultUnspecifiedRules() {
+        RuleSet ruleSet = ruleSets.current();
+
+        assertThat(ruleSet.version()).isEqualTo("v1");
+        assertThat(ruleSet.reason(ReasonCode.YOUNG_COMPANY))
+                .isEqualTo("Company is less than 3 years old");
+    }
+
+    @Test
+    @DisplayName("should swap in a new version when the file changes")
+    void shouldReloadChangedFile() throws Exception {
+        Files.writeString(rulesFile, """
+                {"version": "v2", "referAbove": 40}
+                """);
+
+        awaitReloads(1, 0);
+        assertThat(ruleSets.current().version()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("should keep the current rules when the file is invalid")
+    void shouldKeepRulesWhenFileIsInvalid() throws Exception {
+        RuleSet before = ruleSets.current();
+        Files.writeString(rulesFile, """
+                {"version": "v2", "referAbove": 90, "declineAbove": 60}
+                """);
+
+        awaitReloads(0, 1);
+        assertThat(ruleSets.current()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("should reject changed rules that keep the same version")
+    void shouldRejectChangeWithoutNewVersion() throws Exception {
+        RuleSet before = ruleSets.current();
+        Files.writeString(rulesFile, """
+                {"version": "v1", "referAbove": 20}
+                """);
+
+        awaitReloads(0, 1);
+        assertThat(ruleSets.current()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("should fail to load a file with unknown rules")
+    void shouldFailOnUnknownRules() throws IOException {
+        Files.writeString(rulesFile, """
+                {"version": "v2", "referAbov": 20}
+                """);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ScoringRulesWatcher.load(objectMapper, rulesFile))
+                .withMessageContaining("referAbov");
+    }
+
+    private void awaitReloads(long applied, long rejected) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (watcher.applied() + watcher.rejected() < applied + rejected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(watcher.applied()).isEqualTo(applied);
+        assertThat(watcher.rejected()).isEqualTo(rejected);
+    }
+}
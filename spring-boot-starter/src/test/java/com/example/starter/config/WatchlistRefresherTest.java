@@ -0,0 +1,89 @@
+package com.example.starter.config;
+
+import com.example.starter.service.WatchlistHolder;
+import com.example.starter.service.WatchlistIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class WatchlistRefresherTest {
+
+    @TempDir
+    Path directory;
+
+    private Path listFile;
+    private WatchlistHolder holder;
+    private WatchlistRefresher refresher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        listFile = directory.resolve("watchlist.tsv");
+        Files.writeString(listFile, """
+                # Consolidated list
+                SANCTIONS\tIvan Petrovich Sidorov
+                pep\tJane Example
+
+                """);
+        holder = new WatchlistHolder(WatchlistRefresher.load(listFile));
+        refresher = new WatchlistRefresher(listFile, holder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.close();
+    }
+
+    @Test
+    @DisplayName("should load entries and skip comments and blank lines")
+    void shouldLoadList() {
+        assertThat(holder.current().size()).isEqualTo(2);
+        assertThat(holder.current().match("Jane Example", 0.85).list()).isEqualTo(WatchlistIndex.ListType.PEP);
+    }
+
+    @Test
+    @DisplayName("should index the file again only after it changes")
+    void shouldRefreshChangedList() throws IOException {
+        assertThat(refresher.refresh()).isFalse();
+
+        Files.writeString(listFile, "SANCTIONS\tBlackwater Shipping Co\n");
+
+        assertThat(refresher.refresh()).isTrue();
+        assertThat(holder.current().size()).isEqualTo(1);
+        assertThat(holder.current().match("Ivan Petrovich Sidorov", 0.85)).isNull();
+        assertThat(refresher.refresh()).isFalse();
+        assertThat(refresher.applied()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep the last good index when the list is malformed or missing")
+    void shouldKeepLastGoodIndex() throws IOException {
+        WatchlistIndex lastGood = holder.current();
+
+        Files.writeString(listFile, "SANCTIONS\tIvan Petrovich Sidorov\nWANTED Jane Example\n");
+        assertThat(refresher.refresh()).isFalse();
+        Files.delete(listFile);
+        assertThat(refresher.refresh()).isFalse();
+
+        assertThat(holder.current()).isSameAs(lastGood);
+        assertThat(refresher.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should report the malformed line")
+    void shouldRejectMalformedLine() throws IOException {
+        Files.writeString(listFile, "SANCTIONS\tIvan Petrovich Sidorov\nWANTED\tJane Example\n");
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> WatchlistRefresher.load(listFile))
+                .withMessageContaining("line 2");
+    }
+}
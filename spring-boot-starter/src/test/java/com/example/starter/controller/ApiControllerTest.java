@@ -1,38 +1,80 @@
 package com.example.starter.controller;
 
+import com.example.starter.config.AdmissionProperties;
+import com.example.starter.config.CorrelationIdConfig;
+import com.example.starter.config.GzipRequestBodyFilter;
+import com.example.starter.config.HealthMonitor;
+import com.example.starter.dto.LoanAmountBandsResponse;
 import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.exception.DeadlineExceededException;
+import com.example.starter.exception.InvalidRequestException;
 import com.example.starter.model.RiskDecision;
+import com.example.starter.service.BulkRiskDecisionService;
+import com.example.starter.service.DecisionBandCalculator;
+import com.example.starter.service.DecisionStore;
 import com.example.starter.service.RiskDecisionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ApiController.class)
+@Import({CorrelationIdConfig.class, ApiControllerTest.GzipConfig.class})
+@EnableConfigurationProperties(AdmissionProperties.class)
 class ApiControllerTest {
 
+    private static final int MAX_INFLATED_BYTES = 4096;
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockitoBean
     private RiskDecisionService riskDecisionService;
 
+    @MockitoBean
+    private BulkRiskDecisionService bulkRiskDecisionService;
+
+    @MockitoBean
+    private DecisionStore decisionStore;
+
+    @MockitoBean
+    private DecisionBandCalculator decisionBandCalculator;
+
+    @MockitoBean
+    private HealthMonitor healthMonitor;
+
     private static final String VALID_REQUEST = """
             {
               "client": { "customerId": "CUST-001", "countryOfApplication": "GB" },
@@ -50,12 +92,29 @@ class ApiControllerTest {
     @Test
     @DisplayName("GET /api/v1/health should return UP status")
     void healthEndpointShouldReturnUp() throws Exception {
+        when(healthMonitor.current()).thenReturn(health(true));
+
         mockMvc.perform(get("/api/v1/health"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status", is("UP")))
                 .andExpect(jsonPath("$.timestamp", notNullValue()));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/health/ready should return 503 while saturated")
+    void readinessEndpointShouldReturn503WhenSaturated() throws Exception {
+        when(healthMonitor.current()).thenReturn(health(false));
+
+        mockMvc.perform(get("/api/v1/health/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status", is("OUT_OF_SERVICE")))
+                .andExpect(jsonPath("$.saturation['admission.in-flight']", is(0.95)));
+
+        mockMvc.perform(get("/api/v1/health/live"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("UP")));
+    }
+
     @Nested
     @DisplayName("POST /api/v1/risk-decisions")
     class CreateRiskDecision {
@@ -99,7 +158,12 @@ class ApiControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(requestWithoutClient))
                     .andExpect(status().isBadRequest())
-                    .andExpect(jsonPath("$.title", is("Validation Error")));
+                    .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(jsonPath("$.title", is("Validation Error")))
+                    .andExpect(jsonPath("$.status", is(400)))
+                    .andExpect(jsonPath("$.instance", is("/api/v1/risk-decisions")))
+                    .andExpect(jsonPath("$.errors[0].field", is("client")))
+                    .andExpect(jsonPath("$.errors[0].message", is("Client details are required")));
         }
 
         @Test
@@ -127,12 +191,81 @@ class ApiControllerTest {
         }
 
         @Test
-        @DisplayName("should echo X-Correlation-ID header when provided")
+        @DisplayName("should return 400 with the message when the request cannot be scored")
+        void shouldReturn400ForInvalidRequest() throws Exception {
+            when(riskDecisionService.evaluate(any(), any()))
+                    .thenThrow(new InvalidRequestException("No FX rate from JPY to GBP"));
+
+            mockMvc.perform(post("/api/v1/risk-decisions")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(VALID_REQUEST))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(jsonPath("$.title", is("Invalid Request")))
+                    .andExpect(jsonPath("$.detail", is("No FX rate from JPY to GBP")));
+        }
+
+        @Test
+        @DisplayName("should accept a gzip request body")
+        void shouldAcceptGzipBody() throws Exception {
+            when(riskDecisionService.evaluate(any(), any())).thenReturn(buildMockResponse("gzip-id"));
+
+            mockMvc.perform(post("/api/v1/risk-decisions")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header("Content-Encoding", "gzip")
+                            .content(gzip(VALID_REQUEST)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.riskDecision", is("APPROVE")));
+        }
+
+        @Test
+        @DisplayName("should return 413 for a gzip body that inflates past the limit")
+        void shouldReturn413ForOversizedGzipBody() throws Exception {
+            String padded = VALID_REQUEST + " ".repeat(MAX_INFLATED_BYTES);
+
+            mockMvc.perform(post("/api/v1/risk-decisions")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header("Content-Encoding", "gzip")
+                            .content(gzip(padded)))
+                    .andExpect(status().isPayloadTooLarge())
+                    .andExpect(jsonPath("$.title", is("Payload Too Large")))
+                    .andExpect(jsonPath("$.detail", is("Request body inflates to more than 4096 bytes")));
+        }
+
+        @Test
+        @DisplayName("should return 500 without details on an unexpected error")
+        void shouldReturn500ForUnexpectedError() throws Exception {
+            when(riskDecisionService.evaluate(any(), any())).thenThrow(new IllegalStateException("secret"));
+
+            mockMvc.perform(post("/api/v1/risk-decisions")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(VALID_REQUEST))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.title", is("Internal Server Error")))
+                    .andExpect(jsonPath("$.detail", is("An unexpected error occurred")));
+        }
+
+        @Test
+        @DisplayName("should return 503 with Retry-After when the request deadline runs out")
+        void shouldReturn503WhenDeadlineExceeded() throws Exception {
+            when(riskDecisionService.evaluate(any(), any())).thenThrow(new DeadlineExceededException());
+
+            mockMvc.perform(post("/api/v1/risk-decisions")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(VALID_REQUEST))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(jsonPath("$.title", is("Service Unavailable")));
+        }
+
+        @Test
+        @DisplayName("should echo X-Correlation-ID header when provided, as a retryable request")
         void shouldEchoCorrelationId() throws Exception {
             // given
             String correlationId = "my-correlation-id";
             RiskDecisionResponse mockResponse = buildMockResponse(correlationId);
-            when(riskDecisionService.evaluate(any(), eq(correlationId))).thenReturn(mockResponse);
+            when(riskDecisionService.evaluateRetryable(any(), eq(correlationId))).thenReturn(mockResponse);
 
             // when/then
             mockMvc.perform(post("/api/v1/risk-decisions")
@@ -156,6 +289,131 @@ class ApiControllerTest {
                             .content(VALID_REQUEST))
                     .andExpect(status().isCreated())
                     .andExpect(header().exists("X-Correlation-ID"));
+            verify(riskDecisionService, never()).evaluateRetryable(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/risk-decisions/bulk")
+    class CreateRiskDecisions {
+
+        private static final String BULK_RESULTS = """
+                {"index":0,"correlationId":"batch-1-0","decision":{"riskDecision":"APPROVE"}}
+                {"index":1,"correlationId":"batch-1-1","errors":[{"field":"loan","message":"required"}]}
+                """;
+
+        @Test
+        @DisplayName("should stream NDJSON results for a JSON array")
+        void shouldStreamResultsForJsonArray() throws Exception {
+            String body = "[" + VALID_REQUEST + "," + VALID_REQUEST + "]";
+            givenBulkResults(body);
+
+            MvcResult result = mockMvc.perform(post("/api/v1/risk-decisions/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header("X-Correlation-ID", "batch-1")
+                            .content(body))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Correlation-ID", "batch-1"))
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(BULK_RESULTS));
+        }
+
+        @Test
+        @DisplayName("should stream NDJSON results for an NDJSON request")
+        void shouldStreamResultsForNdjson() throws Exception {
+            String body = VALID_REQUEST.replace("\n", "") + "\n" + VALID_REQUEST.replace("\n", "") + "\n";
+            givenBulkResults(body);
+
+            MvcResult result = mockMvc.perform(post("/api/v1/risk-decisions/bulk")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .header("X-Correlation-ID", "batch-1")
+                            .content(body))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(BULK_RESULTS));
+        }
+
+        /** The service gets the request body unchanged and writes one line per item. */
+        private void givenBulkResults(String expectedBody) throws Exception {
+            when(bulkRiskDecisionService.evaluateAll(any(), any(), eq("batch-1"), any())).thenAnswer(invocation -> {
+                InputStream input = invocation.getArgument(0);
+                assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(expectedBody);
+                OutputStream output = invocation.getArgument(1);
+                output.write(BULK_RESULTS.getBytes(StandardCharsets.UTF_8));
+                return 2L;
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/risk-decisions/{decisionId}")
+    class GetRiskDecision {
+
+        @Test
+        @DisplayName("should return a stored decision")
+        void shouldReturnStoredDecision() throws Exception {
+            when(decisionStore.find("dec-123")).thenReturn(Optional.of(buildMockResponse("corr-1")));
+
+            mockMvc.perform(get("/api/v1/risk-decisions/dec-123"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.decisionId", is("dec-123")))
+                    .andExpect(jsonPath("$.correlationId", is("corr-1")));
+        }
+
+        @Test
+        @DisplayName("should return 404 for an unknown decision")
+        void shouldReturn404ForUnknownDecision() throws Exception {
+            when(decisionStore.find("unknown")).thenReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/v1/risk-decisions/unknown"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.status", is(404)));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/risk-decisions/loan-bands and /what-if")
+    class WhatIf {
+
+        @Test
+        @DisplayName("should return the loan amount bands")
+        void shouldReturnLoanAmountBands() throws Exception {
+            when(decisionBandCalculator.loanAmountBands(any())).thenReturn(LoanAmountBandsResponse.builder()
+                    .ruleVersion("default")
+                    .maxApprovableAmount(99_999.99)
+                    .maxReferableAmount(200_000.0)
+                    .bands(List.of(LoanAmountBandsResponse.Band.builder()
+                            .fromAmount(0)
+                            .toAmount(100_000.0)
+                            .riskDecision(RiskDecision.APPROVE)
+                            .riskScore(15)
+                            .build()))
+                    .build());
+
+            mockMvc.perform(post("/api/v1/risk-decisions/loan-bands")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(VALID_REQUEST))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.maxApprovableAmount", is(99_999.99)))
+                    .andExpect(jsonPath("$.bands[0].riskDecision", is("APPROVE")));
+        }
+
+        @Test
+        @DisplayName("should return 400 when a what-if request has no loan amounts")
+        void shouldReturn400WhenLoanAmountsMissing() throws Exception {
+            mockMvc.perform(post("/api/v1/risk-decisions/what-if")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"request\": " + VALID_REQUEST + "}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors[0].field", is("loanAmounts")));
         }
     }
 
@@ -175,4 +433,31 @@ class ApiControllerTest {
                 .correlationId(correlationId)
                 .build();
     }
+
+    static HealthMonitor.Snapshot health(boolean ready) {
+        byte[] liveness = """
+                {"status": "UP", "timestamp": "2025-06-16T10:00:00Z"}""".getBytes(StandardCharsets.UTF_8);
+        byte[] readiness = ("{\"status\": \"" + (ready ? "UP" : "OUT_OF_SERVICE") + "\", "
+                + "\"timestamp\": \"2025-06-16T10:00:00Z\", "
+                + "\"saturation\": {\"admission.in-flight\": " + (ready ? 0.5 : 0.95) + "}}")
+                .getBytes(StandardCharsets.UTF_8);
+        return new HealthMonitor.Snapshot(ready, liveness, readiness);
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+
+    @TestConfiguration
+    static class GzipConfig {
+
+        @Bean
+        GzipRequestBodyFilter gzipRequestBodyFilter() {
+            return new GzipRequestBodyFilter(MAX_INFLATED_BYTES);
+        }
+    }
 }
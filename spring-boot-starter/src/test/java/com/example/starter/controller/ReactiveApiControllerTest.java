@@ -0,0 +1,209 @@
+package com.example.starter.controller;
+
+import com.example.starter.config.CorrelationIdConfig;
+import com.example.starter.config.HealthMonitor;
+import com.example.starter.dto.BulkRiskDecisionResult;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.example.starter.service.DecisionBandCalculator;
+import com.example.starter.service.DecisionStore;
+import com.example.starter.service.ReactiveRiskDecisionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveApiController.class)
+@Import(CorrelationIdConfig.class)
+class ReactiveApiControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveRiskDecisionService riskDecisionService;
+
+    @MockitoBean
+    private DecisionStore decisionStore;
+
+    @MockitoBean
+    private DecisionBandCalculator decisionBandCalculator;
+
+    @MockitoBean
+    private HealthMonitor healthMonitor;
+
+    private static final String VALID_REQUEST = """
+            {
+              "client": { "customerId": "CUST-001", "countryOfApplication": "GB" },
+              "business": {
+                "legalName": "Acme Ltd",
+                "countryOfIncorporation": "UK",
+                "dateOfIncorporation": "2020-01-15",
+                "annualTurnover": { "amount": 250000.00, "currency": "GBP" }
+              },
+              "owners": [{ "fullName": "Jane Smith", "dateOfBirth": "1990-05-20" }],
+              "loan": { "requestedAmount": 50000.00 }
+            }
+            """;
+
+    @Test
+    @DisplayName("GET /api/v1/health should return UP status")
+    void healthEndpointShouldReturnUp() {
+        when(healthMonitor.current()).thenReturn(ApiControllerTest.health(true));
+
+        webTestClient.get().uri("/api/v1/health")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("UP")
+                .jsonPath("$.timestamp").isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/health/ready should return 503 while saturated")
+    void readinessEndpointShouldReturn503WhenSaturated() {
+        when(healthMonitor.current()).thenReturn(ApiControllerTest.health(false));
+
+        webTestClient.get().uri("/api/v1/health/ready")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("OUT_OF_SERVICE");
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/risk-decisions")
+    class CreateRiskDecision {
+
+        @Test
+        @DisplayName("should return 201 and echo X-Correlation-ID")
+        void shouldReturn201AndEchoCorrelationId() {
+            when(riskDecisionService.evaluate(any(), eq("my-correlation-id"), eq(true)))
+                    .thenReturn(Mono.just(buildMockResponse("my-correlation-id")));
+
+            webTestClient.post().uri("/api/v1/risk-decisions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("X-Correlation-ID", "my-correlation-id")
+                    .bodyValue(VALID_REQUEST)
+                    .exchange()
+                    .expectStatus().isCreated()
+                    .expectHeader().valueEquals("X-Correlation-ID", "my-correlation-id")
+                    .expectBody()
+                    .jsonPath("$.riskDecision").isEqualTo("APPROVE")
+                    .jsonPath("$.correlationId").isEqualTo("my-correlation-id");
+        }
+
+        @Test
+        @DisplayName("should generate X-Correlation-ID when not provided")
+        void shouldGenerateCorrelationIdWhenMissing() {
+            when(riskDecisionService.evaluate(any(), any(), eq(false)))
+                    .thenAnswer(invocation -> Mono.just(buildMockResponse(invocation.getArgument(1))));
+
+            webTestClient.post().uri("/api/v1/risk-decisions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(VALID_REQUEST)
+                    .exchange()
+                    .expectStatus().isCreated()
+                    .expectHeader().value("X-Correlation-ID", id -> assertThat(id).isNotBlank());
+        }
+
+        @Test
+        @DisplayName("should return 400 with field errors when client is missing")
+        void shouldReturn400WhenClientIsMissing() {
+            String requestWithoutClient = VALID_REQUEST.replace(
+                    "\"client\": { \"customerId\": \"CUST-001\", \"countryOfApplication\": \"GB\" },", "");
+
+            webTestClient.post().uri("/api/v1/risk-decisions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(requestWithoutClient)
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.title").isEqualTo("Validation Error")
+                    .jsonPath("$.errors[0].field").isEqualTo("client")
+                    .jsonPath("$.errors[0].message").isEqualTo("Client details are required");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/risk-decisions/{decisionId}")
+    class GetRiskDecision {
+
+        @Test
+        @DisplayName("should return a stored decision")
+        void shouldReturnStoredDecision() {
+            when(decisionStore.find("dec-123")).thenReturn(Optional.of(buildMockResponse("corr-1")));
+
+            webTestClient.get().uri("/api/v1/risk-decisions/dec-123")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.decisionId").isEqualTo("dec-123");
+        }
+
+        @Test
+        @DisplayName("should return 404 for an unknown decision")
+        void shouldReturn404ForUnknownDecision() {
+            when(decisionStore.find("unknown")).thenReturn(Optional.empty());
+
+            webTestClient.get().uri("/api/v1/risk-decisions/unknown")
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo(404);
+        }
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/risk-decisions/bulk should stream results as NDJSON")
+    void bulkShouldStreamNdjson() {
+        when(riskDecisionService.evaluateAll(any(), eq("batch-1"))).thenReturn(Flux.just(
+                BulkRiskDecisionResult.builder().index(0).correlationId("batch-1-0")
+                        .decision(buildMockResponse("batch-1-0")).build(),
+                BulkRiskDecisionResult.builder().index(1).correlationId("batch-1-1")
+                        .decision(buildMockResponse("batch-1-1")).build()));
+
+        List<BulkRiskDecisionResult> results = webTestClient.post().uri("/api/v1/risk-decisions/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("X-Correlation-ID", "batch-1")
+                .bodyValue(VALID_REQUEST.replace("\n", "") + "\n" + VALID_REQUEST.replace("\n", "") + "\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectHeader().valueEquals("X-Correlation-ID", "batch-1")
+                .returnResult(BulkRiskDecisionResult.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(results).extracting(BulkRiskDecisionResult::getCorrelationId)
+                .containsExactly("batch-1-0", "batch-1-1");
+    }
+
+    private RiskDecisionResponse buildMockResponse(String correlationId) {
+        return RiskDecisionResponse.builder()
+                .decisionId("dec-123")
+                .riskDecision(RiskDecision.APPROVE)
+                .riskScore(0)
+                .reasons(List.of())
+                .createdAt(Instant.now())
+                .correlationId(correlationId)
+                .build();
+    }
+}
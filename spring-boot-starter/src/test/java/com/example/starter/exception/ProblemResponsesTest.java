@@ -0,0 +1,103 @@
+package com.example.starter.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.FieldError;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemResponsesTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ProblemResponses problems = new ProblemResponses();
+
+    @Test
+    @DisplayName("should write validation failures exactly as Jackson writes the ProblemDetail")
+    void shouldWriteValidationFailureLikeJackson() throws Exception {
+        List<FieldError> errors = List.of(
+                error("client.customerId", "NotBlank", "Customer ID is required"),
+                error("owners[1].fullName", "NotBlank", "Owner \"full\" name is required"));
+        ProblemDetail expected = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Request validation failed");
+        expected.setTitle("Validation Error");
+        expected.setInstance(URI.create("/api/v1/risk-decisions"));
+        expected.setProperty("errors", List.of(
+                new Entry("client.customerId", "Customer ID is required"),
+                new Entry("owners[1].fullName", "Owner \"full\" name is required")));
+
+        // Twice, so that the second response is written from the cached fragments
+        problems.validationFailed(errors, "/api/v1/risk-decisions");
+        ResponseEntity<Object> response = problems.validationFailed(errors, "/api/v1/risk-decisions");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+        assertThat(body(response)).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    @DisplayName("should write other problems exactly as Jackson writes the ProblemDetail")
+    void shouldWriteProblemLikeJackson() throws Exception {
+        ProblemDetail expected = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "No FX rate from JPY to GBP");
+        expected.setTitle("Invalid Request");
+        expected.setInstance(URI.create("/api/v1/risk-decisions"));
+
+        ResponseEntity<Object> response = problems.problem(
+                HttpStatus.BAD_REQUEST, "Invalid Request", "No FX rate from JPY to GBP", "/api/v1/risk-decisions");
+
+        assertThat(body(response)).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    @DisplayName("should count rejections by field without list indices and by constraint")
+    void shouldCountRejections() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        problems.validationFailed(List.of(error("owners[0].fullName", "NotBlank", "Owner full name is required")), "/");
+        problems.bindTo(registry);
+        problems.validationFailed(List.of(
+                error("owners[3].fullName", "NotBlank", "Owner full name is required"),
+                error("loan", "NotNull", "Loan details are required")), "/");
+
+        assertThat(problems.rejected("owners[].fullName", "NotBlank")).isEqualTo(2);
+        assertThat(registry.get("risk.validation.errors")
+                .tags("field", "owners[].fullName", "code", "NotBlank").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("risk.validation.errors")
+                .tags("field", "loan", "code", "NotNull").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep writing and counting once the fragment cache is full")
+    void shouldWriteUncachedFieldsWhenFull() throws Exception {
+        for (int i = 0; i < ProblemResponses.MAX_FRAGMENTS; i++) {
+            problems.validationFailed(List.of(error("owners[" + i + "].fullName", "NotBlank", "Required")), "/");
+        }
+
+        ResponseEntity<Object> response = problems.validationFailed(
+                List.of(error("owners[99999].fullName", "NotBlank", "Required")), "/");
+
+        assertThat(objectMapper.readTree(body(response)).at("/errors/0/field").asText())
+                .isEqualTo("owners[99999].fullName");
+        assertThat(problems.rejected("owners[].fullName", "NotBlank")).isEqualTo(ProblemResponses.MAX_FRAGMENTS + 1);
+    }
+
+    record Entry(String field, String message) {
+    }
+
+    private static FieldError error(String field, String code, String message) {
+        return new FieldError("riskDecisionRequest", field, null, false,
+                new String[]{code + ".riskDecisionRequest." + field, code}, null, message);
+    }
+
+    private static String body(ResponseEntity<Object> response) {
+        return new String((byte[]) response.getBody(), StandardCharsets.UTF_8);
+    }
+}
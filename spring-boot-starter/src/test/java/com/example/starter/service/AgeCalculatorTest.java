@@ -0,0 +1,121 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.model.ScoringRules;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class AgeCalculatorTest {
+
+    private static final RuleSet RULES = RuleSet.defaults();
+
+    @Test
+    @DisplayName("should agree with Period.between around every threshold, including leap days")
+    void shouldMatchCalendarArithmetic() {
+        for (LocalDate today = LocalDate.of(2023, 1, 1); today.isBefore(LocalDate.of(2029, 1, 1));
+             today = today.plusDays(1)) {
+            AgeCalculator.AgeCutoffs cutoffs = AgeCalculator.AgeCutoffs.forDay(RULES, today, Long.MAX_VALUE);
+
+            for (LocalDate date : datesAroundThresholds(today)) {
+                int years = Period.between(date, today).getYears();
+                int expectedBand = years < 21 ? AgeCalculator.AgeCutoffs.VERY_YOUNG_OWNER
+                        : years < 25 ? AgeCalculator.AgeCutoffs.YOUNG_OWNER
+                        : AgeCalculator.AgeCutoffs.MATURE_OWNER;
+
+                assertThat(cutoffs.isYoungCompany(date.toEpochDay()))
+                        .as("company incorporated %s on %s", date, today).isEqualTo(years < 3);
+                assertThat(cutoffs.ownerBand(date.toEpochDay()))
+                        .as("owner born %s on %s", date, today).isEqualTo(expectedBand);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should band owners by the youngest one")
+    void shouldUseYoungestOwner() {
+        AgeCalculator.AgeCutoffs cutoffs =
+                AgeCalculator.AgeCutoffs.forDay(RULES, LocalDate.of(2025, 6, 15), Long.MAX_VALUE);
+        List<RiskDecisionRequest.Owner> owners = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            owners.add(new RiskDecisionRequest.Owner("Owner " + i, LocalDate.of(1950, 1, 1).plusDays(i)));
+        }
+        owners.add(500, new RiskDecisionRequest.Owner("Youngest", LocalDate.of(2002, 1, 1)));
+
+        assertThat(cutoffs.youngestOwnerBand(owners)).isEqualTo(AgeCalculator.AgeCutoffs.YOUNG_OWNER);
+        assertThatIllegalArgumentException().isThrownBy(() -> cutoffs.youngestOwnerBand(List.of()));
+    }
+
+    @Test
+    @DisplayName("should keep cut-offs until midnight or a new rule set")
+    void shouldRefreshAtMidnightAndOnNewRules() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-14T23:59:59Z"));
+        AgeCalculator calculator = new AgeCalculator(clock);
+
+        AgeCalculator.AgeCutoffs beforeMidnight = calculator.cutoffs(RULES);
+        assertThat(calculator.cutoffs(RULES)).isSameAs(beforeMidnight);
+
+        clock.instant = Instant.parse("2025-06-15T00:00:00Z");
+        AgeCalculator.AgeCutoffs afterMidnight = calculator.cutoffs(RULES);
+        assertThat(afterMidnight.today()).isEqualTo(beforeMidnight.today() + 1);
+
+        ScoringRules rules = new ScoringRules();
+        rules.setVersion("v2");
+        rules.setYoungCompanyYears(5);
+        RuleSet newRules = RuleSet.compile(rules);
+        assertThat(calculator.cutoffs(newRules).youngCompany())
+                .isEqualTo(LocalDate.of(2020, 6, 15).toEpochDay());
+    }
+
+    private static List<LocalDate> datesAroundThresholds(LocalDate today) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int years : new int[]{3, 21, 25}) {
+            LocalDate anniversary = today.minusYears(years);
+            for (int days = -2; days <= 2; days++) {
+                dates.add(anniversary.plusDays(days));
+            }
+            int year = anniversary.getYear();
+            dates.add(LocalDate.of(year, 2, 28));
+            dates.add(LocalDate.of(year, 3, 1));
+            if (LocalDate.of(year, 1, 1).isLeapYear()) {
+                dates.add(LocalDate.of(year, 2, 29));
+            }
+        }
+        return dates;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class BatchScorerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private final RiskDecisionService reference = RiskDecisionServiceImplTest.engine(FIXED_CLOCK);
+    private final BatchScorer batchScorer =
+            new BatchScorer(new RuleSetHolder(RuleSet.defaults()), 4, 1024, FIXED_CLOCK);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should score a CSV loan book like RiskDecisionServiceImpl")
+    void shouldScoreCsvLikeReferenceImplementation() throws IOException {
+        List<RiskDecisionRequest> requests = randomRequests(2_000);
+        Path input = directory.resolve("loans.csv");
+        StringBuilder csv = new StringBuilder("customerId,legalName,dateOfIncorporation,annualTurnover,"
+                + "currency,ownerDatesOfBirth,requestedAmount\r\n");
+        for (RiskDecisionRequest request : requests) {
+            csv.append(request.getClient().getCustomerId()).append(",\"Acme, \"\"Holdings\"\" Ltd\",")
+                    .append(request.getBusiness().getDateOfIncorporation()).append(',')
+                    .append(request.getBusiness().getAnnualTurnover().getAmount()).append(",GBP,")
+                    .append(request.getOwners().stream()
+                            .map(owner -> owner.getDateOfBirth().toString())
+                            .collect(Collectors.joining(";")))
+                    .append(',').append(request.getLoan().getRequestedAmount()).append("\r\n");
+        }
+        Files.writeString(input, csv);
+        Path output = directory.resolve("decisions.bin");
+
+        BatchScorer.Result result = batchScorer.score(
+                input, BatchScorer.InputFormat.CSV, output, BatchScorer.OutputFormat.BINARY);
+
+        assertThat(result.rows()).isEqualTo(requests.size());
+        assertThat(result.invalid()).isZero();
+        assertMatchesReference(requests, output);
+    }
+
+    @Test
+    @DisplayName("should score an NDJSON loan book like RiskDecisionServiceImpl")
+    void shouldScoreNdjsonLikeReferenceImplementation() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<RiskDecisionRequest> requests = randomRequests(2_000);
+        Path input = directory.resolve("loans.ndjson");
+        StringBuilder ndjson = new StringBuilder();
+        for (RiskDecisionRequest request : requests) {
+            ndjson.append(objectMapper.writeValueAsString(request)).append('\n');
+        }
+        Files.writeString(input, ndjson);
+        Path output = directory.resolve("decisions.bin");
+
+        BatchScorer.Result result = batchScorer.score(
+                input, BatchScorer.InputFormat.of(input), output, BatchScorer.OutputFormat.BINARY);
+
+        assertThat(result.rows()).isEqualTo(requests.size());
+        assertMatchesReference(requests, output);
+    }
+
+    @Test
+    @DisplayName("should write invalid rows in place and keep going")
+    void shouldMarkInvalidRows() throws IOException {
+        Path input = directory.resolve("loans.csv");
+        Files.writeString(input, """
+                dateOfIncorporation,annualTurnover,ownerDatesOfBirth,requestedAmount
+                2010-01-01,1000000,1980-01-01,0
+
+                2010-02-30,1000000,1980-01-01,0
+                2010-01-01,-1,1980-01-01,0
+                2010-01-01,1000000,,0
+                2024-01-01,50000,2005-01-01;1980-01-01,20000
+                """);
+        Path output = directory.resolve("decisions.csv");
+
+        BatchScorer.Result result = batchScorer.score(
+                input, BatchScorer.InputFormat.CSV, output, BatchScorer.OutputFormat.CSV);
+
+        assertThat(result.rows()).isEqualTo(5);
+        assertThat(result.invalid()).isEqualTo(3);
+        assertThat(result.count(RiskDecision.APPROVE)).isEqualTo(1);
+        assertThat(result.count(RiskDecision.DECLINE)).isEqualTo(1);
+        assertThat(Files.readAllLines(output)).containsExactly(
+                "riskDecision,riskScore,reasons",
+                "APPROVE,15,MID_TURNOVER|MATURE_OWNER",
+                "INVALID,,",
+                "INVALID,,",
+                "INVALID,,",
+                "DECLINE,100,YOUNG_COMPANY|LOW_TURNOVER|VERY_YOUNG_OWNER|HIGH_LOAN_TO_TURNOVER");
+    }
+
+    @Test
+    @DisplayName("should band turnover in the base currency of the FX rates")
+    void shouldConvertTurnoverCurrency() throws IOException {
+        FxRatesHolder fxRates = new FxRatesHolder(FxRates.of(
+                "GBP", Instant.parse("2025-06-15T00:00:00Z"), Map.of("EUR", 1.25)));
+        BatchScorer scorer = new BatchScorer(new RuleSetHolder(RuleSet.defaults()), fxRates, 1, 1024, FIXED_CLOCK);
+        Path input = directory.resolve("loans.csv");
+        Files.writeString(input, """
+                dateOfIncorporation,annualTurnover,currency,ownerDatesOfBirth,requestedAmount
+                2010-01-01,110000,EUR,1980-01-01,0
+                2010-01-01,110000,GBP,1980-01-01,0
+                2010-01-01,110000,,1980-01-01,0
+                2010-01-01,110000,JPY,1980-01-01,0
+                2010-01-01,110000,euro,1980-01-01,0
+                """);
+        Path output = directory.resolve("decisions.csv");
+
+        BatchScorer.Result result = scorer.score(
+                input, BatchScorer.InputFormat.CSV, output, BatchScorer.OutputFormat.CSV);
+
+        assertThat(result.invalid()).isEqualTo(2);
+        assertThat(Files.readAllLines(output)).containsExactly(
+                "riskDecision,riskScore,reasons",
+                "REFER,35,LOW_TURNOVER|MATURE_OWNER",
+                "APPROVE,15,MID_TURNOVER|MATURE_OWNER",
+                "APPROVE,15,MID_TURNOVER|MATURE_OWNER",
+                "INVALID,,",
+                "INVALID,,");
+    }
+
+    @Test
+    @DisplayName("should reject a CSV header without a column scoring needs")
+    void shouldRejectIncompleteHeader() throws IOException {
+        Path input = directory.resolve("loans.csv");
+        Files.writeString(input, "dateOfIncorporation,annualTurnover,requestedAmount\n2010-01-01,1000000,0\n");
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> batchScorer.score(input, BatchScorer.InputFormat.CSV,
+                        directory.resolve("decisions.bin"), BatchScorer.OutputFormat.BINARY))
+                .withMessageContaining("ownerDatesOfBirth");
+    }
+
+    private void assertMatchesReference(List<RiskDecisionRequest> requests, Path output) throws IOException {
+        ByteBuffer decisions = ByteBuffer.wrap(Files.readAllBytes(output));
+        byte[] magic = new byte[4];
+        decisions.get(magic);
+        assertThat(new String(magic, StandardCharsets.US_ASCII)).isEqualTo("RDEC");
+        assertThat(decisions.getInt()).isEqualTo(BatchScorer.FORMAT_VERSION);
+        assertThat(decisions.getLong()).isEqualTo(requests.size());
+        byte[] ruleVersion = new byte[decisions.getShort()];
+        decisions.get(ruleVersion);
+        assertThat(new String(ruleVersion, StandardCharsets.UTF_8)).isEqualTo("default");
+
+        for (RiskDecisionRequest request : requests) {
+            RiskDecisionResponse expected = reference.evaluate(request, "id");
+            RiskDecision decision = RiskDecision.values()[decisions.get()];
+            int score = decisions.get();
+            int reasons = decisions.getShort();
+
+            assertThat(decision).as("decision for %s", request).isEqualTo(expected.getRiskDecision());
+            assertThat(score).as("score for %s", request).isEqualTo(expected.getRiskScore());
+            assertThat(RuleSet.defaults().reasonLists[reasons]).as("reasons for %s", request)
+                    .isEqualTo(expected.getReasons());
+        }
+        assertThat(decisions.hasRemaining()).isFalse();
+    }
+
+    private static List<RiskDecisionRequest> randomRequests(int count) {
+        Random random = new Random(42);
+        List<RiskDecisionRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<RiskDecisionRequest.Owner> owners = new ArrayList<>();
+            for (int j = 0, owned = 1 + random.nextInt(3); j < owned; j++) {
+                owners.add(new RiskDecisionRequest.Owner("Owner " + j, TODAY.minusDays(random.nextInt(365 * 40))));
+            }
+            double[] turnovers = {0, 99_999.99, 100_000, 250_000, 5_000_000, 5_000_000.01, 12_000_000};
+            double turnover = turnovers[random.nextInt(turnovers.length)];
+            double requestedAmount = random.nextBoolean()
+                    ? turnover * (random.nextInt(30) / 100.0)
+                    : random.nextInt(2_000_000) + random.nextInt(100) / 100.0;
+            requests.add(new RiskDecisionRequest(
+                    new RiskDecisionRequest.Client("CUST-" + i, "GB"),
+                    new RiskDecisionRequest.Business("Acme Ltd", "UK", TODAY.minusDays(random.nextInt(365 * 8)),
+                            new RiskDecisionRequest.AnnualTurnover(turnover, "GBP")),
+                    owners,
+                    new RiskDecisionRequest.Loan(requestedAmount)));
+        }
+        return requests;
+    }
+}
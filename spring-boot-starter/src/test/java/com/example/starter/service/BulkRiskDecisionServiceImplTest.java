@@ -0,0 +1,220 @@
+package com.example.starter.service;
+
+import com.example.starter.config.BulkProperties;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkRiskDecisionServiceImplTest {
+
+    private static final String VALID_ITEM = """
+            {"client":{"customerId":"CUST-001","countryOfApplication":"GB"},\
+            "business":{"legalName":"Acme Ltd","countryOfIncorporation":"UK","dateOfIncorporation":"2020-01-15",\
+            "annualTurnover":{"amount":250000.00,"currency":"GBP"}},\
+            "owners":[{"fullName":"Jane Smith","dateOfBirth":"1990-05-20"}],\
+            "loan":{"requestedAmount":50000.00}}""";
+
+    private static final String MISSING_CLIENT_ITEM = """
+            {"business":{"legalName":"Acme Ltd","countryOfIncorporation":"UK","dateOfIncorporation":"2020-01-15",\
+            "annualTurnover":{"amount":250000.00,"currency":"GBP"}},\
+            "owners":[{"fullName":"Jane Smith","dateOfBirth":"1990-05-20"}],\
+            "loan":{"requestedAmount":50000.00}}""";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private ValidatorFactory validatorFactory;
+    private ExecutorService executor;
+    private BulkProperties properties;
+    private BulkRiskDecisionService bulkRiskDecisionService;
+
+    @BeforeEach
+    void setUp() {
+        RiskDecisionService riskDecisionService = mock(RiskDecisionService.class);
+        when(riskDecisionService.evaluate(any(), anyString()))
+                .thenAnswer(invocation -> RiskDecisionResponse.builder()
+                        .decisionId("dec-123")
+                        .riskDecision(RiskDecision.APPROVE)
+                        .createdAt(Instant.now())
+                        .correlationId(invocation.getArgument(1))
+                        .build());
+
+        properties = new BulkProperties();
+        properties.setMaxInFlight(2);
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        executor = Executors.newFixedThreadPool(4);
+        bulkRiskDecisionService = new BulkRiskDecisionServiceImpl(
+                riskDecisionService, validatorFactory.getValidator(), objectMapper, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("should score every item of a JSON array")
+    void shouldScoreJsonArray() throws Exception {
+        String body = "[" + String.join(",", VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM) + "]";
+
+        List<JsonNode> results = run(body);
+
+        assertThat(results).hasSize(5);
+        assertThat(results).extracting(result -> result.get("index").asInt()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results).allSatisfy(result -> assertThat(result.get("decision").get("riskDecision").asText())
+                .isEqualTo("APPROVE"));
+        assertThat(results.get(3).get("correlationId").asText()).isEqualTo("batch-3");
+    }
+
+    @Test
+    @DisplayName("should score every line of an NDJSON stream")
+    void shouldScoreNdjson() throws Exception {
+        String body = VALID_ITEM + "\n" + VALID_ITEM + "\n" + VALID_ITEM + "\n";
+
+        List<JsonNode> results = run(body);
+
+        assertThat(results).hasSize(3);
+        assertThat(results).allSatisfy(result -> assertThat(result.has("decision")).isTrue());
+    }
+
+    @Test
+    @DisplayName("should report validation errors inline without failing the batch")
+    void shouldReportValidationErrorsInline() throws Exception {
+        String body = "[" + VALID_ITEM + "," + MISSING_CLIENT_ITEM + "," + VALID_ITEM + "]";
+
+        List<JsonNode> results = run(body);
+
+        assertThat(results).hasSize(3);
+        JsonNode rejected = results.get(1);
+        assertThat(rejected.has("decision")).isFalse();
+        assertThat(rejected.get("errors").get(0).get("field").asText()).isEqualTo("client");
+        assertThat(rejected.get("errors").get(0).get("message").asText()).isEqualTo("Client details are required");
+        assertThat(results.get(2).has("decision")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should report unreadable values with their field path")
+    void shouldReportUnreadableValues() throws Exception {
+        String badDate = VALID_ITEM.replace("\"1990-05-20\"", "\"not-a-date\"");
+
+        List<JsonNode> results = run(badDate);
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).get("errors").get(0).get("field").asText()).isEqualTo("owners[0].dateOfBirth");
+        assertThat(results.get(0).get("errors").get(0).get("message").asText()).isEqualTo("Invalid value");
+    }
+
+    @Test
+    @DisplayName("should stop at malformed JSON after writing completed items")
+    void shouldStopAtMalformedJson() throws Exception {
+        String body = VALID_ITEM + "\n{\"client\": ";
+
+        List<JsonNode> results = run(body);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).has("decision")).isTrue();
+        assertThat(results.get(1).get("errors").get(0).get("message").asText()).startsWith("Malformed JSON");
+    }
+
+    @Test
+    @DisplayName("should reject the rest of the batch once the request deadline has passed")
+    void shouldStopAtRequestDeadline() throws Exception {
+        RiskDecisionService slow = mock(RiskDecisionService.class);
+        when(slow.evaluate(any(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return RiskDecisionResponse.builder()
+                    .decisionId("dec-123")
+                    .riskDecision(RiskDecision.APPROVE)
+                    .correlationId(invocation.getArgument(1))
+                    .build();
+        });
+        bulkRiskDecisionService = new BulkRiskDecisionServiceImpl(
+                slow, validatorFactory.getValidator(), objectMapper, executor, properties);
+        String body = String.join("\n", VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM);
+
+        // Two items fill the window, and the deadline passes while waiting for a slot
+        List<JsonNode> results = run(body, RequestDeadline.in(TimeUnit.MILLISECONDS.toNanos(50)));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).has("decision")).isTrue();
+        assertThat(results.get(1).has("decision")).isTrue();
+        assertThat(results.get(2).get("index").asInt()).isEqualTo(2);
+        assertThat(results.get(2).get("errors").get(0).get("message").asText())
+                .isEqualTo("Request deadline exceeded");
+    }
+
+    @Test
+    @DisplayName("should read no input once the request deadline has passed")
+    void shouldReadNothingAfterRequestDeadline() throws Exception {
+        List<JsonNode> results = run(VALID_ITEM, RequestDeadline.in(0));
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).get("index").asInt()).isZero();
+        assertThat(results.get(0).get("errors").get(0).get("message").asText())
+                .isEqualTo("Request deadline exceeded");
+    }
+
+    @Test
+    @DisplayName("should score items against velocity without recording them")
+    void shouldNotRecordVelocity() throws Exception {
+        VelocityTracker velocity = new SlidingWindowVelocityTracker(Duration.ofHours(1), 12, 1024, 1, () -> 0);
+        velocity.record("CUST-001");
+        RiskDecisionService engine = new RiskDecisionServiceImpl(Clock.systemUTC(), ScoringFactorTimers.NOOP,
+                new RuleSetHolder(RuleSet.defaults()), new FxRatesHolder(FxRates.NONE), new TimeOrderedIdGenerator(),
+                velocity);
+        bulkRiskDecisionService = new BulkRiskDecisionServiceImpl(
+                engine, validatorFactory.getValidator(), objectMapper, executor, properties);
+        String body = String.join("\n", VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM);
+
+        List<JsonNode> results = run(body);
+
+        // Each item is the customer's second application, however many share the batch
+        assertThat(results).hasSize(5).allSatisfy(result -> assertThat(
+                result.get("decision").get("evaluatedFactors").get("velocityPoints").asInt()).isZero());
+        assertThat(velocity.count("CUST-001")).isEqualTo(1);
+    }
+
+    private List<JsonNode> run(String body) throws Exception {
+        return run(body, RequestDeadline.NONE);
+    }
+
+    private List<JsonNode> run(String body, RequestDeadline deadline) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bulkRiskDecisionService.evaluateAll(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output, "batch", deadline);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        results.sort(Comparator.comparingInt(result -> result.get("index").asInt()));
+        return results;
+    }
+}
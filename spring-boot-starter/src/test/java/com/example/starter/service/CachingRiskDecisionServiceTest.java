@@ -0,0 +1,208 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class CachingRiskDecisionServiceTest {
+
+    private AtomicInteger evaluations;
+    private RiskDecisionService cachingService;
+
+    @BeforeEach
+    void setUp() {
+        evaluations = new AtomicInteger();
+        RiskDecisionService delegate = RiskDecisionServiceImplTest.engine(Clock.systemDefaultZone());
+        RiskDecisionService counting = (request, correlationId) -> {
+            evaluations.incrementAndGet();
+            return delegate.evaluate(request, correlationId);
+        };
+        AsyncCache<CachingRiskDecisionService.DecisionKey, RiskDecisionResponse> cache =
+                Caffeine.newBuilder().maximumSize(100).buildAsync();
+        cachingService = new CachingRiskDecisionService(counting, cache);
+    }
+
+    @Test
+    @DisplayName("should return the original decision for a retry")
+    void shouldReplayDecisionForRetry() {
+        RiskDecisionResponse first = cachingService.evaluateRetryable(buildRequest(), "retry-id");
+        RiskDecisionResponse retry = cachingService.evaluateRetryable(buildRequest(), "retry-id");
+
+        assertThat(retry).isSameAs(first);
+        assertThat(evaluations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should evaluate again when the body changes under the same correlation ID")
+    void shouldEvaluateChangedBody() {
+        RiskDecisionRequest changed = buildRequest();
+        changed.getLoan().setRequestedAmount(60_000);
+
+        RiskDecisionResponse first = cachingService.evaluateRetryable(buildRequest(), "same-id");
+        RiskDecisionResponse second = cachingService.evaluateRetryable(changed, "same-id");
+
+        assertThat(second.getDecisionId()).isNotEqualTo(first.getDecisionId());
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should evaluate again for a different correlation ID")
+    void shouldEvaluateDifferentCorrelationId() {
+        cachingService.evaluateRetryable(buildRequest(), "id-1");
+        cachingService.evaluateRetryable(buildRequest(), "id-2");
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should coalesce concurrent identical requests into one evaluation")
+    void shouldCoalesceConcurrentRequests() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<RiskDecisionResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cachingService.evaluateRetryable(buildRequest(), "concurrent-id");
+                }));
+            }
+            start.countDown();
+
+            RiskDecisionResponse first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<RiskDecisionResponse> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(evaluations.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should score behind a published pending entry, outside any cache operation")
+    void shouldScoreOutsideCacheOperation() {
+        AsyncCache<CachingRiskDecisionService.DecisionKey, RiskDecisionResponse> cache =
+                Caffeine.newBuilder().maximumSize(100).buildAsync();
+        RiskDecisionService engine = RiskDecisionServiceImplTest.engine(Clock.systemDefaultZone());
+        AtomicReference<CompletableFuture<RiskDecisionResponse>> pending = new AtomicReference<>();
+        RiskDecisionService observing = (request, correlationId) -> {
+            // Inside a compute the new entry would not be visible yet
+            pending.set(cache.asMap().get(
+                    new CachingRiskDecisionService.DecisionKey(correlationId, RequestFingerprint.of(request))));
+            return engine.evaluate(request, correlationId);
+        };
+
+        RiskDecisionResponse response =
+                new CachingRiskDecisionService(observing, cache).evaluateRetryable(buildRequest(), "pending-id");
+
+        assertThat(pending.get()).isNotNull();
+        assertThat(pending.get().join()).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("should not cache a failed blocking evaluation")
+    void shouldNotCacheFailedEvaluation() {
+        AsyncCache<CachingRiskDecisionService.DecisionKey, RiskDecisionResponse> cache =
+                Caffeine.newBuilder().maximumSize(100).buildAsync();
+        RiskDecisionService failing = (request, correlationId) -> {
+            throw new IllegalStateException("registry down");
+        };
+
+        assertThatIllegalStateException().isThrownBy(() ->
+                new CachingRiskDecisionService(failing, cache).evaluateRetryable(buildRequest(), "failed-id"));
+        assertThat(cache.asMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should share one asynchronous evaluation between retries and not cache failures")
+    void shouldCacheAsynchronousEvaluations() throws Exception {
+        CompletableFuture<RiskDecisionResponse> pending = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        RiskDecisionService asyncDelegate = new RiskDecisionService() {
+            @Override
+            public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
+                throw new AssertionError("must not block");
+            }
+
+            @Override
+            public CompletableFuture<RiskDecisionResponse> evaluateAsync(RiskDecisionRequest request,
+                                                                         String correlationId) {
+                if (started.incrementAndGet() == 1) {
+                    return pending;
+                }
+                return CompletableFuture.completedFuture(
+                        RiskDecisionServiceImplTest.engine(Clock.systemDefaultZone()).evaluate(request, correlationId));
+            }
+        };
+        RiskDecisionService service = new CachingRiskDecisionService(
+                asyncDelegate, Caffeine.newBuilder().maximumSize(100).buildAsync());
+
+        CompletableFuture<RiskDecisionResponse> first = service.evaluateRetryableAsync(buildRequest(), "async-id");
+        CompletableFuture<RiskDecisionResponse> retry = service.evaluateRetryableAsync(buildRequest(), "async-id");
+        pending.completeExceptionally(new IllegalStateException("registry down"));
+
+        assertThat(retry).isSameAs(first).isCompletedExceptionally();
+        RiskDecisionResponse afterFailure = service.evaluateRetryableAsync(buildRequest(), "async-id")
+                .get(5, TimeUnit.SECONDS);
+        assertThat(afterFailure.getCorrelationId()).isEqualTo("async-id");
+        assertThat(started.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should neither cache nor coalesce requests whose correlation ID was generated")
+    void shouldNotCacheGeneratedCorrelationIds() throws Exception {
+        RiskDecisionResponse first = cachingService.evaluate(buildRequest(), "generated-id");
+        RiskDecisionResponse second = cachingService.evaluateAsync(buildRequest(), "generated-id")
+                .get(5, TimeUnit.SECONDS);
+        RiskDecisionResponse retryable = cachingService.evaluateRetryable(buildRequest(), "generated-id");
+
+        assertThat(second.getDecisionId()).isNotEqualTo(first.getDecisionId());
+        assertThat(retryable.getDecisionId()).isNotEqualTo(first.getDecisionId());
+        assertThat(evaluations.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should fingerprint requests independently of owner order")
+    void shouldIgnoreOwnerOrderInFingerprint() {
+        RiskDecisionRequest request = buildRequest();
+        RiskDecisionRequest reordered = buildRequest();
+        reordered.setOwners(List.of(request.getOwners().get(1), request.getOwners().get(0)));
+
+        assertThat(RequestFingerprint.of(reordered)).isEqualTo(RequestFingerprint.of(request));
+    }
+
+    private RiskDecisionRequest buildRequest() {
+        return new RiskDecisionRequest(
+                new RiskDecisionRequest.Client("CUST-001", "GB"),
+                new RiskDecisionRequest.Business(
+                        "Acme Ltd",
+                        "UK",
+                        LocalDate.of(2020, 1, 15),
+                        new RiskDecisionRequest.AnnualTurnover(250000.00, "GBP")),
+                List.of(
+                        new RiskDecisionRequest.Owner("Jane Smith", LocalDate.of(1990, 5, 20)),
+                        new RiskDecisionRequest.Owner("John Smith", LocalDate.of(1985, 11, 2))),
+                new RiskDecisionRequest.Loan(50000.00));
+    }
+}
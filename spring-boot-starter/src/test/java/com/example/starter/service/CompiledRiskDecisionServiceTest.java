@@ -0,0 +1,229 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.ScoringRules;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledRiskDecisionServiceTest {
+
+    @ParameterizedTest(name = "today is {0}")
+    @ValueSource(strings = {"2025-06-15", "2024-02-28", "2024-02-29", "2025-02-28", "2025-03-01"})
+    @DisplayName("should match RiskDecisionServiceImpl on randomized requests")
+    void shouldMatchReferenceImplementation(LocalDate today) {
+        Clock clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant().plusSeconds(43_200), ZoneOffset.UTC);
+        RiskDecisionService reference = RiskDecisionServiceImplTest.engine(clock);
+        RiskDecisionService compiled = compiled(clock);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            RiskDecisionRequest request = randomRequest(random, today);
+
+            RiskDecisionResponse expected = reference.evaluate(request, "id");
+            RiskDecisionResponse actual = compiled.evaluate(request, "id");
+
+            assertThat(actual.getRiskDecision()).as("decision for %s", request).isEqualTo(expected.getRiskDecision());
+            assertThat(actual.getRiskScore()).as("score for %s", request).isEqualTo(expected.getRiskScore());
+            assertThat(actual.getEvaluatedFactors()).as("factors for %s", request)
+                    .isEqualTo(expected.getEvaluatedFactors());
+            assertThat(actual.getReasons()).as("reasons for %s", request).isEqualTo(expected.getReasons());
+        }
+    }
+
+    @Test
+    @DisplayName("should match RiskDecisionServiceImpl under custom rules")
+    void shouldMatchReferenceImplementationWithCustomRules() {
+        LocalDate today = LocalDate.of(2025, 6, 15);
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+        ScoringRules rules = new ScoringRules();
+        rules.setVersion("custom");
+        rules.setYoungCompanyYears(5);
+        rules.setLowTurnoverBelow(250_000);
+        rules.setMidTurnoverUpTo(2_000_000);
+        rules.setVeryYoungOwnerUnder(23);
+        rules.setYoungOwnerUnder(30);
+        rules.setApprovableRatioBelow(0.05);
+        rules.setElevatedRatioAbove(0.10);
+        rules.setHighRatioAbove(0.5);
+        rules.setReferAbove(25);
+        rules.setDeclineAbove(50);
+        RuleSetHolder ruleSets = new RuleSetHolder(RuleSet.compile(rules));
+        FxRatesHolder fxRates = new FxRatesHolder(FxRates.NONE);
+        RiskDecisionService reference = RiskDecisionServiceImplTest.engine(clock, ruleSets, fxRates);
+        RiskDecisionService compiled = compiled(clock, ruleSets, fxRates);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            RiskDecisionRequest request = randomRequest(random, today);
+
+            RiskDecisionResponse expected = reference.evaluate(request, "id");
+            RiskDecisionResponse actual = compiled.evaluate(request, "id");
+
+            assertThat(actual.getRiskDecision()).as("decision for %s", request).isEqualTo(expected.getRiskDecision());
+            assertThat(actual.getRiskScore()).as("score for %s", request).isEqualTo(expected.getRiskScore());
+            assertThat(actual.getReasons()).as("reasons for %s", request).isEqualTo(expected.getReasons());
+            assertThat(actual.getRuleVersion()).isEqualTo("custom");
+        }
+    }
+
+    @Test
+    @DisplayName("should match RiskDecisionServiceImpl on turnover in other currencies")
+    void shouldMatchReferenceImplementationWithFxRates() {
+        LocalDate today = LocalDate.of(2025, 6, 15);
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+        RuleSetHolder ruleSets = new RuleSetHolder(RuleSet.defaults());
+        FxRatesHolder fxRates = new FxRatesHolder(FxRates.of(
+                "GBP", Instant.parse("2025-06-15T00:00:00Z"), Map.of("EUR", 1.17, "USD", 1.27, "CHF", 1.09)));
+        RiskDecisionService reference = RiskDecisionServiceImplTest.engine(clock, ruleSets, fxRates);
+        RiskDecisionService compiled = compiled(clock, ruleSets, fxRates);
+        Random random = new Random(11);
+        String[] currencies = {"GBP", "EUR", "USD", "CHF"};
+
+        for (int i = 0; i < 10_000; i++) {
+            RiskDecisionRequest request = randomRequest(random, today);
+            request.getBusiness().getAnnualTurnover().setCurrency(currencies[random.nextInt(currencies.length)]);
+
+            RiskDecisionResponse expected = reference.evaluate(request, "id");
+            RiskDecisionResponse actual = compiled.evaluate(request, "id");
+
+            assertThat(actual.getRiskDecision()).as("decision for %s", request).isEqualTo(expected.getRiskDecision());
+            assertThat(actual.getEvaluatedFactors()).as("factors for %s", request)
+                    .isEqualTo(expected.getEvaluatedFactors());
+            assertThat(actual.getReasons()).as("reasons for %s", request).isEqualTo(expected.getReasons());
+        }
+    }
+
+    @Test
+    @DisplayName("should match RiskDecisionServiceImpl when customers apply repeatedly")
+    void shouldMatchReferenceImplementationWithVelocity() {
+        LocalDate today = LocalDate.of(2025, 6, 15);
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+        RuleSetHolder ruleSets = new RuleSetHolder(RuleSet.defaults());
+        FxRatesHolder fxRates = new FxRatesHolder(FxRates.NONE);
+        long[] now = {0};
+        RiskDecisionService reference = new RiskDecisionServiceImpl(clock, ScoringFactorTimers.NOOP, ruleSets, fxRates,
+                new TimeOrderedIdGenerator(), new SlidingWindowVelocityTracker(
+                        Duration.ofHours(1), 12, 1024, 1, () -> now[0]));
+        RiskDecisionService compiled = new CompiledRiskDecisionService(clock, ruleSets, fxRates,
+                new TimeOrderedIdGenerator(), new SlidingWindowVelocityTracker(
+                        Duration.ofHours(1), 12, 1024, 1, () -> now[0]));
+        Random random = new Random(13);
+
+        for (int i = 0; i < 10_000; i++) {
+            RiskDecisionRequest request = randomRequest(random, today);
+            request.getClient().setCustomerId("CUST-" + random.nextInt(200));
+            now[0] += random.nextInt(60_000);
+
+            RiskDecisionResponse expected = reference.evaluate(request, "id");
+            RiskDecisionResponse actual = compiled.evaluate(request, "id");
+
+            assertThat(actual.getRiskDecision()).as("decision for %s", request).isEqualTo(expected.getRiskDecision());
+            assertThat(actual.getEvaluatedFactors()).as("factors for %s", request)
+                    .isEqualTo(expected.getEvaluatedFactors());
+            assertThat(actual.getReasons()).as("reasons for %s", request).isEqualTo(expected.getReasons());
+        }
+    }
+
+    @Test
+    @DisplayName("should recompute age cut-offs when the day changes")
+    void shouldRefreshAgeCutoffsAtMidnight() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-14T23:59:59Z"));
+        RiskDecisionService compiled = compiled(clock);
+        RiskDecisionRequest request = RiskDecisionServiceImplTest.buildRequest(
+                LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(2004, 6, 15), 0);
+
+        assertThat(compiled.evaluate(request, "id").getEvaluatedFactors().getOwnerAgePoints()).isEqualTo(30);
+
+        clock.instant = Instant.parse("2025-06-15T00:00:00Z");
+
+        assertThat(compiled.evaluate(request, "id").getEvaluatedFactors().getOwnerAgePoints()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("should generate unique time-ordered decision IDs")
+    void shouldGenerateUniqueDecisionIds() {
+        RiskDecisionService compiled = compiled(Clock.systemUTC());
+        RiskDecisionRequest request = RiskDecisionServiceImplTest.buildRequest(
+                LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 0);
+
+        String first = compiled.evaluate(request, "id-1").getDecisionId();
+        String second = compiled.evaluate(request, "id-2").getDecisionId();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(UUID.fromString(first).version()).isEqualTo(7);
+    }
+
+    private static RiskDecisionRequest randomRequest(Random random, LocalDate today) {
+        int ownerCount = 1 + random.nextInt(4);
+        List<RiskDecisionRequest.Owner> owners = new ArrayList<>();
+        for (int i = 0; i < ownerCount; i++) {
+            owners.add(new RiskDecisionRequest.Owner("Owner " + i, today.minusDays(random.nextInt(365 * 40))));
+        }
+        double turnover = pick(random, 0, 99_999.99, 100_000, 250_000, 5_000_000, 5_000_000.01, 12_000_000);
+        double requestedAmount = random.nextBoolean()
+                ? turnover * pick(random, 0, 0.05, 0.10, 0.15, 0.20, 0.2000001, 0.5)
+                : random.nextInt(2_000_000);
+        return new RiskDecisionRequest(
+                new RiskDecisionRequest.Client("CUST-001", "GB"),
+                new RiskDecisionRequest.Business(
+                        "Acme Ltd", "UK", today.minusDays(random.nextInt(365 * 8)),
+                        new RiskDecisionRequest.AnnualTurnover(turnover, "GBP")),
+                owners,
+                new RiskDecisionRequest.Loan(requestedAmount));
+    }
+
+    /** The compiled engine with the default rules, no FX rates and no velocity tracking. */
+    static CompiledRiskDecisionService compiled(Clock clock) {
+        return compiled(clock, new RuleSetHolder(RuleSet.defaults()), new FxRatesHolder(FxRates.NONE));
+    }
+
+    static CompiledRiskDecisionService compiled(Clock clock, RuleSetHolder ruleSets, FxRatesHolder fxRates) {
+        return new CompiledRiskDecisionService(clock, ruleSets, fxRates, new TimeOrderedIdGenerator(),
+                VelocityTracker.NONE);
+    }
+
+    private static double pick(Random random, double... values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.DecisionAnalyticsResponse;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class DecisionAnalyticsTest {
+
+    private final AtomicLong now = new AtomicLong(Instant.parse("2025-06-15T12:00:00Z").toEpochMilli());
+
+    @Test
+    @DisplayName("should summarize decisions in total and by country")
+    void shouldSummarizeByCountry() {
+        DecisionAnalytics analytics = analytics(32);
+
+        analytics.record("GB", response(RiskDecision.APPROVE, 15, 0, 10, 5, 0));
+        analytics.record("GB", response(RiskDecision.REFER, 45, 40, 0, 5, 0));
+        analytics.record("FR", response(RiskDecision.DECLINE, 100, 40, 30, 30, 30));
+
+        DecisionAnalyticsResponse report = analytics.report(DecisionAnalytics.Window.ONE_MINUTE);
+
+        assertThat(report.getWindow()).isEqualTo("1m");
+        assertThat(report.getCountries()).containsOnlyKeys("FR", "GB");
+        DecisionAnalyticsResponse.Summary gb = report.getCountries().get("GB");
+        assertThat(gb.getDecisions()).isEqualTo(2);
+        assertThat(gb.getRiskDecisions()).containsEntry(RiskDecision.APPROVE, 1L)
+                .containsEntry(RiskDecision.REFER, 1L)
+                .containsEntry(RiskDecision.DECLINE, 0L);
+        assertThat(gb.getMeanRiskScore()).isEqualTo(30.0);
+        assertThat(gb.getMeanCompanyAgePoints()).isEqualTo(20.0);
+        assertThat(gb.getMeanTurnoverPoints()).isEqualTo(5.0);
+        assertThat(gb.getRiskScoreHistogram()).containsExactly(0, 1, 0, 0, 1, 0, 0, 0, 0, 0, 0);
+
+        DecisionAnalyticsResponse.Summary total = report.getTotal();
+        assertThat(total.getDecisions()).isEqualTo(3);
+        assertThat(total.getMeanOwnerAgePoints()).isEqualTo(40.0 / 3);
+        assertThat(total.getMeanLoanToTurnoverPoints()).isEqualTo(10.0);
+        assertThat(total.getRiskScoreHistogram()[DecisionAnalytics.HISTOGRAM_BINS - 1]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should drop buckets that have left each window")
+    void shouldSlideWindows() {
+        DecisionAnalytics analytics = analytics(32);
+        analytics.record("GB", response(RiskDecision.APPROVE, 15, 0, 10, 5, 0));
+
+        now.addAndGet(Duration.ofSeconds(65).toMillis());
+        analytics.record("GB", response(RiskDecision.REFER, 45, 40, 0, 5, 0));
+
+        assertThat(analytics.report(DecisionAnalytics.Window.ONE_MINUTE).getTotal().getDecisions()).isEqualTo(1);
+        assertThat(analytics.report(DecisionAnalytics.Window.FIFTEEN_MINUTES).getTotal().getDecisions())
+                .isEqualTo(2);
+
+        now.addAndGet(Duration.ofMinutes(59).toMillis());
+        assertThat(analytics.report(DecisionAnalytics.Window.ONE_HOUR).getTotal().getDecisions()).isEqualTo(1);
+        assertThat(analytics.report(DecisionAnalytics.Window.FIFTEEN_MINUTES).getCountries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should clear a bucket's counters when its slot is reused an hour later")
+    void shouldClearReusedSlots() {
+        DecisionAnalytics analytics = analytics(32);
+        analytics.record("GB", response(RiskDecision.APPROVE, 15, 0, 10, 5, 0));
+
+        // The ring holds an hour and one bucket, so this lands in the same slot
+        now.addAndGet(Duration.ofHours(1).plusSeconds(10).toMillis());
+        analytics.record("GB", response(RiskDecision.DECLINE, 100, 40, 30, 30, 30));
+
+        DecisionAnalyticsResponse.Summary total = analytics.report(DecisionAnalytics.Window.ONE_HOUR).getTotal();
+        assertThat(total.getDecisions()).isEqualTo(1);
+        assertThat(total.getRiskDecisions()).containsEntry(RiskDecision.DECLINE, 1L);
+        assertThat(analytics.dropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("should count countries beyond the maximum and invalid codes as other")
+    void shouldCountOtherCountries() {
+        DecisionAnalytics analytics = analytics(1);
+
+        analytics.record("GB", response(RiskDecision.APPROVE, 15, 0, 10, 5, 0));
+        analytics.record("FR", response(RiskDecision.APPROVE, 15, 0, 10, 5, 0));
+        analytics.record("gb", response(RiskDecision.APPROVE, 15, 0, 10, 5, 0));
+
+        DecisionAnalyticsResponse report = analytics.report(DecisionAnalytics.Window.ONE_MINUTE);
+        assertThat(report.getCountries()).containsOnlyKeys("GB", DecisionAnalytics.OTHER_COUNTRY);
+        assertThat(report.getCountries().get(DecisionAnalytics.OTHER_COUNTRY).getDecisions()).isEqualTo(2);
+        assertThat(report.getTotal().getDecisions()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should drop decisions for a bucket whose slot has already been reused")
+    void shouldDropStaleDecisions() {
+        DecisionAnalytics analytics = analytics(32);
+        long later = Duration.ofHours(1).plusSeconds(10).toMillis();
+        now.addAndGet(later);
+        analytics.record("GB", response(RiskDecision.APPROVE, 15, 0, 10, 5, 0));
+
+        // A thread that read the clock an hour and a bucket before the one above
+        now.addAndGet(-later);
+        analytics.record("GB", response(RiskDecision.APPROVE, 15, 0, 10, 5, 0));
+
+        assertThat(analytics.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should count every decision recorded concurrently")
+    void shouldCountConcurrentRecords() throws Exception {
+        DecisionAnalytics analytics = analytics(32);
+        RiskDecisionResponse response = response(RiskDecision.REFER, 25, 0, 10, 5, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                String country = thread % 2 == 0 ? "GB" : "IE";
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        analytics.record(country, response);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        DecisionAnalyticsResponse report = analytics.report(DecisionAnalytics.Window.ONE_MINUTE);
+        assertThat(report.getTotal().getRiskDecisions()).containsEntry(RiskDecision.REFER, 800_000L);
+        assertThat(report.getCountries().get("GB").getDecisions()).isEqualTo(400_000);
+        assertThat(report.getTotal().getMeanRiskScore()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("should look windows up by label")
+    void shouldLookUpWindows() {
+        assertThat(DecisionAnalytics.Window.of("15m")).contains(DecisionAnalytics.Window.FIFTEEN_MINUTES);
+        assertThat(DecisionAnalytics.Window.of("2h")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject a resolution that does not divide one minute")
+    void shouldRejectInvalidResolution() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DecisionAnalytics(Duration.ofSeconds(7), 32, 4));
+        assertThatIllegalArgumentException().isThrownBy(() -> new DecisionAnalytics(Duration.ZERO, 32, 4));
+        assertThatIllegalArgumentException().isThrownBy(() -> new DecisionAnalytics(Duration.ofSeconds(10), 32, 0));
+    }
+
+    private DecisionAnalytics analytics(int maxCountries) {
+        return new DecisionAnalytics(Duration.ofSeconds(10), maxCountries, 4, now::get);
+    }
+
+    private static RiskDecisionResponse response(RiskDecision decision, int score, int companyAgePoints,
+                                                 int turnoverPoints, int ownerAgePoints, int loanToTurnoverPoints) {
+        return RiskDecisionResponse.builder()
+                .riskDecision(decision)
+                .riskScore(score)
+                .evaluatedFactors(RiskDecisionResponse.EvaluatedFactors.builder()
+                        .companyAgePoints(companyAgePoints)
+                        .turnoverPoints(turnoverPoints)
+                        .ownerAgePoints(ownerAgePoints)
+                        .loanToTurnoverPoints(loanToTurnoverPoints)
+                        .build())
+                .build();
+    }
+}
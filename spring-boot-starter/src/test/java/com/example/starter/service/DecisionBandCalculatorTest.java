@@ -0,0 +1,161 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.LoanAmountBandsResponse;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.dto.WhatIfResponse;
+import com.example.starter.exception.InvalidRequestException;
+import com.example.starter.model.RiskDecision;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DecisionBandCalculatorTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private final RuleSetHolder ruleSets = new RuleSetHolder(RuleSet.defaults());
+    private final FxRatesHolder fxRates = new FxRatesHolder(FxRates.NONE);
+    private final DecisionBandCalculator calculator =
+            new DecisionBandCalculator(FIXED_CLOCK, ruleSets, fxRates, VelocityTracker.NONE);
+    private final RiskDecisionService engine = CompiledRiskDecisionServiceTest.compiled(FIXED_CLOCK, ruleSets, fxRates);
+
+    @Test
+    @DisplayName("should split loan amounts at the loan-to-turnover thresholds")
+    void shouldSplitAtRatioThresholds() {
+        // Mature company, mid turnover and mature owner score 15
+        RiskDecisionRequest request = matureRequest();
+
+        LoanAmountBandsResponse response = calculator.loanAmountBands(request);
+
+        assertThat(response.getRuleVersion()).isEqualTo("default");
+        assertThat(response.getBands()).extracting(LoanAmountBandsResponse.Band::getRiskDecision)
+                .containsExactly(RiskDecision.APPROVE, RiskDecision.REFER, RiskDecision.REFER, RiskDecision.DECLINE);
+        assertThat(response.getBands()).extracting(LoanAmountBandsResponse.Band::getRiskScore)
+                .containsExactly(15, 15, 25, 45);
+        assertThat(response.getBands().get(1).getFromAmount()).isEqualTo(100_000.0);
+        assertThat(response.getBands().get(2).getFromAmount()).isGreaterThan(150_000.0);
+        assertThat(response.getBands().get(3).getToAmount()).isNull();
+        assertThat(response.getMaxApprovableAmount()).isEqualTo(99_999.99);
+        assertThat(response.getMaxReferableAmount()).isEqualTo(200_000.0);
+    }
+
+    @Test
+    @DisplayName("should have no approvable amount when the other factors already refer")
+    void shouldHaveNoApprovableAmountWhenReferred() {
+        // Young company, low turnover and very young owner score 100
+        RiskDecisionRequest request =
+                RiskDecisionServiceImplTest.buildRequest(LocalDate.of(2024, 1, 1), 50_000, LocalDate.of(2006, 1, 1), 0);
+
+        LoanAmountBandsResponse response = calculator.loanAmountBands(request);
+
+        assertThat(response.getBands()).allSatisfy(band ->
+                assertThat(band.getRiskDecision()).isEqualTo(RiskDecision.DECLINE));
+        assertThat(response.getMaxApprovableAmount()).isNull();
+        assertThat(response.getMaxReferableAmount()).isNull();
+    }
+
+    @Test
+    @DisplayName("should match the scoring engine at and around every band boundary")
+    void shouldMatchEngineAtBoundaries() {
+        Random random = new Random(5);
+        for (int i = 0; i < 2_000; i++) {
+            RiskDecisionRequest request = randomRequest(random);
+
+            LoanAmountBandsResponse response = calculator.loanAmountBands(request);
+
+            for (LoanAmountBandsResponse.Band band : response.getBands()) {
+                assertThat(evaluate(request, band.getFromAmount()).getRiskDecision())
+                        .as("decision at %s for %s", band.getFromAmount(), request)
+                        .isEqualTo(band.getRiskDecision());
+                assertThat(evaluate(request, band.getFromAmount()).getRiskScore()).isEqualTo(band.getRiskScore());
+                if (band.getToAmount() != null) {
+                    assertThat(evaluate(request, Math.nextDown(band.getToAmount())).getRiskDecision())
+                            .as("decision below %s for %s", band.getToAmount(), request)
+                            .isEqualTo(band.getRiskDecision());
+                }
+            }
+            if (response.getMaxApprovableAmount() != null) {
+                assertThat(evaluate(request, response.getMaxApprovableAmount()).getRiskDecision())
+                        .isEqualTo(RiskDecision.APPROVE);
+                assertThat(evaluate(request, nextCent(response.getMaxApprovableAmount())).getRiskDecision())
+                        .isNotEqualTo(RiskDecision.APPROVE);
+            }
+            if (response.getMaxReferableAmount() != null) {
+                assertThat(evaluate(request, response.getMaxReferableAmount()).getRiskDecision())
+                        .isNotEqualTo(RiskDecision.DECLINE);
+                assertThat(evaluate(request, nextCent(response.getMaxReferableAmount())).getRiskDecision())
+                        .isEqualTo(RiskDecision.DECLINE);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should match the scoring engine on every cell of a what-if grid")
+    void shouldMatchEngineOnGrid() {
+        Random random = new Random(9);
+        RiskDecisionRequest request = randomRequest(random);
+        double[] turnovers = {0, 99_999.99, 100_000, 2_500_000, 5_000_000, 5_000_000.01, 12_000_000};
+        double[] loans = new double[200];
+        for (int i = 0; i < loans.length; i++) {
+            loans[i] = i % 2 == 0 ? random.nextInt(3_000_000) : turnovers[i % turnovers.length] * 0.05 * (i % 7);
+        }
+
+        WhatIfResponse response = calculator.whatIf(request, turnovers, loans);
+
+        for (int row = 0; row < turnovers.length; row++) {
+            for (int column = 0; column < loans.length; column++) {
+                request.getBusiness().getAnnualTurnover().setAmount(turnovers[row]);
+                RiskDecisionResponse expected = evaluate(request, loans[column]);
+                assertThat(response.getRiskDecisions()[row][column]).as("decision at %s, %s", row, column)
+                        .isEqualTo(expected.getRiskDecision());
+                assertThat(response.getRiskScores()[row][column]).isEqualTo(expected.getRiskScore());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should reject negative amounts")
+    void shouldRejectNegativeAmounts() {
+        RiskDecisionRequest request = matureRequest();
+
+        assertThatThrownBy(() -> calculator.whatIf(request, new double[]{1_000_000}, new double[]{-1}))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Loan amounts");
+    }
+
+    private RiskDecisionResponse evaluate(RiskDecisionRequest request, double loanAmount) {
+        request.setLoan(new RiskDecisionRequest.Loan(loanAmount));
+        return engine.evaluate(request, "id");
+    }
+
+    private static double nextCent(double amount) {
+        return (Math.round(amount * 100) + 1) / 100.0;
+    }
+
+    private static RiskDecisionRequest matureRequest() {
+        return RiskDecisionServiceImplTest.buildRequest(
+                LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 0);
+    }
+
+    private static RiskDecisionRequest randomRequest(Random random) {
+        LocalDate today = LocalDate.of(2025, 6, 15);
+        double turnover = random.nextInt(10) == 0 ? 0 : random.nextDouble() * 8_000_000;
+        return new RiskDecisionRequest(
+                new RiskDecisionRequest.Client("CUST-001", "GB"),
+                new RiskDecisionRequest.Business(
+                        "Acme Ltd", "UK", today.minusDays(random.nextInt(365 * 8)),
+                        new RiskDecisionRequest.AnnualTurnover(Math.rint(turnover * 100) / 100, "GBP")),
+                List.of(new RiskDecisionRequest.Owner("Jane Smith", today.minusDays(random.nextInt(365 * 40)))),
+                new RiskDecisionRequest.Loan(0));
+    }
+}
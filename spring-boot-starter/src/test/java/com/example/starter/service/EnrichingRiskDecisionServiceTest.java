@@ -0,0 +1,140 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.CompanyRegistryRecord;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.exception.DeadlineExceededException;
+import com.example.starter.model.RiskDecision;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnrichingRiskDecisionServiceTest {
+
+    private static final Clock FIXED_CLOCK =
+            Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+    private static final Duration BUDGET = Duration.ofMillis(50);
+
+    private final RiskDecisionService engine = RiskDecisionServiceImplTest.engine(FIXED_CLOCK);
+    private final RiskDecisionRequest approvable = RiskDecisionServiceImplTest.buildRequest(
+            LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 50_000);
+
+    @Test
+    @DisplayName("should leave decisions for active companies alone")
+    void shouldKeepDecisionForActiveCompany() {
+        EnrichingRiskDecisionService service = enriching(CompletableFuture.completedFuture(
+                Optional.of(new CompanyRegistryRecord("01234567", "ACME LTD", "active", LocalDate.of(2010, 1, 1)))));
+
+        RiskDecisionResponse response = service.evaluate(approvable, "id");
+
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.APPROVE);
+        assertThat(response.getReasons()).hasSize(2);
+        assertThat(service.count(EnrichingRiskDecisionService.Outcome.VERIFIED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should refer companies the registry does not know or lists as not active")
+    void shouldReferUnverifiedCompany() {
+        RiskDecisionResponse notFound = enriching(CompletableFuture.completedFuture(Optional.empty()))
+                .evaluate(approvable, "id");
+        RiskDecisionResponse dissolved = enriching(CompletableFuture.completedFuture(
+                Optional.of(new CompanyRegistryRecord("01234567", "ACME LTD", "DISSOLVED", null))))
+                .evaluate(approvable, "id");
+
+        assertThat(notFound.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        assertThat(notFound.getRiskScore()).isEqualTo(15);
+        assertThat(notFound.getReasons()).last().isEqualTo("Company not found in the company registry");
+        assertThat(dissolved.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        assertThat(dissolved.getReasons()).last().isEqualTo("Company is not active in the company registry");
+    }
+
+    @Test
+    @DisplayName("should refer instead of waiting past the latency budget")
+    void shouldReferWhenRegistryIsSlow() {
+        EnrichingRiskDecisionService service = enriching(new CompletableFuture<>());
+
+        long start = System.nanoTime();
+        RiskDecisionResponse response = service.evaluate(approvable, "id");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        assertThat(response.getReasons()).last().isEqualTo("Company registry check unavailable");
+        assertThat(service.count(EnrichingRiskDecisionService.Outcome.UNAVAILABLE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should never turn a decline into a referral")
+    void shouldKeepDecline() {
+        RiskDecisionRequest declined = RiskDecisionServiceImplTest.buildRequest(
+                LocalDate.of(2024, 1, 1), 50_000, LocalDate.of(2005, 1, 1), 20_000);
+
+        RiskDecisionResponse response = enriching(CompletableFuture.failedFuture(new IllegalStateException()))
+                .evaluate(declined, "id");
+
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.DECLINE);
+        assertThat(response.getReasons()).last().isEqualTo("Company registry check unavailable");
+    }
+
+    @Test
+    @DisplayName("should apply the lookup asynchronously once it answers")
+    void shouldEnrichAsynchronously() throws Exception {
+        CompletableFuture<Optional<CompanyRegistryRecord>> lookup = new CompletableFuture<>();
+        EnrichingRiskDecisionService service = new EnrichingRiskDecisionService(
+                engine, (legalName, country, correlationId) -> lookup, Duration.ofSeconds(5));
+
+        CompletableFuture<RiskDecisionResponse> decision = service.evaluateAsync(approvable, "id");
+        assertThat(decision).isNotDone();
+        lookup.complete(Optional.empty());
+
+        assertThat(decision.get(1, TimeUnit.SECONDS).getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        assertThat(service.count(EnrichingRiskDecisionService.Outcome.NOT_FOUND)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should refer asynchronously when the budget runs out, leaving the lookup running")
+    void shouldReferAsynchronouslyWhenRegistryIsSlow() throws Exception {
+        CompletableFuture<Optional<CompanyRegistryRecord>> lookup = new CompletableFuture<>();
+
+        RiskDecisionResponse response = enriching(lookup).evaluateAsync(approvable, "id").get(1, TimeUnit.SECONDS);
+
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        assertThat(response.getReasons()).last().isEqualTo("Company registry check unavailable");
+        assertThat(lookup).isNotDone();
+    }
+
+    @Test
+    @DisplayName("should give up when the request deadline runs out before the latency budget")
+    void shouldFailAtRequestDeadline() {
+        EnrichingRiskDecisionService service = new EnrichingRiskDecisionService(
+                engine, (legalName, country, correlationId) -> new CompletableFuture<>(), Duration.ofSeconds(5));
+
+        long start = System.nanoTime();
+        try (RequestDeadline.Scope ignored = RequestDeadline.in(TimeUnit.MILLISECONDS.toNanos(20)).bind()) {
+            assertThatThrownBy(() -> service.evaluate(approvable, "id"))
+                    .isInstanceOf(DeadlineExceededException.class);
+            assertThat(service.evaluateAsync(approvable, "id"))
+                    .failsWithin(Duration.ofSeconds(1))
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(DeadlineExceededException.class);
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(RequestDeadline.current()).isSameAs(RequestDeadline.NONE);
+    }
+
+    private EnrichingRiskDecisionService enriching(CompletableFuture<Optional<CompanyRegistryRecord>> answer) {
+        return new EnrichingRiskDecisionService(engine, (legalName, country, correlationId) -> answer, BUDGET);
+    }
+}
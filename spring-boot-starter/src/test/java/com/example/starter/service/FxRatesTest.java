@@ -0,0 +1,76 @@
+package com.example.starter.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class FxRatesTest {
+
+    private static final Instant AS_OF = Instant.parse("2025-06-15T16:00:00Z");
+
+    @Test
+    @DisplayName("should convert amounts into the base currency")
+    void shouldConvertIntoBaseCurrency() {
+        FxRates rates = FxRates.of("GBP", AS_OF, Map.of("EUR", 1.25, "USD", 1.27));
+
+        assertThat(rates.toBase(125_000, "EUR")).isCloseTo(100_000, within(1e-9));
+        assertThat(rates.toBase(100_000, "GBP")).isEqualTo(100_000);
+        assertThat(rates.toBase(125_000, FxRates.index("EUR"))).isCloseTo(100_000, within(1e-9));
+        assertThat(rates.toBase(100_000, -1)).isEqualTo(100_000);
+        assertThat(rates.baseCurrency()).isEqualTo("GBP");
+        assertThat(rates.asOf()).isEqualTo(AS_OF);
+    }
+
+    @Test
+    @DisplayName("should reject currencies without a rate")
+    void shouldRejectUnknownCurrency() {
+        FxRates rates = FxRates.of("GBP", AS_OF, Map.of("EUR", 1.25));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> rates.toBase(1, "JPY")).withMessageContaining("JPY");
+        assertThatIllegalArgumentException().isThrownBy(() -> rates.toBase(1, "eur"));
+        assertThat(rates.toBase(1, FxRates.index("JPY"))).isNaN();
+    }
+
+    @Test
+    @DisplayName("should leave amounts alone without rates")
+    void shouldNotConvertWithoutRates() {
+        assertThat(FxRates.NONE.toBase(42, "JPY")).isEqualTo(42);
+        assertThat(FxRates.NONE.toBase(42, FxRates.index("JPY"))).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("should give every three-letter code its own index")
+    void shouldIndexEveryCode() {
+        Set<Integer> indexes = new HashSet<>();
+        for (char a = 'A'; a <= 'Z'; a++) {
+            for (char b = 'A'; b <= 'Z'; b++) {
+                for (char c = 'A'; c <= 'Z'; c++) {
+                    indexes.add(FxRates.index("" + a + b + c));
+                }
+            }
+        }
+
+        assertThat(indexes).hasSize(26 * 26 * 26).allMatch(index -> index >= 0 && index < 26 * 26 * 26);
+        assertThat(FxRates.index("GB")).isEqualTo(-1);
+        assertThat(FxRates.index("GBp")).isEqualTo(-1);
+        assertThat(FxRates.index(null)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("should reject invalid rates")
+    void shouldRejectInvalidRates() {
+        assertThatIllegalArgumentException().isThrownBy(() -> FxRates.of("GBP", AS_OF, Map.of("EUR", 0.0)));
+        assertThatIllegalArgumentException().isThrownBy(() -> FxRates.of("GBP", AS_OF, Map.of("EUR", Double.NaN)));
+        assertThatIllegalArgumentException().isThrownBy(() -> FxRates.of("GBP", AS_OF, Map.of("euro", 1.2)));
+        assertThatIllegalArgumentException().isThrownBy(() -> FxRates.of("GBP", AS_OF, Map.of("GBP", 1.1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> FxRates.of("GBP", null, Map.of()));
+    }
+}
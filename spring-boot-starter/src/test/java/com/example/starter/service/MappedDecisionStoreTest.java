@@ -0,0 +1,169 @@
+package com.example.starter.service;
+
+import com.example.starter.config.DecisionStoreProperties;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedDecisionStoreTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path directory;
+
+    private DecisionStoreProperties properties;
+    private MappedDecisionStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new DecisionStoreProperties();
+        properties.setDirectory(directory);
+        properties.setSegmentSize(DataSize.ofKilobytes(4));
+        store = new MappedDecisionStore(objectMapper, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("should find a decision before and after it has been written")
+    void shouldFindDecisionBeforeAndAfterWrite() throws Exception {
+        RiskDecisionResponse response = buildResponse();
+
+        store.onDecision(null, response);
+        assertThat(store.find(response.getDecisionId())).contains(response);
+
+        awaitWritten(1);
+        assertThat(store.find(response.getDecisionId())).contains(response);
+        assertThat(store.find(UUID.randomUUID().toString())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should rebuild the index from the log across segments on restart")
+    void shouldRecoverAcrossSegments() throws Exception {
+        List<RiskDecisionResponse> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            RiskDecisionResponse response = buildResponse();
+            responses.add(response);
+            store.onDecision(null, response);
+        }
+        store.close();
+
+        store = new MappedDecisionStore(objectMapper, properties);
+
+        assertThat(store.size()).isEqualTo(50);
+        assertThat(directory.toFile().list((dir, name) -> name.endsWith(".log"))).hasSizeGreaterThan(1);
+        for (RiskDecisionResponse response : responses) {
+            assertThat(store.find(response.getDecisionId())).contains(response);
+        }
+    }
+
+    @Test
+    @DisplayName("should discard a torn record at the tail and keep appending after it")
+    void shouldDiscardTornTail() throws Exception {
+        RiskDecisionResponse kept = buildResponse();
+        store.onDecision(null, kept);
+        store.close();
+        tearTail();
+
+        store = new MappedDecisionStore(objectMapper, properties);
+        RiskDecisionResponse appended = buildResponse();
+        store.onDecision(null, appended);
+        store.close();
+
+        store = new MappedDecisionStore(objectMapper, properties);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find(kept.getDecisionId())).contains(kept);
+        assertThat(store.find(appended.getDecisionId())).contains(appended);
+    }
+
+    @Test
+    @DisplayName("should refuse a directory another store has open until it is closed")
+    void shouldLockDirectory() throws Exception {
+        assertThatThrownBy(() -> new MappedDecisionStore(objectMapper, properties))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("is already open");
+
+        store.close();
+        store = new MappedDecisionStore(objectMapper, properties);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject a segment size that does not fit a mapping")
+    void shouldRejectOversizedSegments() {
+        properties.setSegmentSize(DataSize.ofGigabytes(2));
+
+        assertThatThrownBy(() -> new MappedDecisionStore(objectMapper, properties))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    /** Writes a header claiming a long payload with a wrong checksum right after the last record. */
+    private void tearTail() throws IOException {
+        Path segment = directory.resolve("decisions-00000000.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            int offset = 0;
+            while (true) {
+                length.clear();
+                channel.read(length, offset);
+                int recordLength = length.flip().getInt();
+                if (recordLength == 0) {
+                    break;
+                }
+                offset += DecisionLog.HEADER_BYTES + recordLength;
+            }
+            ByteBuffer torn = ByteBuffer.allocate(DecisionLog.HEADER_BYTES + 8)
+                    .putInt(1000).putInt(42).putLong(7).putLong(-1L);
+            channel.write(torn.flip(), offset);
+        }
+    }
+
+    private void awaitWritten(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (store.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(store.size()).isEqualTo(expected);
+    }
+
+    private static RiskDecisionResponse buildResponse() {
+        return RiskDecisionResponse.builder()
+                .decisionId(UUID.randomUUID().toString())
+                .riskDecision(RiskDecision.REFER)
+                .riskScore(40)
+                .evaluatedFactors(RiskDecisionResponse.EvaluatedFactors.builder()
+                        .companyAgePoints(0)
+                        .turnoverPoints(10)
+                        .ownerAgePoints(30)
+                        .loanToTurnoverPoints(0)
+                        .build())
+                .reasons(List.of("Youngest owner is under 21"))
+                .createdAt(Instant.parse("2025-06-15T12:00:00Z"))
+                .correlationId("corr-1")
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.starter.service;
+
+import com.example.starter.config.BulkProperties;
+import com.example.starter.dto.BulkRiskDecisionResult;
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveRiskDecisionServiceTest {
+
+    private static final String VALID_ITEM = """
+            {"client":{"customerId":"CUST-001","countryOfApplication":"GB"},\
+            "business":{"legalName":"Acme Ltd","countryOfIncorporation":"UK","dateOfIncorporation":"2020-01-15",\
+            "annualTurnover":{"amount":250000.00,"currency":"GBP"}},\
+            "owners":[{"fullName":"Jane Smith","dateOfBirth":"1990-05-20"}],\
+            "loan":{"requestedAmount":50000.00}}""";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private ValidatorFactory validatorFactory;
+    private ExecutorService executor;
+    private BulkProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BulkProperties();
+        properties.setMaxInFlight(2);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("should complete with the decision once the asynchronous evaluation completes")
+    void shouldEvaluateAsynchronously() {
+        CompletableFuture<RiskDecisionResponse> pending = new CompletableFuture<>();
+        ReactiveRiskDecisionService service = service(new RiskDecisionService() {
+            @Override
+            public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
+                throw new AssertionError("must not block");
+            }
+
+            @Override
+            public CompletableFuture<RiskDecisionResponse> evaluateAsync(RiskDecisionRequest request,
+                                                                         String correlationId) {
+                return pending;
+            }
+        });
+
+        StepVerifier.create(service.evaluate(new RiskDecisionRequest(), "id", false))
+                .then(() -> pending.complete(response("id")))
+                .assertNext(response -> assertThat(response.getCorrelationId()).isEqualTo("id"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should score valid items and report invalid ones inline")
+    void shouldScoreItemsAndReportErrors() throws Exception {
+        ReactiveRiskDecisionService service = service((request, correlationId) -> response(correlationId));
+        Flux<JsonNode> items = Flux.just(
+                objectMapper.readTree(VALID_ITEM),
+                objectMapper.readTree(VALID_ITEM.replace("\"client\":{\"customerId\":\"CUST-001\","
+                        + "\"countryOfApplication\":\"GB\"},", "")),
+                objectMapper.readTree(VALID_ITEM.replace("\"2020-01-15\"", "\"15/01/2020\"")));
+
+        List<BulkRiskDecisionResult> results = service.evaluateAll(items, "batch")
+                .collectSortedList(Comparator.comparingLong(BulkRiskDecisionResult::getIndex))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getDecision().getCorrelationId()).isEqualTo("batch-0");
+        assertThat(results.get(1).getErrors()).extracting(BulkRiskDecisionResult.FieldError::getField)
+                .containsExactly("client");
+        assertThat(results.get(2).getCorrelationId()).isEqualTo("batch-2");
+        assertThat(results.get(2).getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getField()).isEqualTo("business.dateOfIncorporation");
+            assertThat(error.getMessage()).isEqualTo("Invalid value");
+        });
+    }
+
+    @Test
+    @DisplayName("should score the items before malformed JSON and then report it")
+    void shouldReportMalformedJsonLast() throws Exception {
+        ReactiveRiskDecisionService service = service((request, correlationId) -> response(correlationId));
+        Flux<JsonNode> items = Flux.concat(
+                Flux.just(objectMapper.readTree(VALID_ITEM)),
+                Flux.error(new DecodingException("JSON decoding error",
+                        new JsonParseException(null, "Unexpected character"))));
+
+        StepVerifier.create(service.evaluateAll(items, "batch"))
+                .assertNext(result -> assertThat(result.getDecision()).isNotNull())
+                .assertNext(result -> {
+                    assertThat(result.getIndex()).isEqualTo(1);
+                    assertThat(result.getErrors()).singleElement()
+                            .satisfies(error -> assertThat(error.getMessage()).startsWith("Malformed JSON"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should request no more items than max-in-flight while results are pending")
+    void shouldBoundItemsInFlight() throws Exception {
+        ReactiveRiskDecisionService service = service(new RiskDecisionService() {
+            @Override
+            public RiskDecisionResponse evaluate(RiskDecisionRequest request, String correlationId) {
+                throw new AssertionError("must not block");
+            }
+
+            @Override
+            public CompletableFuture<RiskDecisionResponse> evaluateAsync(RiskDecisionRequest request,
+                                                                         String correlationId) {
+                return new CompletableFuture<>();
+            }
+        });
+        JsonNode item = objectMapper.readTree(VALID_ITEM);
+        AtomicLong emitted = new AtomicLong();
+        Flux<JsonNode> items = Flux.range(0, 1_000).map(i -> item).doOnNext(i -> emitted.incrementAndGet());
+
+        StepVerifier.create(service.evaluateAll(items, "batch"))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(200))
+                .thenCancel()
+                .verify();
+
+        assertThat(emitted.get()).isEqualTo(properties.getMaxInFlight());
+    }
+
+    private ReactiveRiskDecisionService service(RiskDecisionService riskDecisionService) {
+        return new ReactiveRiskDecisionService(
+                riskDecisionService, validatorFactory.getValidator(), objectMapper, executor, properties);
+    }
+
+    private static RiskDecisionResponse response(String correlationId) {
+        return RiskDecisionResponse.builder()
+                .decisionId("dec-" + correlationId)
+                .riskDecision(RiskDecision.APPROVE)
+                .createdAt(Instant.now())
+                .correlationId(correlationId)
+                .build();
+    }
+}
@@ -2,29 +2,41 @@ package com.example.starter.service;
 
 import com.example.starter.dto.RiskDecisionRequest;
 import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.example.starter.model.ScoringRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class RiskDecisionServiceImplTest {
 
+    private static final Clock FIXED_CLOCK =
+            Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+
     private RiskDecisionService riskDecisionService;
 
     @BeforeEach
     void setUp() {
-        riskDecisionService = new RiskDecisionServiceImpl();
+        riskDecisionService = engine(FIXED_CLOCK);
     }
 
     @Nested
     @DisplayName("evaluate method")
-    @Disabled("Enable these tests once you have implemented the evaluate() method")
     class EvaluateMethod {
 
         @Test
@@ -46,6 +58,26 @@ class RiskDecisionServiceImplTest {
             assertThat(response.getCorrelationId()).isEqualTo("test-correlation-id");
         }
 
+        @Test
+        @DisplayName("should record a timer for every scoring factor")
+        void shouldRecordFactorTimers() {
+            // given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            RiskDecisionService timedService =
+                    new RiskDecisionServiceImpl(FIXED_CLOCK, new ScoringFactorTimers(meterRegistry),
+                            new RuleSetHolder(RuleSet.defaults()), new FxRatesHolder(FxRates.NONE),
+                            new TimeOrderedIdGenerator(), VelocityTracker.NONE);
+
+            // when
+            timedService.evaluate(buildValidRequest(), "test-id");
+
+            // then
+            for (String factor : List.of("companyAge", "turnover", "ownerAge", "loanToTurnover", "velocity", "decision")) {
+                assertThat(meterRegistry.get("risk.scoring.factor").tag("factor", factor).timer().count())
+                        .isEqualTo(1);
+            }
+        }
+
         @Test
         @DisplayName("should include the provided correlation ID in the response")
         void shouldIncludeCorrelationId() {
@@ -92,7 +124,292 @@ class RiskDecisionServiceImplTest {
             assertThat(factors.getLoanToTurnoverPoints()).isGreaterThanOrEqualTo(0);
         }
 
-        // TODO: Add tests for the scoring logic as you implement each calculation method.
+    }
+
+    @Nested
+    @DisplayName("scoring rules")
+    class ScoringRules {
+
+        @ParameterizedTest(name = "incorporated {0} scores {1}")
+        @CsvSource({"2022-06-16, 40", "2022-06-15, 0", "2010-01-01, 0"})
+        @DisplayName("should score company age")
+        void shouldScoreCompanyAge(LocalDate dateOfIncorporation, int expectedPoints) {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(dateOfIncorporation, 1_000_000, LocalDate.of(1980, 1, 1), 10_000), "id");
+
+            assertThat(response.getEvaluatedFactors().getCompanyAgePoints()).isEqualTo(expectedPoints);
+        }
+
+        @ParameterizedTest(name = "turnover {0} scores {1}")
+        @CsvSource({"99999, 30", "100000, 10", "5000000, 10", "5000001, 25"})
+        @DisplayName("should score annual turnover bands")
+        void shouldScoreTurnover(double turnover, int expectedPoints) {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2010, 1, 1), turnover, LocalDate.of(1980, 1, 1), 0), "id");
+
+            assertThat(response.getEvaluatedFactors().getTurnoverPoints()).isEqualTo(expectedPoints);
+        }
+
+        @ParameterizedTest(name = "owner born {0} scores {1}")
+        @CsvSource({"2004-06-16, 30", "2004-06-15, 15", "2000-06-16, 15", "2000-06-15, 5"})
+        @DisplayName("should score the youngest owner's age")
+        void shouldScoreOwnerAge(LocalDate dateOfBirth, int expectedPoints) {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, dateOfBirth, 0), "id");
+
+            assertThat(response.getEvaluatedFactors().getOwnerAgePoints()).isEqualTo(expectedPoints);
+        }
+
+        @Test
+        @DisplayName("should use the youngest of several owners")
+        void shouldUseYoungestOwner() {
+            RiskDecisionRequest request = buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1960, 1, 1), 0);
+            request.setOwners(List.of(
+                    new RiskDecisionRequest.Owner("Old Owner", LocalDate.of(1960, 1, 1)),
+                    new RiskDecisionRequest.Owner("Young Owner", LocalDate.of(2005, 1, 1))));
+
+            RiskDecisionResponse response = riskDecisionService.evaluate(request, "id");
+
+            assertThat(response.getEvaluatedFactors().getOwnerAgePoints()).isEqualTo(30);
+        }
+
+        @ParameterizedTest(name = "loan {0} against 1,000,000 turnover scores {1}")
+        @CsvSource({"50000, 0", "150000, 0", "150001, 10", "200000, 10", "200001, 30"})
+        @DisplayName("should score the loan-to-turnover ratio")
+        void shouldScoreLoanToTurnover(double requestedAmount, int expectedPoints) {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), requestedAmount), "id");
+
+            assertThat(response.getEvaluatedFactors().getLoanToTurnoverPoints()).isEqualTo(expectedPoints);
+        }
+
+        @Test
+        @DisplayName("should approve a low score with a small loan")
+        void shouldApproveLowScoreAndSmallLoan() {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 50_000), "id");
+
+            assertThat(response.getRiskScore()).isEqualTo(15);
+            assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.APPROVE);
+        }
+
+        @Test
+        @DisplayName("should refer a low score when the loan is 10% or more of turnover")
+        void shouldReferLowScoreWithModerateLoan() {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 120_000), "id");
+
+            assertThat(response.getRiskScore()).isEqualTo(15);
+            assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        }
+
+        @Test
+        @DisplayName("should refer a medium score")
+        void shouldReferMediumScore() {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2010, 1, 1), 50_000, LocalDate.of(2002, 1, 1), 0), "id");
+
+            assertThat(response.getRiskScore()).isEqualTo(45);
+            assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        }
+
+        @Test
+        @DisplayName("should decline a loan above 20% of turnover regardless of score")
+        void shouldDeclineHighLoanToTurnover() {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 250_000), "id");
+
+            assertThat(response.getRiskScore()).isEqualTo(45);
+            assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.DECLINE);
+        }
+
+        @Test
+        @DisplayName("should cap the score at 100 and decline")
+        void shouldCapScoreAt100() {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2024, 1, 1), 50_000, LocalDate.of(2005, 1, 1), 50_000), "id");
+
+            assertThat(response.getRiskScore()).isEqualTo(100);
+            assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.DECLINE);
+        }
+
+        @Test
+        @DisplayName("should give a reason for every factor that scored points")
+        void shouldBuildReasons() {
+            RiskDecisionResponse response = riskDecisionService.evaluate(
+                    buildRequest(LocalDate.of(2024, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 180_000), "id");
+
+            assertThat(response.getReasons()).containsExactly(
+                    "Company is less than 3 years old",
+                    "Annual turnover is between 100,000 and 5,000,000",
+                    "Youngest owner is 25 or older",
+                    "Loan-to-turnover ratio is above 15%");
+        }
+    }
+
+    @Nested
+    @DisplayName("rule sets")
+    class RuleSets {
+
+        @Test
+        @DisplayName("should record the version of the built-in rules")
+        void shouldRecordDefaultRuleVersion() {
+            RiskDecisionResponse response = riskDecisionService.evaluate(buildValidRequest(), "id");
+
+            assertThat(response.getRuleVersion()).isEqualTo("default");
+        }
+
+        @Test
+        @DisplayName("should score with the thresholds of the current rule set")
+        void shouldScoreWithCurrentRuleSet() {
+            RuleSetHolder ruleSets = new RuleSetHolder(RuleSet.defaults());
+            RiskDecisionService service = engine(FIXED_CLOCK, ruleSets, new FxRatesHolder(FxRates.NONE));
+            RiskDecisionRequest request =
+                    buildRequest(LocalDate.of(2021, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 50_000);
+            ScoringRules stricter = new ScoringRules();
+            stricter.setVersion("2025-06-stricter");
+            stricter.setYoungCompanyYears(5);
+            stricter.setReferAbove(20);
+
+            RiskDecisionResponse before = service.evaluate(request, "id");
+            ruleSets.update(RuleSet.compile(stricter));
+            RiskDecisionResponse after = service.evaluate(request, "id");
+
+            assertThat(before.getRiskScore()).isEqualTo(15);
+            assertThat(before.getRiskDecision()).isEqualTo(RiskDecision.APPROVE);
+            assertThat(before.getRuleVersion()).isEqualTo("default");
+            assertThat(after.getRiskScore()).isEqualTo(55);
+            assertThat(after.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+            assertThat(after.getReasons()).startsWith("Company is less than 5 years old");
+            assertThat(after.getRuleVersion()).isEqualTo("2025-06-stricter");
+        }
+    }
+
+    @Nested
+    @DisplayName("application velocity")
+    class ApplicationVelocity {
+
+        private final long[] now = {0};
+        private final RiskDecisionService service = new RiskDecisionServiceImpl(
+                FIXED_CLOCK, ScoringFactorTimers.NOOP, new RuleSetHolder(RuleSet.defaults()),
+                new FxRatesHolder(FxRates.NONE), new TimeOrderedIdGenerator(),
+                new SlidingWindowVelocityTracker(Duration.ofHours(1), 12, 1024, 1, () -> now[0]));
+
+        @Test
+        @DisplayName("should score a customer's fourth application within the window")
+        void shouldScoreRepeatedApplications() {
+            RiskDecisionRequest request =
+                    buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 50_000);
+
+            for (int i = 0; i < 3; i++) {
+                RiskDecisionResponse response = service.evaluate(request, "id");
+                assertThat(response.getEvaluatedFactors().getVelocityPoints()).isZero();
+                assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.APPROVE);
+            }
+            RiskDecisionResponse fourth = service.evaluate(request, "id");
+
+            assertThat(fourth.getEvaluatedFactors().getVelocityPoints()).isEqualTo(20);
+            assertThat(fourth.getRiskScore()).isEqualTo(35);
+            assertThat(fourth.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+            assertThat(fourth.getReasons()).endsWith("Customer has submitted more than 3 applications recently");
+        }
+
+        @Test
+        @DisplayName("should count each customer separately and forget applications older than the window")
+        void shouldCountPerCustomerWithinWindow() {
+            RiskDecisionRequest request =
+                    buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 50_000);
+            RiskDecisionRequest other =
+                    buildRequest(LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 50_000);
+            other.getClient().setCustomerId("CUST-002");
+
+            for (int i = 0; i < 3; i++) {
+                service.evaluate(request, "id");
+            }
+            RiskDecisionResponse otherCustomer = service.evaluate(other, "id");
+            now[0] += Duration.ofHours(1).toMillis();
+            RiskDecisionResponse anHourLater = service.evaluate(request, "id");
+
+            assertThat(otherCustomer.getEvaluatedFactors().getVelocityPoints()).isZero();
+            assertThat(anHourLater.getEvaluatedFactors().getVelocityPoints()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("FX normalization")
+    class FxNormalization {
+
+        private final FxRatesHolder fxRates = new FxRatesHolder(FxRates.of(
+                "GBP", Instant.parse("2025-06-15T00:00:00Z"), Map.of("EUR", 1.25, "USD", 1.0)));
+        private final RiskDecisionService service =
+                engine(FIXED_CLOCK, new RuleSetHolder(RuleSet.defaults()), fxRates);
+
+        @Test
+        @DisplayName("should band turnover in the base currency")
+        void shouldBandTurnoverInBaseCurrency() {
+            // 110,000 EUR is 88,000 GBP: low rather than mid turnover
+            RiskDecisionRequest request = withCurrency(
+                    buildRequest(LocalDate.of(2010, 1, 1), 110_000, LocalDate.of(1980, 1, 1), 11_000), "EUR");
+
+            RiskDecisionResponse response = service.evaluate(request, "id");
+
+            assertThat(response.getEvaluatedFactors().getTurnoverPoints()).isEqualTo(30);
+            // Loan and turnover are both in EUR, so the ratio is unchanged at 10%
+            assertThat(response.getEvaluatedFactors().getLoanToTurnoverPoints()).isZero();
+        }
+
+        @Test
+        @DisplayName("should score with the snapshot current at evaluation time")
+        void shouldUseCurrentSnapshot() {
+            RiskDecisionRequest request = withCurrency(
+                    buildRequest(LocalDate.of(2010, 1, 1), 110_000, LocalDate.of(1980, 1, 1), 0), "USD");
+
+            int before = service.evaluate(request, "id").getEvaluatedFactors().getTurnoverPoints();
+            fxRates.update(FxRates.of("GBP", Instant.parse("2025-06-16T00:00:00Z"), Map.of("USD", 1.5)));
+            int after = service.evaluate(request, "id").getEvaluatedFactors().getTurnoverPoints();
+
+            assertThat(before).isEqualTo(10);
+            assertThat(after).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("should reject turnover in a currency without a rate")
+        void shouldRejectCurrencyWithoutRate() {
+            RiskDecisionRequest request = withCurrency(
+                    buildRequest(LocalDate.of(2010, 1, 1), 110_000, LocalDate.of(1980, 1, 1), 0), "JPY");
+
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> service.evaluate(request, "id"))
+                    .withMessageContaining("JPY");
+        }
+
+        private RiskDecisionRequest withCurrency(RiskDecisionRequest request, String currency) {
+            request.getBusiness().getAnnualTurnover().setCurrency(currency);
+            return request;
+        }
+    }
+
+    /** The default engine with the default rules, no FX rates and no velocity tracking. */
+    static RiskDecisionServiceImpl engine(Clock clock) {
+        return engine(clock, new RuleSetHolder(RuleSet.defaults()), new FxRatesHolder(FxRates.NONE));
+    }
+
+    static RiskDecisionServiceImpl engine(Clock clock, RuleSetHolder ruleSets, FxRatesHolder fxRates) {
+        return new RiskDecisionServiceImpl(clock, ScoringFactorTimers.NOOP, ruleSets, fxRates,
+                new TimeOrderedIdGenerator(), VelocityTracker.NONE);
+    }
+
+    static RiskDecisionRequest buildRequest(
+            LocalDate dateOfIncorporation, double turnover, LocalDate ownerDateOfBirth, double requestedAmount) {
+        return new RiskDecisionRequest(
+                new RiskDecisionRequest.Client("CUST-001", "GB"),
+                new RiskDecisionRequest.Business(
+                        "Acme Ltd",
+                        "UK",
+                        dateOfIncorporation,
+                        new RiskDecisionRequest.AnnualTurnover(turnover, "GBP")),
+                List.of(new RiskDecisionRequest.Owner("Jane Smith", ownerDateOfBirth)),
+                new RiskDecisionRequest.Loan(requestedAmount));
     }
 
     private RiskDecisionRequest buildValidRequest() {
@@ -0,0 +1,59 @@
+package com.example.starter.service;
+
+import com.example.starter.model.ReasonCode;
+import com.example.starter.model.ScoringRules;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RuleSetTest {
+
+    @Test
+    @DisplayName("should describe reasons with the thresholds of the rules")
+    void shouldDescribeReasonsWithThresholds() {
+        ScoringRules rules = new ScoringRules();
+        rules.setVersion("v2");
+        rules.setLowTurnoverBelow(250_000);
+        rules.setMidTurnoverUpTo(7_500_000.5);
+        rules.setElevatedRatioAbove(0.125);
+
+        RuleSet ruleSet = RuleSet.compile(rules);
+
+        assertThat(ruleSet.version()).isEqualTo("v2");
+        assertThat(ruleSet.reason(ReasonCode.LOW_TURNOVER)).isEqualTo("Annual turnover is below 250,000");
+        assertThat(ruleSet.reason(ReasonCode.MID_TURNOVER))
+                .isEqualTo("Annual turnover is between 250,000 and 7,500,000.50");
+        assertThat(ruleSet.reason(ReasonCode.ELEVATED_LOAN_TO_TURNOVER))
+                .isEqualTo("Loan-to-turnover ratio is above 12.5%");
+    }
+
+    @Test
+    @DisplayName("should keep the reason texts of the built-in rules")
+    void shouldKeepDefaultReasonTexts() {
+        RuleSet ruleSet = RuleSet.defaults();
+
+        assertThat(ruleSet.reason(ReasonCode.YOUNG_COMPANY)).isEqualTo("Company is less than 3 years old");
+        assertThat(ruleSet.reason(ReasonCode.HIGH_TURNOVER)).isEqualTo("Annual turnover is above 5,000,000");
+        assertThat(ruleSet.reason(ReasonCode.YOUNG_OWNER)).isEqualTo("Youngest owner is between 21 and 25");
+        assertThat(ruleSet.reason(ReasonCode.HIGH_LOAN_TO_TURNOVER)).isEqualTo("Loan-to-turnover ratio is above 20%");
+        assertThat(ruleSet.reason(ReasonCode.HIGH_VELOCITY))
+                .isEqualTo("Customer has submitted more than 3 applications recently");
+    }
+
+    @Test
+    @DisplayName("should reject inconsistent rules listing every problem")
+    void shouldRejectInconsistentRules() {
+        ScoringRules rules = new ScoringRules();
+        rules.setVersion(" ");
+        rules.setReferAbove(70);
+        rules.setHighRatioPoints(-1);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RuleSet.compile(rules))
+                .withMessageContaining("version is required")
+                .withMessageContaining("referAbove <= declineAbove")
+                .withMessageContaining("points must be between 0 and 100");
+    }
+}
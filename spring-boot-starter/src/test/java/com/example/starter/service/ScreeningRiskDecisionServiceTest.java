@@ -0,0 +1,101 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScreeningRiskDecisionServiceTest {
+
+    private static final Clock FIXED_CLOCK =
+            Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private final RiskDecisionService engine = RiskDecisionServiceImplTest.engine(FIXED_CLOCK);
+    private final WatchlistScreener screener = new WatchlistScreener(new WatchlistHolder(watchlist()), 0.85);
+    private final ScreeningRiskDecisionService service = new ScreeningRiskDecisionService(engine, screener);
+
+    @Test
+    @DisplayName("should leave decisions for unlisted names alone")
+    void shouldKeepDecisionForClearNames() {
+        RiskDecisionResponse response = service.evaluate(request("Acme Ltd", "Jane Smith"), "id");
+
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.APPROVE);
+        assertThat(response.getReasons()).hasSize(2);
+        assertThat(screener.count(WatchlistScreener.Outcome.CLEAR)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should decline a decision when an owner is on a sanctions list")
+    void shouldDeclineSanctionedOwner() {
+        RiskDecisionResponse response = service.evaluate(
+                request("Acme Ltd", "Jane Smith", "SIDOROV, Ivan Petrovich"), "id");
+
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.DECLINE);
+        assertThat(response.getRiskScore()).isEqualTo(15);
+        assertThat(response.getReasons()).last().isEqualTo("Owner matches a sanctions list entry");
+        assertThat(screener.count(WatchlistScreener.Outcome.SANCTIONS_MATCH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should refer close sanctions matches and PEP matches, with a reason for each")
+    void shouldReferPossibleMatches() {
+        RiskDecisionResponse response = service.evaluate(
+                request("Blackwater Shipping Limited", "Jane Example"), "id");
+
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        assertThat(response.getReasons()).endsWith(
+                "Business closely matches a sanctions list entry",
+                "Owner matches a politically exposed persons list entry");
+        assertThat(screener.count(WatchlistScreener.Outcome.POSSIBLE_SANCTIONS_MATCH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should screen asynchronous evaluations the same way")
+    void shouldScreenAsynchronously() {
+        RiskDecisionResponse response = service.evaluateAsync(
+                request("Blackwater Shipping Co", "Jane Smith"), "id").join();
+
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.DECLINE);
+        assertThat(response.getReasons()).last().isEqualTo("Business matches a sanctions list entry");
+    }
+
+    @Test
+    @DisplayName("should screen against the list swapped in most recently")
+    void shouldUseCurrentList() {
+        WatchlistHolder holder = new WatchlistHolder(watchlist());
+        ScreeningRiskDecisionService screening =
+                new ScreeningRiskDecisionService(engine, new WatchlistScreener(holder, 0.85));
+
+        holder.update(WatchlistIndex.EMPTY);
+
+        assertThat(screening.evaluate(request("Acme Ltd", "Ivan Petrovich Sidorov"), "id").getRiskDecision())
+                .isEqualTo(RiskDecision.APPROVE);
+    }
+
+    private static WatchlistIndex watchlist() {
+        WatchlistIndex.Builder builder = new WatchlistIndex.Builder();
+        builder.add(WatchlistIndex.ListType.SANCTIONS, "Ivan Petrovich Sidorov");
+        builder.add(WatchlistIndex.ListType.SANCTIONS, "Blackwater Shipping Co");
+        builder.add(WatchlistIndex.ListType.PEP, "Jane Example");
+        return builder.build();
+    }
+
+    private static RiskDecisionRequest request(String legalName, String... ownerNames) {
+        RiskDecisionRequest request = RiskDecisionServiceImplTest.buildRequest(
+                LocalDate.of(2010, 1, 1), 1_000_000, LocalDate.of(1980, 1, 1), 50_000);
+        request.getBusiness().setLegalName(legalName);
+        request.setOwners(List.of(ownerNames).stream()
+                .map(name -> new RiskDecisionRequest.Owner(name, LocalDate.of(1980, 1, 1)))
+                .toList());
+        return request;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.starter.service;
+
+import com.example.starter.dto.RiskDecisionRequest;
+import com.example.starter.dto.RiskDecisionResponse;
+import com.example.starter.model.RiskDecision;
+import com.example.starter.model.ScoringRules;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShadowScoringListenerTest {
+
+    private static final Clock FIXED_CLOCK =
+            Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private final RiskDecisionService primary = RiskDecisionServiceImplTest.engine(FIXED_CLOCK);
+
+    @Test
+    @DisplayName("should count decision transitions and point changes against the candidate")
+    void shouldCompareWithCandidate() throws InterruptedException {
+        ScoringRules stricter = new ScoringRules();
+        stricter.setVersion("stricter");
+        stricter.setYoungCompanyYears(5);
+        RiskDecisionService candidate = CompiledRiskDecisionServiceTest.compiled(
+                FIXED_CLOCK, new RuleSetHolder(RuleSet.compile(stricter)), new FxRatesHolder(FxRates.NONE));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ShadowScoringListener shadow = new ShadowScoringListener(candidate, 1.0, executor);
+        RiskDecisionRequest fourYearOld = request(LocalDate.of(2021, 1, 1), 50_000);
+        RiskDecisionRequest established = request(LocalDate.of(2010, 1, 1), 50_000);
+
+        shadow.onDecision(fourYearOld, primary.evaluate(fourYearOld, "id-1"));
+        shadow.onDecision(established, primary.evaluate(established, "id-2"));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(shadow.compared()).isEqualTo(2);
+        assertThat(shadow.transitions(RiskDecision.APPROVE, RiskDecision.REFER)).isEqualTo(1);
+        assertThat(shadow.transitions(RiskDecision.APPROVE, RiskDecision.APPROVE)).isEqualTo(1);
+        assertThat(shadow.pointsRaised(ShadowScoringListener.Factor.COMPANY_AGE)).isEqualTo(40);
+        assertThat(shadow.pointsRaised(ShadowScoringListener.Factor.TOTAL)).isEqualTo(40);
+        assertThat(shadow.pointsLowered(ShadowScoringListener.Factor.TOTAL)).isZero();
+        assertThat(shadow.pointsRaised(ShadowScoringListener.Factor.TURNOVER)).isZero();
+    }
+
+    @Test
+    @DisplayName("should compare the engines' decisions, not the enriched one returned")
+    void shouldCompareBeforeEnrichment() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch enriched = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                enriched.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ShadowScoringListener shadow = new ShadowScoringListener(
+                RiskDecisionServiceImplTest.engine(FIXED_CLOCK), 1.0, executor);
+        // Wired as RiskDecisionServiceConfig does, with a registry that knows no companies
+        RiskDecisionService service = new EnrichingRiskDecisionService(
+                new NotifyingRiskDecisionService(primary, List.of(shadow::onDecision)),
+                (legalName, country, correlationId) -> CompletableFuture.completedFuture(Optional.empty()),
+                Duration.ofMillis(50));
+        RiskDecisionRequest request = request(LocalDate.of(2010, 1, 1), 50_000);
+
+        RiskDecisionResponse response = service.evaluate(request, "id");
+        enriched.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(response.getRiskDecision()).isEqualTo(RiskDecision.REFER);
+        assertThat(shadow.compared()).isEqualTo(1);
+        assertThat(shadow.transitions(RiskDecision.APPROVE, RiskDecision.APPROVE)).isEqualTo(1);
+        assertThat(shadow.transitions(RiskDecision.REFER, RiskDecision.APPROVE)).isZero();
+    }
+
+    @Test
+    @DisplayName("should drop samples instead of waiting when the queue is full")
+    void shouldDropWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RiskDecisionService blockedCandidate = (request, correlationId) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return primary.evaluate(request, correlationId);
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        ShadowScoringListener shadow = new ShadowScoringListener(blockedCandidate, 1.0, executor);
+        RiskDecisionRequest request = request(LocalDate.of(2010, 1, 1), 0);
+        RiskDecisionResponse response = primary.evaluate(request, "id");
+
+        for (int i = 0; i < 5; i++) {
+            shadow.onDecision(request, response);
+        }
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(shadow.dropped()).isEqualTo(3);
+        assertThat(shadow.compared()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should count candidate failures without affecting the caller")
+    void shouldCountCandidateFailures() throws InterruptedException {
+        RiskDecisionService failingCandidate = (request, correlationId) -> {
+            throw new IllegalStateException("boom");
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ShadowScoringListener shadow = new ShadowScoringListener(failingCandidate, 1.0, executor);
+        RiskDecisionRequest request = request(LocalDate.of(2010, 1, 1), 0);
+
+        shadow.onDecision(request, primary.evaluate(request, "id"));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(shadow.failed()).isEqualTo(1);
+        assertThat(shadow.compared()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not score anything at a sample rate of zero")
+    void shouldSkipUnsampledDecisions() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ShadowScoringListener shadow = new ShadowScoringListener(primary, 0.0, executor);
+        RiskDecisionRequest request = request(LocalDate.of(2010, 1, 1), 0);
+
+        shadow.onDecision(request, primary.evaluate(request, "id"));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(shadow.compared()).isZero();
+        assertThat(shadow.dropped()).isZero();
+    }
+
+    private static RiskDecisionRequest request(LocalDate dateOfIncorporation, double requestedAmount) {
+        return RiskDecisionServiceImplTest.buildRequest(
+                dateOfIncorporation, 1_000_000, LocalDate.of(1980, 1, 1), requestedAmount);
+    }
+}
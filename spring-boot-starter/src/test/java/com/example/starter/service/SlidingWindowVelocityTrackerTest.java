@@ -0,0 +1,130 @@
+package com.example.starter.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SlidingWindowVelocityTrackerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    @DisplayName("should count applications within the window and slide one bucket at a time")
+    void shouldCountWithinWindow() {
+        // Six buckets of ten seconds
+        SlidingWindowVelocityTracker tracker = tracker(1024);
+
+        for (int i = 1; i <= 5; i++) {
+            assertThat(tracker.record("CUST-001")).isEqualTo(i);
+        }
+        now.addAndGet(55_000);
+        assertThat(tracker.count("CUST-001")).isEqualTo(5);
+        assertThat(tracker.record("CUST-001")).isEqualTo(6);
+
+        now.addAndGet(10_000);
+        assertThat(tracker.count("CUST-001")).isEqualTo(1);
+
+        now.addAndGet(120_000);
+        assertThat(tracker.count("CUST-001")).isZero();
+        assertThat(tracker.record("CUST-001")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should count customers separately")
+    void shouldCountCustomersSeparately() {
+        SlidingWindowVelocityTracker tracker = tracker(1024);
+
+        tracker.record("CUST-001");
+        tracker.record("CUST-001");
+
+        assertThat(tracker.record("CUST-002")).isEqualTo(1);
+        assertThat(tracker.count("CUST-001")).isEqualTo(2);
+        assertThat(tracker.count("CUST-003")).isZero();
+    }
+
+    @Test
+    @DisplayName("should count without recording through the read-only view")
+    void shouldNotRecordThroughReadOnlyView() {
+        SlidingWindowVelocityTracker tracker = tracker(1024);
+        tracker.record("CUST-001");
+
+        assertThat(tracker.readOnly().record("CUST-001")).isEqualTo(1);
+        assertThat(tracker.count("CUST-001")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should evict the idlest customer when full and reuse idle slots without evicting")
+    void shouldEvictWhenFull() {
+        SlidingWindowVelocityTracker tracker = tracker(1);
+
+        tracker.record("CUST-001");
+        tracker.record("CUST-001");
+        tracker.record("CUST-002");
+
+        assertThat(tracker.count("CUST-001")).isZero();
+        assertThat(tracker.count("CUST-002")).isEqualTo(1);
+        assertThat(tracker.evictions()).isEqualTo(1);
+
+        now.addAndGet(61_000);
+        tracker.record("CUST-003");
+
+        assertThat(tracker.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should count every application recorded concurrently")
+    void shouldCountConcurrentRecords() throws Exception {
+        SlidingWindowVelocityTracker tracker =
+                new SlidingWindowVelocityTracker(Duration.ofHours(1), 12, 1 << 16, 8, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        tracker.record("CUST-" + i % 20_000);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(tracker.evictions()).isZero();
+        for (int i = 0; i < 20_000; i += 997) {
+            assertThat(tracker.count("CUST-" + i)).isEqualTo(40);
+        }
+    }
+
+    @Test
+    @DisplayName("should round capacity up to a power of two")
+    void shouldRoundCapacity() {
+        assertThat(tracker(1000).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("should reject a window that cannot be split into the buckets")
+    void shouldRejectInvalidWindow() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SlidingWindowVelocityTracker(Duration.ofMillis(5), 12, 1024));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SlidingWindowVelocityTracker(Duration.ofHours(1), 12, 0));
+    }
+
+    private SlidingWindowVelocityTracker tracker(int maxCustomers) {
+        return new SlidingWindowVelocityTracker(Duration.ofMinutes(1), 6, maxCustomers, 4, now::get);
+    }
+}
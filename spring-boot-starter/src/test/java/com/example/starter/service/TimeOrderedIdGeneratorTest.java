@@ -0,0 +1,80 @@
+package com.example.starter.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-16T10:00:00.123456789Z");
+
+    @Test
+    @DisplayName("should generate version 7 UUIDs carrying the creation time in milliseconds")
+    void shouldGenerateVersion7Uuids() {
+        UUID id = UUID.fromString(idAt(NOW));
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("should order IDs by creation time, below a millisecond too")
+    void shouldOrderIdsByTime() {
+        String first = idAt(NOW);
+        String sameMillisecond = idAt(NOW.plusNanos(500_000));
+        String later = idAt(NOW.plusSeconds(1));
+
+        assertThat(first).isLessThan(sameMillisecond);
+        assertThat(sameMillisecond).isLessThan(later);
+    }
+
+    @Test
+    @DisplayName("should not repeat IDs generated at the same instant")
+    void shouldGenerateUniqueIds() {
+        IdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+        Set<String> ids = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertThat(ids).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("should not repeat IDs generated at the same instant on different threads")
+    void shouldGenerateUniqueIdsAcrossThreads() throws InterruptedException {
+        IdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(ids).hasSize(40_000);
+    }
+
+    private static String idAt(Instant instant) {
+        return new TimeOrderedIdGenerator(Clock.fixed(instant, ZoneOffset.UTC)).nextId();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.starter.service;
+
+import com.example.starter.service.WatchlistIndex.ListType;
+import com.example.starter.service.WatchlistIndex.Match;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WatchlistIndexTest {
+
+    private static final double THRESHOLD = 0.85;
+
+    @Test
+    @DisplayName("should normalize case, accents, punctuation, legal forms and word order")
+    void shouldNormalizeNames() {
+        assertThat(WatchlistIndex.normalize("SIDOROV, Ivan Petrovich")).isEqualTo("ivan petrovich sidorov");
+        assertThat(WatchlistIndex.normalize("José Müller-Lüdenscheidt")).isEqualTo("jose ludenscheidt muller");
+        assertThat(WatchlistIndex.normalize("O'Brien & Søn Holdings Ltd.")).isEqualTo("holdings obrien son");
+        assertThat(WatchlistIndex.normalize("Straße 9 GmbH")).isEqualTo("9 strasse");
+        assertThat(WatchlistIndex.normalize(" — ")).isEmpty();
+        assertThat(WatchlistIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should match identical normalized names exactly")
+    void shouldMatchExactly() {
+        WatchlistIndex index = index(ListType.SANCTIONS, "Ivan Petrovich Sidorov", ListType.PEP, "Jane Example");
+
+        assertThat(index.match("sidorov ivan petrovich", THRESHOLD))
+                .isEqualTo(new Match(ListType.SANCTIONS, 1.0, true));
+        assertThat(index.match("Jane EXAMPLE", THRESHOLD)).isEqualTo(new Match(ListType.PEP, 1.0, true));
+        assertThat(index.match("John Smith", THRESHOLD)).isNull();
+    }
+
+    @Test
+    @DisplayName("should match misspelt names above the threshold only")
+    void shouldMatchSimilarNames() {
+        WatchlistIndex index = index(ListType.SANCTIONS, "Ivan Petrovich Sidorov", ListType.PEP, "Jane Example");
+
+        Match close = index.match("Ivan Petrovic Sidorov", THRESHOLD);
+
+        assertThat(close.list()).isEqualTo(ListType.SANCTIONS);
+        assertThat(close.exact()).isFalse();
+        assertThat(close.similarity()).isBetween(THRESHOLD, 1.0);
+        assertThat(index.match("Ivan Sidorov", THRESHOLD)).isNull();
+        assertThat(index.match("Ivan Sidorov", 0.5)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should prefer a sanctions match over a closer PEP match")
+    void shouldPreferSanctionsMatch() {
+        WatchlistIndex index = index(ListType.PEP, "Maria Gonzalez Lopez", ListType.SANCTIONS, "Maria Gonzales Lopez");
+
+        assertThat(index.match("Maria Gonzalez Lopez", THRESHOLD).list()).isEqualTo(ListType.SANCTIONS);
+    }
+
+    @Test
+    @DisplayName("should find the same best match as comparing against every entry")
+    void shouldMatchLikeExhaustiveSearch() {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>();
+        WatchlistIndex.Builder builder = new WatchlistIndex.Builder();
+        for (int i = 0; i < 5_000; i++) {
+            String name = randomName(random);
+            names.add(name);
+            builder.add(ListType.SANCTIONS, name);
+        }
+        WatchlistIndex index = builder.build();
+
+        for (int i = 0; i < 500; i++) {
+            // Listed names with a letter changed, dropped or doubled, and unlisted ones
+            String query = i % 2 == 0 ? misspell(names.get(random.nextInt(names.size())), random) : randomName(random);
+            double best = 0;
+            for (String name : names) {
+                best = Math.max(best, dice(query, name));
+            }
+
+            Match match = index.match(query, THRESHOLD);
+
+            if (best >= THRESHOLD) {
+                assertThat(match).as(query).isNotNull();
+                assertThat(match.similarity()).as(query).isCloseTo(best, within(1e-9));
+            } else {
+                assertThat(match).as(query).isNull();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should skip names with nothing left to match on")
+    void shouldSkipEmptyNames() {
+        WatchlistIndex.Builder builder = new WatchlistIndex.Builder();
+
+        assertThat(builder.add(ListType.SANCTIONS, "Ltd")).isFalse();
+        assertThat(builder.add(ListType.SANCTIONS, "Ivan Sidorov")).isTrue();
+        assertThat(builder.build().size()).isEqualTo(1);
+        assertThat(WatchlistIndex.EMPTY.match("Ivan Sidorov", THRESHOLD)).isNull();
+    }
+
+    private static WatchlistIndex index(ListType firstList, String firstName, ListType secondList, String secondName) {
+        WatchlistIndex.Builder builder = new WatchlistIndex.Builder();
+        builder.add(firstList, firstName);
+        builder.add(secondList, secondName);
+        return builder.build();
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int words = 2 + random.nextInt(2);
+        for (int w = 0; w < words; w++) {
+            name.append(w == 0 ? "" : " ");
+            int letters = 3 + random.nextInt(6);
+            for (int i = 0; i < letters; i++) {
+                name.append("aeioubdgklmnrst".charAt(random.nextInt(15)));
+            }
+        }
+        return name.toString();
+    }
+
+    private static String misspell(String name, Random random) {
+        int at = 1 + random.nextInt(name.length() - 2);
+        return switch (random.nextInt(3)) {
+            case 0 -> name.substring(0, at) + 'e' + name.substring(at + 1);
+            case 1 -> name.substring(0, at) + name.substring(at + 1);
+            default -> name.substring(0, at) + name.charAt(at) + name.substring(at);
+        };
+    }
+
+    private static double dice(String a, String b) {
+        Set<String> first = trigrams(WatchlistIndex.normalize(a));
+        Set<String> second = trigrams(WatchlistIndex.normalize(b));
+        Set<String> shared = new HashSet<>(first);
+        shared.retainAll(second);
+        return 2.0 * shared.size() / (first.size() + second.size());
+    }
+
+    private static Set<String> trigrams(String normalized) {
+        String padded = " " + normalized + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}